@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Construye la aplicación y un archivo CDS (class data sharing) para arrancar más rápido.
+#
+# 1. Empaqueta el jar y lo extrae en target/cds (layout estable de jars que exige CDS).
+# 2. Hace un arranque de entrenamiento que se detiene tras refrescar el contexto
+#    y vuelca las clases cargadas en target/cds/app.jsa.
+#
+# Uso:   scripts/build-cds.sh [opciones de Maven]   (MVN=mvn para usar Maven instalado)
+#        Admite -DskipTests: el documento OpenAPI del perfil prod se genera en prepare-package.
+# Luego: java -XX:SharedArchiveFile=target/cds/app.jsa -jar target/cds/app.jar --spring.profiles.active=prod
+#
+# El archivo solo vale para la misma JVM y el mismo jar: hay que regenerarlo en cada build.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+${MVN:-sh ./mvnw} -B -q package "$@"
+
+JAR=$(ls target/*.jar | grep -v '\.original$' | head -n 1)
+rm -rf target/cds
+java -Djarmode=tools -jar "$JAR" extract --destination target/cds --application-filename app.jar
+
+# El entrenamiento crea todos los beans (sin inicialización perezosa) para que el
+# archivo incluya también las clases que en producción se cargan en la primera petición
+java -XX:ArchiveClassesAtExit=target/cds/app.jsa -Xlog:cds=off \
+     -Dspring.context.exit=onRefresh \
+     -jar target/cds/app.jar \
+     --spring.profiles.active=prod \
+     --spring.main.lazy-initialization=false \
+     --server.port=0 \
+     --tiquetera.replication.role=standalone
+
+echo "Archivo CDS: target/cds/app.jsa"
+echo "Arranque:    java -XX:SharedArchiveFile=target/cds/app.jsa -jar target/cds/app.jar --spring.profiles.active=prod"
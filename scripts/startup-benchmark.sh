@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# Mide el tiempo hasta la primera petición correcta (GET /api/venues con 200) de:
+#   dev       java -jar app.jar                      (perfil por defecto de application.properties)
+#   prod      java -jar app.jar --spring.profiles.active=prod
+#   prod+cds  igual que prod, con el jar extraído y el archivo de scripts/build-cds.sh
+#
+# Uso: scripts/startup-benchmark.sh [repeticiones] [puerto]
+# Requiere haber ejecutado antes scripts/build-cds.sh (si no, se omite prod+cds).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${2:-18080}
+JAR=$(ls target/*.jar | grep -v '\.original$' | head -n 1)
+URL="http://localhost:${PORT}/api/venues"
+
+# Arranca, espera el primer 200 y devuelve los milisegundos transcurridos
+measure() {
+    local start end pid
+    start=$(date +%s%N)
+    "$@" --server.port="$PORT" > /dev/null 2>&1 &
+    pid=$!
+    until curl -s -o /dev/null -f "$URL"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "La aplicación terminó antes de responder: $*" >&2
+            exit 1
+        fi
+        sleep 0.005
+    done
+    end=$(date +%s%N)
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo $(( (end - start) / 1000000 ))
+}
+
+run() {
+    local name=$1
+    shift
+    local times=()
+    for _ in $(seq "$RUNS"); do
+        times+=("$(measure "$@")")
+    done
+    local sorted
+    sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+    printf '%-9s mediana %5s ms   mínimo %5s ms   (%s)\n' "$name" \
+        "$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")" \
+        "$(echo "$sorted" | head -n 1)" \
+        "$(echo "${times[@]}")"
+}
+
+run dev java -jar "$JAR"
+run prod java -jar "$JAR" --spring.profiles.active=prod
+if [[ -f target/cds/app.jsa ]]; then
+    run prod+cds java -XX:SharedArchiveFile=target/cds/app.jsa -Xlog:cds=off -jar target/cds/app.jar --spring.profiles.active=prod
+else
+    echo "prod+cds  omitido: falta target/cds/app.jsa (ejecute scripts/build-cds.sh)"
+fi
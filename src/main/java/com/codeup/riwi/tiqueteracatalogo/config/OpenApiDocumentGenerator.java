@@ -0,0 +1,71 @@
+package com.codeup.riwi.tiqueteracatalogo.config;
+
+import com.codeup.riwi.tiqueteracatalogo.TiqueteraCatalogoApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Genera el documento OpenAPI que sirve el perfil prod.
+ * Maven lo ejecuta en la fase prepare-package (exec-maven-plugin), así el documento
+ * entra en target/classes y en el jar aunque el build omita las pruebas. Arranca la
+ * aplicación con springdoc en un puerto libre, descarga el documento y la detiene.
+ */
+public final class OpenApiDocumentGenerator {
+
+    private OpenApiDocumentGenerator() {
+    }
+
+    /**
+     * @param args Ruta del archivo de salida
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Uso: OpenApiDocumentGenerator <archivo de salida>");
+        }
+        Path output = Path.of(args[0]);
+        byte[] document = generate();
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.write(output, document);
+    }
+
+    /**
+     * Arranca la aplicación con springdoc activo y devuelve el documento que sirve
+     * @return JSON del documento OpenAPI
+     * @throws IllegalStateException si springdoc no responde 200
+     */
+    public static byte[] generate() throws IOException, InterruptedException {
+        // devtools está en el classpath de runtime: sin esto relanza main con los argumentos de Spring.
+        // Tiene que ser propiedad del sistema, el reinicio se decide antes de leer los argumentos
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        SpringApplication application = new SpringApplication(TiqueteraCatalogoApplication.class);
+        // Sin el resumen de arranque en la salida del build
+        application.setLogStartupInfo(false);
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--springdoc.api-docs.enabled=true",
+                "--springdoc.swagger-ui.enabled=false",
+                "--spring.main.banner-mode=off",
+                "--tiquetera.replication.role=standalone")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String path = context.getEnvironment().getProperty("springdoc.api-docs.path", "/v3/api-docs");
+            HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("springdoc respondió " + response.statusCode() + " en " + path);
+            }
+            return response.body();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.codeup.riwi.tiqueteracatalogo.config;
+
+import com.codeup.riwi.tiqueteracatalogo.web.binary.CatalogBinaryHttpMessageConverter;
+import com.codeup.riwi.tiqueteracatalogo.web.json.CatalogJsonHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Al final de la lista para que JSON siga siendo el formato por defecto
+        converters.add(new CatalogBinaryHttpMessageConverter());
+        // Al principio para que eventos y venues no pasen por Jackson
+        converters.add(0, new CatalogJsonHttpMessageConverter());
+    }
+}
@@ -11,6 +11,8 @@ public class EventoEntity {
     private Long id;
     private String name;
     private String description;
+    // Descripción movida fuera del heap por el repositorio; excluye a description
+    private TextHandle descriptionText;
     private LocalDateTime eventDate;
     private Long venueId;
     private Integer capacity;
@@ -49,11 +51,27 @@ public class EventoEntity {
     }
 
     public String getDescription() {
+        if (description == null && descriptionText != null) {
+            return descriptionText.decode();
+        }
         return description;
     }
 
     public void setDescription(String description) {
         this.description = description;
+        this.descriptionText = null;
+    }
+
+    public TextHandle getDescriptionText() {
+        return descriptionText;
+    }
+
+    /**
+     * Reemplaza la descripción en el heap por una referencia al texto guardado fuera de él
+     */
+    public void setDescriptionText(TextHandle descriptionText) {
+        this.descriptionText = descriptionText;
+        this.description = null;
     }
 
     public LocalDateTime getEventDate() {
@@ -0,0 +1,140 @@
+package com.codeup.riwi.tiqueteracatalogo.domain.entity;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Diccionario de valores repetidos (ciudad, país).
+ * Cada valor distinto se guarda una sola vez como {@link Term}; las entidades guardan
+ * el término y los índices comparan su código "plegado", compartido por todas las
+ * variantes de mayúsculas, para búsquedas sin distinguirlas.
+ * <p>
+ * Los términos llevan un contador de referencias: el repositorio adquiere uno por
+ * cada entidad que guarda y lo libera cuando la entidad se reemplaza o se elimina.
+ * Un término sin referencias sale del diccionario, así su tamaño sigue a los valores
+ * vivos y no a todos los que se hayan visto. Quien aún tenga una entidad vieja sigue
+ * leyendo su valor del término, y los códigos plegados no se reutilizan, de modo que
+ * un índice nunca confunde un valor retirado con otro nuevo.
+ */
+public final class FieldDictionary {
+
+    // Código plegado de un valor null o no registrado
+    public static final int NONE = -1;
+
+    // Guardados por el monitor del diccionario
+    private final Map<String, Term> terms = new HashMap<>();
+    private final Map<String, Integer> foldedRefs = new HashMap<>();
+    private int nextFoldedCode;
+    // Se lee sin el monitor desde las consultas
+    private final Map<String, Integer> foldedCodes = new ConcurrentHashMap<>();
+
+    /**
+     * Término de un valor, registrándolo si aún no existe, con una referencia más
+     * @param value Valor a codificar
+     * @return Término o null si el valor es null
+     */
+    public synchronized Term acquire(String value) {
+        if (value == null) {
+            return null;
+        }
+        Term term = terms.get(value);
+        if (term == null) {
+            String key = fold(value);
+            Integer foldedCode = foldedCodes.get(key);
+            if (foldedCode == null) {
+                foldedCode = nextFoldedCode++;
+                foldedCodes.put(key, foldedCode);
+            }
+            foldedRefs.merge(key, 1, Integer::sum);
+            term = new Term(this, value, foldedCode);
+            terms.put(value, term);
+        }
+        term.refs++;
+        return term;
+    }
+
+    /**
+     * Añade una referencia a un término de este diccionario, o adquiere el valor si
+     * el término es de otro diccionario o ya se retiró
+     * @param term Término de una entidad
+     * @return Término registrado en este diccionario
+     */
+    public synchronized Term retain(Term term) {
+        if (term == null) {
+            return null;
+        }
+        if (term.dictionary != this || terms.get(term.value) != term) {
+            return acquire(term.value);
+        }
+        term.refs++;
+        return term;
+    }
+
+    /**
+     * Devuelve una referencia; el término sale del diccionario al quedarse sin ellas
+     * @param term Término adquirido con {@link #acquire(String)} o {@link #retain(Term)}
+     */
+    public synchronized void release(Term term) {
+        if (term == null || term.dictionary != this || terms.get(term.value) != term || --term.refs > 0) {
+            return;
+        }
+        terms.remove(term.value);
+        String key = fold(term.value);
+        if (foldedRefs.merge(key, -1, Integer::sum) == 0) {
+            foldedRefs.remove(key);
+            foldedCodes.remove(key);
+        }
+    }
+
+    /**
+     * Código plegado de un valor sin registrarlo, para consultas
+     * @param value Valor buscado (sin distinguir mayúsculas)
+     * @return Código plegado o {@link #NONE} si ningún valor registrado coincide
+     */
+    public int lookupFolded(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer code = foldedCodes.get(fold(value));
+        return code == null ? NONE : code;
+    }
+
+    /**
+     * @return Valores distintos registrados
+     */
+    public synchronized int size() {
+        return terms.size();
+    }
+
+    private static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Valor registrado en el diccionario con su código plegado.
+     */
+    public static final class Term {
+
+        private final FieldDictionary dictionary;
+        private final String value;
+        private final int foldedCode;
+        // Guardado por el monitor del diccionario
+        private int refs;
+
+        Term(FieldDictionary dictionary, String value, int foldedCode) {
+            this.dictionary = dictionary;
+            this.value = value;
+            this.foldedCode = foldedCode;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public int getFoldedCode() {
+            return foldedCode;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.codeup.riwi.tiqueteracatalogo.domain.entity;
+
+/**
+ * Referencia a un texto guardado fuera del heap.
+ * En el heap solo queda la posición y longitud; el texto se decodifica al pedirlo.
+ */
+public interface TextHandle {
+
+    /**
+     * Decodifica el texto completo
+     * @return Texto guardado
+     */
+    String decode();
+
+    /**
+     * @return Longitud del texto codificado en bytes
+     */
+    int byteLength();
+
+    /**
+     * Copia los bytes UTF-8 del texto sin decodificarlo
+     * @param target Arreglo destino con al menos {@link #byteLength()} bytes libres desde offset
+     * @param offset Posición inicial en el destino
+     */
+    void copyTo(byte[] target, int offset);
+}
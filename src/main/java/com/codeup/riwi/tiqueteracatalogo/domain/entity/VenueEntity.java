@@ -9,9 +9,14 @@ public class VenueEntity {
     private Long id;
     private String name;
     private String address;
+    // Tras guardarse, ciudad y país se guardan como términos de FieldDictionary
     private String city;
+    private FieldDictionary.Term cityTerm;
     private String country;
+    private FieldDictionary.Term countryTerm;
     private Integer capacity;
+    private Double latitude;
+    private Double longitude;
 
     // Constructores
     public VenueEntity() {
@@ -26,6 +31,13 @@ public class VenueEntity {
         this.capacity = capacity;
     }
 
+    public VenueEntity(Long id, String name, String address, String city, String country, Integer capacity,
+                       Double latitude, Double longitude) {
+        this(id, name, address, city, country, capacity);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     // Getters y Setters
     public Long getId() {
         return id;
@@ -52,19 +64,45 @@ public class VenueEntity {
     }
 
     public String getCity() {
-        return city;
+        return cityTerm != null ? cityTerm.getValue() : city;
     }
 
     public void setCity(String city) {
         this.city = city;
+        this.cityTerm = null;
+    }
+
+    public FieldDictionary.Term getCityTerm() {
+        return cityTerm;
+    }
+
+    /**
+     * Reemplaza la ciudad por su término en el diccionario de ciudades
+     */
+    public void setCityTerm(FieldDictionary.Term cityTerm) {
+        this.cityTerm = cityTerm;
+        this.city = null;
     }
 
     public String getCountry() {
-        return country;
+        return countryTerm != null ? countryTerm.getValue() : country;
     }
 
     public void setCountry(String country) {
         this.country = country;
+        this.countryTerm = null;
+    }
+
+    public FieldDictionary.Term getCountryTerm() {
+        return countryTerm;
+    }
+
+    /**
+     * Reemplaza el país por su término en el diccionario de países
+     */
+    public void setCountryTerm(FieldDictionary.Term countryTerm) {
+        this.countryTerm = countryTerm;
+        this.country = null;
     }
 
     public Integer getCapacity() {
@@ -74,4 +112,20 @@ public class VenueEntity {
     public void setCapacity(Integer capacity) {
         this.capacity = capacity;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
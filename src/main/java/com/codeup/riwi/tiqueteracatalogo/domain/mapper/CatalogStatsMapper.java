@@ -0,0 +1,45 @@
+package com.codeup.riwi.tiqueteracatalogo.domain.mapper;
+
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogAggregates;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.CityStatsResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventStatsResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueStatsResponse;
+
+/**
+ * Mapper para convertir los agregados del catálogo a DTOs de respuesta.
+ */
+public class CatalogStatsMapper {
+
+    /**
+     * Convierte estadísticas de eventos a EventStatsResponse.
+     */
+    public static EventStatsResponse toResponse(CatalogAggregates.Stats stats) {
+        return new EventStatsResponse(
+                stats.getEventCount(),
+                stats.getUpcomingEventCount(),
+                stats.getTotalCapacity(),
+                stats.getAveragePrice(),
+                stats.getMinPrice(),
+                stats.getMaxPrice()
+        );
+    }
+
+    /**
+     * Convierte estadísticas de un venue a VenueStatsResponse.
+     */
+    public static VenueStatsResponse toVenueResponse(Long venueId, CatalogAggregates.Stats stats) {
+        return new VenueStatsResponse(venueId, toResponse(stats));
+    }
+
+    /**
+     * Convierte estadísticas de una ciudad a CityStatsResponse.
+     */
+    public static CityStatsResponse toCityResponse(CatalogAggregates.CityStats stats) {
+        return new CityStatsResponse(
+                stats.getCity(),
+                stats.getVenueCount(),
+                stats.getVenueCapacity(),
+                toResponse(stats.getEvents())
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.codeup.riwi.tiqueteracatalogo.domain.mapper;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.ChangeEventResponse;
+
+/**
+ * Mapper para convertir cambios del catálogo a ChangeEventResponse.
+ */
+public class ChangeMapper {
+
+    /**
+     * Convierte CatalogChange a ChangeEventResponse, mapeando la entidad a su DTO.
+     */
+    public static ChangeEventResponse toResponse(CatalogChange change) {
+        Object data = null;
+        if (change.getPayload() instanceof EventoEntity evento) {
+            data = EventoMapper.toResponse(evento);
+        } else if (change.getPayload() instanceof VenueEntity venue) {
+            data = VenueMapper.toResponse(venue);
+        }
+        return new ChangeEventResponse(
+                change.getSequence(),
+                change.getResource().name(),
+                change.getType().name(),
+                change.getId(),
+                change.getTimestamp(),
+                data
+        );
+    }
+}
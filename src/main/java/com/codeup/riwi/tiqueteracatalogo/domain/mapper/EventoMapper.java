@@ -3,6 +3,9 @@ package com.codeup.riwi.tiqueteracatalogo.domain.mapper;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoRequest;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
 import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.TextHandle;
+
+import java.util.List;
 
 /**
  * Mapper para convertir entre EventoEntity y DTOs (Request/Response).
@@ -27,18 +30,32 @@ public class EventoMapper {
 
     /**
      * Convierte EventoEntity a EventoResponse.
-     * Usado al devolver datos al cliente.
+     * Usado al devolver datos al cliente. Una descripción guardada fuera del heap
+     * solo se decodifica si la respuesta llega a incluirla.
      */
     public static EventoResponse toResponse(EventoEntity entity) {
-        return new EventoResponse(
+        TextHandle descriptionText = entity.getDescriptionText();
+        EventoResponse response = new EventoResponse(
                 entity.getId(),
                 entity.getName(),
-                entity.getDescription(),
+                descriptionText == null ? entity.getDescription() : null,
                 entity.getEventDate(),
                 entity.getVenueId(),
                 entity.getCapacity(),
                 entity.getPrice()
         );
+        if (descriptionText != null) {
+            response.setDescriptionSource(descriptionText::decode);
+        }
+        return response;
+    }
+
+    /**
+     * Convierte una lista de EventoEntity en una vista de EventoResponse que mapea cada
+     * elemento al accederlo; el escritor JSON directo serializa las entidades sin mapearlas.
+     */
+    public static List<EventoResponse> toResponseList(List<EventoEntity> entities) {
+        return new MappedList<>(entities, EventoEntity.class, EventoMapper::toResponse);
     }
 
     /**
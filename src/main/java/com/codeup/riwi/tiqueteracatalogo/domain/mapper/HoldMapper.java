@@ -0,0 +1,23 @@
+package com.codeup.riwi.tiqueteracatalogo.domain.mapper;
+
+import com.codeup.riwi.tiqueteracatalogo.repository.ReservationHolds;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.HoldResponse;
+
+/**
+ * Mapper para convertir reservas a HoldResponse.
+ */
+public class HoldMapper {
+
+    /**
+     * Convierte Hold a HoldResponse
+     */
+    public static HoldResponse toResponse(ReservationHolds.Hold hold) {
+        return new HoldResponse(
+                hold.getId(),
+                hold.getEventId(),
+                hold.getQuantity(),
+                hold.getStatus().name(),
+                hold.getExpiresAt()
+        );
+    }
+}
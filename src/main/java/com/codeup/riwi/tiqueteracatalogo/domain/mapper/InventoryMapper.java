@@ -0,0 +1,20 @@
+package com.codeup.riwi.tiqueteracatalogo.domain.mapper;
+
+import com.codeup.riwi.tiqueteracatalogo.repository.TicketInventory;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.InventoryResponse;
+
+/**
+ * Mapper para convertir el inventario de un evento a InventoryResponse.
+ */
+public class InventoryMapper {
+
+    /**
+     * Convierte EventInventory a InventoryResponse, derivando las vendidas de la capacidad.
+     */
+    public static InventoryResponse toResponse(Long eventId, TicketInventory.EventInventory inventory) {
+        long available = inventory.available();
+        long held = inventory.held();
+        int capacity = inventory.capacity();
+        return new InventoryResponse(eventId, capacity, Math.max(0, capacity - available - held), held, available);
+    }
+}
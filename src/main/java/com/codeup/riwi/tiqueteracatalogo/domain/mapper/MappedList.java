@@ -0,0 +1,42 @@
+package com.codeup.riwi.tiqueteracatalogo.domain.mapper;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Vista de solo lectura que convierte entidades a DTOs al accederlas.
+ * Quien solo necesita serializar (el escritor JSON directo) recorre las entidades
+ * con {@link #getSource()} sin crear ningún DTO.
+ */
+public final class MappedList<E, R> extends AbstractList<R> implements RandomAccess {
+
+    private final List<E> source;
+    private final Class<E> sourceType;
+    private final Function<E, R> mapper;
+
+    public MappedList(List<E> source, Class<E> sourceType, Function<E, R> mapper) {
+        this.source = source;
+        this.sourceType = sourceType;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public R get(int index) {
+        return mapper.apply(source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    public List<E> getSource() {
+        return source;
+    }
+
+    public Class<E> getSourceType() {
+        return sourceType;
+    }
+}
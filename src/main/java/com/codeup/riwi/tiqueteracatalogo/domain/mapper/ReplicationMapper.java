@@ -0,0 +1,36 @@
+package com.codeup.riwi.tiqueteracatalogo.domain.mapper;
+
+import com.codeup.riwi.tiqueteracatalogo.replication.ReplicationManager;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.FollowerReplicationResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.ReplicationStatusResponse;
+
+import java.util.stream.Collectors;
+
+/**
+ * Mapper para convertir el estado de la replicación a ReplicationStatusResponse.
+ */
+public class ReplicationMapper {
+
+    public static ReplicationStatusResponse toResponse(ReplicationManager.Status status) {
+        return new ReplicationStatusResponse(
+                status.getRole(),
+                status.getEpoch(),
+                status.getLeader(),
+                status.getSequence(),
+                status.getLeaderSequence(),
+                status.getLag(),
+                status.isConnected(),
+                status.getMillisSinceLastContact(),
+                status.getSnapshots(),
+                status.getChangesApplied(),
+                status.getFollowers().stream()
+                        .map(f -> new FollowerReplicationResponse(
+                                f.getAddress(),
+                                f.getConnectedAt(),
+                                f.getSentSequence(),
+                                f.getLag(),
+                                f.getSnapshotsSent()))
+                        .collect(Collectors.toList())
+        );
+    }
+}
@@ -4,6 +4,8 @@ import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueRequest;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
 import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
 
+import java.util.List;
+
 /**
  * Mapper para convertir entre VenueEntity y DTOs (Request/Response).
  * Centraliza las transformaciones entre las capas de dominio y presentación.
@@ -21,12 +23,15 @@ public class VenueMapper {
         entity.setCity(request.getCity());
         entity.setCountry(request.getCountry());
         entity.setCapacity(request.getCapacity());
+        entity.setLatitude(request.getLatitude());
+        entity.setLongitude(request.getLongitude());
         return entity;
     }
 
     /**
      * Convierte VenueEntity a VenueResponse.
-     * Usado al devolver datos al cliente.
+     * Usado al devolver datos al cliente; aquí se decodifican ciudad y país
+     * desde sus códigos de diccionario.
      */
     public static VenueResponse toResponse(VenueEntity entity) {
         return new VenueResponse(
@@ -35,10 +40,20 @@ public class VenueMapper {
                 entity.getAddress(),
                 entity.getCity(),
                 entity.getCountry(),
-                entity.getCapacity()
+                entity.getCapacity(),
+                entity.getLatitude(),
+                entity.getLongitude()
         );
     }
 
+    /**
+     * Convierte una lista de VenueEntity en una vista de VenueResponse que mapea cada
+     * elemento al accederlo; el escritor JSON directo serializa las entidades sin mapearlas.
+     */
+    public static List<VenueResponse> toResponseList(List<VenueEntity> entities) {
+        return new MappedList<>(entities, VenueEntity.class, VenueMapper::toResponse);
+    }
+
     /**
      * Actualiza un VenueEntity existente con datos de VenueRequest.
      * Preserva el ID original.
@@ -49,5 +64,7 @@ public class VenueMapper {
         entity.setCity(request.getCity());
         entity.setCountry(request.getCountry());
         entity.setCapacity(request.getCapacity());
+        entity.setLatitude(request.getLatitude());
+        entity.setLongitude(request.getLongitude());
     }
 }
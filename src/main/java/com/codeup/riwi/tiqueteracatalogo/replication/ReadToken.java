@@ -0,0 +1,64 @@
+package com.codeup.riwi.tiqueteracatalogo.replication;
+
+/**
+ * Token de lectura de la replicación: época del líder y secuencia de su registro de
+ * cambios, con la forma {@code época:secuencia}.
+ * Las secuencias vuelven a empezar cada vez que arranca el líder, así que solo se
+ * comparan dentro de la misma época; un nodo que ya está en una época posterior a la
+ * del token lo cubre, porque esa época del líder ya no recibirá más cambios.
+ */
+public final class ReadToken {
+
+    private final long epoch;
+    private final long sequence;
+
+    public ReadToken(long epoch, long sequence) {
+        this.epoch = epoch;
+        this.sequence = sequence;
+    }
+
+    /**
+     * @param value Texto con la forma época:secuencia
+     * @return Token leído
+     * @throws IllegalArgumentException si el texto no tiene esa forma
+     */
+    public static ReadToken parse(String value) {
+        int separator = value.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Se esperaba época:secuencia");
+        }
+        try {
+            long epoch = Long.parseLong(value.substring(0, separator).trim());
+            long sequence = Long.parseLong(value.substring(separator + 1).trim());
+            if (epoch < 0 || sequence < 0) {
+                throw new IllegalArgumentException("Época y secuencia no pueden ser negativas");
+            }
+            return new ReadToken(epoch, sequence);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Se esperaba época:secuencia", e);
+        }
+    }
+
+    /**
+     * Indica si un nodo en cierta época y secuencia ya refleja este token
+     * @param nodeEpoch Época del líder cuyos cambios tiene el nodo
+     * @param nodeSequence Secuencia aplicada en esa época
+     * @return true si el nodo ya puede responder
+     */
+    public boolean isCoveredBy(long nodeEpoch, long nodeSequence) {
+        return nodeEpoch > epoch || (nodeEpoch == epoch && nodeSequence >= sequence);
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public String toString() {
+        return epoch + ":" + sequence;
+    }
+}
@@ -0,0 +1,274 @@
+package com.codeup.riwi.tiqueteracatalogo.replication;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import com.codeup.riwi.tiqueteracatalogo.repository.EventoRepository;
+import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.BinaryReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lado seguidor de la replicación: mantiene una conexión con el líder, aplica
+ * sus cambios en orden sobre los repositorios locales y registra la secuencia
+ * aplicada. Si la conexión se cae reintenta con espera creciente y retoma desde
+ * la última secuencia aplicada.
+ */
+final class ReplicationFollower implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicationFollower.class);
+
+    private static final int CONNECT_TIMEOUT_MS = 3_000;
+    private static final long MIN_BACKOFF_MS = 250;
+    private static final long MAX_BACKOFF_MS = 5_000;
+
+    private final String leaderHost;
+    private final int leaderPort;
+    private final EventoRepository eventoRepository;
+    private final VenueRepository venueRepository;
+    private final int readTimeoutMillis;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile Socket socket;
+
+    // Estado de la réplica; época y secuencia cambian juntas bajo el monitor y se
+    // publican con notifyAll para las lecturas que esperan
+    private volatile long epoch;
+    // Época anunciada por el líder; se adopta cuando termina de llegar su copia completa
+    private long pendingEpoch;
+    private volatile long appliedSequence;
+    private volatile long leaderSequence;
+    private volatile boolean connected;
+    private volatile long lastContactMillis;
+    private volatile long snapshotsLoaded;
+    private volatile long changesApplied;
+
+    // Solo los usa el hilo de replicación mientras llega una copia completa
+    private Set<Long> snapshotVenueIds;
+    private Set<Long> snapshotEventoIds;
+
+    ReplicationFollower(String leaderHost, int leaderPort, EventoRepository eventoRepository,
+                        VenueRepository venueRepository, long heartbeatMillis) {
+        this.leaderHost = leaderHost;
+        this.leaderPort = leaderPort;
+        this.eventoRepository = eventoRepository;
+        this.venueRepository = venueRepository;
+        // Sin tramas durante varios latidos se da la conexión por perdida
+        this.readTimeoutMillis = (int) Math.max(1_000, heartbeatMillis * 4);
+        this.thread = new Thread(this, "replication-follower");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        long backoff = MIN_BACKOFF_MS;
+        while (running) {
+            try (Socket s = new Socket()) {
+                socket = s;
+                s.connect(new InetSocketAddress(leaderHost, leaderPort), CONNECT_TIMEOUT_MS);
+                s.setTcpNoDelay(true);
+                s.setSoTimeout(readTimeoutMillis);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream(), 64 * 1024));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+                ReplicationProtocol.writeFrame(out, ReplicationProtocol.HELLO,
+                        ReplicationProtocol.sequences(ReplicationProtocol.VERSION, epoch, appliedSequence));
+                out.flush();
+                connected = true;
+                backoff = MIN_BACKOFF_MS;
+                log.info("Conectado al líder {}:{} desde la secuencia {}", leaderHost, leaderPort, appliedSequence);
+                while (running) {
+                    apply(ReplicationProtocol.readFrame(in));
+                }
+            } catch (IOException e) {
+                if (running) {
+                    log.info("Sin conexión con el líder {}:{}: {}", leaderHost, leaderPort, e.getMessage());
+                }
+            } finally {
+                connected = false;
+                snapshotVenueIds = null;
+                snapshotEventoIds = null;
+            }
+            if (running) {
+                sleep(backoff);
+                backoff = Math.min(MAX_BACKOFF_MS, backoff * 2);
+            }
+        }
+    }
+
+    private void apply(ReplicationProtocol.Frame frame) throws IOException {
+        lastContactMillis = System.currentTimeMillis();
+        BinaryReader body = frame.body;
+        switch (frame.type) {
+            case ReplicationProtocol.WELCOME -> {
+                long leaderEpoch = body.readUnsignedVarLong();
+                leaderSequence = body.readUnsignedVarLong();
+                if (leaderEpoch != epoch) {
+                    log.info("El líder está en la época {}; se espera una copia completa", leaderEpoch);
+                }
+                pendingEpoch = leaderEpoch;
+            }
+            case ReplicationProtocol.SNAPSHOT_BEGIN -> {
+                snapshotVenueIds = new HashSet<>();
+                snapshotEventoIds = new HashSet<>();
+            }
+            case ReplicationProtocol.VENUE -> {
+                VenueEntity venue = ReplicationProtocol.readVenue(body);
+                venueRepository.save(venue);
+                snapshotVenueIds.add(venue.getId());
+            }
+            case ReplicationProtocol.EVENTO -> {
+                EventoEntity evento = ReplicationProtocol.readEvento(body);
+                eventoRepository.save(evento);
+                snapshotEventoIds.add(evento.getId());
+            }
+            case ReplicationProtocol.SNAPSHOT_END -> {
+                long sequence = body.readUnsignedVarLong();
+                // Lo que no vino en la copia ya no existe en el líder
+                List<Long> staleEventoIds = new ArrayList<>();
+                eventoRepository.forEachIncludingCold(evento -> {
+                    if (!snapshotEventoIds.contains(evento.getId())) {
+                        staleEventoIds.add(evento.getId());
+                    }
+                });
+                staleEventoIds.forEach(eventoRepository::deleteById);
+                for (VenueEntity venue : venueRepository.findAll()) {
+                    if (!snapshotVenueIds.contains(venue.getId())) {
+                        venueRepository.deleteById(venue.getId());
+                    }
+                }
+                log.info("Copia completa aplicada: {} venues y {} eventos en la secuencia {}",
+                        snapshotVenueIds.size(), snapshotEventoIds.size(), sequence);
+                snapshotVenueIds = null;
+                snapshotEventoIds = null;
+                snapshotsLoaded++;
+                advance(pendingEpoch, sequence);
+            }
+            case ReplicationProtocol.CHANGE -> {
+                long sequence = body.readUnsignedVarLong();
+                CatalogChange.Resource resource = CatalogChange.Resource.values()[body.readByte()];
+                CatalogChange.Type type = CatalogChange.Type.values()[body.readByte()];
+                long id = body.readUnsignedVarLong();
+                if (resource == CatalogChange.Resource.EVENTO) {
+                    if (type == CatalogChange.Type.DELETED) {
+                        eventoRepository.deleteById(id);
+                    } else {
+                        eventoRepository.save(ReplicationProtocol.readEvento(body));
+                    }
+                } else if (type == CatalogChange.Type.DELETED) {
+                    venueRepository.deleteById(id);
+                } else {
+                    venueRepository.save(ReplicationProtocol.readVenue(body));
+                }
+                changesApplied++;
+                advance(epoch, sequence);
+            }
+            case ReplicationProtocol.HEARTBEAT -> leaderSequence = Math.max(leaderSequence, body.readUnsignedVarLong());
+            default -> throw new IOException("Trama desconocida: " + frame.type);
+        }
+    }
+
+    private void advance(long newEpoch, long sequence) {
+        synchronized (this) {
+            epoch = newEpoch;
+            appliedSequence = sequence;
+            notifyAll();
+        }
+        leaderSequence = Math.max(leaderSequence, sequence);
+    }
+
+    /**
+     * Época y secuencia aplicadas, leídas juntas
+     * @return Token de lo visible en la réplica
+     */
+    synchronized ReadToken token() {
+        return new ReadToken(epoch, appliedSequence);
+    }
+
+    /**
+     * Espera a que la réplica haya aplicado un token del líder
+     * @param token Época y secuencia requeridas
+     * @param timeoutMillis Espera máxima
+     * @return true si el token ya está aplicado
+     */
+    boolean awaitToken(ReadToken token, long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        synchronized (this) {
+            while (!token.isCoveredBy(epoch, appliedSequence)) {
+                long remaining = (deadline - System.nanoTime()) / 1_000_000L;
+                if (remaining <= 0) {
+                    return false;
+                }
+                wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    void close() {
+        running = false;
+        thread.interrupt();
+        Socket s = socket;
+        if (s != null) {
+            try {
+                s.close();
+            } catch (IOException ignored) {
+                // Ya cerrado
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    long getEpoch() {
+        return epoch;
+    }
+
+    long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    long getLeaderSequence() {
+        return leaderSequence;
+    }
+
+    boolean isConnected() {
+        return connected;
+    }
+
+    long getLastContactMillis() {
+        return lastContactMillis;
+    }
+
+    long getSnapshotsLoaded() {
+        return snapshotsLoaded;
+    }
+
+    long getChangesApplied() {
+        return changesApplied;
+    }
+
+    String getLeaderAddress() {
+        return leaderHost + ":" + leaderPort;
+    }
+}
@@ -0,0 +1,272 @@
+package com.codeup.riwi.tiqueteracatalogo.replication;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import com.codeup.riwi.tiqueteracatalogo.repository.ChangeFeed;
+import com.codeup.riwi.tiqueteracatalogo.repository.EventoRepository;
+import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.BinaryReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lado líder de la replicación: acepta seguidores por TCP y les envía el
+ * {@link ChangeFeed} en orden, cada uno desde su propio cursor y en su propio hilo.
+ * Un seguidor nuevo, de otra época o que se quedó atrás más de lo que guarda el
+ * buffer recibe primero una copia completa del catálogo.
+ */
+final class ReplicationLeader {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicationLeader.class);
+
+    // Cambios enviados por lote antes de vaciar el buffer del socket
+    private static final int BATCH_SIZE = 512;
+    private static final int HANDSHAKE_TIMEOUT_MS = 10_000;
+
+    private final long epoch;
+    private final ChangeFeed changeFeed;
+    private final EventoRepository eventoRepository;
+    private final VenueRepository venueRepository;
+    private final long heartbeatMillis;
+    private final int maxFollowers;
+    private final ServerSocket serverSocket;
+    private final Thread acceptor;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    // Monitor compartido con el que el registro de cambios despierta a los emisores
+    private final Object signal = new Object();
+    private final Runnable listener = this::onChange;
+    private volatile boolean running = true;
+
+    ReplicationLeader(long epoch, int port, ChangeFeed changeFeed, EventoRepository eventoRepository,
+                      VenueRepository venueRepository, long heartbeatMillis, int maxFollowers) throws IOException {
+        this.epoch = epoch;
+        this.changeFeed = changeFeed;
+        this.eventoRepository = eventoRepository;
+        this.venueRepository = venueRepository;
+        this.heartbeatMillis = heartbeatMillis;
+        this.maxFollowers = maxFollowers;
+        this.serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(port));
+        this.acceptor = new Thread(this::acceptLoop, "replication-acceptor");
+        acceptor.setDaemon(true);
+        changeFeed.addListener(listener);
+        acceptor.start();
+        log.info("Líder de replicación escuchando en el puerto {} (época {})", serverSocket.getLocalPort(), epoch);
+    }
+
+    long getEpoch() {
+        return epoch;
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    List<Session> sessions() {
+        return new ArrayList<>(sessions);
+    }
+
+    void close() {
+        running = false;
+        changeFeed.removeListener(listener);
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // Se está cerrando
+        }
+        for (Session session : sessions) {
+            session.close();
+        }
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+    }
+
+    private void onChange() {
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                if (sessions.size() >= maxFollowers) {
+                    log.warn("Seguidor rechazado desde {}: se alcanzó el máximo de {}", socket.getRemoteSocketAddress(), maxFollowers);
+                    socket.close();
+                    continue;
+                }
+                Session session = new Session(socket);
+                sessions.add(session);
+                Thread thread = new Thread(session, "replication-sender-" + socket.getPort());
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Error aceptando seguidor: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Conexión con un seguidor.
+     */
+    final class Session implements Runnable {
+
+        private final Socket socket;
+        private final String address;
+        private final LocalDateTime connectedAt = LocalDateTime.now();
+        private volatile long sentSequence;
+        private volatile long snapshotsSent;
+
+        Session(Socket socket) {
+            this.socket = socket;
+            this.address = String.valueOf(socket.getRemoteSocketAddress());
+        }
+
+        @Override
+        public void run() {
+            try {
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024));
+
+                ReplicationProtocol.Frame hello = ReplicationProtocol.readFrame(in);
+                if (hello.type != ReplicationProtocol.HELLO) {
+                    throw new IOException("Se esperaba HELLO y llegó " + hello.type);
+                }
+                BinaryReader body = hello.body;
+                long version = body.readUnsignedVarLong();
+                long followerEpoch = body.readUnsignedVarLong();
+                long applied = body.readUnsignedVarLong();
+                if (version != ReplicationProtocol.VERSION) {
+                    throw new IOException("Versión de protocolo no soportada: " + version);
+                }
+                socket.setSoTimeout(0);
+                ReplicationProtocol.writeFrame(out, ReplicationProtocol.WELCOME,
+                        ReplicationProtocol.sequences(epoch, changeFeed.lastSequence()));
+
+                long cursor = followerEpoch == epoch && canResumeFrom(applied) ? applied : sendSnapshot(out);
+                sentSequence = cursor;
+                out.flush();
+                log.info("Seguidor {} conectado desde la secuencia {}", address, cursor);
+                stream(out, cursor);
+            } catch (IOException e) {
+                if (running) {
+                    log.info("Seguidor {} desconectado: {}", address, e.getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        private void stream(DataOutputStream out, long cursor) throws IOException, InterruptedException {
+            while (running) {
+                ChangeFeed.Batch batch = changeFeed.readAfter(cursor, BATCH_SIZE);
+                if (batch.isTruncated()) {
+                    cursor = sendSnapshot(out);
+                } else if (batch.getChanges().isEmpty()) {
+                    out.flush();
+                    boolean idle;
+                    synchronized (signal) {
+                        // Se comprueba bajo el monitor para no perder el aviso del registro
+                        idle = changeFeed.lastSequence() == cursor;
+                        if (idle && running) {
+                            signal.wait(heartbeatMillis);
+                        }
+                    }
+                    if (idle && changeFeed.lastSequence() == cursor) {
+                        ReplicationProtocol.writeFrame(out, ReplicationProtocol.HEARTBEAT,
+                                ReplicationProtocol.sequences(cursor));
+                    }
+                } else {
+                    for (CatalogChange change : batch.getChanges()) {
+                        ReplicationProtocol.writeFrame(out, ReplicationProtocol.CHANGE, ReplicationProtocol.change(change));
+                        cursor = change.getSequence();
+                    }
+                }
+                sentSequence = cursor;
+            }
+        }
+
+        /**
+         * Envía todo el catálogo. La secuencia se toma antes de leer los repositorios:
+         * los cambios posteriores que ya aparezcan en la copia se reenvían después, y
+         * como cada cambio lleva la entidad completa aplicarlos de nuevo no altera nada.
+         */
+        private long sendSnapshot(DataOutputStream out) throws IOException {
+            long sequence = changeFeed.lastSequence();
+            ReplicationProtocol.writeFrame(out, ReplicationProtocol.SNAPSHOT_BEGIN, ReplicationProtocol.sequences(sequence));
+            for (VenueEntity venue : venueRepository.findAll()) {
+                ReplicationProtocol.writeFrame(out, ReplicationProtocol.VENUE, ReplicationProtocol.venue(venue));
+            }
+            // Incluye los eventos pasados que ya están en el nivel frío
+            try {
+                eventoRepository.forEachIncludingCold(evento -> {
+                    try {
+                        ReplicationProtocol.writeFrame(out, ReplicationProtocol.EVENTO, ReplicationProtocol.evento(evento));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            ReplicationProtocol.writeFrame(out, ReplicationProtocol.SNAPSHOT_END, ReplicationProtocol.sequences(sequence));
+            snapshotsSent++;
+            log.info("Copia completa enviada a {} en la secuencia {}", address, sequence);
+            return sequence;
+        }
+
+        private boolean canResumeFrom(long applied) {
+            return !changeFeed.readAfter(applied, 0).isTruncated();
+        }
+
+        void close() {
+            sessions.remove(this);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Ya cerrado
+            }
+        }
+
+        String getAddress() {
+            return address;
+        }
+
+        LocalDateTime getConnectedAt() {
+            return connectedAt;
+        }
+
+        long getSentSequence() {
+            return sentSequence;
+        }
+
+        long getSnapshotsSent() {
+            return snapshotsSent;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.codeup.riwi.tiqueteracatalogo.replication;
+
+import com.codeup.riwi.tiqueteracatalogo.repository.ChangeFeed;
+import com.codeup.riwi.tiqueteracatalogo.repository.EventoRepository;
+import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Modo de replicación del nodo.
+ * <ul>
+ *   <li>standalone: nodo único, sin replicación (por defecto).</li>
+ *   <li>leader: acepta escrituras y envía su registro de cambios a los seguidores.</li>
+ *   <li>follower: aplica los cambios del líder y solo sirve lecturas.</li>
+ * </ul>
+ * La época del líder y la secuencia de su registro de cambios forman el token de
+ * lectura ({@link ReadToken}): el líder lo devuelve tras cada petición y un seguidor
+ * puede esperar a haberlo aplicado antes de responder, lo que da lecturas de las
+ * propias escrituras también después de que el líder se reinicie.
+ * Se crea siempre al arrancar, también con inicialización perezosa: el líder debe
+ * escuchar y el seguidor sincronizarse antes de la primera petición.
+ */
+@Component
+@Lazy(false)
+public class ReplicationManager implements DisposableBean {
+
+    public enum Role { STANDALONE, LEADER, FOLLOWER }
+
+    private final Role role;
+    private final ChangeFeed changeFeed;
+    private final long readWaitMillis;
+    private final ReplicationLeader leader;
+    private final ReplicationFollower follower;
+
+    public ReplicationManager(
+            ChangeFeed changeFeed,
+            EventoRepository eventoRepository,
+            VenueRepository venueRepository,
+            @Value("${tiquetera.replication.role:standalone}") String role,
+            @Value("${tiquetera.replication.port:9400}") int port,
+            @Value("${tiquetera.replication.leader-host:localhost}") String leaderHost,
+            @Value("${tiquetera.replication.leader-port:9400}") int leaderPort,
+            @Value("${tiquetera.replication.heartbeat-ms:1000}") long heartbeatMillis,
+            @Value("${tiquetera.replication.max-followers:16}") int maxFollowers,
+            @Value("${tiquetera.replication.read-wait-ms:2000}") long readWaitMillis) {
+        this.role = Role.valueOf(role.trim().toUpperCase(Locale.ROOT));
+        this.changeFeed = changeFeed;
+        this.readWaitMillis = readWaitMillis;
+        if (this.role == Role.LEADER) {
+            try {
+                // La época distingue arranques del líder: sus secuencias vuelven a empezar en cada uno
+                this.leader = new ReplicationLeader(System.currentTimeMillis(), port, changeFeed,
+                        eventoRepository, venueRepository, heartbeatMillis, maxFollowers);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo abrir el puerto de replicación " + port, e);
+            }
+        } else {
+            this.leader = null;
+        }
+        this.follower = this.role == Role.FOLLOWER
+                ? new ReplicationFollower(leaderHost, leaderPort, eventoRepository, venueRepository, heartbeatMillis)
+                : null;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public boolean isReadOnly() {
+        return role == Role.FOLLOWER;
+    }
+
+    /**
+     * Secuencia visible en este nodo: la última publicada en el líder o la última
+     * aplicada en un seguidor
+     */
+    public long currentSequence() {
+        return follower != null ? follower.getAppliedSequence() : changeFeed.lastSequence();
+    }
+
+    /**
+     * Token de lectura de lo visible en este nodo
+     * @return Época y secuencia; la época es 0 en un nodo standalone o en un
+     *         seguidor que aún no cargó ninguna copia
+     */
+    public ReadToken currentToken() {
+        if (follower != null) {
+            return follower.token();
+        }
+        return new ReadToken(leader != null ? leader.getEpoch() : 0, changeFeed.lastSequence());
+    }
+
+    /**
+     * Espera a que este nodo haya aplicado un token, hasta el tiempo configurado
+     * @param token Token devuelto por el líder
+     * @return true si lo escrito hasta ese token es visible
+     */
+    public boolean awaitToken(ReadToken token) throws InterruptedException {
+        if (follower == null) {
+            ReadToken current = currentToken();
+            return token.isCoveredBy(current.getEpoch(), current.getSequence());
+        }
+        return follower.awaitToken(token, readWaitMillis);
+    }
+
+    public Status status() {
+        Status status = new Status();
+        status.role = role.name().toLowerCase(Locale.ROOT);
+        status.sequence = currentSequence();
+        if (leader != null) {
+            status.epoch = leader.getEpoch();
+            status.leaderSequence = status.sequence;
+            for (ReplicationLeader.Session session : leader.sessions()) {
+                status.followers.add(new FollowerStatus(session.getAddress(), session.getConnectedAt(),
+                        session.getSentSequence(), Math.max(0, status.sequence - session.getSentSequence()),
+                        session.getSnapshotsSent()));
+            }
+        } else if (follower != null) {
+            status.epoch = follower.getEpoch();
+            status.leader = follower.getLeaderAddress();
+            status.leaderSequence = follower.getLeaderSequence();
+            status.connected = follower.isConnected();
+            long lastContact = follower.getLastContactMillis();
+            status.millisSinceLastContact = lastContact == 0 ? null : System.currentTimeMillis() - lastContact;
+            status.snapshots = follower.getSnapshotsLoaded();
+            status.changesApplied = follower.getChangesApplied();
+        } else {
+            status.leaderSequence = status.sequence;
+        }
+        status.lag = Math.max(0, status.leaderSequence - status.sequence);
+        return status;
+    }
+
+    @Override
+    public void destroy() {
+        if (leader != null) {
+            leader.close();
+        }
+        if (follower != null) {
+            follower.close();
+        }
+    }
+
+    /**
+     * Estado de la replicación en este nodo.
+     */
+    public static final class Status {
+
+        private String role;
+        private Long epoch;
+        private String leader;
+        private long sequence;
+        private long leaderSequence;
+        private long lag;
+        private boolean connected;
+        private Long millisSinceLastContact;
+        private long snapshots;
+        private long changesApplied;
+        private final List<FollowerStatus> followers = new ArrayList<>();
+
+        public String getRole() {
+            return role;
+        }
+
+        public Long getEpoch() {
+            return epoch;
+        }
+
+        public String getLeader() {
+            return leader;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public long getLeaderSequence() {
+            return leaderSequence;
+        }
+
+        public long getLag() {
+            return lag;
+        }
+
+        public boolean isConnected() {
+            return connected;
+        }
+
+        public Long getMillisSinceLastContact() {
+            return millisSinceLastContact;
+        }
+
+        public long getSnapshots() {
+            return snapshots;
+        }
+
+        public long getChangesApplied() {
+            return changesApplied;
+        }
+
+        public List<FollowerStatus> getFollowers() {
+            return followers;
+        }
+    }
+
+    /**
+     * Estado de un seguidor visto desde el líder.
+     */
+    public static final class FollowerStatus {
+
+        private final String address;
+        private final LocalDateTime connectedAt;
+        private final long sentSequence;
+        private final long lag;
+        private final long snapshotsSent;
+
+        FollowerStatus(String address, LocalDateTime connectedAt, long sentSequence, long lag, long snapshotsSent) {
+            this.address = address;
+            this.connectedAt = connectedAt;
+            this.sentSequence = sentSequence;
+            this.lag = lag;
+            this.snapshotsSent = snapshotsSent;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+
+        public LocalDateTime getConnectedAt() {
+            return connectedAt;
+        }
+
+        public long getSentSequence() {
+            return sentSequence;
+        }
+
+        public long getLag() {
+            return lag;
+        }
+
+        public long getSnapshotsSent() {
+            return snapshotsSent;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.codeup.riwi.tiqueteracatalogo.replication;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.EventoMapper;
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.VenueMapper;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.BinaryReader;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.BinaryWriter;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.CatalogBinaryCodec;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Protocolo de replicación entre líder y seguidores sobre TCP.
+ * Cada trama es un byte de tipo, un entero de 4 bytes con la longitud y el cuerpo,
+ * codificado con {@link BinaryWriter} y {@link CatalogBinaryCodec}.
+ * <ul>
+ *   <li>HELLO (seguidor → líder): versión, época y última secuencia aplicada.</li>
+ *   <li>WELCOME: época del líder y su última secuencia.</li>
+ *   <li>SNAPSHOT_BEGIN / VENUE / EVENTO / SNAPSHOT_END: copia completa del catálogo
+ *       tomada en una secuencia; después se envían los cambios posteriores.</li>
+ *   <li>CHANGE: un cambio del registro con su secuencia y la entidad resultante.</li>
+ *   <li>HEARTBEAT: última secuencia del líder cuando no hay cambios que enviar.</li>
+ * </ul>
+ */
+final class ReplicationProtocol {
+
+    static final int VERSION = 1;
+
+    static final int HELLO = 1;
+    static final int WELCOME = 2;
+    static final int SNAPSHOT_BEGIN = 3;
+    static final int VENUE = 4;
+    static final int EVENTO = 5;
+    static final int SNAPSHOT_END = 6;
+    static final int CHANGE = 7;
+    static final int HEARTBEAT = 8;
+
+    // Límite defensivo para no reservar memoria con una longitud corrupta
+    private static final int MAX_FRAME_BYTES = 16 * 1024 * 1024;
+
+    private ReplicationProtocol() {
+    }
+
+    static void writeFrame(DataOutputStream out, int type, BinaryWriter body) throws IOException {
+        out.writeByte(type);
+        out.writeInt(body.size());
+        out.write(body.toByteArray());
+    }
+
+    static Frame readFrame(DataInputStream in) throws IOException {
+        int type = in.readUnsignedByte();
+        int length = in.readInt();
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            throw new IOException("Longitud de trama inválida: " + length);
+        }
+        byte[] body = new byte[length];
+        in.readFully(body);
+        return new Frame(type, new BinaryReader(body));
+    }
+
+    static BinaryWriter sequences(long... values) {
+        BinaryWriter body = new BinaryWriter(8 * values.length);
+        for (long value : values) {
+            body.writeUnsignedVarLong(value);
+        }
+        return body;
+    }
+
+    static BinaryWriter venue(VenueEntity venue) {
+        BinaryWriter body = new BinaryWriter(128);
+        CatalogBinaryCodec.writeVenue(body, VenueMapper.toResponse(venue));
+        return body;
+    }
+
+    static BinaryWriter evento(EventoEntity evento) {
+        BinaryWriter body = new BinaryWriter(128);
+        CatalogBinaryCodec.writeEvento(body, EventoMapper.toResponse(evento));
+        return body;
+    }
+
+    /**
+     * Cuerpo de una trama CHANGE: secuencia, recurso, tipo, ID y, salvo en
+     * eliminaciones, la entidad completa tras el cambio (aplicarla dos veces es inocuo)
+     */
+    static BinaryWriter change(CatalogChange change) {
+        BinaryWriter body = new BinaryWriter(160);
+        body.writeUnsignedVarLong(change.getSequence());
+        body.writeByte(change.getResource().ordinal());
+        body.writeByte(change.getType().ordinal());
+        body.writeUnsignedVarLong(change.getId());
+        if (change.getType() != CatalogChange.Type.DELETED) {
+            if (change.getResource() == CatalogChange.Resource.EVENTO) {
+                CatalogBinaryCodec.writeEvento(body, EventoMapper.toResponse((EventoEntity) change.getPayload()));
+            } else {
+                CatalogBinaryCodec.writeVenue(body, VenueMapper.toResponse((VenueEntity) change.getPayload()));
+            }
+        }
+        return body;
+    }
+
+    static VenueEntity readVenue(BinaryReader in) {
+        VenueResponse v = CatalogBinaryCodec.readVenue(in);
+        return new VenueEntity(v.getId(), v.getName(), v.getAddress(), v.getCity(), v.getCountry(),
+                v.getCapacity(), v.getLatitude(), v.getLongitude());
+    }
+
+    static EventoEntity readEvento(BinaryReader in) {
+        EventoResponse e = CatalogBinaryCodec.readEvento(in);
+        return new EventoEntity(e.getId(), e.getName(), e.getDescription(), e.getEventDate(),
+                e.getVenueId(), e.getCapacity(), e.getPrice());
+    }
+
+    /**
+     * Trama recibida: tipo y lector sobre el cuerpo.
+     */
+    static final class Frame {
+
+        final int type;
+        final BinaryReader body;
+
+        Frame(int type, BinaryReader body) {
+            this.type = type;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+/**
+ * Filtro de Bloom de claves long, de tamaño fijo e inmutable una vez construido.
+ * Responde "seguro que no está" o "puede estar": nunca da falsos negativos.
+ * Las k posiciones salen de dos hashes combinados (h1 + i·h2), así basta un solo
+ * mezclado por consulta.
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashes;
+
+    /**
+     * @param expectedKeys Claves que se van a insertar
+     * @param bitsPerKey Bits por clave; 10 da alrededor de 1% de falsos positivos
+     */
+    BloomFilter(int expectedKeys, int bitsPerKey) {
+        int words = Math.max(1, (int) (((long) Math.max(1, expectedKeys) * bitsPerKey + 63) / 64));
+        this.bits = new long[words];
+        this.bitCount = words * 64;
+        // k óptimo = bits por clave · ln 2
+        this.hashes = Math.max(1, Math.min(16, (int) Math.round(bitsPerKey * 0.6931)));
+    }
+
+    void add(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    // Finalizador de SplitMix64: reparte bien IDs consecutivos
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+}
@@ -0,0 +1,418 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.FieldDictionary;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Agregados del catálogo mantenidos de forma incremental.
+ * Los repositorios los actualizan en su ruta de escritura, así las consultas
+ * de conteo responden en O(1) y las estadísticas agrupadas en O(grupos).
+ */
+@Component
+public class CatalogAggregates {
+
+    // Contadores globales con LongAdder para que las escrituras no compitan
+    private final LongAdder eventCount = new LongAdder();
+    private final LongAdder venueCount = new LongAdder();
+
+    // Estadísticas de eventos agrupadas por venue
+    private final Map<Long, EventGroup> eventsByVenue = new ConcurrentHashMap<>();
+
+    // Venues agrupados por ciudad (código plegado del diccionario de ciudades)
+    private final Map<Integer, CityGroup> venuesByCity = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> cityByVenue = new ConcurrentHashMap<>();
+    private final FieldDictionary cities;
+
+    /**
+     * Constructor con inyección de dependencias
+     * @param dictionaries Diccionarios compartidos con el repositorio de venues
+     */
+    public CatalogAggregates(CatalogDictionaries dictionaries) {
+        this.cities = dictionaries.getCities();
+    }
+
+    /**
+     * Registra un evento nuevo
+     * @param evento Evento guardado
+     */
+    public void eventoAdded(EventoEntity evento) {
+        eventCount.increment();
+        addToGroup(evento);
+    }
+
+    /**
+     * Registra el reemplazo de un evento
+     * @param previous Estado anterior
+     * @param current Estado nuevo
+     */
+    public void eventoUpdated(EventoEntity previous, EventoEntity current) {
+        removeFromGroup(previous);
+        addToGroup(current);
+    }
+
+    /**
+     * Registra la eliminación de un evento
+     * @param evento Evento eliminado
+     */
+    public void eventoRemoved(EventoEntity evento) {
+        eventCount.decrement();
+        removeFromGroup(evento);
+    }
+
+    /**
+     * Registra un venue nuevo
+     * @param venue Venue guardado
+     */
+    public void venueAdded(VenueEntity venue) {
+        venueCount.increment();
+        addToCity(venue);
+    }
+
+    /**
+     * Registra el reemplazo de un venue
+     * @param previous Estado anterior
+     * @param current Estado nuevo
+     */
+    public void venueUpdated(VenueEntity previous, VenueEntity current) {
+        removeFromCity(previous);
+        addToCity(current);
+    }
+
+    /**
+     * Registra la eliminación de un venue
+     * @param venue Venue eliminado
+     */
+    public void venueRemoved(VenueEntity venue) {
+        venueCount.decrement();
+        removeFromCity(venue);
+    }
+
+    public long eventCount() {
+        return eventCount.sum();
+    }
+
+    public long venueCount() {
+        return venueCount.sum();
+    }
+
+    /**
+     * Estadísticas globales de eventos, combinando los grupos por venue
+     * @return Estadísticas de todo el catálogo
+     */
+    public Stats totalStats() {
+        Stats total = new Stats();
+        LocalDateTime now = LocalDateTime.now();
+        for (EventGroup group : eventsByVenue.values()) {
+            group.mergeInto(total, now);
+        }
+        return total;
+    }
+
+    /**
+     * Estadísticas de eventos de un venue
+     * @param venueId ID del venue
+     * @return Estadísticas (vacías si no tiene eventos)
+     */
+    public Stats venueStats(Long venueId) {
+        Stats stats = new Stats();
+        EventGroup group = eventsByVenue.get(venueId);
+        if (group != null) {
+            group.mergeInto(stats, LocalDateTime.now());
+        }
+        return stats;
+    }
+
+    /**
+     * IDs de venues que tienen al menos un evento registrado
+     * @return IDs de venues con estadísticas
+     */
+    public Set<Long> venueIdsWithEvents() {
+        return Set.copyOf(eventsByVenue.keySet());
+    }
+
+    /**
+     * Estadísticas de una ciudad: venues de la ciudad y sus eventos
+     * @param city Nombre de la ciudad (sin distinguir mayúsculas)
+     * @return Estadísticas o null si no hay venues en la ciudad
+     */
+    public CityStats cityStats(String city) {
+        CityGroup group = venuesByCity.get(cities.lookupFolded(city));
+        return group == null ? null : group.snapshot(this);
+    }
+
+    /**
+     * Estadísticas de todas las ciudades
+     * @return Lista con una entrada por ciudad
+     */
+    public List<CityStats> allCityStats() {
+        List<CityStats> result = new ArrayList<>();
+        for (CityGroup group : venuesByCity.values()) {
+            CityStats stats = group.snapshot(this);
+            if (stats.getVenueCount() > 0) {
+                result.add(stats);
+            }
+        }
+        return result;
+    }
+
+    // Las particiones de eventos escriben en paralelo: alta y baja en el grupo van
+    // dentro de compute para que un grupo vaciado no se retire mientras otro evento
+    // del mismo venue se está sumando
+    private void addToGroup(EventoEntity evento) {
+        eventsByVenue.compute(evento.getVenueId(), (id, group) -> {
+            EventGroup target = group != null ? group : new EventGroup();
+            target.add(evento);
+            return target;
+        });
+    }
+
+    // Un venue sin eventos no conserva su grupo: ni ocupa memoria ni aparece como venue con estadísticas
+    private void removeFromGroup(EventoEntity evento) {
+        eventsByVenue.computeIfPresent(evento.getVenueId(), (id, group) -> {
+            group.remove(evento);
+            return group.isEmpty() ? null : group;
+        });
+    }
+
+    private void addToCity(VenueEntity venue) {
+        // El repositorio entrega el venue codificado y mantiene la referencia al término
+        int key = venue.getCityTerm() != null
+                ? venue.getCityTerm().getFoldedCode() : cities.lookupFolded(venue.getCity());
+        cityByVenue.put(venue.getId(), key);
+        venuesByCity.computeIfAbsent(key, k -> new CityGroup(venue.getCity())).add(venue);
+    }
+
+    private void removeFromCity(VenueEntity venue) {
+        Integer key = cityByVenue.remove(venue.getId());
+        if (key != null) {
+            // Una ciudad sin venues se retira: su código plegado no volverá a usarse
+            venuesByCity.computeIfPresent(key, (k, group) -> {
+                group.remove(venue);
+                return group.isEmpty() ? null : group;
+            });
+        }
+    }
+
+    private static long capacityOf(Integer capacity) {
+        return capacity == null ? 0 : capacity;
+    }
+
+    /**
+     * Estadísticas de eventos de un grupo. Cada grupo tiene su propio monitor,
+     * de modo que escrituras sobre venues distintos no compiten entre sí.
+     */
+    private static final class EventGroup {
+
+        private long count;
+        private long totalCapacity;
+        private double priceSum;
+        private long pricedCount;
+        // Multiconjunto de precios para min/max con eliminaciones
+        private final TreeMap<Double, Integer> prices = new TreeMap<>();
+        // Fechas futuras pendientes; las que pasan se descartan al consultar
+        private final TreeMap<LocalDateTime, Integer> upcoming = new TreeMap<>();
+        private long upcomingCount;
+
+        synchronized void add(EventoEntity evento) {
+            LocalDateTime now = LocalDateTime.now();
+            expire(now);
+            count++;
+            totalCapacity += capacityOf(evento.getCapacity());
+            if (evento.getPrice() != null) {
+                priceSum += evento.getPrice();
+                pricedCount++;
+                prices.merge(evento.getPrice(), 1, Integer::sum);
+            }
+            if (evento.getEventDate() != null && evento.getEventDate().isAfter(now)) {
+                upcoming.merge(evento.getEventDate(), 1, Integer::sum);
+                upcomingCount++;
+            }
+        }
+
+        synchronized void remove(EventoEntity evento) {
+            LocalDateTime now = LocalDateTime.now();
+            expire(now);
+            count--;
+            totalCapacity -= capacityOf(evento.getCapacity());
+            if (evento.getPrice() != null) {
+                priceSum -= evento.getPrice();
+                pricedCount--;
+                decrement(prices, evento.getPrice());
+            }
+            if (evento.getEventDate() != null && evento.getEventDate().isAfter(now)
+                    && decrement(upcoming, evento.getEventDate())) {
+                upcomingCount--;
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return count == 0;
+        }
+
+        synchronized void mergeInto(Stats stats, LocalDateTime now) {
+            expire(now);
+            stats.eventCount += count;
+            stats.upcomingEventCount += upcomingCount;
+            stats.totalCapacity += totalCapacity;
+            stats.priceSum += priceSum;
+            stats.pricedCount += pricedCount;
+            if (!prices.isEmpty()) {
+                double min = prices.firstKey();
+                double max = prices.lastKey();
+                stats.minPrice = stats.minPrice == null ? min : Math.min(stats.minPrice, min);
+                stats.maxPrice = stats.maxPrice == null ? max : Math.max(stats.maxPrice, max);
+            }
+        }
+
+        private void expire(LocalDateTime now) {
+            Iterator<Map.Entry<LocalDateTime, Integer>> it = upcoming.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<LocalDateTime, Integer> entry = it.next();
+                if (entry.getKey().isAfter(now)) {
+                    break;
+                }
+                upcomingCount -= entry.getValue();
+                it.remove();
+            }
+        }
+
+        private static <K> boolean decrement(TreeMap<K, Integer> multiset, K key) {
+            Integer current = multiset.get(key);
+            if (current == null) {
+                return false;
+            }
+            if (current == 1) {
+                multiset.remove(key);
+            } else {
+                multiset.put(key, current - 1);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Venues de una ciudad con su capacidad total.
+     */
+    private static final class CityGroup {
+
+        // Primera variante vista; es el String del término, no una copia
+        private final String displayName;
+        private final Set<Long> venueIds = ConcurrentHashMap.newKeySet();
+        private final LongAdder venueCapacity = new LongAdder();
+
+        CityGroup(String displayName) {
+            this.displayName = displayName;
+        }
+
+        void add(VenueEntity venue) {
+            venueIds.add(venue.getId());
+            venueCapacity.add(capacityOf(venue.getCapacity()));
+        }
+
+        void remove(VenueEntity venue) {
+            if (venueIds.remove(venue.getId())) {
+                venueCapacity.add(-capacityOf(venue.getCapacity()));
+            }
+        }
+
+        boolean isEmpty() {
+            return venueIds.isEmpty();
+        }
+
+        CityStats snapshot(CatalogAggregates aggregates) {
+            Stats events = new Stats();
+            LocalDateTime now = LocalDateTime.now();
+            for (Long venueId : venueIds) {
+                EventGroup group = aggregates.eventsByVenue.get(venueId);
+                if (group != null) {
+                    group.mergeInto(events, now);
+                }
+            }
+            return new CityStats(displayName, venueIds.size(), venueCapacity.sum(), events);
+        }
+    }
+
+    /**
+     * Resultado de combinar uno o varios grupos de eventos.
+     */
+    public static final class Stats {
+
+        private long eventCount;
+        private long upcomingEventCount;
+        private long totalCapacity;
+        private double priceSum;
+        private long pricedCount;
+        private Double minPrice;
+        private Double maxPrice;
+
+        public long getEventCount() {
+            return eventCount;
+        }
+
+        public long getUpcomingEventCount() {
+            return upcomingEventCount;
+        }
+
+        public long getTotalCapacity() {
+            return totalCapacity;
+        }
+
+        public Double getAveragePrice() {
+            return pricedCount == 0 ? null : priceSum / pricedCount;
+        }
+
+        public Double getMinPrice() {
+            return minPrice;
+        }
+
+        public Double getMaxPrice() {
+            return maxPrice;
+        }
+    }
+
+    /**
+     * Estadísticas de una ciudad.
+     */
+    public static final class CityStats {
+
+        private final String city;
+        private final long venueCount;
+        private final long venueCapacity;
+        private final Stats events;
+
+        CityStats(String city, long venueCount, long venueCapacity, Stats events) {
+            this.city = city;
+            this.venueCount = venueCount;
+            this.venueCapacity = venueCapacity;
+            this.events = events;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public long getVenueCount() {
+            return venueCount;
+        }
+
+        public long getVenueCapacity() {
+            return venueCapacity;
+        }
+
+        public Stats getEvents() {
+            return events;
+        }
+    }
+}
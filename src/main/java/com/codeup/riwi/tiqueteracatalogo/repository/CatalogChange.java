@@ -0,0 +1,55 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio del catálogo con número de secuencia global.
+ * El payload es la entidad almacenada tras el cambio (null en eliminaciones);
+ * los repositorios reemplazan instancias en vez de modificarlas, así que es seguro compartirla.
+ */
+public class CatalogChange {
+
+    public enum Resource { EVENTO, VENUE }
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final long sequence;
+    private final Resource resource;
+    private final Type type;
+    private final Long id;
+    private final Object payload;
+    private final LocalDateTime timestamp;
+
+    public CatalogChange(long sequence, Resource resource, Type type, Long id, Object payload) {
+        this.sequence = sequence;
+        this.resource = resource;
+        this.type = type;
+        this.id = id;
+        this.payload = payload;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,25 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.FieldDictionary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Diccionarios de ciudades y países de los venues.
+ * Son parte del estado del catálogo como los índices: un bean por contexto que
+ * comparten el repositorio de venues y los agregados, en vez de estáticos que
+ * sobrevivirían al contexto y crecerían sin límite.
+ */
+@Component
+public class CatalogDictionaries {
+
+    private final FieldDictionary cities = new FieldDictionary();
+    private final FieldDictionary countries = new FieldDictionary();
+
+    public FieldDictionary getCities() {
+        return cities;
+    }
+
+    public FieldDictionary getCountries() {
+        return countries;
+    }
+}
@@ -0,0 +1,106 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registro acotado de cambios del catálogo sobre un buffer circular.
+ * Los repositorios publican cada escritura con un número de secuencia creciente;
+ * los consumidores leen desde su última secuencia sin bloquear a los escritores.
+ */
+@Component
+public class ChangeFeed {
+
+    private final CatalogChange[] ring;
+    // Secuencia del último cambio publicado (0 = ninguno)
+    private long lastSequence;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public ChangeFeed(@Value("${tiquetera.changes.buffer-size:4096}") int capacity) {
+        this.ring = new CatalogChange[capacity];
+    }
+
+    /**
+     * Publica un cambio y avisa a los oyentes
+     * @param resource Tipo de recurso
+     * @param type Tipo de cambio
+     * @param id ID del recurso
+     * @param payload Entidad tras el cambio o null si se eliminó
+     * @return Secuencia asignada
+     */
+    public long append(CatalogChange.Resource resource, CatalogChange.Type type, Long id, Object payload) {
+        long sequence;
+        synchronized (this) {
+            sequence = ++lastSequence;
+            ring[(int) (sequence % ring.length)] = new CatalogChange(sequence, resource, type, id, payload);
+        }
+        // Los oyentes solo programan trabajo; nunca escriben a clientes en este hilo
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+        return sequence;
+    }
+
+    /**
+     * Lee cambios posteriores a una secuencia
+     * @param afterSequence Última secuencia ya procesada por el consumidor
+     * @param max Máximo de cambios a devolver
+     * @return Lote de cambios, marcado como incompleto si el buffer ya los descartó o si la
+     *         secuencia es posterior a la última publicada (viene de antes de un reinicio)
+     */
+    public synchronized Batch readAfter(long afterSequence, int max) {
+        long oldest = Math.max(1, lastSequence - ring.length + 1);
+        // Una secuencia adelantada no se puede retomar: esperar a que la nueva la alcance
+        // perdería en silencio todos los cambios de en medio
+        if (afterSequence + 1 < oldest || afterSequence > lastSequence) {
+            return new Batch(List.of(), true);
+        }
+        long end = Math.min(lastSequence, afterSequence + max);
+        List<CatalogChange> changes = new ArrayList<>((int) Math.max(0, end - afterSequence));
+        for (long seq = afterSequence + 1; seq <= end; seq++) {
+            changes.add(ring[(int) (seq % ring.length)]);
+        }
+        return new Batch(changes, false);
+    }
+
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Resultado de una lectura del buffer.
+     */
+    public static final class Batch {
+
+        private final List<CatalogChange> changes;
+        private final boolean truncated;
+
+        Batch(List<CatalogChange> changes, boolean truncated) {
+            this.changes = changes;
+            this.truncated = truncated;
+        }
+
+        public List<CatalogChange> getChanges() {
+            return changes;
+        }
+
+        /**
+         * @return true si faltan cambios porque el buffer ya los sobrescribió o la secuencia pedida no existe
+         */
+        public boolean isTruncated() {
+            return truncated;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Nivel frío del catálogo: eventos pasados guardados en {@link EventSegment}s inmutables en disco.
+ * {@link EventoRepository} mueve aquí los eventos cuya fecha ya pasó y sigue
+ * respondiendo por ellos en búsquedas por ID y listados por venue, leyendo del disco
+ * solo cuando el evento no está en memoria.
+ * <p>
+ * Los segmentos no se reescriben: cuando un evento frío se modifica o elimina, su ID
+ * pasa al conjunto de ocultos y la copia del disco deja de verse. Los segmentos se
+ * consultan del más nuevo al más viejo, así un evento que vuelve a enfriarse se lee
+ * de su segmento más reciente.
+ */
+@Component
+public class ColdEventStore implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ColdEventStore.class);
+
+    private final boolean enabled;
+    private final long graceMillis;
+    private final long intervalMillis;
+    private final int blockRecords;
+    private final int segmentRecords;
+    private final int bitsPerKey;
+    private final Path directory;
+
+    // Del más viejo al más nuevo; los lectores la recorren sin lock
+    private final List<EventSegment> segments = new CopyOnWriteArrayList<>();
+    // IDs cuya copia en disco ya no vale: el evento se modificó (y volvió a memoria) o se eliminó
+    private final Set<Long> shadowed = ConcurrentHashMap.newKeySet();
+    private final Counters counters = new Counters();
+    private ScheduledExecutorService scheduler;
+
+    public ColdEventStore(
+            @Value("${tiquetera.cold.enabled:false}") boolean enabled,
+            @Value("${tiquetera.cold.grace-hours:24}") long graceHours,
+            @Value("${tiquetera.cold.interval-ms:60000}") long intervalMillis,
+            @Value("${tiquetera.cold.block-records:16}") int blockRecords,
+            @Value("${tiquetera.cold.segment-records:262144}") int segmentRecords,
+            @Value("${tiquetera.cold.bloom-bits-per-key:10}") int bitsPerKey,
+            @Value("${tiquetera.cold.dir:}") String directory) {
+        this.enabled = enabled;
+        this.graceMillis = TimeUnit.HOURS.toMillis(graceHours);
+        this.intervalMillis = intervalMillis;
+        this.blockRecords = Math.max(1, blockRecords);
+        this.segmentRecords = Math.max(this.blockRecords, segmentRecords);
+        this.bitsPerKey = Math.max(1, bitsPerKey);
+        this.directory = directory.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"))
+                : Paths.get(directory);
+    }
+
+    /**
+     * Programa el enfriamiento periódico si el nivel frío está activo
+     * @param task Tarea que mueve al disco los eventos pasados
+     */
+    synchronized void start(Runnable task) {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cold-tiering");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // Los eventos siguen en memoria; se reintenta en la siguiente pasada
+                log.warn("No se pudieron mover eventos pasados al disco", e);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Tiempo que un evento pasado permanece en memoria antes de ir al disco
+     * @return Milisegundos desde la fecha del evento
+     */
+    public long getGraceMillis() {
+        return graceMillis;
+    }
+
+    /**
+     * Escribe y publica segmentos con los eventos dados
+     * @param eventos Eventos ordenados por ID
+     */
+    void write(List<EventoEntity> eventos) throws IOException {
+        for (int from = 0; from < eventos.size(); from += segmentRecords) {
+            List<EventoEntity> part = eventos.subList(from, Math.min(eventos.size(), from + segmentRecords));
+            segments.add(EventSegment.write(directory, part, blockRecords, bitsPerKey));
+        }
+    }
+
+    /**
+     * Busca un evento en el disco
+     * @param id ID del evento
+     * @return Copia leída del disco o null si no está o está oculto
+     */
+    EventoEntity find(long id) {
+        if (segments.isEmpty() || shadowed.contains(id)) {
+            return null;
+        }
+        counters.lookups.increment();
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            EventoEntity evento = segments.get(i).find(id, counters);
+            if (evento != null) {
+                return evento;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Eventos fríos de un venue
+     * @param venueId ID del venue
+     * @param exclude IDs que ya se encontraron en memoria
+     * @param into Lista donde se agregan
+     */
+    void collectByVenue(long venueId, Set<Long> exclude, List<EventoEntity> into) {
+        if (segments.isEmpty()) {
+            return;
+        }
+        Set<Long> seen = new HashSet<>(exclude);
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            segments.get(i).forEachInVenue(venueId, counters, evento -> {
+                if (!shadowed.contains(evento.getId()) && seen.add(evento.getId())) {
+                    into.add(evento);
+                }
+            });
+        }
+    }
+
+    /**
+     * Recorre todos los eventos fríos visibles
+     * @param action Acción por cada evento
+     */
+    void forEach(Consumer<EventoEntity> action) {
+        Set<Long> seen = new HashSet<>();
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            segments.get(i).forEach(evento -> {
+                if (!shadowed.contains(evento.getId()) && seen.add(evento.getId())) {
+                    action.accept(evento);
+                }
+            });
+        }
+    }
+
+    /**
+     * Oculta la copia en disco de un evento; solo guarda el ID si algún segmento puede tenerlo
+     * @param id ID del evento modificado o eliminado
+     */
+    void shadow(long id) {
+        for (EventSegment segment : segments) {
+            if (segment.mightContain(id)) {
+                shadowed.add(id);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Vuelve visible la copia en disco de un evento recién enfriado
+     * @param id ID del evento
+     */
+    void unshadow(long id) {
+        shadowed.remove(id);
+    }
+
+    /**
+     * Estadísticas del nivel frío
+     * @return Segmentos, eventos, bytes y lecturas
+     */
+    public Stats stats() {
+        int segmentCount = 0;
+        long events = 0;
+        long diskBytes = 0;
+        long indexBytes = 0;
+        for (EventSegment segment : segments) {
+            segmentCount++;
+            events += segment.count();
+            diskBytes += segment.diskBytes();
+            indexBytes += segment.indexBytes();
+        }
+        return new Stats(enabled, segmentCount, events, shadowed.size(), diskBytes, indexBytes,
+                counters.lookups.sum(), counters.bloomSkips.sum(), counters.blockReads.sum());
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        List<EventSegment> current = new ArrayList<>(segments);
+        segments.clear();
+        for (EventSegment segment : current) {
+            segment.delete();
+        }
+    }
+
+    /**
+     * Contadores de lecturas compartidos por los segmentos.
+     */
+    static final class Counters {
+
+        final LongAdder lookups = new LongAdder();
+        final LongAdder bloomSkips = new LongAdder();
+        final LongAdder blockReads = new LongAdder();
+    }
+
+    /**
+     * Resumen del nivel frío.
+     */
+    public static final class Stats {
+
+        private final boolean enabled;
+        private final int segments;
+        private final long events;
+        private final int shadowed;
+        private final long diskBytes;
+        private final long indexBytes;
+        private final long lookups;
+        private final long bloomSkips;
+        private final long blockReads;
+
+        Stats(boolean enabled, int segments, long events, int shadowed, long diskBytes, long indexBytes,
+              long lookups, long bloomSkips, long blockReads) {
+            this.enabled = enabled;
+            this.segments = segments;
+            this.events = events;
+            this.shadowed = shadowed;
+            this.diskBytes = diskBytes;
+            this.indexBytes = indexBytes;
+            this.lookups = lookups;
+            this.bloomSkips = bloomSkips;
+            this.blockReads = blockReads;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public int getSegments() {
+            return segments;
+        }
+
+        public long getEvents() {
+            return events;
+        }
+
+        public int getShadowed() {
+            return shadowed;
+        }
+
+        public long getDiskBytes() {
+            return diskBytes;
+        }
+
+        public long getIndexBytes() {
+            return indexBytes;
+        }
+
+        public long getLookups() {
+            return lookups;
+        }
+
+        public long getBloomSkips() {
+            return bloomSkips;
+        }
+
+        public long getBlockReads() {
+            return blockReads;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Segmento inmutable de eventos en disco.
+ * Los eventos se escriben ordenados por ID en bloques de pocos registros, cada uno
+ * comprimido con Deflate. En el heap solo quedan el índice disperso (primer ID y
+ * posición de cada bloque), un filtro de Bloom de IDs para todo el segmento y uno
+ * de venues por bloque; una búsqueda lee y descomprime como mucho un bloque.
+ * El archivo se mapea en memoria de solo lectura: las lecturas son absolutas, no
+ * comparten posición y no las corta la interrupción de un hilo.
+ */
+final class EventSegment {
+
+    // Crear un Inflater reserva memoria nativa; cada hilo reutiliza el suyo
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(Inflater::new);
+
+    private final Path file;
+    private final MappedByteBuffer data;
+    private final long[] firstIds;
+    private final int[] offsets;
+    private final int[] rawLengths;
+    private final int[] compressedLengths;
+    private final BloomFilter ids;
+    private final BloomFilter[] venuesByBlock;
+    private final int count;
+    private final long minId;
+    private final long maxId;
+
+    private EventSegment(Path file, MappedByteBuffer data, long[] firstIds, int[] offsets, int[] rawLengths,
+                         int[] compressedLengths, BloomFilter ids, BloomFilter[] venuesByBlock,
+                         int count, long minId, long maxId) {
+        this.file = file;
+        this.data = data;
+        this.firstIds = firstIds;
+        this.offsets = offsets;
+        this.rawLengths = rawLengths;
+        this.compressedLengths = compressedLengths;
+        this.ids = ids;
+        this.venuesByBlock = venuesByBlock;
+        this.count = count;
+        this.minId = minId;
+        this.maxId = maxId;
+    }
+
+    /**
+     * Escribe un segmento nuevo
+     * @param directory Directorio de los segmentos
+     * @param eventos Eventos ordenados por ID, sin repetidos
+     * @param blockRecords Registros por bloque comprimido
+     * @param bitsPerKey Bits por clave de los filtros de Bloom
+     * @return Segmento listo para leer
+     */
+    static EventSegment write(Path directory, List<EventoEntity> eventos, int blockRecords, int bitsPerKey)
+            throws IOException {
+        int blocks = (eventos.size() + blockRecords - 1) / blockRecords;
+        long[] firstIds = new long[blocks];
+        int[] offsets = new int[blocks];
+        int[] rawLengths = new int[blocks];
+        int[] compressedLengths = new int[blocks];
+        BloomFilter ids = new BloomFilter(eventos.size(), bitsPerKey);
+        BloomFilter[] venuesByBlock = new BloomFilter[blocks];
+
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, "tiquetera-cold-", ".seg");
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(blockRecords * 256);
+            DataOutputStream out = new DataOutputStream(raw);
+            byte[] compressed = new byte[blockRecords * 256];
+            long position = 0;
+            for (int block = 0; block < blocks; block++) {
+                int from = block * blockRecords;
+                int to = Math.min(eventos.size(), from + blockRecords);
+                raw.reset();
+                venuesByBlock[block] = new BloomFilter(to - from, bitsPerKey);
+                for (int i = from; i < to; i++) {
+                    EventoEntity evento = eventos.get(i);
+                    writeEvento(out, evento);
+                    ids.add(evento.getId());
+                    if (evento.getVenueId() != null) {
+                        venuesByBlock[block].add(evento.getVenueId());
+                    }
+                }
+                out.flush();
+                byte[] bytes = raw.toByteArray();
+                deflater.reset();
+                deflater.setInput(bytes);
+                deflater.finish();
+                if (compressed.length < bytes.length + 64) {
+                    compressed = new byte[bytes.length + 64];
+                }
+                int length = 0;
+                while (!deflater.finished()) {
+                    if (length == compressed.length) {
+                        compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                    }
+                    length += deflater.deflate(compressed, length, compressed.length - length);
+                }
+                if (position + length > Integer.MAX_VALUE) {
+                    throw new IOException("Segmento demasiado grande: " + file);
+                }
+                firstIds[block] = eventos.get(from).getId();
+                offsets[block] = (int) position;
+                rawLengths[block] = bytes.length;
+                compressedLengths[block] = length;
+                ByteBuffer buffer = ByteBuffer.wrap(compressed, 0, length);
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, position);
+            return new EventSegment(file, data, firstIds, offsets, rawLengths, compressedLengths, ids, venuesByBlock,
+                    eventos.size(), eventos.get(0).getId(), eventos.get(eventos.size() - 1).getId());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Busca un evento por ID
+     * @param id ID del evento
+     * @param stats Contadores de lecturas del almacén frío
+     * @return Evento leído del disco o null si no está en el segmento
+     */
+    EventoEntity find(long id, ColdEventStore.Counters stats) {
+        if (id < minId || id > maxId) {
+            return null;
+        }
+        if (!ids.mightContain(id)) {
+            stats.bloomSkips.increment();
+            return null;
+        }
+        // Último bloque cuyo primer ID es menor o igual al buscado
+        int block = Arrays.binarySearch(firstIds, id);
+        if (block < 0) {
+            block = -block - 2;
+        }
+        stats.blockReads.increment();
+        ByteBuffer in = readBlock(block);
+        while (in.hasRemaining()) {
+            long recordId = in.getLong();
+            if (recordId == id) {
+                return readEvento(recordId, in);
+            }
+            if (recordId > id) {
+                break;
+            }
+            skipEvento(in);
+        }
+        return null;
+    }
+
+    /**
+     * Recorre los eventos de un venue, leyendo solo los bloques que pueden tenerlo
+     * @param venueId ID del venue
+     * @param stats Contadores de lecturas del almacén frío
+     * @param action Acción por cada evento del venue
+     */
+    void forEachInVenue(long venueId, ColdEventStore.Counters stats, Consumer<EventoEntity> action) {
+        for (int block = 0; block < firstIds.length; block++) {
+            if (!venuesByBlock[block].mightContain(venueId)) {
+                continue;
+            }
+            stats.blockReads.increment();
+            ByteBuffer in = readBlock(block);
+            while (in.hasRemaining()) {
+                long id = in.getLong();
+                // El venue va justo después del ID: se mira sin mover la posición
+                if (in.get(in.position()) != 0 && in.getLong(in.position() + 1) == venueId) {
+                    action.accept(readEvento(id, in));
+                } else {
+                    skipEvento(in);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recorre todos los eventos del segmento en orden de ID
+     * @param action Acción por cada evento
+     */
+    void forEach(Consumer<EventoEntity> action) {
+        for (int block = 0; block < firstIds.length; block++) {
+            scanBlock(block, action);
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    long diskBytes() {
+        return data.capacity();
+    }
+
+    // Índice disperso y filtros que el segmento mantiene en el heap
+    long indexBytes() {
+        long bytes = (long) firstIds.length * (Long.BYTES + 3 * Integer.BYTES) + ids.sizeInBytes();
+        for (BloomFilter venues : venuesByBlock) {
+            bytes += venues.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    boolean mightContain(long id) {
+        return id >= minId && id <= maxId && ids.mightContain(id);
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // El sistema de archivos temporal lo limpiará
+        }
+    }
+
+    private void scanBlock(int block, Consumer<EventoEntity> action) {
+        ByteBuffer in = readBlock(block);
+        while (in.hasRemaining()) {
+            action.accept(readEvento(in.getLong(), in));
+        }
+    }
+
+    private ByteBuffer readBlock(int block) {
+        byte[] compressed = new byte[compressedLengths[block]];
+        data.get(offsets[block], compressed);
+        byte[] raw = new byte[rawLengths[block]];
+        Inflater inflater = INFLATERS.get();
+        inflater.reset();
+        try {
+            inflater.setInput(compressed);
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                int read = inflater.inflate(raw, length, raw.length - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != raw.length) {
+                throw new UncheckedIOException(new IOException("Bloque incompleto en " + file));
+            }
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException(new IOException("Segmento dañado: " + file, e));
+        }
+        return ByteBuffer.wrap(raw);
+    }
+
+    /*
+     * Registro: ID, venue, fecha, aforo, precio, nombre y descripción; los opcionales llevan
+     * un byte de presencia. Los campos fijos van primero para poder saltar un registro
+     * por ID o venue sin decodificar sus textos.
+     */
+    private static void writeEvento(DataOutputStream out, EventoEntity evento) throws IOException {
+        out.writeLong(evento.getId());
+        out.writeBoolean(evento.getVenueId() != null);
+        if (evento.getVenueId() != null) {
+            out.writeLong(evento.getVenueId());
+        }
+        LocalDateTime date = evento.getEventDate();
+        out.writeBoolean(date != null);
+        if (date != null) {
+            out.writeLong(date.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(date.getNano());
+        }
+        out.writeBoolean(evento.getCapacity() != null);
+        if (evento.getCapacity() != null) {
+            out.writeInt(evento.getCapacity());
+        }
+        out.writeBoolean(evento.getPrice() != null);
+        if (evento.getPrice() != null) {
+            out.writeDouble(evento.getPrice());
+        }
+        writeString(out, evento.getName());
+        writeString(out, evento.getDescription());
+    }
+
+    // Lee el resto de un registro cuyo ID ya se leyó
+    private static EventoEntity readEvento(long id, ByteBuffer in) {
+        Long venueId = in.get() != 0 ? in.getLong() : null;
+        LocalDateTime date = in.get() != 0
+                ? LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC)
+                : null;
+        Integer capacity = in.get() != 0 ? in.getInt() : null;
+        Double price = in.get() != 0 ? in.getDouble() : null;
+        String name = readString(in);
+        String description = readString(in);
+        return new EventoEntity(id, name, description, date, venueId, capacity, price);
+    }
+
+    // Salta el resto de un registro cuyo ID ya se leyó
+    private static void skipEvento(ByteBuffer in) {
+        skip(in, in.get() != 0 ? Long.BYTES : 0);
+        skip(in, in.get() != 0 ? Long.BYTES + Integer.BYTES : 0);
+        skip(in, in.get() != 0 ? Integer.BYTES : 0);
+        skip(in, in.get() != 0 ? Double.BYTES : 0);
+        skip(in, Math.max(0, in.getInt()));
+        skip(in, Math.max(0, in.getInt()));
+    }
+
+    private static void skip(ByteBuffer in, int bytes) {
+        in.position(in.position() + bytes);
+    }
+
+    // writeUTF no admite textos de más de 64 KB: longitud en bytes y UTF-8, -1 para null
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        skip(in, length);
+        return value;
+    }
+}
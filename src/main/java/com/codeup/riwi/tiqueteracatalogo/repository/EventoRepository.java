@@ -1,30 +1,140 @@
 package com.codeup.riwi.tiqueteracatalogo.repository;
 
 import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.TextHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Repositorio para gestionar EventoEntity en memoria.
  * Simula persistencia sin base de datos real.
+ * Los eventos se reparten por ID en particiones con su propio lock e índices, así
+ * escrituras sobre particiones distintas no compiten; las lecturas que cruzan
+ * particiones se ejecutan en paralelo y se combinan en orden de ID.
+ * <p>
+ * Con el nivel frío activo, los eventos pasados se mueven periódicamente a
+ * {@link ColdEventStore}: las búsquedas por ID y los listados por venue los siguen
+ * encontrando, mientras que los listados completos, la búsqueda y los índices por
+ * rango cubren solo el catálogo en memoria.
  */
 @Repository
 public class EventoRepository {
-    
-    // Almacenamiento en memoria
-    private final List<EventoEntity> eventos = new ArrayList<>();
+
+    private static final Logger log = LoggerFactory.getLogger(EventoRepository.class);
+
+    // Campos por los que se puede ordenar el listado; cada partición mantiene un índice por campo
+    private static final SortField<EventoEntity, LocalDateTime> BY_DATE =
+            new SortField<>("eventDate", EventoEntity::getEventDate, Comparator.naturalOrder());
+    private static final SortField<EventoEntity, Double> BY_PRICE =
+            new SortField<>("price", EventoEntity::getPrice, Comparator.naturalOrder());
+    private static final Map<String, SortField<EventoEntity, ?>> SORT_FIELDS = SortField.byName(
+            new SortField<>("id", EventoEntity::getId, Comparator.naturalOrder()),
+            new SortField<>("name", EventoEntity::getName, String.CASE_INSENSITIVE_ORDER),
+            BY_DATE,
+            BY_PRICE,
+            new SortField<>("capacity", EventoEntity::getCapacity, Comparator.naturalOrder()));
+
+    private final Partition[] partitions;
     private final AtomicLong idGenerator = new AtomicLong(1);
+    // Versión de la colección, cambia con cada escritura
+    private final AtomicLong version = new AtomicLong();
+    // venueId -> versión de la última escritura que tocó eventos de ese venue
+    private final Map<Long, Long> venueVersions = new ConcurrentHashMap<>();
+    private final CatalogAggregates aggregates;
+    private final ChangeFeed changeFeed;
+    private final ParallelQueryExecutor queryExecutor;
+    private final TextStore textStore;
+    private final ColdEventStore coldStore;
 
     /**
-     * Obtiene todos los eventos
+     * Constructor con inyección de dependencias
+     * @param aggregates Agregados que se actualizan en cada escritura
+     * @param changeFeed Registro de cambios donde se publica cada escritura
+     * @param queryExecutor Pool para recorridos grandes sin índice
+     * @param textStore Almacén donde se mueven las descripciones largas
+     * @param coldStore Nivel en disco para los eventos pasados
+     * @param partitionCount Número de particiones (1 = un solo almacén)
+     */
+    public EventoRepository(CatalogAggregates aggregates, ChangeFeed changeFeed, ParallelQueryExecutor queryExecutor,
+                            TextStore textStore, ColdEventStore coldStore,
+                            @Value("${tiquetera.repository.partitions:1}") int partitionCount) {
+        this.aggregates = aggregates;
+        this.changeFeed = changeFeed;
+        this.queryExecutor = queryExecutor;
+        this.textStore = textStore;
+        this.coldStore = coldStore;
+        this.partitions = new Partition[Math.max(1, partitionCount)];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition();
+        }
+        coldStore.start(() -> tierPastEvents(
+                LocalDateTime.now().minus(coldStore.getGraceMillis(), ChronoUnit.MILLIS)));
+    }
+
+    /**
+     * Obtiene todos los eventos en memoria; los que ya pasaron al nivel frío no se incluyen
      * @return Lista de eventos
      */
     public List<EventoEntity> findAll() {
-        return new ArrayList<>(eventos);
+        return fanOut(Partition::all);
+    }
+
+    /**
+     * Campos admitidos por {@link #findSorted}
+     * @return Nombres de campo
+     */
+    public static Set<String> sortFields() {
+        return SORT_FIELDS.keySet();
+    }
+
+    /**
+     * Primeros eventos en memoria según varios criterios, recorriendo en cada partición
+     * el índice ordenado del primer criterio; las páginas de cada partición ya vienen
+     * ordenadas y se combinan sin volver a ordenar el catálogo
+     * @param keys Criterios en orden de prioridad; el ID desempata
+     * @param after Última fila de la página anterior (solo se usan sus campos de orden) o null
+     * @param limit Máximo de eventos
+     * @return Eventos en orden
+     */
+    public List<EventoEntity> findSorted(List<SortKey> keys, EventoEntity after, int limit) {
+        Comparator<EventoEntity> order = SortField.order(keys, SORT_FIELDS, EventoEntity::getId);
+        SortKey primary = keys.isEmpty() ? new SortKey("id", false) : keys.get(0);
+        if (partitions.length == 1) {
+            return partitions[0].page(primary, order, after, limit);
+        }
+        List<EventoEntity> merged = new ArrayList<>();
+        for (Partition partition : partitions) {
+            merged.addAll(partition.page(primary, order, after, limit));
+        }
+        // Concatenación de tramos ordenados: TimSort la combina en O(n log particiones)
+        merged.sort(order);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
     }
 
     /**
@@ -33,20 +143,160 @@ public class EventoRepository {
      * @return Optional con evento si existe
      */
     public Optional<EventoEntity> findById(Long id) {
-        return eventos.stream()
-                .filter(e -> e.getId().equals(id))
-                .findFirst();
+        return Optional.ofNullable(get(id));
     }
 
     /**
-     * Busca eventos por venue ID
+     * Busca eventos por venue ID, incluidos los que están en el nivel frío
      * @param venueId ID del venue
      * @return Lista de eventos del venue
      */
     public List<EventoEntity> findByVenueId(Long venueId) {
-        return eventos.stream()
-                .filter(e -> e.getVenueId().equals(venueId))
-                .toList();
+        List<EventoEntity> hot = fanOut(partition -> partition.byVenues(List.of(venueId), evento -> true));
+        Set<Long> hotIds = new HashSet<>();
+        for (EventoEntity evento : hot) {
+            hotIds.add(evento.getId());
+        }
+        List<EventoEntity> cold = new ArrayList<>();
+        coldStore.collectByVenue(venueId, hotIds, cold);
+        if (cold.isEmpty()) {
+            return hot;
+        }
+        List<EventoEntity> merged = new ArrayList<>(hot.size() + cold.size());
+        merged.addAll(hot);
+        merged.addAll(cold);
+        merged.sort(Comparator.comparing(EventoEntity::getId));
+        return merged;
+    }
+
+    /**
+     * Recorre todos los eventos, los de memoria y después los del nivel frío
+     * @param action Acción por cada evento
+     */
+    public void forEachIncludingCold(Consumer<EventoEntity> action) {
+        findAll().forEach(action);
+        coldStore.forEach(action);
+    }
+
+    /**
+     * Busca los eventos futuros de varios venues a través del índice por venue
+     * @param venueIds IDs de venues
+     * @param after Solo eventos con fecha posterior
+     * @return Eventos futuros de esos venues
+     */
+    public List<EventoEntity> findUpcomingByVenueIds(Collection<Long> venueIds, LocalDateTime after) {
+        return fanOut(partition -> partition.byVenues(venueIds,
+                evento -> evento.getEventDate() != null && evento.getEventDate().isAfter(after)));
+    }
+
+    /**
+     * Busca eventos por sus IDs
+     * @param ids IDs de eventos
+     * @return Eventos existentes, en orden de ID
+     */
+    public List<EventoEntity> findAllById(Collection<Long> ids) {
+        Map<Partition, List<Long>> byPartition = new HashMap<>();
+        for (Long id : ids) {
+            byPartition.computeIfAbsent(partitionOf(id), p -> new ArrayList<>()).add(id);
+        }
+        List<EventoEntity> result = new ArrayList<>(ids.size());
+        for (Map.Entry<Partition, List<Long>> entry : byPartition.entrySet()) {
+            entry.getKey().getAll(entry.getValue(), result);
+        }
+        result.sort(Comparator.comparing(EventoEntity::getId));
+        return result;
+    }
+
+    /**
+     * Cuenta los eventos de varios venues usando el índice por venue
+     * @param venueIds IDs de venues
+     * @return Número de eventos
+     */
+    public long countByVenueIds(Collection<Long> venueIds) {
+        long count = 0;
+        for (Partition partition : partitions) {
+            count += partition.countByVenues(venueIds);
+        }
+        return count;
+    }
+
+    /**
+     * IDs de los eventos de varios venues
+     * @param venueIds IDs de venues
+     * @return Conjunto de IDs
+     */
+    public Set<Long> findIdsByVenueIds(Collection<Long> venueIds) {
+        Set<Long> ids = new HashSet<>();
+        for (Partition partition : partitions) {
+            partition.collectByVenues(venueIds, ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Cuenta los eventos con fecha en un rango usando el índice por fecha
+     * @param from Fecha inicial inclusiva o null
+     * @param to Fecha final inclusiva o null
+     * @return Número de eventos
+     */
+    public long countByDateRange(LocalDateTime from, LocalDateTime to) {
+        long count = 0;
+        for (Partition partition : partitions) {
+            count += partition.countInRange(partition.idsByDate, from, to);
+        }
+        return count;
+    }
+
+    /**
+     * IDs de los eventos con fecha en un rango
+     * @param from Fecha inicial inclusiva o null
+     * @param to Fecha final inclusiva o null
+     * @return Conjunto de IDs
+     */
+    public Set<Long> findIdsByDateRange(LocalDateTime from, LocalDateTime to) {
+        Set<Long> ids = new HashSet<>();
+        for (Partition partition : partitions) {
+            partition.collectInRange(partition.idsByDate, from, to, ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Cuenta los eventos con precio en un rango usando el índice por precio
+     * @param min Precio mínimo inclusivo o null
+     * @param max Precio máximo inclusivo o null
+     * @return Número de eventos
+     */
+    public long countByPriceRange(Double min, Double max) {
+        long count = 0;
+        for (Partition partition : partitions) {
+            count += partition.countInRange(partition.idsByPrice, min, max);
+        }
+        return count;
+    }
+
+    /**
+     * IDs de los eventos con precio en un rango
+     * @param min Precio mínimo inclusivo o null
+     * @param max Precio máximo inclusivo o null
+     * @return Conjunto de IDs
+     */
+    public Set<Long> findIdsByPriceRange(Double min, Double max) {
+        Set<Long> ids = new HashSet<>();
+        for (Partition partition : partitions) {
+            partition.collectInRange(partition.idsByPrice, min, max, ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Busca eventos que cumplen un filtro arbitrario recorriendo todas las particiones;
+     * con muchos eventos el recorrido se reparte en trozos sobre el pool de consultas
+     * @param filter Condición a evaluar
+     * @return Eventos que la cumplen
+     */
+    public List<EventoEntity> findMatching(Predicate<EventoEntity> filter) {
+        return fanOut(partition -> queryExecutor.filter(partition.snapshot(), filter));
     }
 
     /**
@@ -58,28 +308,61 @@ public class EventoRepository {
         if (evento.getId() == null) {
             evento.setId(idGenerator.getAndIncrement());
         }
-        eventos.add(evento);
+        storeDescription(evento);
+        Partition partition = partitionOf(evento.getId());
+        partition.lock.writeLock().lock();
+        try {
+            EventoEntity previous = partition.eventos.put(evento.getId(), evento);
+            partition.reindex(previous, evento);
+            releaseDescription(previous, evento);
+            if (previous == null) {
+                // Guardar con el ID de un evento frío lo reemplaza
+                previous = coldStore.find(evento.getId());
+            }
+            coldStore.shadow(evento.getId());
+            if (previous == null) {
+                aggregates.eventoAdded(evento);
+                changeFeed.append(CatalogChange.Resource.EVENTO, CatalogChange.Type.CREATED, evento.getId(), detached(evento));
+            } else {
+                aggregates.eventoUpdated(previous, evento);
+                changeFeed.append(CatalogChange.Resource.EVENTO, CatalogChange.Type.UPDATED, evento.getId(), detached(evento));
+            }
+            advanceVersion(previous, evento);
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
         return evento;
     }
 
     /**
-     * Actualiza un evento existente
+     * Actualiza un evento existente reemplazando la instancia almacenada,
+     * así los lectores nunca ven un evento a medio modificar.
      * @param evento Evento a actualizar
-     * @return Evento actualizado
+     * @return Evento actualizado o null si no existe
      */
     public EventoEntity update(EventoEntity evento) {
-        Optional<EventoEntity> existing = findById(evento.getId());
-        if (existing.isPresent()) {
-            EventoEntity e = existing.get();
-            e.setName(evento.getName());
-            e.setDescription(evento.getDescription());
-            e.setEventDate(evento.getEventDate());
-            e.setVenueId(evento.getVenueId());
-            e.setCapacity(evento.getCapacity());
-            e.setPrice(evento.getPrice());
-            return e;
+        storeDescription(evento);
+        Partition partition = partitionOf(evento.getId());
+        partition.lock.writeLock().lock();
+        try {
+            EventoEntity hot = partition.eventos.get(evento.getId());
+            // Un evento frío modificado vuelve a memoria y su copia en disco se oculta
+            EventoEntity previous = hot != null ? hot : coldStore.find(evento.getId());
+            if (previous == null) {
+                textStore.release(evento.getDescriptionText());
+                return null;
+            }
+            partition.eventos.put(evento.getId(), evento);
+            partition.reindex(hot, evento);
+            releaseDescription(previous, evento);
+            coldStore.shadow(evento.getId());
+            aggregates.eventoUpdated(previous, evento);
+            changeFeed.append(CatalogChange.Resource.EVENTO, CatalogChange.Type.UPDATED, evento.getId(), detached(evento));
+            advanceVersion(previous, evento);
+            return evento;
+        } finally {
+            partition.lock.writeLock().unlock();
         }
-        return null;
     }
 
     /**
@@ -88,7 +371,27 @@ public class EventoRepository {
      * @return true si eliminó
      */
     public boolean deleteById(Long id) {
-        return eventos.removeIf(e -> e.getId().equals(id));
+        Partition partition = partitionOf(id);
+        partition.lock.writeLock().lock();
+        try {
+            EventoEntity removed = partition.eventos.remove(id);
+            if (removed != null) {
+                partition.reindex(removed, null);
+                releaseDescription(removed, null);
+            } else {
+                removed = coldStore.find(id);
+                if (removed == null) {
+                    return false;
+                }
+            }
+            coldStore.shadow(id);
+            aggregates.eventoRemoved(removed);
+            changeFeed.append(CatalogChange.Resource.EVENTO, CatalogChange.Type.DELETED, id, null);
+            advanceVersion(removed, null);
+            return true;
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -97,14 +400,337 @@ public class EventoRepository {
      * @return true si existe
      */
     public boolean existsById(Long id) {
-        return eventos.stream().anyMatch(e -> e.getId().equals(id));
+        return get(id) != null;
     }
 
     /**
-     * Cuenta total de eventos
+     * Cuenta total de eventos, mantenida por los agregados
      * @return Número de eventos
      */
     public long count() {
-        return eventos.size();
+        return aggregates.eventCount();
+    }
+
+    /**
+     * Versión actual de la colección de eventos
+     * @return Número que aumenta con cada escritura
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Versión de los eventos de un venue: solo cambia con escrituras que agregan, modifican
+     * o quitan eventos de ese venue, así un listado por venue cacheado sobrevive a las
+     * escrituras en otros venues. Mover eventos al nivel frío no la cambia porque el
+     * listado por venue también incluye los eventos fríos
+     * @param venueId ID del venue
+     * @return Versión de la última escritura sobre ese venue, o 0 si nunca tuvo eventos
+     */
+    public long venueVersion(Long venueId) {
+        return venueVersions.getOrDefault(venueId, 0L);
+    }
+
+    /**
+     * Mueve al nivel frío los eventos con fecha anterior al corte. El segmento se
+     * escribe sin locks; después cada evento sale de memoria solo si nadie lo cambió
+     * mientras tanto, y si cambió se oculta su copia en disco.
+     * @param cutoff Fecha antes de la cual un evento se considera pasado
+     * @return Eventos movidos
+     */
+    public int tierPastEvents(LocalDateTime cutoff) {
+        List<EventoEntity> candidates = new ArrayList<>();
+        for (Partition partition : partitions) {
+            partition.collectBefore(cutoff, candidates);
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        candidates.sort(Comparator.comparing(EventoEntity::getId));
+        try {
+            coldStore.write(candidates);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el segmento frío", e);
+        }
+        int moved = 0;
+        for (EventoEntity evento : candidates) {
+            Partition partition = partitionOf(evento.getId());
+            partition.lock.writeLock().lock();
+            try {
+                if (partition.eventos.get(evento.getId()) == evento) {
+                    partition.eventos.remove(evento.getId());
+                    partition.reindex(evento, null);
+                    releaseDescription(evento, null);
+                    coldStore.unshadow(evento.getId());
+                    moved++;
+                } else {
+                    coldStore.shadow(evento.getId());
+                }
+            } finally {
+                partition.lock.writeLock().unlock();
+            }
+        }
+        // El catálogo en memoria cambió aunque los eventos sigan existiendo
+        version.incrementAndGet();
+        log.info("{} eventos anteriores a {} movidos al nivel frío", moved, cutoff);
+        return moved;
+    }
+
+    // Avanza la versión global y la de los venues afectados; un cambio de venue toca los dos.
+    // Se llama después de aplicar la escritura: quien lea la versión nueva ya ve el cambio
+    private void advanceVersion(EventoEntity previous, EventoEntity current) {
+        long next = version.incrementAndGet();
+        if (previous != null) {
+            venueVersions.merge(previous.getVenueId(), next, Math::max);
+        }
+        if (current != null) {
+            venueVersions.merge(current.getVenueId(), next, Math::max);
+        }
+    }
+
+    // Memoria primero; si no está, el nivel frío
+    private EventoEntity get(Long id) {
+        EventoEntity evento = partitionOf(id).get(id);
+        return evento != null ? evento : coldStore.find(id);
+    }
+
+    // Mueve la descripción fuera del heap antes de publicar la entidad
+    private void storeDescription(EventoEntity evento) {
+        if (evento.getDescriptionText() == null) {
+            TextHandle handle = textStore.store(evento.getDescription());
+            if (handle != null) {
+                evento.setDescriptionText(handle);
+            }
+        }
+    }
+
+    // El feed de cambios conserva la entidad más allá del tiempo de espera del almacén de
+    // textos: lleva la descripción como String, no la referencia al hueco
+    private static EventoEntity detached(EventoEntity evento) {
+        if (evento.getDescriptionText() == null) {
+            return evento;
+        }
+        return new EventoEntity(evento.getId(), evento.getName(), evento.getDescription(), evento.getEventDate(),
+                evento.getVenueId(), evento.getCapacity(), evento.getPrice());
+    }
+
+    // Libera el texto de la versión reemplazada salvo que la nueva lo comparta
+    private void releaseDescription(EventoEntity previous, EventoEntity current) {
+        if (previous != null && previous.getDescriptionText() != null
+                && (current == null || current.getDescriptionText() != previous.getDescriptionText())) {
+            textStore.release(previous.getDescriptionText());
+        }
+    }
+
+    private Partition partitionOf(Long id) {
+        return partitions[(int) Math.floorMod(id, (long) partitions.length)];
+    }
+
+    /**
+     * Ejecuta una lectura en cada partición y combina los resultados por ID,
+     * que coincide con el orden de creación; en paralelo solo por encima del umbral.
+     * Con una sola partición también se ordena: el índice por venue guarda el orden en
+     * que cada evento llegó al venue, no su ID
+     */
+    private List<EventoEntity> fanOut(Function<Partition, List<EventoEntity>> query) {
+        List<EventoEntity> merged;
+        if (partitions.length == 1) {
+            merged = query.apply(partitions[0]);
+        } else if (queryExecutor.shouldParallelize(aggregates.eventCount())) {
+            merged = queryExecutor.invoke(() -> Arrays.stream(partitions)
+                    .parallel()
+                    .map(query)
+                    .flatMap(List::stream)
+                    .collect(Collectors.toCollection(ArrayList::new)));
+        } else {
+            merged = new ArrayList<>();
+            for (Partition partition : partitions) {
+                merged.addAll(query.apply(partition));
+            }
+        }
+        merged.sort(Comparator.comparing(EventoEntity::getId));
+        return merged;
+    }
+
+    /**
+     * Subconjunto de eventos con su propio lock e índices por venue, fecha y precio.
+     */
+    private static final class Partition {
+
+        // Almacenamiento en memoria, en orden de inserción y protegido por un lock de lectura/escritura
+        private final Map<Long, EventoEntity> eventos = new LinkedHashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // Índice venueId -> IDs de eventos, en orden de inserción
+        private final Map<Long, Set<Long>> idsByVenue = new HashMap<>();
+        // Índices ordenados por cada campo de orden; fecha y precio también sirven las consultas por rango
+        private final Map<String, OrderedIndex<EventoEntity, ?>> sortIndexes = new HashMap<>();
+        private final OrderedIndex<EventoEntity, LocalDateTime> idsByDate = BY_DATE.newIndex();
+        private final OrderedIndex<EventoEntity, Double> idsByPrice = BY_PRICE.newIndex();
+
+        Partition() {
+            for (SortField<EventoEntity, ?> field : SORT_FIELDS.values()) {
+                sortIndexes.put(field.name(), field == BY_DATE ? idsByDate : field == BY_PRICE ? idsByPrice : field.newIndex());
+            }
+        }
+
+        EventoEntity get(Long id) {
+            lock.readLock().lock();
+            try {
+                return eventos.get(id);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<EventoEntity> all() {
+            lock.readLock().lock();
+            try {
+                return new ArrayList<>(eventos.values());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void getAll(List<Long> ids, List<EventoEntity> into) {
+            lock.readLock().lock();
+            try {
+                for (Long id : ids) {
+                    EventoEntity evento = eventos.get(id);
+                    if (evento != null) {
+                        into.add(evento);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long countByVenues(Collection<Long> venueIds) {
+            lock.readLock().lock();
+            try {
+                long count = 0;
+                for (Long venueId : venueIds) {
+                    Set<Long> ids = idsByVenue.get(venueId);
+                    count += ids == null ? 0 : ids.size();
+                }
+                return count;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void collectByVenues(Collection<Long> venueIds, Set<Long> into) {
+            lock.readLock().lock();
+            try {
+                for (Long venueId : venueIds) {
+                    Set<Long> ids = idsByVenue.get(venueId);
+                    if (ids != null) {
+                        into.addAll(ids);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        <K> long countInRange(OrderedIndex<EventoEntity, K> index, K from, K to) {
+            lock.readLock().lock();
+            try {
+                return index.countInRange(from, to);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        <K> void collectInRange(OrderedIndex<EventoEntity, K> index, K from, K to, Set<Long> into) {
+            lock.readLock().lock();
+            try {
+                index.collectInRange(from, to, into);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<EventoEntity> page(SortKey primary, Comparator<EventoEntity> order, EventoEntity after, int limit) {
+            lock.readLock().lock();
+            try {
+                return sortIndexes.get(primary.getField()).page(primary.isDescending(), order, after, limit, eventos::get);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void collectBefore(LocalDateTime cutoff, List<EventoEntity> into) {
+            lock.readLock().lock();
+            try {
+                List<Long> ids = new ArrayList<>();
+                idsByDate.collectInRange(null, cutoff, ids);
+                for (Long id : ids) {
+                    EventoEntity evento = eventos.get(id);
+                    // El rango es inclusivo: se deja en memoria el evento justo en el corte
+                    if (evento.getEventDate().isBefore(cutoff)) {
+                        into.add(evento);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Copia de los eventos para filtrar sin retener el lock; las entidades no se modifican en sitio
+        EventoEntity[] snapshot() {
+            lock.readLock().lock();
+            try {
+                return eventos.values().toArray(new EventoEntity[0]);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<EventoEntity> byVenues(Collection<Long> venueIds, Predicate<EventoEntity> filter) {
+            lock.readLock().lock();
+            try {
+                List<EventoEntity> result = new ArrayList<>();
+                for (Long venueId : venueIds) {
+                    Set<Long> ids = idsByVenue.get(venueId);
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        EventoEntity evento = eventos.get(id);
+                        if (filter.test(evento)) {
+                            result.add(evento);
+                        }
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Mantiene los índices; se llama con el lock de escritura tomado
+        void reindex(EventoEntity previous, EventoEntity current) {
+            for (OrderedIndex<EventoEntity, ?> index : sortIndexes.values()) {
+                if (previous != null) {
+                    index.remove(previous.getId(), previous);
+                }
+                if (current != null) {
+                    index.add(current.getId(), current);
+                }
+            }
+            if (previous != null && (current == null || !previous.getVenueId().equals(current.getVenueId()))) {
+                Set<Long> ids = idsByVenue.get(previous.getVenueId());
+                if (ids != null) {
+                    ids.remove(previous.getId());
+                    if (ids.isEmpty()) {
+                        idsByVenue.remove(previous.getVenueId());
+                    }
+                }
+            }
+            if (current != null) {
+                idsByVenue.computeIfAbsent(current.getVenueId(), v -> new LinkedHashSet<>()).add(current.getId());
+            }
+        }
     }
 }
@@ -0,0 +1,248 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Índice espacial en rejilla de celdas de tamaño fijo (en grados).
+ * Las consultas por radio solo visitan las celdas que cubren el círculo y las de
+ * k vecinos más cercanos recorren anillos de celdas alrededor del punto.
+ * No es thread-safe: el repositorio que lo contiene lo protege con su lock.
+ */
+public class GeoGridIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+    // Anillos máximos antes de recurrir a un recorrido completo (datos muy dispersos)
+    private static final int MAX_RINGS = 64;
+
+    private final double cellDegrees;
+    private final int columns;
+    private final int rows;
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+    private final Map<Long, double[]> points = new HashMap<>();
+
+    public GeoGridIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.columns = (int) Math.ceil(360.0 / cellDegrees);
+        this.rows = (int) Math.ceil(180.0 / cellDegrees);
+    }
+
+    /**
+     * Inserta o mueve un punto; coordenadas null lo eliminan del índice
+     */
+    public void put(Long id, Double latitude, Double longitude) {
+        remove(id);
+        if (latitude == null || longitude == null) {
+            return;
+        }
+        points.put(id, new double[]{latitude, longitude});
+        cells.computeIfAbsent(cellKey(row(latitude), column(longitude)), k -> new LinkedHashSet<>()).add(id);
+    }
+
+    public void remove(Long id) {
+        double[] point = points.remove(id);
+        if (point == null) {
+            return;
+        }
+        long key = cellKey(row(point[0]), column(point[1]));
+        Set<Long> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    /**
+     * IDs dentro de un radio, ordenados por distancia
+     * @param latitude Latitud del centro
+     * @param longitude Longitud del centro
+     * @param radiusKm Radio en kilómetros
+     * @return IDs ordenados del más cercano al más lejano
+     */
+    public List<Long> withinRadius(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        int minRow = row(Math.max(-90, latitude - latDelta));
+        int maxRow = row(Math.min(90, latitude + latDelta));
+        double maxAbsLat = Math.min(90, Math.abs(latitude) + latDelta);
+        double cos = Math.cos(Math.toRadians(maxAbsLat));
+        int colSpan = cos <= 1e-9 ? columns : (int) Math.ceil(radiusKm / (KM_PER_DEGREE * cos) / cellDegrees);
+
+        List<Candidate> hits = new ArrayList<>();
+        long cellsToVisit = (long) (maxRow - minRow + 1) * Math.min(columns, 2L * colSpan + 1);
+        if (cellsToVisit > points.size()) {
+            // Más celdas que puntos: es más barato recorrer los puntos directamente
+            for (Map.Entry<Long, double[]> entry : points.entrySet()) {
+                addIfWithin(hits, entry.getKey(), entry.getValue(), latitude, longitude, radiusKm);
+            }
+        } else {
+            int centerCol = column(longitude);
+            Set<Integer> visitedColumns = new HashSet<>();
+            for (int dc = -colSpan; dc <= colSpan; dc++) {
+                int col = Math.floorMod(centerCol + dc, columns);
+                if (!visitedColumns.add(col)) {
+                    continue;
+                }
+                for (int r = minRow; r <= maxRow; r++) {
+                    Set<Long> ids = cells.get(cellKey(r, col));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        addIfWithin(hits, id, points.get(id), latitude, longitude, radiusKm);
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(c -> c.distanceKm));
+        List<Long> result = new ArrayList<>(hits.size());
+        for (Candidate hit : hits) {
+            result.add(hit.id);
+        }
+        return result;
+    }
+
+    /**
+     * Los k IDs más cercanos a un punto
+     * @param latitude Latitud del centro
+     * @param longitude Longitud del centro
+     * @param k Número de vecinos
+     * @return IDs ordenados del más cercano al más lejano
+     */
+    public List<Long> nearest(double latitude, double longitude, int k) {
+        if (k <= 0 || points.isEmpty()) {
+            return List.of();
+        }
+        // Max-heap con los k mejores candidatos encontrados hasta ahora
+        PriorityQueue<Candidate> best = new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.distanceKm).reversed());
+        int centerRow = row(latitude);
+        int centerCol = column(longitude);
+        boolean complete = false;
+        for (int ring = 0; ring <= MAX_RINGS; ring++) {
+            if (2 * ring + 1 > columns) {
+                // El anillo daría la vuelta al mundo; se resuelve con el recorrido completo
+                break;
+            }
+            visitRing(centerRow, centerCol, ring, latitude, longitude, k, best);
+            if (best.size() == k && best.peek().distanceKm <= outsideRingKm(latitude, ring)) {
+                complete = true;
+                break;
+            }
+        }
+        if (!complete) {
+            best.clear();
+            for (Map.Entry<Long, double[]> entry : points.entrySet()) {
+                offer(best, k, entry.getKey(), entry.getValue(), latitude, longitude);
+            }
+        }
+        List<Candidate> sorted = new ArrayList<>(best);
+        sorted.sort(Comparator.comparingDouble(c -> c.distanceKm));
+        List<Long> result = new ArrayList<>(sorted.size());
+        for (Candidate candidate : sorted) {
+            result.add(candidate.id);
+        }
+        return result;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * Distancia de círculo máximo (haversine) en kilómetros
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Distancia mínima a cualquier punto fuera de un anillo de celdas. Un punto así
+     * está a más de {@code ring} celdas en latitud, o a más de {@code ring} celdas en
+     * longitud; en ese caso la cota es su distancia al meridiano más cercano, que
+     * cerca de los polos tiende a cero porque los meridianos convergen.
+     */
+    private double outsideRingKm(double latitude, int ring) {
+        double degrees = ring * cellDegrees;
+        double byLatitude = Math.toRadians(degrees);
+        double byLongitude = Math.asin(Math.cos(Math.toRadians(latitude)) * Math.sin(Math.toRadians(Math.min(90, degrees))));
+        return EARTH_RADIUS_KM * Math.min(byLatitude, byLongitude);
+    }
+
+    private void visitRing(int centerRow, int centerCol, int ring, double latitude, double longitude,
+                           int k, PriorityQueue<Candidate> best) {
+        for (int dr = -ring; dr <= ring; dr++) {
+            int r = centerRow + dr;
+            if (r < 0 || r >= rows) {
+                continue;
+            }
+            boolean edgeRow = Math.abs(dr) == ring;
+            for (int dc = -ring; dc <= ring; dc += edgeRow ? 1 : 2 * ring) {
+                Set<Long> ids = cells.get(cellKey(r, Math.floorMod(centerCol + dc, columns)));
+                if (ids != null) {
+                    for (Long id : ids) {
+                        offer(best, k, id, points.get(id), latitude, longitude);
+                    }
+                }
+                if (ring == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static void offer(PriorityQueue<Candidate> best, int k, Long id, double[] point,
+                              double latitude, double longitude) {
+        double distance = distanceKm(latitude, longitude, point[0], point[1]);
+        if (best.size() < k) {
+            best.add(new Candidate(id, distance));
+        } else if (distance < best.peek().distanceKm) {
+            best.poll();
+            best.add(new Candidate(id, distance));
+        }
+    }
+
+    private static void addIfWithin(List<Candidate> hits, Long id, double[] point,
+                                    double latitude, double longitude, double radiusKm) {
+        double distance = distanceKm(latitude, longitude, point[0], point[1]);
+        if (distance <= radiusKm) {
+            hits.add(new Candidate(id, distance));
+        }
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, (int) Math.floor((latitude + 90) / cellDegrees));
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+
+    private long cellKey(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    private static final class Candidate {
+
+        private final Long id;
+        private final double distanceKm;
+
+        Candidate(Long id, double distanceKm) {
+            this.id = id;
+            this.distanceKm = distanceKm;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Índice ordenado de IDs por el valor de un campo, para consultas por rango y
+ * listados ordenados. Las entidades sin valor quedan aparte y se recorren al
+ * final en ambas direcciones. Una clave con un solo ID guarda el Long directamente
+ * y solo pasa a un conjunto cuando se repite, así los campos casi únicos (nombre,
+ * fecha) no pagan un conjunto por entidad.
+ * <p>
+ * No es seguro entre hilos: el repositorio lo modifica con su lock de escritura
+ * y lo lee con el de lectura.
+ *
+ * @param <E> Tipo de la entidad indexada
+ * @param <K> Tipo del valor del campo
+ */
+final class OrderedIndex<E, K> {
+
+    private final Function<E, K> key;
+    // Clave -> Long (un ID) o LinkedHashSet<Long> (varios)
+    private final TreeMap<K, Object> ids;
+    private final Set<Long> nullKeys = new LinkedHashSet<>();
+
+    OrderedIndex(Function<E, K> key, Comparator<? super K> order) {
+        this.key = key;
+        this.ids = new TreeMap<>(order);
+    }
+
+    void add(Long id, E entity) {
+        K value = key.apply(entity);
+        if (value == null) {
+            nullKeys.add(id);
+            return;
+        }
+        ids.merge(value, id, (current, added) -> {
+            if (current instanceof Long single) {
+                if (single.equals(added)) {
+                    return single;
+                }
+                Set<Long> group = new LinkedHashSet<>();
+                group.add(single);
+                group.add((Long) added);
+                return group;
+            }
+            @SuppressWarnings("unchecked")
+            Set<Long> group = (Set<Long>) current;
+            group.add((Long) added);
+            return group;
+        });
+    }
+
+    void remove(Long id, E entity) {
+        K value = key.apply(entity);
+        if (value == null) {
+            nullKeys.remove(id);
+            return;
+        }
+        Object current = ids.get(value);
+        if (current instanceof Long single) {
+            if (single.equals(id)) {
+                ids.remove(value);
+            }
+        } else if (current != null) {
+            @SuppressWarnings("unchecked")
+            Set<Long> group = (Set<Long>) current;
+            group.remove(id);
+            if (group.size() == 1) {
+                ids.put(value, group.iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Cuenta los IDs con valor en un rango
+     * @param from Valor inicial inclusivo o null
+     * @param to Valor final inclusivo o null
+     * @return Número de IDs
+     */
+    long countInRange(K from, K to) {
+        long count = 0;
+        for (Object group : range(from, to).values()) {
+            count += group instanceof Long ? 1 : ((Set<?>) group).size();
+        }
+        return count;
+    }
+
+    /**
+     * IDs con valor en un rango
+     * @param from Valor inicial inclusivo o null
+     * @param to Valor final inclusivo o null
+     * @param into Colección donde se agregan
+     */
+    void collectInRange(K from, K to, Collection<Long> into) {
+        for (Object group : range(from, to).values()) {
+            addGroup(group, into);
+        }
+    }
+
+    /**
+     * Primeras filas en el orden de este campo, opcionalmente después de una fila dada.
+     * Recorre las claves en orden y solo ordena, con el comparador completo, los
+     * grupos de filas que comparten clave; se detiene al llenar el límite.
+     * @param descending Dirección del campo
+     * @param order Orden completo; su primer criterio debe ser este campo en la misma dirección
+     * @param after Última fila de la página anterior o null
+     * @param limit Máximo de filas
+     * @param lookup Entidad de cada ID
+     * @return Filas en orden
+     */
+    List<E> page(boolean descending, Comparator<E> order, E after, int limit, Function<Long, E> lookup) {
+        List<E> page = new ArrayList<>(Math.min(limit, 64));
+        List<E> group = new ArrayList<>();
+        Iterator<Object> groups = groupsFrom(descending, after);
+        while (groups.hasNext() && page.size() < limit) {
+            group.clear();
+            Object ids = groups.next();
+            if (ids instanceof Long single) {
+                group.add(lookup.apply(single));
+            } else {
+                @SuppressWarnings("unchecked")
+                Set<Long> set = (Set<Long>) ids;
+                for (Long id : set) {
+                    group.add(lookup.apply(id));
+                }
+            }
+            if (after != null) {
+                group.removeIf(entity -> order.compare(entity, after) <= 0);
+            }
+            if (group.size() > 1) {
+                group.sort(order);
+            }
+            for (int i = 0; i < group.size() && page.size() < limit; i++) {
+                page.add(group.get(i));
+            }
+        }
+        return page;
+    }
+
+    // Grupos en orden desde la clave de la fila dada; los nulos siempre al final
+    private Iterator<Object> groupsFrom(boolean descending, E after) {
+        Iterator<Object> keyed;
+        if (after == null) {
+            keyed = (descending ? ids.descendingMap() : ids).values().iterator();
+        } else {
+            K start = key.apply(after);
+            if (start == null) {
+                keyed = List.of().iterator();
+            } else {
+                NavigableMap<K, Object> rest = descending
+                        ? ids.headMap(start, true).descendingMap()
+                        : ids.tailMap(start, true);
+                keyed = rest.values().iterator();
+            }
+        }
+        if (nullKeys.isEmpty()) {
+            return keyed;
+        }
+        return new Iterator<>() {
+            private boolean nullsDone;
+
+            @Override
+            public boolean hasNext() {
+                return keyed.hasNext() || !nullsDone;
+            }
+
+            @Override
+            public Object next() {
+                if (keyed.hasNext()) {
+                    return keyed.next();
+                }
+                nullsDone = true;
+                return nullKeys;
+            }
+        };
+    }
+
+    private NavigableMap<K, Object> range(K from, K to) {
+        if (from != null && to != null) {
+            return ids.comparator().compare(from, to) > 0 ? new TreeMap<>() : ids.subMap(from, true, to, true);
+        }
+        if (from != null) {
+            return ids.tailMap(from, true);
+        }
+        return to != null ? ids.headMap(to, true) : ids;
+    }
+
+    private static void addGroup(Object group, Collection<Long> into) {
+        if (group instanceof Long single) {
+            into.add(single);
+        } else {
+            @SuppressWarnings("unchecked")
+            Set<Long> set = (Set<Long>) group;
+            into.addAll(set);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Ejecución paralela de consultas sin índice sobre un ForkJoinPool propio.
+ * El pool se dimensiona aparte de los hilos de Tomcat, así un recorrido grande no
+ * ocupa el pool común de la JVM; por debajo del umbral todo corre en el hilo que
+ * llama, porque repartir trabajo pequeño cuesta más que hacerlo.
+ */
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+
+    // Tamaño mínimo de un trozo para que valga la pena dividirlo
+    private static final int MIN_CHUNK = 4096;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelQueryExecutor(
+            @Value("${tiquetera.query.parallelism:0}") int parallelism,
+            @Value("${tiquetera.query.parallel-threshold:50000}") int threshold) {
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.threshold = threshold;
+        this.pool = new ForkJoinPool(size, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("query-worker-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Indica si una consulta sobre tantos elementos debe ir al pool
+     * @param size Elementos a recorrer
+     * @return true si supera el umbral y hay más de un hilo disponible
+     */
+    public boolean shouldParallelize(long size) {
+        return size >= threshold && pool.getParallelism() > 1;
+    }
+
+    /**
+     * Filtra un arreglo conservando el orden, en paralelo si supera el umbral
+     * @param items Elementos a recorrer
+     * @param filter Condición a evaluar
+     * @return Elementos que cumplen la condición
+     */
+    public <T> List<T> filter(T[] items, Predicate<? super T> filter) {
+        if (!shouldParallelize(items.length)) {
+            return filterRange(items, 0, items.length, filter);
+        }
+        int chunk = Math.max(MIN_CHUNK, items.length / (pool.getParallelism() * 4));
+        return pool.invoke(new FilterTask<>(items, 0, items.length, filter, chunk));
+    }
+
+    /**
+     * Ejecuta una tarea dentro del pool; los streams paralelos que cree usan este pool
+     * @param task Tarea a ejecutar
+     * @return Resultado de la tarea
+     */
+    public <R> R invoke(Supplier<R> task) {
+        return pool.submit(task::get).join();
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private static <T> List<T> filterRange(T[] items, int from, int to, Predicate<? super T> filter) {
+        List<T> result = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            if (filter.test(items[i])) {
+                result.add(items[i]);
+            }
+        }
+        return result;
+    }
+
+    private static final class FilterTask<T> extends RecursiveTask<List<T>> {
+
+        private final T[] items;
+        private final int from;
+        private final int to;
+        private final Predicate<? super T> filter;
+        private final int chunk;
+
+        FilterTask(T[] items, int from, int to, Predicate<? super T> filter, int chunk) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.filter = filter;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= chunk) {
+                return filterRange(items, from, to, filter);
+            }
+            int middle = (from + to) >>> 1;
+            FilterTask<T> left = new FilterTask<>(items, from, middle, filter, chunk);
+            left.fork();
+            List<T> right = new FilterTask<>(items, middle, to, filter, chunk).compute();
+            List<T> result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+}
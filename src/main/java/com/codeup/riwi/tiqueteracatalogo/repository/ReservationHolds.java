@@ -0,0 +1,181 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reservas temporales de boletas.
+ * Una reserva retiene boletas del {@link TicketInventory} y vence sola si no se confirma.
+ * Los vencimientos los maneja una {@link TimingWheel} avanzada por un único hilo,
+ * así cada reserva cuesta O(1) al crearse y al vencer, sin una tarea programada por
+ * reserva ni recorridos periódicos de todas las reservas.
+ */
+@Component
+public class ReservationHolds implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationHolds.class);
+
+    private final TimingWheel<Runnable> wheel;
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private final long retentionNanos;
+
+    public ReservationHolds(
+            @Value("${tiquetera.holds.tick-ms:100}") long tickMillis,
+            @Value("${tiquetera.holds.retention-ms:600000}") long retentionMillis) {
+        this.wheel = new TimingWheel<>(TimeUnit.MILLISECONDS.toNanos(tickMillis), System.nanoTime());
+        this.retentionNanos = TimeUnit.MILLISECONDS.toNanos(retentionMillis);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hold-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Crea una reserva reteniendo boletas del inventario
+     * @param eventId ID del evento
+     * @param inventory Inventario del evento
+     * @param quantity Cantidad de boletas
+     * @param ttlSeconds Segundos hasta que la reserva vence
+     * @return Reserva creada, o null si no hay boletas suficientes
+     */
+    public Hold place(Long eventId, TicketInventory.EventInventory inventory, int quantity, long ttlSeconds) {
+        if (!inventory.tryHold(quantity)) {
+            return null;
+        }
+        Hold hold = new Hold(UUID.randomUUID().toString(), eventId, quantity, inventory,
+                LocalDateTime.now().plusSeconds(ttlSeconds));
+        // El timer se asigna antes de publicar la reserva para que confirm/cancel siempre lo vean
+        hold.timer = wheel.schedule(() -> expire(hold), TimeUnit.SECONDS.toNanos(ttlSeconds));
+        holds.put(hold.id, hold);
+        return hold;
+    }
+
+    public Optional<Hold> findById(String id) {
+        return Optional.ofNullable(holds.get(id));
+    }
+
+    /**
+     * Confirma una reserva activa: las boletas retenidas pasan a vendidas
+     * @param id ID de la reserva
+     * @return Optional con la reserva (en su estado final) si existe
+     */
+    public Optional<Hold> confirm(String id) {
+        return findById(id).map(hold -> {
+            if (hold.status.compareAndSet(HoldStatus.ACTIVE, HoldStatus.CONFIRMED)) {
+                hold.inventory.confirmHold(hold.quantity);
+                finish(hold);
+            }
+            return hold;
+        });
+    }
+
+    /**
+     * Cancela una reserva activa devolviendo sus boletas
+     * @param id ID de la reserva
+     * @return Optional con la reserva (en su estado final) si existe
+     */
+    public Optional<Hold> cancel(String id) {
+        return findById(id).map(hold -> {
+            if (hold.status.compareAndSet(HoldStatus.ACTIVE, HoldStatus.CANCELLED)) {
+                hold.inventory.releaseHold(hold.quantity);
+                finish(hold);
+            }
+            return hold;
+        });
+    }
+
+    private void expire(Hold hold) {
+        if (hold.status.compareAndSet(HoldStatus.ACTIVE, HoldStatus.EXPIRED)) {
+            hold.inventory.releaseHold(hold.quantity);
+            hold.timer = wheel.schedule(() -> holds.remove(hold.id, hold), retentionNanos);
+        }
+    }
+
+    /**
+     * Cancela el vencimiento y deja la reserva consultable durante el tiempo de retención
+     */
+    private void finish(Hold hold) {
+        wheel.cancel(hold.timer);
+        hold.timer = wheel.schedule(() -> holds.remove(hold.id, hold), retentionNanos);
+    }
+
+    private void tick() {
+        List<Runnable> expired = wheel.advance(System.nanoTime());
+        for (Runnable task : expired) {
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                // Un fallo aislado no debe detener el hilo de la rueda
+                log.error("Error procesando vencimiento de reserva", ex);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ticker.shutdownNow();
+    }
+
+    public enum HoldStatus {
+        ACTIVE, CONFIRMED, CANCELLED, EXPIRED
+    }
+
+    /**
+     * Reserva de boletas de un evento.
+     */
+    public static final class Hold {
+
+        private final String id;
+        private final Long eventId;
+        private final int quantity;
+        private final TicketInventory.EventInventory inventory;
+        private final LocalDateTime expiresAt;
+        private final AtomicReference<HoldStatus> status = new AtomicReference<>(HoldStatus.ACTIVE);
+        private volatile TimingWheel.Timer<Runnable> timer;
+
+        Hold(String id, Long eventId, int quantity, TicketInventory.EventInventory inventory, LocalDateTime expiresAt) {
+            this.id = id;
+            this.eventId = eventId;
+            this.quantity = quantity;
+            this.inventory = inventory;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Long getEventId() {
+            return eventId;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public LocalDateTime getExpiresAt() {
+            return expiresAt;
+        }
+
+        public HoldStatus getStatus() {
+            return status.get();
+        }
+    }
+}
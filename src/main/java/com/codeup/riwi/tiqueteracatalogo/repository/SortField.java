@@ -0,0 +1,76 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Campo por el que se puede ordenar un listado: valor de la entidad y orden ascendente.
+ * Los valores nulos quedan al final en ambas direcciones, igual que en {@link OrderedIndex}.
+ *
+ * @param <E> Tipo de la entidad
+ * @param <K> Tipo del valor del campo
+ */
+final class SortField<E, K> {
+
+    private final String name;
+    private final Function<E, K> key;
+    private final Comparator<? super K> order;
+
+    SortField(String name, Function<E, K> key, Comparator<? super K> order) {
+        this.name = name;
+        this.key = key;
+        this.order = order;
+    }
+
+    String name() {
+        return name;
+    }
+
+    OrderedIndex<E, K> newIndex() {
+        return new OrderedIndex<>(key, order);
+    }
+
+    Comparator<E> comparator(boolean descending) {
+        Comparator<K> direction = descending ? (a, b) -> order.compare(b, a) : order::compare;
+        return Comparator.comparing(key, Comparator.nullsLast(direction));
+    }
+
+    @SafeVarargs
+    static <E> Map<String, SortField<E, ?>> byName(SortField<E, ?>... fields) {
+        Map<String, SortField<E, ?>> byName = new LinkedHashMap<>();
+        for (SortField<E, ?> field : fields) {
+            byName.put(field.name(), field);
+        }
+        return byName;
+    }
+
+    /**
+     * Orden completo de un listado: los criterios pedidos y, si el ID no está entre
+     * ellos, el ID ascendente para desempatar, así cada fila tiene una posición única
+     * @param keys Criterios en orden de prioridad
+     * @param fields Campos disponibles por nombre
+     * @param id ID de la entidad
+     * @return Comparador compuesto
+     */
+    static <E> Comparator<E> order(List<SortKey> keys, Map<String, SortField<E, ?>> fields, Function<E, Long> id) {
+        Comparator<E> order = null;
+        boolean hasId = false;
+        for (SortKey sortKey : keys) {
+            SortField<E, ?> field = fields.get(sortKey.getField());
+            if (field == null) {
+                throw new IllegalArgumentException("Campo de orden desconocido: " + sortKey.getField());
+            }
+            Comparator<E> next = field.comparator(sortKey.isDescending());
+            order = order == null ? next : order.thenComparing(next);
+            hasId |= sortKey.getField().equals("id");
+        }
+        Comparator<E> byId = Comparator.comparing(id);
+        if (order == null) {
+            return byId;
+        }
+        return hasId ? order : order.thenComparing(byId);
+    }
+}
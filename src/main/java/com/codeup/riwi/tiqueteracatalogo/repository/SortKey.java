@@ -0,0 +1,28 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+/**
+ * Criterio de un listado ordenado: campo y dirección.
+ */
+public final class SortKey {
+
+    private final String field;
+    private final boolean descending;
+
+    public SortKey(String field, boolean descending) {
+        this.field = field;
+        this.descending = descending;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    @Override
+    public String toString() {
+        return field + (descending ? ",desc" : ",asc");
+    }
+}
@@ -0,0 +1,316 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.TextHandle;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Almacén de textos grandes fuera del heap.
+ * Los textos se guardan en UTF-8 dentro de bloques grandes de memoria directa
+ * ({@code offheap}) o de archivos mapeados en memoria ({@code mmap}); en el heap solo
+ * queda un {@link TextHandle} con bloque, posición y longitud. En modo {@code heap}
+ * (por defecto) no guarda nada y los textos siguen siendo String normales.
+ * <p>
+ * Los huecos liberados se reutilizan, pero solo después de un tiempo de espera:
+ * una petición en curso puede seguir leyendo una versión anterior de la entidad.
+ * Pasado ese tiempo la referencia queda inservible y leerla lanza
+ * {@link IllegalStateException} en vez de devolver el texto que ocupe ahora el hueco;
+ * por eso solo las entidades vivas del repositorio guardan referencias, y lo que
+ * se conserva más tiempo (feed de cambios, respuestas guardadas) lleva el String.
+ */
+@Component
+public class TextStore implements DisposableBean {
+
+    public enum Mode { HEAP, OFFHEAP, MMAP }
+
+    private final Mode mode;
+    private final int minBytes;
+    private final int chunkBytes;
+    private final long reuseDelayNanos;
+    private final Path directory;
+
+    // Solo crece; los lectores la recorren sin tomar el monitor del almacén
+    private final List<ByteBuffer> chunks = new CopyOnWriteArrayList<>();
+    private final List<FileChannel> channels = new ArrayList<>();
+    private final List<Path> files = new ArrayList<>();
+    private int chunkPosition;
+    // Huecos reutilizables por capacidad y huecos liberados que aún esperan
+    private final TreeMap<Integer, ArrayDeque<Block>> free = new TreeMap<>();
+    private final ArrayDeque<Released> pending = new ArrayDeque<>();
+    private long storedBytes;
+    private long storedTexts;
+
+    public TextStore(
+            @Value("${tiquetera.storage.text-mode:heap}") String mode,
+            @Value("${tiquetera.storage.text-min-bytes:256}") int minBytes,
+            @Value("${tiquetera.storage.chunk-mb:64}") int chunkMegabytes,
+            @Value("${tiquetera.storage.reuse-delay-ms:60000}") long reuseDelayMillis,
+            @Value("${tiquetera.storage.mmap-dir:}") String mmapDirectory) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.minBytes = minBytes;
+        this.chunkBytes = chunkMegabytes * 1024 * 1024;
+        this.reuseDelayNanos = TimeUnit.MILLISECONDS.toNanos(reuseDelayMillis);
+        this.directory = mmapDirectory.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"))
+                : Paths.get(mmapDirectory);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Guarda un texto si el almacén está activo y el texto es lo bastante grande
+     * @param text Texto a guardar
+     * @return Referencia al texto guardado o null si debe quedarse en el heap
+     */
+    public TextHandle store(String text) {
+        // Cota rápida antes de codificar: un char ocupa como máximo 3 bytes en UTF-8
+        if (mode == Mode.HEAP || text == null || text.length() * 3 < minBytes) {
+            return null;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < minBytes || bytes.length > chunkBytes) {
+            return null;
+        }
+        Block block = allocate(bytes.length);
+        chunks.get(block.chunk).put(block.offset, bytes);
+        return new StoredText(this, block, bytes.length);
+    }
+
+    /**
+     * Devuelve el espacio de un texto; se podrá reutilizar pasado el tiempo de espera
+     * @param handle Referencia devuelta por {@link #store(String)}
+     */
+    public void release(TextHandle handle) {
+        if (!(handle instanceof StoredText stored) || stored.store != this) {
+            return;
+        }
+        synchronized (this) {
+            if (stored.released) {
+                return;
+            }
+            stored.released = true;
+            storedBytes -= stored.length;
+            storedTexts--;
+            pending.addLast(new Released(stored, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Estadísticas del almacén
+     * @return Textos y bytes vivos, y bytes reservados en bloques
+     */
+    public synchronized Stats stats() {
+        return new Stats(mode, storedTexts, storedBytes, (long) chunks.size() * chunkBytes);
+    }
+
+    private synchronized Block allocate(int length) {
+        reclaim();
+        // Se reutiliza un hueco solo si desperdicia como mucho un cuarto de su tamaño
+        Map.Entry<Integer, ArrayDeque<Block>> fit = free.ceilingEntry(length);
+        Block block;
+        if (fit != null && fit.getKey() - length <= fit.getKey() / 4) {
+            block = fit.getValue().pollFirst();
+            if (fit.getValue().isEmpty()) {
+                free.remove(fit.getKey());
+            }
+        } else {
+            if (chunks.isEmpty() || chunkPosition + length > chunkBytes) {
+                chunks.add(newChunk());
+                chunkPosition = 0;
+            }
+            block = new Block(chunks.size() - 1, chunkPosition, length);
+            chunkPosition += length;
+        }
+        storedBytes += length;
+        storedTexts++;
+        return block;
+    }
+
+    private void reclaim() {
+        long now = System.nanoTime();
+        Iterator<Released> it = pending.iterator();
+        while (it.hasNext()) {
+            Released released = it.next();
+            if (now - released.releasedAt < reuseDelayNanos) {
+                break;
+            }
+            // Se marca antes de que el hueco pueda volver a escribirse
+            released.text.reclaimed = true;
+            Block block = released.text.block;
+            free.computeIfAbsent(block.capacity, k -> new ArrayDeque<>()).addLast(block);
+            it.remove();
+        }
+    }
+
+    private ByteBuffer newChunk() {
+        if (mode == Mode.OFFHEAP) {
+            return ByteBuffer.allocateDirect(chunkBytes);
+        }
+        try {
+            Files.createDirectories(directory);
+            Path file = Files.createTempFile(directory, "tiquetera-text-", ".bin");
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+            files.add(file);
+            channels.add(channel);
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, chunkBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el archivo de textos en " + directory, e);
+        }
+    }
+
+    private String read(Block block, int length) {
+        byte[] bytes = new byte[length];
+        // Lectura absoluta: no toca la posición del buffer compartido
+        chunks.get(block.chunk).get(block.offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        for (FileChannel channel : channels) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Se está cerrando
+            }
+        }
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // El sistema de archivos temporal lo limpiará
+            }
+        }
+    }
+
+    private static final class Block {
+
+        private final int chunk;
+        private final int offset;
+        private final int capacity;
+
+        Block(int chunk, int offset, int capacity) {
+            this.chunk = chunk;
+            this.offset = offset;
+            this.capacity = capacity;
+        }
+    }
+
+    private static final class Released {
+
+        private final StoredText text;
+        private final long releasedAt;
+
+        Released(StoredText text, long releasedAt) {
+            this.text = text;
+            this.releasedAt = releasedAt;
+        }
+    }
+
+    /**
+     * Texto guardado en el almacén: unos pocos campos en el heap en vez del String completo.
+     */
+    private static final class StoredText implements TextHandle {
+
+        private final TextStore store;
+        private final Block block;
+        private final int length;
+        private volatile boolean released;
+        // El hueco ya puede contener otro texto
+        private volatile boolean reclaimed;
+
+        StoredText(TextStore store, Block block, int length) {
+            this.store = store;
+            this.block = block;
+            this.length = length;
+        }
+
+        @Override
+        public String decode() {
+            checkLive();
+            String text = store.read(block, length);
+            checkLive();
+            return text;
+        }
+
+        @Override
+        public int byteLength() {
+            return length;
+        }
+
+        @Override
+        public void copyTo(byte[] target, int offset) {
+            checkLive();
+            store.chunks.get(block.chunk).get(block.offset, target, offset, length);
+            checkLive();
+        }
+
+        // Comprobada también después de copiar: si el hueco se reutilizó durante la
+        // lectura, los bytes pueden ser de otro texto. La barrera impide que la marca
+        // se lea antes que los bytes
+        private void checkLive() {
+            VarHandle.loadLoadFence();
+            if (reclaimed) {
+                throw new IllegalStateException("El texto se liberó y su espacio ya se reutilizó");
+            }
+        }
+    }
+
+    /**
+     * Resumen del uso del almacén.
+     */
+    public static final class Stats {
+
+        private final Mode mode;
+        private final long texts;
+        private final long bytes;
+        private final long reservedBytes;
+
+        Stats(Mode mode, long texts, long bytes, long reservedBytes) {
+            this.mode = mode;
+            this.texts = texts;
+            this.bytes = bytes;
+            this.reservedBytes = reservedBytes;
+        }
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public long getTexts() {
+            return texts;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getReservedBytes() {
+            return reservedBytes;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Inventario de boletas disponibles por evento.
+ * Cada evento reparte sus boletas en contadores independientes (stripes) y cada hilo
+ * descuenta de su stripe con CAS, así un evento muy demandado no serializa las ventas.
+ * Ningún stripe baja de cero, por lo que nunca se vende más de la capacidad.
+ */
+@Component
+public class TicketInventory {
+
+    // Cada stripe ocupa su propia línea de caché (8 longs = 64 bytes) para evitar false sharing
+    private static final int PAD = 8;
+    private static final int MAX_STRIPES = 64;
+
+    private final EventoRepository eventoRepository;
+    private final int stripes;
+    private final Map<Long, EventInventory> inventories = new ConcurrentHashMap<>();
+
+    public TicketInventory(EventoRepository eventoRepository,
+                           @Value("${tiquetera.inventory.stripes:0}") int configuredStripes) {
+        this.eventoRepository = eventoRepository;
+        int wanted = configuredStripes > 0 ? configuredStripes : Runtime.getRuntime().availableProcessors();
+        int size = 1;
+        while (size < Math.min(wanted, MAX_STRIPES)) {
+            size <<= 1;
+        }
+        this.stripes = size;
+    }
+
+    /**
+     * Inventario de un evento, creado a partir de su capacidad en el primer acceso
+     * @param eventId ID del evento
+     * @return Optional con el inventario si el evento existe
+     */
+    public Optional<EventInventory> forEvent(Long eventId) {
+        EventInventory inventory = inventories.get(eventId);
+        if (inventory != null) {
+            return Optional.of(inventory);
+        }
+        // La lectura del repositorio ocurre dentro de computeIfAbsent, de modo que un
+        // capacityChanged posterior a la actualización siempre encuentra el inventario ya creado
+        return Optional.ofNullable(inventories.computeIfAbsent(eventId, id -> eventoRepository.findById(id)
+                .map(EventoEntity::getCapacity)
+                .map(capacity -> new EventInventory(capacity, stripes))
+                .orElse(null)));
+    }
+
+    /**
+     * Ajusta el inventario cuando cambia la capacidad del evento
+     * @param eventId ID del evento
+     * @param capacity Nueva capacidad
+     */
+    public void capacityChanged(Long eventId, int capacity) {
+        inventories.computeIfPresent(eventId, (id, inventory) -> {
+            inventory.resize(capacity);
+            return inventory;
+        });
+    }
+
+    /**
+     * Descarta el inventario de un evento eliminado
+     * @param eventId ID del evento
+     */
+    public void remove(Long eventId) {
+        inventories.remove(eventId);
+    }
+
+    /**
+     * Boletas de un evento repartidas en stripes.
+     * La ruta rápida descuenta de un solo stripe con CAS; solo cuando ningún stripe
+     * alcanza por sí solo se toma el monitor para juntar boletas de varios. Como las
+     * rutas rápidas nunca retienen boletas parciales, el fallo de la ruta lenta es real.
+     * <p>
+     * Se cumple disponibles + retenidas + vendidas = capacidad + exceso. El exceso son
+     * boletas retenidas o vendidas que ya no caben tras reducir la capacidad; se
+     * descartan a medida que vuelven al inventario en vez de regresar a los stripes.
+     */
+    public static final class EventInventory {
+
+        private final AtomicLongArray cells;
+        private final int mask;
+        private volatile int capacity;
+        // Boletas retenidas por reservas activas: no están disponibles ni vendidas
+        private final LongAdder held = new LongAdder();
+        // Boletas que sobran tras reducir la capacidad; protegido por el monitor
+        private long excess;
+
+        EventInventory(int capacity, int stripes) {
+            this.cells = new AtomicLongArray(stripes * PAD);
+            this.mask = stripes - 1;
+            this.capacity = capacity;
+            for (int i = 0; i < stripes; i++) {
+                cells.set(i * PAD, capacity / stripes + (i < capacity % stripes ? 1 : 0));
+            }
+        }
+
+        /**
+         * Descuenta boletas si hay suficientes
+         * @param quantity Cantidad de boletas
+         * @return true si se descontaron, false si no había suficientes
+         */
+        public boolean tryAcquire(int quantity) {
+            int home = home();
+            for (int i = 0; i <= mask; i++) {
+                int index = ((home + i) & mask) * PAD;
+                long current;
+                while ((current = cells.get(index)) >= quantity) {
+                    if (cells.compareAndSet(index, current, current - quantity)) {
+                        return true;
+                    }
+                }
+            }
+            return acquireAcrossStripes(quantity);
+        }
+
+        /**
+         * Devuelve boletas al inventario sin superar la capacidad
+         * @param quantity Cantidad de boletas
+         * @return true si se devolvieron, false si se liberarían más de las vendidas
+         */
+        public synchronized boolean release(int quantity) {
+            // Con el monitor tomado solo las ventas y las retenciones cambian los contadores:
+            // bajan el disponible después de subir las retenidas, y aquí se lee el
+            // disponible antes que las retenidas, así que la suma nunca queda corta
+            if (available() + held.sum() + quantity > capacity + excess) {
+                return false;
+            }
+            returnToStripes(quantity);
+            return true;
+        }
+
+        /**
+         * Retiene boletas para una reserva
+         * @param quantity Cantidad de boletas
+         * @return true si se retuvieron, false si no había suficientes
+         */
+        public boolean tryHold(int quantity) {
+            // Se cuentan como retenidas antes de salir de los stripes: mientras tanto
+            // release() ve de más, nunca de menos
+            held.add(quantity);
+            if (!tryAcquire(quantity)) {
+                held.add(-quantity);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Convierte boletas retenidas en vendidas
+         * @param quantity Cantidad de boletas
+         */
+        public void confirmHold(int quantity) {
+            held.add(-quantity);
+        }
+
+        /**
+         * Devuelve al inventario boletas retenidas por una reserva cancelada o vencida
+         * @param quantity Cantidad de boletas
+         */
+        public synchronized void releaseHold(int quantity) {
+            returnToStripes(quantity);
+            held.add(-quantity);
+        }
+
+        public long held() {
+            return held.sum();
+        }
+
+        public int capacity() {
+            return capacity;
+        }
+
+        /**
+         * Boletas disponibles; bajo concurrencia es una foto aproximada
+         * @return Suma de los stripes
+         */
+        public long available() {
+            long sum = 0;
+            for (int i = 0; i <= mask; i++) {
+                sum += cells.get(i * PAD);
+            }
+            return sum;
+        }
+
+        private synchronized boolean acquireAcrossStripes(int quantity) {
+            long taken = 0;
+            for (int i = 0; i <= mask && taken < quantity; i++) {
+                taken += drain(i * PAD, quantity - taken);
+            }
+            if (taken < quantity) {
+                cells.getAndAdd(home() * PAD, taken);
+                return false;
+            }
+            return true;
+        }
+
+        synchronized void resize(int newCapacity) {
+            long delta = (long) newCapacity - capacity;
+            capacity = newCapacity;
+            if (delta > 0) {
+                returnToStripes(delta);
+            } else {
+                // Si lo retenido y vendido ya supera la nueva capacidad el disponible queda
+                // en cero y la diferencia pasa a exceso
+                long toRemove = -delta;
+                for (int i = 0; i <= mask && toRemove > 0; i++) {
+                    toRemove -= drain(i * PAD, toRemove);
+                }
+                excess += toRemove;
+            }
+        }
+
+        synchronized long excess() {
+            return excess;
+        }
+
+        // Con el monitor tomado: las boletas que vuelven cubren primero el exceso
+        private void returnToStripes(long quantity) {
+            long absorbed = Math.min(excess, quantity);
+            excess -= absorbed;
+            if (quantity > absorbed) {
+                cells.getAndAdd(home() * PAD, quantity - absorbed);
+            }
+        }
+
+        private long drain(int index, long max) {
+            while (true) {
+                long current = cells.get(index);
+                if (current <= 0) {
+                    return 0;
+                }
+                long taken = Math.min(current, max);
+                if (cells.compareAndSet(index, current, current - taken)) {
+                    return taken;
+                }
+            }
+        }
+
+        private int home() {
+            int h = System.identityHashCode(Thread.currentThread());
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rueda de temporización jerárquica (estilo kernel de Linux).
+ * Cuatro niveles de 64 ranuras; el nivel 0 avanza una ranura por tick y cada nivel
+ * superior cubre 64 veces más tiempo. Programar y cancelar son O(1) (listas doblemente
+ * enlazadas por ranura) y cada tick solo toca su ranura, más una cascada cada 64 ticks.
+ * Los timers más lejanos que la rueda completa se guardan en la última ranura y se
+ * recolocan al bajar de nivel.
+ * @param <T> Tipo del dato asociado a cada timer
+ */
+public class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SIZE = 1 << BITS;
+    private static final int MASK = SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickNanos;
+    private final long originNanos;
+    private final Timer<T>[] slots;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickNanos, long originNanos) {
+        this.tickNanos = tickNanos;
+        this.originNanos = originNanos;
+        this.slots = (Timer<T>[]) new Timer[LEVELS * SIZE];
+    }
+
+    /**
+     * Programa un timer
+     * @param payload Dato que se devuelve al vencer
+     * @param delayNanos Retardo desde ahora; se redondea hacia arriba al tick
+     * @return Timer para poder cancelarlo
+     */
+    public synchronized Timer<T> schedule(T payload, long delayNanos) {
+        long ticks = Math.max(1, (delayNanos + tickNanos - 1) / tickNanos);
+        Timer<T> timer = new Timer<>(payload, currentTick + ticks);
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancela un timer pendiente
+     * @param timer Timer devuelto por schedule
+     * @return true si estaba pendiente, false si ya venció o se canceló
+     */
+    public synchronized boolean cancel(Timer<T> timer) {
+        if (timer.slot < 0) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Avanza la rueda hasta el instante indicado
+     * @param nowNanos Valor actual de System.nanoTime()
+     * @return Datos de los timers vencidos, en orden de vencimiento
+     */
+    public synchronized List<T> advance(long nowNanos) {
+        long target = (nowNanos - originNanos) / tickNanos;
+        List<T> expired = new ArrayList<>();
+        while (currentTick < target) {
+            currentTick++;
+            // Los niveles altos primero, para que lo que bajan llegue hasta el nivel 0 en este tick
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(level * SIZE + (int) ((currentTick >>> (BITS * level)) & MASK));
+                }
+            }
+            int index = (int) (currentTick & MASK);
+            Timer<T> timer = slots[index];
+            slots[index] = null;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                timer.slot = -1;
+                size--;
+                expired.add(timer.payload);
+                timer = next;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade(int index) {
+        Timer<T> timer = slots[index];
+        slots[index] = null;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer<T> timer) {
+        long deadline = Math.max(timer.deadline, currentTick);
+        long delta = deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+        if (delta >= (1L << (BITS * LEVELS))) {
+            deadline = currentTick + (1L << (BITS * LEVELS)) - 1;
+        }
+        int index = level * SIZE + (int) ((deadline >>> (BITS * level)) & MASK);
+        Timer<T> head = slots[index];
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        slots[index] = timer;
+        timer.slot = index;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.slot = -1;
+    }
+
+    /**
+     * Timer programado en la rueda.
+     */
+    public static final class Timer<T> {
+
+        private final T payload;
+        private final long deadline;
+        private Timer<T> prev;
+        private Timer<T> next;
+        // Ranura donde está enlazado, -1 si ya venció o se canceló
+        private int slot = -1;
+
+        Timer(T payload, long deadline) {
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package com.codeup.riwi.tiqueteracatalogo.repository;
 
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.FieldDictionary;
 import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Repositorio para gestionar VenueEntity en memoria.
@@ -14,17 +23,88 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 @Repository
 public class VenueRepository {
-    
-    // Almacenamiento en memoria
-    private final List<VenueEntity> venues = new ArrayList<>();
+
+    // Campos por los que se puede ordenar el listado, cada uno con su índice
+    private static final Map<String, SortField<VenueEntity, ?>> SORT_FIELDS = SortField.byName(
+            new SortField<>("id", VenueEntity::getId, Comparator.naturalOrder()),
+            new SortField<>("name", VenueEntity::getName, String.CASE_INSENSITIVE_ORDER),
+            new SortField<>("city", VenueEntity::getCity, String.CASE_INSENSITIVE_ORDER),
+            new SortField<>("country", VenueEntity::getCountry, String.CASE_INSENSITIVE_ORDER),
+            new SortField<>("capacity", VenueEntity::getCapacity, Comparator.naturalOrder()));
+
+    // Almacenamiento en memoria, en orden de inserción y protegido por un lock de lectura/escritura
+    private final Map<Long, VenueEntity> venues = new LinkedHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    // Versión de la colección, cambia con cada escritura
+    private final AtomicLong version = new AtomicLong();
+    // Índice código plegado de ciudad (sin distinguir mayúsculas) -> IDs de venues, en orden de inserción
+    private final Map<Integer, Set<Long>> idsByCity = new HashMap<>();
+    // Índices ordenados para los listados con orden
+    private final Map<String, OrderedIndex<VenueEntity, ?>> sortIndexes = new HashMap<>();
+    // Índice espacial de venues con coordenadas
+    private final GeoGridIndex geoIndex;
+    private final CatalogAggregates aggregates;
+    private final ChangeFeed changeFeed;
+    private final FieldDictionary cities;
+    private final FieldDictionary countries;
+
+    /**
+     * Constructor con inyección de dependencias
+     * @param aggregates Agregados que se actualizan en cada escritura
+     * @param changeFeed Registro de cambios donde se publica cada escritura
+     * @param dictionaries Diccionarios de ciudades y países compartidos con los agregados
+     * @param geoCellDegrees Tamaño de celda del índice espacial en grados
+     */
+    public VenueRepository(CatalogAggregates aggregates, ChangeFeed changeFeed, CatalogDictionaries dictionaries,
+                           @Value("${tiquetera.geo.cell-degrees:0.1}") double geoCellDegrees) {
+        this.aggregates = aggregates;
+        this.changeFeed = changeFeed;
+        this.cities = dictionaries.getCities();
+        this.countries = dictionaries.getCountries();
+        this.geoIndex = new GeoGridIndex(geoCellDegrees);
+        for (SortField<VenueEntity, ?> field : SORT_FIELDS.values()) {
+            sortIndexes.put(field.name(), field.newIndex());
+        }
+    }
 
     /**
      * Obtiene todos los venues
      * @return Lista de venues
      */
     public List<VenueEntity> findAll() {
-        return new ArrayList<>(venues);
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(venues.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Campos admitidos por {@link #findSorted}
+     * @return Nombres de campo
+     */
+    public static Set<String> sortFields() {
+        return SORT_FIELDS.keySet();
+    }
+
+    /**
+     * Primeros venues según varios criterios, recorriendo el índice ordenado del primero
+     * @param keys Criterios en orden de prioridad; el ID desempata
+     * @param after Última fila de la página anterior (solo se usan sus campos de orden) o null
+     * @param limit Máximo de venues
+     * @return Venues en orden
+     */
+    public List<VenueEntity> findSorted(List<SortKey> keys, VenueEntity after, int limit) {
+        Comparator<VenueEntity> order = SortField.order(keys, SORT_FIELDS, VenueEntity::getId);
+        SortKey primary = keys.isEmpty() ? new SortKey("id", false) : keys.get(0);
+        lock.readLock().lock();
+        try {
+            return sortIndexes.get(primary.getField()).page(primary.isDescending(), order, after, limit, venues::get);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -33,9 +113,12 @@ public class VenueRepository {
      * @return Optional con venue si existe
      */
     public Optional<VenueEntity> findById(Long id) {
-        return venues.stream()
-                .filter(v -> v.getId().equals(id))
-                .findFirst();
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(venues.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -44,9 +127,66 @@ public class VenueRepository {
      * @return Lista de venues en la ciudad
      */
     public List<VenueEntity> findByCity(String city) {
-        return venues.stream()
-                .filter(v -> v.getCity().equalsIgnoreCase(city))
-                .toList();
+        lock.readLock().lock();
+        try {
+            return resolve(List.copyOf(idsByCity.getOrDefault(cities.lookupFolded(city), Set.of())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs de los venues de una ciudad usando el índice por ciudad
+     * @param city Nombre de la ciudad
+     * @return IDs de venues en la ciudad
+     */
+    public List<Long> findIdsByCity(String city) {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(idsByCity.getOrDefault(cities.lookupFolded(city), Set.of()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca los venues dentro de un radio usando el índice espacial
+     * @param latitude Latitud del centro
+     * @param longitude Longitud del centro
+     * @param radiusKm Radio en kilómetros
+     * @return Venues ordenados por distancia
+     */
+    public List<VenueEntity> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        lock.readLock().lock();
+        try {
+            return resolve(geoIndex.withinRadius(latitude, longitude, radiusKm));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca los k venues más cercanos usando el índice espacial
+     * @param latitude Latitud del centro
+     * @param longitude Longitud del centro
+     * @param k Número de venues
+     * @return Venues ordenados por distancia
+     */
+    public List<VenueEntity> findNearest(double latitude, double longitude, int k) {
+        lock.readLock().lock();
+        try {
+            return resolve(geoIndex.nearest(latitude, longitude, k));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<VenueEntity> resolve(List<Long> ids) {
+        List<VenueEntity> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            result.add(venues.get(id));
+        }
+        return result;
     }
 
     /**
@@ -58,27 +198,45 @@ public class VenueRepository {
         if (venue.getId() == null) {
             venue.setId(idGenerator.getAndIncrement());
         }
-        venues.add(venue);
+        lock.writeLock().lock();
+        try {
+            VenueEntity previous = venues.put(venue.getId(), venue);
+            reindex(previous, venue);
+            if (previous == null) {
+                aggregates.venueAdded(venue);
+                changeFeed.append(CatalogChange.Resource.VENUE, CatalogChange.Type.CREATED, venue.getId(), venue);
+            } else {
+                aggregates.venueUpdated(previous, venue);
+                changeFeed.append(CatalogChange.Resource.VENUE, CatalogChange.Type.UPDATED, venue.getId(), venue);
+            }
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
         return venue;
     }
 
     /**
-     * Actualiza un venue existente
+     * Actualiza un venue existente reemplazando la instancia almacenada
      * @param venue Venue a actualizar
-     * @return Venue actualizado
+     * @return Venue actualizado o null si no existe
      */
     public VenueEntity update(VenueEntity venue) {
-        Optional<VenueEntity> existing = findById(venue.getId());
-        if (existing.isPresent()) {
-            VenueEntity v = existing.get();
-            v.setName(venue.getName());
-            v.setAddress(venue.getAddress());
-            v.setCity(venue.getCity());
-            v.setCountry(venue.getCountry());
-            v.setCapacity(venue.getCapacity());
-            return v;
+        lock.writeLock().lock();
+        try {
+            VenueEntity previous = venues.get(venue.getId());
+            if (previous == null) {
+                return null;
+            }
+            venues.put(venue.getId(), venue);
+            reindex(previous, venue);
+            aggregates.venueUpdated(previous, venue);
+            changeFeed.append(CatalogChange.Resource.VENUE, CatalogChange.Type.UPDATED, venue.getId(), venue);
+            version.incrementAndGet();
+            return venue;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return null;
     }
 
     /**
@@ -87,7 +245,20 @@ public class VenueRepository {
      * @return true si eliminó
      */
     public boolean deleteById(Long id) {
-        return venues.removeIf(v -> v.getId().equals(id));
+        lock.writeLock().lock();
+        try {
+            VenueEntity removed = venues.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            reindex(removed, null);
+            aggregates.venueRemoved(removed);
+            changeFeed.append(CatalogChange.Resource.VENUE, CatalogChange.Type.DELETED, id, null);
+            version.incrementAndGet();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -96,14 +267,77 @@ public class VenueRepository {
      * @return true si existe
      */
     public boolean existsById(Long id) {
-        return venues.stream().anyMatch(v -> v.getId().equals(id));
+        lock.readLock().lock();
+        try {
+            return venues.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
-     * Cuenta total de venues
+     * Cuenta total de venues, mantenida por los agregados
      * @return Número de venues
      */
     public long count() {
-        return venues.size();
+        return aggregates.venueCount();
+    }
+
+    /**
+     * Versión actual de la colección de venues
+     * @return Número que aumenta con cada escritura
+     */
+    public long version() {
+        return version.get();
+    }
+
+    // Mantiene los índices por ciudad, espacial y de orden y las referencias a los
+    // diccionarios; se llama con el lock de escritura tomado
+    private void reindex(VenueEntity previous, VenueEntity current) {
+        if (current != null) {
+            encode(current);
+        }
+        for (OrderedIndex<VenueEntity, ?> index : sortIndexes.values()) {
+            if (previous != null) {
+                index.remove(previous.getId(), previous);
+            }
+            if (current != null) {
+                index.add(current.getId(), current);
+            }
+        }
+        if (previous != null) {
+            int cityKey = cityKey(previous);
+            Set<Long> ids = idsByCity.get(cityKey);
+            if (ids != null) {
+                ids.remove(previous.getId());
+                if (ids.isEmpty()) {
+                    idsByCity.remove(cityKey);
+                }
+            }
+        }
+        if (current != null) {
+            idsByCity.computeIfAbsent(cityKey(current), c -> new LinkedHashSet<>()).add(current.getId());
+            geoIndex.put(current.getId(), current.getLatitude(), current.getLongitude());
+        } else if (previous != null) {
+            geoIndex.remove(previous.getId());
+        }
+        if (previous != null) {
+            // Después de adquirir los de la nueva versión: si es la misma instancia no se retiran
+            cities.release(previous.getCityTerm());
+            countries.release(previous.getCountryTerm());
+        }
+    }
+
+    // Sustituye ciudad y país por sus términos de diccionario, con una referencia por
+    // entidad guardada
+    private void encode(VenueEntity venue) {
+        venue.setCityTerm(venue.getCityTerm() != null
+                ? cities.retain(venue.getCityTerm()) : cities.acquire(venue.getCity()));
+        venue.setCountryTerm(venue.getCountryTerm() != null
+                ? countries.retain(venue.getCountryTerm()) : countries.acquire(venue.getCountry()));
+    }
+
+    private static int cityKey(VenueEntity venue) {
+        return venue.getCityTerm() == null ? FieldDictionary.NONE : venue.getCityTerm().getFoldedCode();
     }
 }
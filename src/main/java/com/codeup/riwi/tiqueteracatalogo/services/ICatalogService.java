@@ -0,0 +1,34 @@
+package com.codeup.riwi.tiqueteracatalogo.services;
+
+import com.codeup.riwi.tiqueteracatalogo.web.dto.CatalogAggregatesResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.CityStatsResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueStatsResponse;
+
+import java.util.Optional;
+
+/**
+ * Interfaz que define las consultas agregadas sobre el catálogo.
+ * Separa el contrato de la implementación.
+ */
+public interface ICatalogService {
+
+    /**
+     * Obtiene los agregados globales, por venue y por ciudad
+     * @return Respuesta con los agregados
+     */
+    CatalogAggregatesResponse getAggregates();
+
+    /**
+     * Obtiene las estadísticas de un venue
+     * @param venueId ID del venue
+     * @return Optional con estadísticas si el venue existe o tiene eventos
+     */
+    Optional<VenueStatsResponse> getVenueStats(Long venueId);
+
+    /**
+     * Obtiene las estadísticas de una ciudad
+     * @param city Nombre de la ciudad
+     * @return Optional con estadísticas si la ciudad tiene venues
+     */
+    Optional<CityStatsResponse> getCityStats(String city);
+}
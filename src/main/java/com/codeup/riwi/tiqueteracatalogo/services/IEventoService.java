@@ -1,7 +1,11 @@
 package com.codeup.riwi.tiqueteracatalogo.services;
 
+import com.codeup.riwi.tiqueteracatalogo.repository.SortKey;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventSearchRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventSearchResponse;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoRequest;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.NearbyEventResponse;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +21,15 @@ public interface IEventoService {
      * @return Lista de respuestas de eventos
      */
     List<EventoResponse> getAllEventos();
+
+    /**
+     * Obtiene eventos ordenados por varios criterios desde los índices ordenados
+     * @param sort Criterios en orden de prioridad; vacío ordena por ID
+     * @param after Última fila de la página anterior o null para la primera
+     * @param limit Máximo de eventos
+     * @return Eventos en orden
+     */
+    List<EventoResponse> getEventosSorted(List<SortKey> sort, EventoResponse after, int limit);
     
     /**
      * Busca un evento por ID
@@ -25,6 +38,14 @@ public interface IEventoService {
      */
     Optional<EventoResponse> getEventoById(Long id);
     
+    /**
+     * Busca un evento por ID y lo devuelve serializado en JSON.
+     * Las peticiones simultáneas por el mismo ID comparten la búsqueda y la serialización.
+     * @param id ID del evento
+     * @return Optional con el JSON del evento
+     */
+    Optional<byte[]> getEventoJsonById(Long id);
+    
     /**
      * Crea un nuevo evento
      * @param request Datos del evento
@@ -59,4 +80,34 @@ public interface IEventoService {
      * @return Número de eventos
      */
     long countEventos();
+
+    /**
+     * Versión actual del catálogo de eventos, cambia con cada escritura
+     * @return Versión de la colección
+     */
+    long getEventosVersion();
+
+    /**
+     * Versión de los eventos de un venue, cambia solo con escrituras sobre ese venue
+     * @param venueId ID del venue
+     * @return Versión de los eventos del venue
+     */
+    long getEventosVersionByVenueId(Long venueId);
+
+    /**
+     * Busca eventos futuros en venues dentro de un radio
+     * @param latitude Latitud del centro
+     * @param longitude Longitud del centro
+     * @param radiusKm Radio en kilómetros
+     * @param limit Máximo de eventos a devolver
+     * @return Eventos ordenados por fecha
+     */
+    List<NearbyEventResponse> getUpcomingEventosNear(double latitude, double longitude, double radiusKm, int limit);
+
+    /**
+     * Busca eventos combinando filtros, usando los índices más selectivos disponibles
+     * @param request Filtros, orden, límite y si se incluye el plan
+     * @return Eventos encontrados y, si se pidió, el plan de ejecución
+     */
+    EventSearchResponse searchEventos(EventSearchRequest request);
 }
@@ -0,0 +1,35 @@
+package com.codeup.riwi.tiqueteracatalogo.services;
+
+import com.codeup.riwi.tiqueteracatalogo.web.dto.InventoryResponse;
+
+import java.util.Optional;
+
+/**
+ * Interfaz que define las operaciones sobre el inventario de boletas.
+ * Separa el contrato de la implementación.
+ */
+public interface IInventarioService {
+
+    /**
+     * Obtiene el inventario de un evento
+     * @param eventId ID del evento
+     * @return Optional con el inventario si el evento existe
+     */
+    Optional<InventoryResponse> getInventory(Long eventId);
+
+    /**
+     * Vende boletas de un evento sin superar su capacidad
+     * @param eventId ID del evento
+     * @param quantity Cantidad de boletas
+     * @return Optional con el inventario resultante si el evento existe
+     */
+    Optional<InventoryResponse> sell(Long eventId, int quantity);
+
+    /**
+     * Libera boletas vendidas de un evento
+     * @param eventId ID del evento
+     * @param quantity Cantidad de boletas
+     * @return Optional con el inventario resultante si el evento existe
+     */
+    Optional<InventoryResponse> release(Long eventId, int quantity);
+}
@@ -0,0 +1,41 @@
+package com.codeup.riwi.tiqueteracatalogo.services;
+
+import com.codeup.riwi.tiqueteracatalogo.web.dto.HoldRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.HoldResponse;
+
+import java.util.Optional;
+
+/**
+ * Interfaz que define las operaciones sobre reservas temporales de boletas.
+ * Separa el contrato de la implementación.
+ */
+public interface IReservaService {
+
+    /**
+     * Crea una reserva reteniendo boletas del evento
+     * @param request Datos de la reserva
+     * @return Optional con la reserva creada si el evento existe
+     */
+    Optional<HoldResponse> createHold(HoldRequest request);
+
+    /**
+     * Obtiene una reserva por su ID
+     * @param id ID de la reserva
+     * @return Optional con la reserva si existe
+     */
+    Optional<HoldResponse> getHold(String id);
+
+    /**
+     * Confirma una reserva activa
+     * @param id ID de la reserva
+     * @return Optional con la reserva confirmada si existe
+     */
+    Optional<HoldResponse> confirmHold(String id);
+
+    /**
+     * Cancela una reserva activa y devuelve sus boletas
+     * @param id ID de la reserva
+     * @return Optional con la reserva cancelada si existe
+     */
+    Optional<HoldResponse> cancelHold(String id);
+}
@@ -1,5 +1,7 @@
 package com.codeup.riwi.tiqueteracatalogo.services;
 
+import com.codeup.riwi.tiqueteracatalogo.repository.SortKey;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.NearbyVenueResponse;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueRequest;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
 
@@ -17,6 +19,22 @@ public interface IVenueService {
      * @return Lista de respuestas de venues
      */
     List<VenueResponse> getAllVenues();
+
+    /**
+     * Obtiene venues ordenados por varios criterios desde los índices ordenados
+     * @param sort Criterios en orden de prioridad; vacío ordena por ID
+     * @param after Última fila de la página anterior o null para la primera
+     * @param limit Máximo de venues
+     * @return Venues en orden
+     */
+    List<VenueResponse> getVenuesSorted(List<SortKey> sort, VenueResponse after, int limit);
+    
+    /**
+     * Obtiene todos los venues serializados en JSON, compartiendo el trabajo
+     * entre peticiones simultáneas
+     * @return JSON de la lista de venues
+     */
+    byte[] getAllVenuesJson();
     
     /**
      * Busca un venue por ID
@@ -25,6 +43,14 @@ public interface IVenueService {
      */
     Optional<VenueResponse> getVenueById(Long id);
     
+    /**
+     * Busca un venue por ID y lo devuelve serializado en JSON.
+     * Las peticiones simultáneas por el mismo ID comparten la búsqueda y la serialización.
+     * @param id ID del venue
+     * @return Optional con el JSON del venue
+     */
+    Optional<byte[]> getVenueJsonById(Long id);
+    
     /**
      * Crea un nuevo venue
      * @param request Datos del venue
@@ -59,4 +85,22 @@ public interface IVenueService {
      * @return Número de venues
      */
     long countVenues();
+
+    /**
+     * Busca venues dentro de un radio
+     * @param latitude Latitud del centro
+     * @param longitude Longitud del centro
+     * @param radiusKm Radio en kilómetros
+     * @return Venues ordenados por distancia
+     */
+    List<NearbyVenueResponse> getVenuesWithinRadius(double latitude, double longitude, double radiusKm);
+
+    /**
+     * Busca los k venues más cercanos
+     * @param latitude Latitud del centro
+     * @param longitude Longitud del centro
+     * @param k Número de venues
+     * @return Venues ordenados por distancia
+     */
+    List<NearbyVenueResponse> getNearestVenues(double latitude, double longitude, int k);
 }
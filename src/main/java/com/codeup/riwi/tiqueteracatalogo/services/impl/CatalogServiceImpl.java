@@ -0,0 +1,72 @@
+package com.codeup.riwi.tiqueteracatalogo.services.impl;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.CatalogStatsMapper;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogAggregates;
+import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
+import com.codeup.riwi.tiqueteracatalogo.services.ICatalogService;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.CatalogAggregatesResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.CityStatsResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueStatsResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de las consultas agregadas del catálogo.
+ * Lee los contadores incrementales sin recorrer eventos ni venues.
+ */
+@Service
+public class CatalogServiceImpl implements ICatalogService {
+
+    private final CatalogAggregates aggregates;
+    private final VenueRepository venueRepository;
+
+    /**
+     * Constructor con inyección de dependencias
+     * @param aggregates Agregados del catálogo
+     * @param venueRepository Repositorio de venues
+     */
+    public CatalogServiceImpl(CatalogAggregates aggregates, VenueRepository venueRepository) {
+        this.aggregates = aggregates;
+        this.venueRepository = venueRepository;
+    }
+
+    @Override
+    public CatalogAggregatesResponse getAggregates() {
+        List<VenueStatsResponse> venues = aggregates.venueIdsWithEvents().stream()
+                .sorted()
+                .map(venueId -> CatalogStatsMapper.toVenueResponse(venueId, aggregates.venueStats(venueId)))
+                .collect(Collectors.toList());
+        List<CityStatsResponse> cities = aggregates.allCityStats().stream()
+                .map(CatalogStatsMapper::toCityResponse)
+                .sorted(Comparator.comparing(CityStatsResponse::getCity))
+                .collect(Collectors.toList());
+        return new CatalogAggregatesResponse(
+                aggregates.venueCount(),
+                CatalogStatsMapper.toResponse(aggregates.totalStats()),
+                venues,
+                cities
+        );
+    }
+
+    @Override
+    public Optional<VenueStatsResponse> getVenueStats(Long venueId) {
+        CatalogAggregates.Stats stats = aggregates.venueStats(venueId);
+        if (stats.getEventCount() == 0 && !venueRepository.existsById(venueId)) {
+            return Optional.empty();
+        }
+        return Optional.of(CatalogStatsMapper.toVenueResponse(venueId, stats));
+    }
+
+    @Override
+    public Optional<CityStatsResponse> getCityStats(String city) {
+        CatalogAggregates.CityStats stats = aggregates.cityStats(city);
+        if (stats == null || stats.getVenueCount() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(CatalogStatsMapper.toCityResponse(stats));
+    }
+}
@@ -0,0 +1,235 @@
+package com.codeup.riwi.tiqueteracatalogo.services.impl;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.repository.EventoRepository;
+import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventSearchRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.SearchPlanResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Planificador de búsquedas de eventos.
+ * Estima cuántas filas devuelve cada índice aplicable (venue, ciudad, fecha, precio),
+ * guía la búsqueda con el más selectivo, intersecta los IDs de los demás cuando son
+ * baratos de obtener y evalúa el resto como filtros residuales. Solo recorre todo el
+ * catálogo si no hay índice aplicable o si el mejor cubre gran parte de los eventos.
+ */
+@Component
+public class EventSearchPlanner {
+
+    // Un índice se intersecta si no devuelve más de este múltiplo de los candidatos actuales
+    private static final int INTERSECT_FACTOR = 4;
+
+    private final EventoRepository eventoRepository;
+    private final VenueRepository venueRepository;
+    private final double scanRatio;
+
+    public EventSearchPlanner(EventoRepository eventoRepository, VenueRepository venueRepository,
+                              @Value("${tiquetera.search.scan-ratio:0.3}") double scanRatio) {
+        this.eventoRepository = eventoRepository;
+        this.venueRepository = venueRepository;
+        this.scanRatio = scanRatio;
+    }
+
+    /**
+     * Planifica y ejecuta una búsqueda
+     * @param request Filtros, orden y límite
+     * @return Eventos encontrados y plan usado
+     */
+    public Result search(EventSearchRequest request) {
+        long start = System.nanoTime();
+        Set<Long> cityVenueIds = request.getCity() == null ? null
+                : new HashSet<>(venueRepository.findIdsByCity(request.getCity()));
+        Predicate<EventoEntity> predicate = predicate(request, cityVenueIds);
+
+        List<AccessPath> paths = accessPaths(request, cityVenueIds);
+        List<String> residual = new ArrayList<>();
+        if (request.getMinCapacity() != null || request.getMaxCapacity() != null) {
+            residual.add("capacity");
+        }
+        List<String> used = new ArrayList<>();
+        long total = eventoRepository.count();
+
+        String strategy;
+        String reason;
+        List<EventoEntity> rows;
+        if (paths.isEmpty()) {
+            strategy = "SCAN";
+            reason = "no hay filtros con índice";
+            rows = null;
+        } else if (paths.get(0).estimate == 0) {
+            strategy = "EMPTY";
+            reason = "el índice " + paths.get(0).name + " no tiene eventos para el filtro";
+            used.add(paths.get(0).describe());
+            rows = List.of();
+        } else if (paths.get(0).estimate > total * scanRatio) {
+            strategy = "SCAN";
+            reason = "el índice más selectivo (" + paths.get(0).name + ") cubre más del "
+                    + Math.round(scanRatio * 100) + "% del catálogo";
+            paths.forEach(path -> residual.add(path.name));
+            rows = null;
+        } else {
+            strategy = "INDEX";
+            reason = "índice más selectivo: " + paths.get(0).name;
+            Set<Long> candidates = paths.get(0).ids.get();
+            used.add(paths.get(0).describe());
+            for (AccessPath path : paths.subList(1, paths.size())) {
+                if (path.estimate <= (long) candidates.size() * INTERSECT_FACTOR) {
+                    candidates.retainAll(path.ids.get());
+                    used.add(path.describe());
+                } else {
+                    residual.add(path.name);
+                }
+            }
+            rows = eventoRepository.findAllById(candidates);
+        }
+
+        long examined;
+        List<EventoEntity> matched;
+        if (rows == null) {
+            examined = total;
+            matched = eventoRepository.findMatching(predicate);
+        } else {
+            examined = rows.size();
+            matched = new ArrayList<>();
+            for (EventoEntity evento : rows) {
+                if (predicate.test(evento)) {
+                    matched.add(evento);
+                }
+            }
+        }
+
+        matched.sort(comparator(request.getSort()));
+        List<EventoEntity> page = matched.size() > request.getLimit()
+                ? matched.subList(0, request.getLimit()) : matched;
+        SearchPlanResponse plan = new SearchPlanResponse(strategy, used, residual, reason, examined,
+                matched.size(), (System.nanoTime() - start) / 1_000_000.0);
+        return new Result(page, plan);
+    }
+
+    private List<AccessPath> accessPaths(EventSearchRequest request, Set<Long> cityVenueIds) {
+        List<AccessPath> paths = new ArrayList<>();
+        if (request.getVenueId() != null) {
+            List<Long> venueIds = List.of(request.getVenueId());
+            paths.add(new AccessPath("venueId", eventoRepository.countByVenueIds(venueIds),
+                    () -> eventoRepository.findIdsByVenueIds(venueIds)));
+        }
+        if (cityVenueIds != null) {
+            paths.add(new AccessPath("city", eventoRepository.countByVenueIds(cityVenueIds),
+                    () -> eventoRepository.findIdsByVenueIds(cityVenueIds)));
+        }
+        if (request.getFrom() != null || request.getTo() != null) {
+            paths.add(new AccessPath("eventDate", eventoRepository.countByDateRange(request.getFrom(), request.getTo()),
+                    () -> eventoRepository.findIdsByDateRange(request.getFrom(), request.getTo())));
+        }
+        if (request.getMinPrice() != null || request.getMaxPrice() != null) {
+            paths.add(new AccessPath("price", eventoRepository.countByPriceRange(request.getMinPrice(), request.getMaxPrice()),
+                    () -> eventoRepository.findIdsByPriceRange(request.getMinPrice(), request.getMaxPrice())));
+        }
+        paths.sort(Comparator.comparingLong(path -> path.estimate));
+        return paths;
+    }
+
+    private static Predicate<EventoEntity> predicate(EventSearchRequest request, Set<Long> cityVenueIds) {
+        Predicate<EventoEntity> predicate = evento -> true;
+        if (request.getVenueId() != null) {
+            predicate = predicate.and(e -> request.getVenueId().equals(e.getVenueId()));
+        }
+        if (cityVenueIds != null) {
+            predicate = predicate.and(e -> cityVenueIds.contains(e.getVenueId()));
+        }
+        if (request.getFrom() != null) {
+            predicate = predicate.and(e -> e.getEventDate() != null && !e.getEventDate().isBefore(request.getFrom()));
+        }
+        if (request.getTo() != null) {
+            predicate = predicate.and(e -> e.getEventDate() != null && !e.getEventDate().isAfter(request.getTo()));
+        }
+        if (request.getMinPrice() != null) {
+            predicate = predicate.and(e -> e.getPrice() != null && e.getPrice() >= request.getMinPrice());
+        }
+        if (request.getMaxPrice() != null) {
+            predicate = predicate.and(e -> e.getPrice() != null && e.getPrice() <= request.getMaxPrice());
+        }
+        if (request.getMinCapacity() != null) {
+            predicate = predicate.and(e -> e.getCapacity() != null && e.getCapacity() >= request.getMinCapacity());
+        }
+        if (request.getMaxCapacity() != null) {
+            predicate = predicate.and(e -> e.getCapacity() != null && e.getCapacity() <= request.getMaxCapacity());
+        }
+        return predicate;
+    }
+
+    private static Comparator<EventoEntity> comparator(String sort) {
+        String[] parts = sort.split(",");
+        boolean descending = parts.length > 1 && parts[1].equals("desc");
+        Comparator<EventoEntity> comparator = switch (parts[0]) {
+            case "id" -> Comparator.comparing(EventoEntity::getId);
+            case "name" -> nullsLast(EventoEntity::getName, String.CASE_INSENSITIVE_ORDER, descending);
+            case "price" -> nullsLast(EventoEntity::getPrice, Comparator.naturalOrder(), descending);
+            case "capacity" -> nullsLast(EventoEntity::getCapacity, Comparator.naturalOrder(), descending);
+            default -> nullsLast(EventoEntity::getEventDate, Comparator.naturalOrder(), descending);
+        };
+        if (descending && parts[0].equals("id")) {
+            return comparator.reversed();
+        }
+        return comparator.thenComparing(EventoEntity::getId);
+    }
+
+    // Los valores nulos quedan al final en ambas direcciones
+    private static <K> Comparator<EventoEntity> nullsLast(Function<EventoEntity, K> key, Comparator<K> order,
+                                                          boolean descending) {
+        return Comparator.comparing(key, Comparator.nullsLast(descending ? order.reversed() : order));
+    }
+
+    /**
+     * Índice aplicable con su cardinalidad estimada.
+     */
+    private static final class AccessPath {
+
+        private final String name;
+        private final long estimate;
+        private final Supplier<Set<Long>> ids;
+
+        AccessPath(String name, long estimate, Supplier<Set<Long>> ids) {
+            this.name = name;
+            this.estimate = estimate;
+            this.ids = ids;
+        }
+
+        String describe() {
+            return name + "(estimated=" + estimate + ")";
+        }
+    }
+
+    /**
+     * Resultado de una búsqueda.
+     */
+    public static final class Result {
+
+        private final List<EventoEntity> eventos;
+        private final SearchPlanResponse plan;
+
+        Result(List<EventoEntity> eventos, SearchPlanResponse plan) {
+            this.eventos = eventos;
+            this.plan = plan;
+        }
+
+        public List<EventoEntity> getEventos() {
+            return eventos;
+        }
+
+        public SearchPlanResponse getPlan() {
+            return plan;
+        }
+    }
+}
@@ -1,14 +1,27 @@
 package com.codeup.riwi.tiqueteracatalogo.services.impl;
 
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventSearchRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventSearchResponse;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoRequest;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
 import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
 import com.codeup.riwi.tiqueteracatalogo.domain.mapper.EventoMapper;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
 import com.codeup.riwi.tiqueteracatalogo.repository.EventoRepository;
+import com.codeup.riwi.tiqueteracatalogo.repository.GeoGridIndex;
+import com.codeup.riwi.tiqueteracatalogo.repository.SortKey;
+import com.codeup.riwi.tiqueteracatalogo.repository.TicketInventory;
+import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.NearbyEventResponse;
 import com.codeup.riwi.tiqueteracatalogo.services.IEventoService;
+import com.codeup.riwi.tiqueteracatalogo.web.json.CatalogJsonHttpMessageConverter;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,20 +33,40 @@ import java.util.stream.Collectors;
 public class EventoServiceImpl implements IEventoService {
 
     private final EventoRepository eventoRepository;
+    private final VenueRepository venueRepository;
+    private final TicketInventory ticketInventory;
+    private final EventSearchPlanner searchPlanner;
+    private final ReadCoalescer readCoalescer;
 
     /**
      * Constructor con inyección de dependencias
      * @param eventoRepository Repositorio de eventos
+     * @param venueRepository Repositorio de venues
+     * @param ticketInventory Inventario de boletas por evento
+     * @param searchPlanner Planificador de búsquedas
+     * @param readCoalescer Coalescencia de lecturas idénticas simultáneas
      */
-    public EventoServiceImpl(EventoRepository eventoRepository) {
+    public EventoServiceImpl(EventoRepository eventoRepository, VenueRepository venueRepository,
+                             TicketInventory ticketInventory, EventSearchPlanner searchPlanner,
+                             ReadCoalescer readCoalescer) {
         this.eventoRepository = eventoRepository;
+        this.venueRepository = venueRepository;
+        this.ticketInventory = ticketInventory;
+        this.searchPlanner = searchPlanner;
+        this.readCoalescer = readCoalescer;
     }
 
     @Override
     public List<EventoResponse> getAllEventos() {
-        return eventoRepository.findAll().stream()
-                .map(EventoMapper::toResponse)
-                .collect(Collectors.toList());
+        return EventoMapper.toResponseList(eventoRepository.findAll());
+    }
+
+    @Override
+    public List<EventoResponse> getEventosSorted(List<SortKey> sort, EventoResponse after, int limit) {
+        // El repositorio solo compara por los campos de orden; la descripción no hace falta
+        EventoEntity probe = after == null ? null : new EventoEntity(after.getId(), after.getName(), null,
+                after.getEventDate(), after.getVenueId(), after.getCapacity(), after.getPrice());
+        return EventoMapper.toResponseList(eventoRepository.findSorted(sort, probe, limit));
     }
 
     @Override
@@ -42,6 +75,14 @@ public class EventoServiceImpl implements IEventoService {
                 .map(EventoMapper::toResponse);
     }
 
+    @Override
+    public Optional<byte[]> getEventoJsonById(Long id) {
+        // La versión se lee antes de buscar: una escritura posterior no se une a este cálculo
+        long version = eventoRepository.version();
+        return readCoalescer.eventosById().execute(id, version, () -> eventoRepository.findById(id)
+                .map(evento -> CatalogJsonHttpMessageConverter.toJson(EventoMapper.toResponse(evento))));
+    }
+
     @Override
     public EventoResponse createEvento(EventoRequest request) {
         EventoEntity entity = EventoMapper.toEntity(request);
@@ -51,28 +92,67 @@ public class EventoServiceImpl implements IEventoService {
 
     @Override
     public Optional<EventoResponse> updateEvento(Long id, EventoRequest request) {
-        return eventoRepository.findById(id)
-                .map(entity -> {
-                    EventoMapper.updateEntityFromRequest(entity, request);
-                    EventoEntity updated = eventoRepository.update(entity);
-                    return EventoMapper.toResponse(updated);
-                });
+        // Se construye una instancia nueva para que el repositorio conozca el estado anterior
+        EventoEntity entity = EventoMapper.toEntity(request);
+        entity.setId(id);
+        EventoEntity updated = eventoRepository.update(entity);
+        if (updated == null) {
+            return Optional.empty();
+        }
+        ticketInventory.capacityChanged(id, updated.getCapacity());
+        return Optional.of(EventoMapper.toResponse(updated));
     }
 
     @Override
     public boolean deleteEvento(Long id) {
-        return eventoRepository.deleteById(id);
+        boolean deleted = eventoRepository.deleteById(id);
+        if (deleted) {
+            ticketInventory.remove(id);
+        }
+        return deleted;
     }
 
     @Override
     public List<EventoResponse> getEventosByVenueId(Long venueId) {
-        return eventoRepository.findByVenueId(venueId).stream()
-                .map(EventoMapper::toResponse)
-                .collect(Collectors.toList());
+        return EventoMapper.toResponseList(eventoRepository.findByVenueId(venueId));
     }
 
     @Override
     public long countEventos() {
         return eventoRepository.count();
     }
+
+    @Override
+    public long getEventosVersion() {
+        return eventoRepository.version();
+    }
+
+    @Override
+    public long getEventosVersionByVenueId(Long venueId) {
+        return eventoRepository.venueVersion(venueId);
+    }
+
+    @Override
+    public List<NearbyEventResponse> getUpcomingEventosNear(double latitude, double longitude, double radiusKm, int limit) {
+        // Índice espacial de venues -> índice venueId de eventos, sin recorrer todo el catálogo
+        Map<Long, Double> distanceByVenue = new HashMap<>();
+        for (VenueEntity venue : venueRepository.findWithinRadius(latitude, longitude, radiusKm)) {
+            distanceByVenue.put(venue.getId(),
+                    GeoGridIndex.distanceKm(latitude, longitude, venue.getLatitude(), venue.getLongitude()));
+        }
+        return eventoRepository.findUpcomingByVenueIds(distanceByVenue.keySet(), LocalDateTime.now()).stream()
+                .sorted(Comparator.comparing(EventoEntity::getEventDate))
+                .limit(limit)
+                .map(e -> new NearbyEventResponse(EventoMapper.toResponse(e), distanceByVenue.get(e.getVenueId())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public EventSearchResponse searchEventos(EventSearchRequest request) {
+        EventSearchPlanner.Result result = searchPlanner.search(request);
+        List<EventoResponse> eventos = result.getEventos().stream()
+                .map(EventoMapper::toResponse)
+                .collect(Collectors.toList());
+        return new EventSearchResponse(eventos, request.isExplain() ? result.getPlan() : null);
+    }
 }
@@ -0,0 +1,53 @@
+package com.codeup.riwi.tiqueteracatalogo.services.impl;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.InventoryMapper;
+import com.codeup.riwi.tiqueteracatalogo.repository.TicketInventory;
+import com.codeup.riwi.tiqueteracatalogo.services.IInventarioService;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ConflictException;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.InventoryResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Implementación de las operaciones de inventario de boletas.
+ */
+@Service
+public class InventarioServiceImpl implements IInventarioService {
+
+    private final TicketInventory ticketInventory;
+
+    /**
+     * Constructor con inyección de dependencias
+     * @param ticketInventory Inventario de boletas por evento
+     */
+    public InventarioServiceImpl(TicketInventory ticketInventory) {
+        this.ticketInventory = ticketInventory;
+    }
+
+    @Override
+    public Optional<InventoryResponse> getInventory(Long eventId) {
+        return ticketInventory.forEvent(eventId)
+                .map(inventory -> InventoryMapper.toResponse(eventId, inventory));
+    }
+
+    @Override
+    public Optional<InventoryResponse> sell(Long eventId, int quantity) {
+        return ticketInventory.forEvent(eventId).map(inventory -> {
+            if (!inventory.tryAcquire(quantity)) {
+                throw new ConflictException("No hay boletas suficientes para el evento con ID: " + eventId);
+            }
+            return InventoryMapper.toResponse(eventId, inventory);
+        });
+    }
+
+    @Override
+    public Optional<InventoryResponse> release(Long eventId, int quantity) {
+        return ticketInventory.forEvent(eventId).map(inventory -> {
+            if (!inventory.release(quantity)) {
+                throw new ConflictException("No se pueden liberar más boletas de las vendidas para el evento con ID: " + eventId);
+            }
+            return InventoryMapper.toResponse(eventId, inventory);
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.codeup.riwi.tiqueteracatalogo.services.impl;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Grupos de coalescencia de las lecturas calientes del catálogo.
+ * Cada grupo comparte entre peticiones simultáneas el JSON ya serializado,
+ * de modo que un evento muy consultado se busca y serializa una sola vez por ráfaga.
+ */
+@Component
+public class ReadCoalescer {
+
+    private final SingleFlight<Long, Optional<byte[]>> eventosById = new SingleFlight<>("event-by-id");
+    private final SingleFlight<Long, Optional<byte[]>> venuesById = new SingleFlight<>("venue-by-id");
+    private final SingleFlight<String, byte[]> venueLists = new SingleFlight<>("venue-list");
+
+    public SingleFlight<Long, Optional<byte[]>> eventosById() {
+        return eventosById;
+    }
+
+    public SingleFlight<Long, Optional<byte[]>> venuesById() {
+        return venuesById;
+    }
+
+    public SingleFlight<String, byte[]> venueLists() {
+        return venueLists;
+    }
+
+    public List<SingleFlight<?, ?>> all() {
+        return List.of(eventosById, venuesById, venueLists);
+    }
+}
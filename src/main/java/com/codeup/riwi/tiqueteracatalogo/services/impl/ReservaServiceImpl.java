@@ -0,0 +1,76 @@
+package com.codeup.riwi.tiqueteracatalogo.services.impl;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.HoldMapper;
+import com.codeup.riwi.tiqueteracatalogo.repository.ReservationHolds;
+import com.codeup.riwi.tiqueteracatalogo.repository.ReservationHolds.HoldStatus;
+import com.codeup.riwi.tiqueteracatalogo.repository.TicketInventory;
+import com.codeup.riwi.tiqueteracatalogo.services.IReservaService;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ConflictException;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.HoldRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.HoldResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Implementación de las reservas temporales de boletas.
+ */
+@Service
+public class ReservaServiceImpl implements IReservaService {
+
+    private final TicketInventory ticketInventory;
+    private final ReservationHolds reservationHolds;
+    private final long defaultTtlSeconds;
+
+    /**
+     * Constructor con inyección de dependencias
+     * @param ticketInventory Inventario de boletas por evento
+     * @param reservationHolds Almacén de reservas con vencimiento
+     * @param defaultTtlSeconds Duración de una reserva cuando no se indica
+     */
+    public ReservaServiceImpl(TicketInventory ticketInventory, ReservationHolds reservationHolds,
+                              @Value("${tiquetera.holds.default-ttl-seconds:600}") long defaultTtlSeconds) {
+        this.ticketInventory = ticketInventory;
+        this.reservationHolds = reservationHolds;
+        this.defaultTtlSeconds = defaultTtlSeconds;
+    }
+
+    @Override
+    public Optional<HoldResponse> createHold(HoldRequest request) {
+        long ttl = request.getTtlSeconds() != null ? request.getTtlSeconds() : defaultTtlSeconds;
+        return ticketInventory.forEvent(request.getEventId()).map(inventory -> {
+            ReservationHolds.Hold hold = reservationHolds.place(request.getEventId(), inventory, request.getQuantity(), ttl);
+            if (hold == null) {
+                throw new ConflictException("No hay boletas suficientes para el evento con ID: " + request.getEventId());
+            }
+            return HoldMapper.toResponse(hold);
+        });
+    }
+
+    @Override
+    public Optional<HoldResponse> getHold(String id) {
+        return reservationHolds.findById(id)
+                .map(HoldMapper::toResponse);
+    }
+
+    @Override
+    public Optional<HoldResponse> confirmHold(String id) {
+        return reservationHolds.confirm(id).map(hold -> {
+            if (hold.getStatus() != HoldStatus.CONFIRMED) {
+                throw new ConflictException("La reserva no se puede confirmar porque está " + hold.getStatus());
+            }
+            return HoldMapper.toResponse(hold);
+        });
+    }
+
+    @Override
+    public Optional<HoldResponse> cancelHold(String id) {
+        return reservationHolds.cancel(id).map(hold -> {
+            if (hold.getStatus() == HoldStatus.CONFIRMED) {
+                throw new ConflictException("La reserva ya fue confirmada y no se puede cancelar");
+            }
+            return HoldMapper.toResponse(hold);
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.codeup.riwi.tiqueteracatalogo.services.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa lecturas idénticas simultáneas en un solo cálculo.
+ * Mientras una clave se está calculando, las llamadas que llegan con la misma
+ * clave esperan ese resultado en vez de repetir el trabajo. No es una caché: al
+ * terminar el cálculo la clave se libera y la siguiente llamada vuelve a calcular.
+ * <p>
+ * Cada llamada indica la versión de la colección que leyó antes de empezar. Solo
+ * se une a un cálculo de su misma versión o posterior, así una petición que llega
+ * después de una escritura nunca recibe datos leídos antes de ella.
+ *
+ * @param <K> Tipo de la clave de lectura
+ * @param <V> Tipo del resultado compartido
+ */
+public final class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Devuelve el resultado de la clave, uniéndose a un cálculo en curso si lo hay
+     * @param key Clave de la lectura
+     * @param version Versión de la colección leída antes de llamar
+     * @param work Cálculo a ejecutar si no hay uno compatible en curso
+     * @return Resultado propio o compartido
+     */
+    public V execute(K key, long version, Supplier<V> work) {
+        calls.increment();
+        Flight<V> own = new Flight<>(version);
+        while (true) {
+            Flight<V> current = flights.putIfAbsent(key, own);
+            if (current == null) {
+                break;
+            }
+            if (current.version >= version) {
+                coalesced.increment();
+                return current.await();
+            }
+            // El cálculo en curso leyó antes de la última escritura: se reemplaza
+            if (flights.replace(key, current, own)) {
+                break;
+            }
+        }
+        // La clave se libera antes de publicar el resultado: quien llegue después
+        // calcula de nuevo en vez de recibir un resultado ya terminado
+        V value;
+        try {
+            value = work.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, own);
+            own.result.completeExceptionally(e);
+            throw e;
+        }
+        flights.remove(key, own);
+        own.result.complete(value);
+        return value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public int getInFlight() {
+        return flights.size();
+    }
+
+    private static final class Flight<V> {
+
+        private final long version;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        Flight(long version) {
+            this.version = version;
+        }
+
+        V await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                // Los que esperan reciben la misma excepción que el que calculó
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.codeup.riwi.tiqueteracatalogo.services.impl;
 
+import com.codeup.riwi.tiqueteracatalogo.repository.GeoGridIndex;
+import com.codeup.riwi.tiqueteracatalogo.repository.SortKey;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.NearbyVenueResponse;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueRequest;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
 import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
 import com.codeup.riwi.tiqueteracatalogo.domain.mapper.VenueMapper;
 import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
 import com.codeup.riwi.tiqueteracatalogo.services.IVenueService;
+import com.codeup.riwi.tiqueteracatalogo.web.json.CatalogJsonHttpMessageConverter;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,20 +24,35 @@ import java.util.stream.Collectors;
 public class VenueServiceImpl implements IVenueService {
 
     private final VenueRepository venueRepository;
+    private final ReadCoalescer readCoalescer;
 
     /**
      * Constructor con inyección de dependencias
      * @param venueRepository Repositorio de venues
+     * @param readCoalescer Coalescencia de lecturas idénticas simultáneas
      */
-    public VenueServiceImpl(VenueRepository venueRepository) {
+    public VenueServiceImpl(VenueRepository venueRepository, ReadCoalescer readCoalescer) {
         this.venueRepository = venueRepository;
+        this.readCoalescer = readCoalescer;
     }
 
     @Override
     public List<VenueResponse> getAllVenues() {
-        return venueRepository.findAll().stream()
-                .map(VenueMapper::toResponse)
-                .collect(Collectors.toList());
+        return VenueMapper.toResponseList(venueRepository.findAll());
+    }
+
+    @Override
+    public List<VenueResponse> getVenuesSorted(List<SortKey> sort, VenueResponse after, int limit) {
+        VenueEntity probe = after == null ? null : new VenueEntity(after.getId(), after.getName(), after.getAddress(),
+                after.getCity(), after.getCountry(), after.getCapacity(), after.getLatitude(), after.getLongitude());
+        return VenueMapper.toResponseList(venueRepository.findSorted(sort, probe, limit));
+    }
+
+    @Override
+    public byte[] getAllVenuesJson() {
+        long version = venueRepository.version();
+        return readCoalescer.venueLists().execute("all", version,
+                () -> CatalogJsonHttpMessageConverter.toJson(VenueMapper.toResponseList(venueRepository.findAll())));
     }
 
     @Override
@@ -42,6 +61,14 @@ public class VenueServiceImpl implements IVenueService {
                 .map(VenueMapper::toResponse);
     }
 
+    @Override
+    public Optional<byte[]> getVenueJsonById(Long id) {
+        // La versión se lee antes de buscar: una escritura posterior no se une a este cálculo
+        long version = venueRepository.version();
+        return readCoalescer.venuesById().execute(id, version, () -> venueRepository.findById(id)
+                .map(venue -> CatalogJsonHttpMessageConverter.toJson(VenueMapper.toResponse(venue))));
+    }
+
     @Override
     public VenueResponse createVenue(VenueRequest request) {
         VenueEntity entity = VenueMapper.toEntity(request);
@@ -51,12 +78,11 @@ public class VenueServiceImpl implements IVenueService {
 
     @Override
     public Optional<VenueResponse> updateVenue(Long id, VenueRequest request) {
-        return venueRepository.findById(id)
-                .map(entity -> {
-                    VenueMapper.updateEntityFromRequest(entity, request);
-                    VenueEntity updated = venueRepository.update(entity);
-                    return VenueMapper.toResponse(updated);
-                });
+        // Se construye una instancia nueva para que el repositorio conozca el estado anterior
+        VenueEntity entity = VenueMapper.toEntity(request);
+        entity.setId(id);
+        return Optional.ofNullable(venueRepository.update(entity))
+                .map(VenueMapper::toResponse);
     }
 
     @Override
@@ -66,13 +92,29 @@ public class VenueServiceImpl implements IVenueService {
 
     @Override
     public List<VenueResponse> getVenuesByCity(String city) {
-        return venueRepository.findByCity(city).stream()
-                .map(VenueMapper::toResponse)
-                .collect(Collectors.toList());
+        return VenueMapper.toResponseList(venueRepository.findByCity(city));
     }
 
     @Override
     public long countVenues() {
         return venueRepository.count();
     }
+
+    @Override
+    public List<NearbyVenueResponse> getVenuesWithinRadius(double latitude, double longitude, double radiusKm) {
+        return toNearby(venueRepository.findWithinRadius(latitude, longitude, radiusKm), latitude, longitude);
+    }
+
+    @Override
+    public List<NearbyVenueResponse> getNearestVenues(double latitude, double longitude, int k) {
+        return toNearby(venueRepository.findNearest(latitude, longitude, k), latitude, longitude);
+    }
+
+    private static List<NearbyVenueResponse> toNearby(List<VenueEntity> venues, double latitude, double longitude) {
+        return venues.stream()
+                .map(v -> new NearbyVenueResponse(
+                        VenueMapper.toResponse(v),
+                        GeoGridIndex.distanceKm(latitude, longitude, v.getLatitude(), v.getLongitude())))
+                .collect(Collectors.toList());
+    }
 }
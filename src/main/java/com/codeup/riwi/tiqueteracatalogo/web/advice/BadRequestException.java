@@ -0,0 +1,11 @@
+package com.codeup.riwi.tiqueteracatalogo.web.advice;
+
+/**
+ * Parámetros inválidos (400). Sin traza de pila, igual que {@link ResourceNotFoundException}.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,11 @@
+package com.codeup.riwi.tiqueteracatalogo.web.advice;
+
+/**
+ * Operación incompatible con el estado actual (409). Sin traza de pila.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,42 @@
+package com.codeup.riwi.tiqueteracatalogo.web.advice;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Respuestas de error construidas directamente por los controladores, sin lanzar
+ * excepciones. Es el camino de los 404 por ID, que los rastreadores generan en masa;
+ * el cuerpo es el mismo {@link ErrorResponse} que produce {@link GlobalExceptionHandler}.
+ */
+public final class ErrorResponses {
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * 404 para un recurso buscado por ID
+     * @param resourceName Nombre del recurso en el mensaje (ej. "Evento")
+     * @param id ID buscado
+     * @return Respuesta 404 con el cuerpo de error estándar
+     */
+    public static ResponseEntity<ErrorResponse> notFound(String resourceName, Long id) {
+        ErrorResponse body = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ResourceNotFoundException.message(resourceName, id),
+                currentPath()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    }
+
+    private static String currentPath() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            return servlet.getRequest().getRequestURI();
+        }
+        return null;
+    }
+}
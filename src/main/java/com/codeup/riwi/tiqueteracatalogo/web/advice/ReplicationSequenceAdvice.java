@@ -0,0 +1,42 @@
+package com.codeup.riwi.tiqueteracatalogo.web.advice;
+
+import com.codeup.riwi.tiqueteracatalogo.replication.ReplicationManager;
+import com.codeup.riwi.tiqueteracatalogo.web.filter.ReplicationFilter;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Añade a las respuestas del catálogo el token de replicación visible en el nodo
+ * ({@code época:secuencia}).
+ * Se aplica justo antes de escribir el cuerpo, cuando la escritura ya se publicó en el
+ * registro de cambios, así el cliente puede pedir a un seguidor esa secuencia como mínimo.
+ */
+@ControllerAdvice
+public class ReplicationSequenceAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ReplicationManager replication;
+
+    public ReplicationSequenceAdvice(ReplicationManager replication) {
+        this.replication = replication;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return replication.getRole() != ReplicationManager.Role.STANDALONE;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request.getURI().getPath().startsWith("/api/")) {
+            response.getHeaders().set(ReplicationFilter.SEQUENCE_HEADER, replication.currentToken().toString());
+        }
+        return body;
+    }
+}
@@ -1,12 +1,21 @@
 package com.codeup.riwi.tiqueteracatalogo.web.advice;
 
+/**
+ * Recurso inexistente (404). Los controladores devuelven el 404 sin lanzarla en los
+ * casos comunes; cuando se lanza, {@link GlobalExceptionHandler} no la registra, así que
+ * se crea sin traza de pila, que es lo más caro de construirla.
+ */
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public ResourceNotFoundException(String resourceName, Long id) {
-        super(String.format("%s con ID %d no encontrado", resourceName, id));
+        super(message(resourceName, id), null, false, false);
+    }
+
+    public static String message(String resourceName, Long id) {
+        return resourceName + " con ID " + id + " no encontrado";
     }
 }
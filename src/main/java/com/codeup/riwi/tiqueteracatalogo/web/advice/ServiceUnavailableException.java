@@ -0,0 +1,11 @@
+package com.codeup.riwi.tiqueteracatalogo.web.advice;
+
+/**
+ * Servicio saturado o no disponible por ahora (503). Sin traza de pila.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,107 @@
+package com.codeup.riwi.tiqueteracatalogo.web.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Lector del formato binario, inverso de {@link BinaryWriter}.
+ */
+public class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readUnsignedVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Varint mal formado");
+    }
+
+    public long readVarLong() {
+        long raw = readUnsignedVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Lee un entero con signo; un valor fuera del rango de int es un formato mal formado
+     */
+    public int readVarInt() {
+        long value = readVarLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Entero fuera de rango: " + value);
+        }
+        return (int) value;
+    }
+
+    public double readDouble() {
+        require(8);
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | (buffer[position++] & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() {
+        int length = toLength(readUnsignedVarLong());
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Lee una fecha; una fuera del rango de {@link LocalDateTime} es un formato mal
+     * formado como cualquier otro y se informa con IllegalArgumentException
+     */
+    public LocalDateTime readDateTime() {
+        long seconds = readVarLong();
+        long nanos = readUnsignedVarLong();
+        if (nanos > 999_999_999L) {
+            throw new IllegalArgumentException("Nanosegundos fuera de rango: " + nanos);
+        }
+        try {
+            return LocalDateTime.ofEpochSecond(seconds, (int) nanos, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Fecha fuera de rango", e);
+        }
+    }
+
+    public int readLength() {
+        return toLength(readUnsignedVarLong());
+    }
+
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    private int toLength(long value) {
+        if (value < 0 || value > buffer.length - position) {
+            throw new IllegalArgumentException("Longitud fuera de rango: " + value);
+        }
+        return (int) value;
+    }
+
+    private void require(int bytes) {
+        if (position + bytes > buffer.length) {
+            throw new IllegalArgumentException("Fin inesperado del mensaje binario");
+        }
+    }
+}
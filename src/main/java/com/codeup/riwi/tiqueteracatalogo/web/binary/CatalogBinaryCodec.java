@@ -0,0 +1,180 @@
+package com.codeup.riwi.tiqueteracatalogo.web.binary;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codificación binaria compacta de los DTOs de eventos y venues.
+ * Cada objeto empieza con una máscara de bits de campos presentes (los null
+ * no ocupan espacio); IDs y enteros van como varint, fechas como segundos
+ * epoch y precios como double de 8 bytes.
+ */
+public final class CatalogBinaryCodec {
+
+    // Primer byte de cada mensaje: versión del formato
+    public static final int FORMAT_VERSION = 1;
+
+    private CatalogBinaryCodec() {
+    }
+
+    // ---- Eventos ----
+
+    public static void writeEvento(BinaryWriter out, EventoResponse e) {
+        out.writeByte(flags(e.getId(), e.getName(), e.getDescription(), e.getEventDate(),
+                e.getVenueId(), e.getCapacity(), e.getPrice()));
+        if (e.getId() != null) out.writeUnsignedVarLong(e.getId());
+        if (e.getName() != null) out.writeString(e.getName());
+        if (e.getDescription() != null) out.writeString(e.getDescription());
+        if (e.getEventDate() != null) out.writeDateTime(e.getEventDate());
+        if (e.getVenueId() != null) out.writeUnsignedVarLong(e.getVenueId());
+        if (e.getCapacity() != null) out.writeVarLong(e.getCapacity());
+        if (e.getPrice() != null) out.writeDouble(e.getPrice());
+    }
+
+    public static EventoResponse readEvento(BinaryReader in) {
+        int flags = in.readByte();
+        EventoResponse e = new EventoResponse();
+        if (has(flags, 0)) e.setId(in.readUnsignedVarLong());
+        if (has(flags, 1)) e.setName(in.readString());
+        if (has(flags, 2)) e.setDescription(in.readString());
+        if (has(flags, 3)) e.setEventDate(in.readDateTime());
+        if (has(flags, 4)) e.setVenueId(in.readUnsignedVarLong());
+        if (has(flags, 5)) e.setCapacity(in.readVarInt());
+        if (has(flags, 6)) e.setPrice(in.readDouble());
+        return e;
+    }
+
+    public static void writeEventoRequest(BinaryWriter out, EventoRequest r) {
+        out.writeByte(flags(r.getName(), r.getDescription(), r.getEventDate(),
+                r.getVenueId(), r.getCapacity(), r.getPrice()));
+        if (r.getName() != null) out.writeString(r.getName());
+        if (r.getDescription() != null) out.writeString(r.getDescription());
+        if (r.getEventDate() != null) out.writeDateTime(r.getEventDate());
+        if (r.getVenueId() != null) out.writeUnsignedVarLong(r.getVenueId());
+        if (r.getCapacity() != null) out.writeVarLong(r.getCapacity());
+        if (r.getPrice() != null) out.writeDouble(r.getPrice());
+    }
+
+    public static EventoRequest readEventoRequest(BinaryReader in) {
+        int flags = in.readByte();
+        EventoRequest r = new EventoRequest();
+        if (has(flags, 0)) r.setName(in.readString());
+        if (has(flags, 1)) r.setDescription(in.readString());
+        if (has(flags, 2)) r.setEventDate(in.readDateTime());
+        if (has(flags, 3)) r.setVenueId(in.readUnsignedVarLong());
+        if (has(flags, 4)) r.setCapacity(in.readVarInt());
+        if (has(flags, 5)) r.setPrice(in.readDouble());
+        return r;
+    }
+
+    // ---- Venues ----
+
+    public static void writeVenue(BinaryWriter out, VenueResponse v) {
+        out.writeByte(flags(v.getId(), v.getName(), v.getAddress(), v.getCity(),
+                v.getCountry(), v.getCapacity(), v.getLatitude(), v.getLongitude()));
+        if (v.getId() != null) out.writeUnsignedVarLong(v.getId());
+        if (v.getName() != null) out.writeString(v.getName());
+        if (v.getAddress() != null) out.writeString(v.getAddress());
+        if (v.getCity() != null) out.writeString(v.getCity());
+        if (v.getCountry() != null) out.writeString(v.getCountry());
+        if (v.getCapacity() != null) out.writeVarLong(v.getCapacity());
+        if (v.getLatitude() != null) out.writeDouble(v.getLatitude());
+        if (v.getLongitude() != null) out.writeDouble(v.getLongitude());
+    }
+
+    public static VenueResponse readVenue(BinaryReader in) {
+        int flags = in.readByte();
+        VenueResponse v = new VenueResponse();
+        if (has(flags, 0)) v.setId(in.readUnsignedVarLong());
+        if (has(flags, 1)) v.setName(in.readString());
+        if (has(flags, 2)) v.setAddress(in.readString());
+        if (has(flags, 3)) v.setCity(in.readString());
+        if (has(flags, 4)) v.setCountry(in.readString());
+        if (has(flags, 5)) v.setCapacity(in.readVarInt());
+        if (has(flags, 6)) v.setLatitude(in.readDouble());
+        if (has(flags, 7)) v.setLongitude(in.readDouble());
+        return v;
+    }
+
+    public static void writeVenueRequest(BinaryWriter out, VenueRequest r) {
+        out.writeByte(flags(r.getName(), r.getAddress(), r.getCity(), r.getCountry(), r.getCapacity(),
+                r.getLatitude(), r.getLongitude()));
+        if (r.getName() != null) out.writeString(r.getName());
+        if (r.getAddress() != null) out.writeString(r.getAddress());
+        if (r.getCity() != null) out.writeString(r.getCity());
+        if (r.getCountry() != null) out.writeString(r.getCountry());
+        if (r.getCapacity() != null) out.writeVarLong(r.getCapacity());
+        if (r.getLatitude() != null) out.writeDouble(r.getLatitude());
+        if (r.getLongitude() != null) out.writeDouble(r.getLongitude());
+    }
+
+    public static VenueRequest readVenueRequest(BinaryReader in) {
+        int flags = in.readByte();
+        VenueRequest r = new VenueRequest();
+        if (has(flags, 0)) r.setName(in.readString());
+        if (has(flags, 1)) r.setAddress(in.readString());
+        if (has(flags, 2)) r.setCity(in.readString());
+        if (has(flags, 3)) r.setCountry(in.readString());
+        if (has(flags, 4)) r.setCapacity(in.readVarInt());
+        if (has(flags, 5)) r.setLatitude(in.readDouble());
+        if (has(flags, 6)) r.setLongitude(in.readDouble());
+        return r;
+    }
+
+    // ---- Errores ----
+
+    public static void writeError(BinaryWriter out, ErrorResponse e) {
+        List<String> details = e.getDetails();
+        out.writeByte(flags(e.getTimestamp(), e.getError(), e.getMessage(), e.getPath(), details));
+        out.writeUnsignedVarLong(e.getStatus());
+        if (e.getTimestamp() != null) out.writeDateTime(e.getTimestamp());
+        if (e.getError() != null) out.writeString(e.getError());
+        if (e.getMessage() != null) out.writeString(e.getMessage());
+        if (e.getPath() != null) out.writeString(e.getPath());
+        if (details != null) {
+            out.writeUnsignedVarLong(details.size());
+            for (String detail : details) {
+                out.writeString(detail);
+            }
+        }
+    }
+
+    public static ErrorResponse readError(BinaryReader in) {
+        int flags = in.readByte();
+        ErrorResponse e = new ErrorResponse();
+        e.setStatus((int) in.readUnsignedVarLong());
+        e.setTimestamp(has(flags, 0) ? in.readDateTime() : null);
+        if (has(flags, 1)) e.setError(in.readString());
+        if (has(flags, 2)) e.setMessage(in.readString());
+        if (has(flags, 3)) e.setPath(in.readString());
+        if (has(flags, 4)) {
+            int size = in.readLength();
+            List<String> details = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                details.add(in.readString());
+            }
+            e.setDetails(details);
+        }
+        return e;
+    }
+
+    private static int flags(Object... values) {
+        int flags = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                flags |= 1 << i;
+            }
+        }
+        return flags;
+    }
+
+    private static boolean has(int flags, int bit) {
+        return (flags & (1 << bit)) != 0;
+    }
+}
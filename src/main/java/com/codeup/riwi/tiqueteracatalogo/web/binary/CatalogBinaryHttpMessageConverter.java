@@ -0,0 +1,174 @@
+package com.codeup.riwi.tiqueteracatalogo.web.binary;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Conversor HTTP para el formato binario del catálogo.
+ * Se activa por negociación de contenido con
+ * {@code application/vnd.tiquetera.catalog+binary} en Accept o Content-Type.
+ */
+public class CatalogBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.tiquetera.catalog+binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private static final Set<Class<?>> READABLE = Set.of(EventoRequest.class, VenueRequest.class);
+    private static final Set<Class<?>> WRITABLE = Set.of(EventoResponse.class, VenueResponse.class, ErrorResponse.class);
+
+    public CatalogBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return READABLE.contains(clazz) || WRITABLE.contains(clazz) || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        Class<?> target = readTarget(type);
+        return target != null && canRead(mediaType);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        // Solo se lee cuando el cliente declara explícitamente el formato binario
+        return mediaType != null && MEDIA_TYPE.includes(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (WRITABLE.contains(clazz)) {
+            return canWrite(mediaType);
+        }
+        if (!Collection.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        // Una lista de otro tipo (proyecciones de fields=, resultados geográficos) no se
+        // acepta y la negociación responde 406 en vez de fallar al escribir
+        Class<?> element = writeElement(type, clazz);
+        return (element == null || WRITABLE.contains(element)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return decode(type, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return decode(clazz, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        BinaryWriter out = new BinaryWriter(256);
+        out.writeByte(CatalogBinaryCodec.FORMAT_VERSION);
+        if (body instanceof Collection<?> items) {
+            out.writeUnsignedVarLong(items.size());
+            for (Object item : items) {
+                writeItem(out, item);
+            }
+        } else {
+            writeItem(out, body);
+        }
+        outputMessage.getHeaders().setContentLength(out.size());
+        outputMessage.getBody().write(out.toByteArray());
+    }
+
+    private void writeItem(BinaryWriter out, Object item) {
+        if (item instanceof EventoResponse evento) {
+            CatalogBinaryCodec.writeEvento(out, evento);
+        } else if (item instanceof VenueResponse venue) {
+            CatalogBinaryCodec.writeVenue(out, venue);
+        } else if (item instanceof ErrorResponse error) {
+            CatalogBinaryCodec.writeError(out, error);
+        } else {
+            throw new HttpMessageNotWritableException(
+                    "Tipo no soportado por el formato binario: " + (item == null ? "null" : item.getClass().getSimpleName()));
+        }
+    }
+
+    private Object decode(Type type, HttpInputMessage inputMessage) throws IOException {
+        byte[] bytes = inputMessage.getBody().readAllBytes();
+        try {
+            BinaryReader in = new BinaryReader(bytes);
+            int version = in.readByte();
+            if (version != CatalogBinaryCodec.FORMAT_VERSION) {
+                throw new IllegalArgumentException("Versión de formato no soportada: " + version);
+            }
+            Class<?> target = readTarget(type);
+            if (target == null) {
+                throw new IllegalArgumentException("Tipo no soportado por el formato binario: " + type);
+            }
+            if (Collection.class.isAssignableFrom(ResolvableType.forType(type).toClass())) {
+                int size = in.readLength();
+                List<Object> items = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    items.add(readItem(in, target));
+                }
+                return items;
+            }
+            return readItem(in, target);
+        } catch (IllegalArgumentException ex) {
+            throw new HttpMessageNotReadableException(ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    private static Object readItem(BinaryReader in, Class<?> target) {
+        return target == EventoRequest.class
+                ? CatalogBinaryCodec.readEventoRequest(in)
+                : CatalogBinaryCodec.readVenueRequest(in);
+    }
+
+    /**
+     * Resuelve el tipo de elemento de una colección a escribir: primero el declarado y,
+     * si no lo hay, el de la clase de la instancia. Solo queda sin resolver una lista
+     * sin tipo detrás de {@code ResponseEntity<?>}; son los listados de DTOs de los
+     * controladores y cada elemento se vuelve a comprobar al escribir
+     */
+    private static Class<?> writeElement(Type type, Class<?> clazz) {
+        Class<?> element = type == null ? null : ResolvableType.forType(type).asCollection().resolveGeneric(0);
+        if (element == null) {
+            element = ResolvableType.forClass(clazz).asCollection().resolveGeneric(0);
+        }
+        return element;
+    }
+
+    /**
+     * Resuelve la clase a leer, directa o como elemento de una colección
+     */
+    private static Class<?> readTarget(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        Class<?> raw = resolved.toClass();
+        if (READABLE.contains(raw)) {
+            return raw;
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            Class<?> element = resolved.asCollection().getGeneric(0).toClass();
+            return READABLE.contains(element) ? element : null;
+        }
+        return null;
+    }
+}
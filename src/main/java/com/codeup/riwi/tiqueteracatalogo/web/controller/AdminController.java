@@ -0,0 +1,226 @@
+package com.codeup.riwi.tiqueteracatalogo.web.controller;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.ReplicationMapper;
+import com.codeup.riwi.tiqueteracatalogo.replication.ReplicationManager;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import com.codeup.riwi.tiqueteracatalogo.repository.ColdEventStore;
+import com.codeup.riwi.tiqueteracatalogo.repository.TextStore;
+import com.codeup.riwi.tiqueteracatalogo.services.impl.ReadCoalescer;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.CoalescingMetricsResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.ColdStorageResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.HotKeyResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.HotKeysResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.LimiterMetricsResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.ReplicationStatusResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.TextStorageResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.filter.ConcurrencyLimits;
+import com.codeup.riwi.tiqueteracatalogo.web.support.HotKeySketch;
+import com.codeup.riwi.tiqueteracatalogo.web.support.HotKeyTracker;
+import com.codeup.riwi.tiqueteracatalogo.web.support.LimitParams;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "Admin", description = "API de métricas operativas")
+public class AdminController {
+
+    private final ConcurrencyLimits concurrencyLimits;
+    private final ReplicationManager replicationManager;
+    private final TextStore textStore;
+    private final ReadCoalescer readCoalescer;
+    private final HotKeyTracker hotKeyTracker;
+    private final ColdEventStore coldEventStore;
+
+    public AdminController(ConcurrencyLimits concurrencyLimits, ReplicationManager replicationManager,
+                           TextStore textStore, ReadCoalescer readCoalescer, HotKeyTracker hotKeyTracker,
+                           ColdEventStore coldEventStore) {
+        this.concurrencyLimits = concurrencyLimits;
+        this.replicationManager = replicationManager;
+        this.textStore = textStore;
+        this.readCoalescer = readCoalescer;
+        this.hotKeyTracker = hotKeyTracker;
+        this.coldEventStore = coldEventStore;
+    }
+
+    @Operation(
+            summary = "Métricas del limitador de concurrencia",
+            description = "Retorna límite actual, peticiones en curso, aceptadas, rechazadas y latencias de cada presupuesto"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Métricas obtenidas exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = LimiterMetricsResponse.class))
+                    )
+            )
+    })
+    @GetMapping("/limiter")
+    public ResponseEntity<List<LimiterMetricsResponse>> getLimiterMetrics() {
+        List<LimiterMetricsResponse> metrics = concurrencyLimits.all().stream()
+                .map(l -> new LimiterMetricsResponse(
+                        l.getName(),
+                        l.getLimit(),
+                        l.getInFlight(),
+                        l.getAccepted(),
+                        l.getRejected(),
+                        l.getMinRttMillis(),
+                        l.getSmoothedRttMillis()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(metrics);
+    }
+
+    @Operation(
+            summary = "Estado de la replicación",
+            description = "Retorna el rol del nodo, la secuencia aplicada, el retraso respecto al líder y, en el líder, los seguidores conectados"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estado obtenido exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ReplicationStatusResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/replication")
+    public ResponseEntity<ReplicationStatusResponse> getReplicationStatus() {
+        return ResponseEntity.ok(ReplicationMapper.toResponse(replicationManager.status()));
+    }
+
+    @Operation(
+            summary = "Uso del almacén de textos",
+            description = "Retorna el modo del almacén de descripciones y cuántos textos y bytes guarda fuera del heap"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Uso obtenido exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TextStorageResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/storage")
+    public ResponseEntity<TextStorageResponse> getTextStorage() {
+        TextStore.Stats stats = textStore.stats();
+        return ResponseEntity.ok(new TextStorageResponse(
+                stats.getMode().name().toLowerCase(Locale.ROOT),
+                stats.getTexts(),
+                stats.getBytes(),
+                stats.getReservedBytes()));
+    }
+
+    @Operation(
+            summary = "Nivel frío de eventos pasados",
+            description = "Retorna cuántos eventos pasados están en segmentos en disco, cuánto ocupan y cuántas lecturas llegaron al disco"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estado obtenido exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ColdStorageResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/cold")
+    public ResponseEntity<ColdStorageResponse> getColdStorage() {
+        ColdEventStore.Stats stats = coldEventStore.stats();
+        return ResponseEntity.ok(new ColdStorageResponse(
+                stats.isEnabled(),
+                stats.getSegments(),
+                stats.getEvents(),
+                stats.getShadowed(),
+                stats.getDiskBytes(),
+                stats.getIndexBytes(),
+                stats.getLookups(),
+                stats.getBloomSkips(),
+                stats.getBlockReads()));
+    }
+
+    @Operation(
+            summary = "Métricas de coalescencia de lecturas",
+            description = "Retorna, por grupo de lecturas, cuántas peticiones llegaron y qué fracción compartió un cálculo en curso"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Métricas obtenidas exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CoalescingMetricsResponse.class))
+                    )
+            )
+    })
+    @GetMapping("/coalescing")
+    public ResponseEntity<List<CoalescingMetricsResponse>> getCoalescingMetrics() {
+        List<CoalescingMetricsResponse> metrics = readCoalescer.all().stream()
+                .map(f -> new CoalescingMetricsResponse(
+                        f.getName(),
+                        f.getCalls(),
+                        f.getCoalesced(),
+                        f.getInFlight()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(metrics);
+    }
+
+    @Operation(
+            summary = "Eventos y venues calientes",
+            description = "Retorna, por recurso y operación, los IDs con más lecturas o escrituras en la ventana deslizante reciente"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "IDs calientes obtenidos exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = HotKeysResponse.class))
+                    )
+            )
+    })
+    @GetMapping("/hotkeys")
+    public ResponseEntity<List<HotKeysResponse>> getHotKeys(
+            @Parameter(description = "Máximo de IDs por recurso y operación", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        LimitParams.validate("limit", limit, 100);
+        long now = System.nanoTime();
+        List<HotKeysResponse> result = new ArrayList<>();
+        for (CatalogChange.Resource resource : CatalogChange.Resource.values()) {
+            for (HotKeyTracker.Operation operation : HotKeyTracker.Operation.values()) {
+                HotKeySketch sketch = hotKeyTracker.sketch(resource, operation);
+                long total = sketch.total(now);
+                List<HotKeyResponse> keys = sketch.top(limit, now).stream()
+                        .map(k -> new HotKeyResponse(k.getKey(), k.getCount(),
+                                total == 0 ? 0.0 : Math.min(1.0, (double) k.getCount() / total)))
+                        .collect(Collectors.toList());
+                result.add(new HotKeysResponse(
+                        resource.name().toLowerCase(Locale.ROOT),
+                        operation.name().toLowerCase(Locale.ROOT),
+                        TimeUnit.NANOSECONDS.toSeconds(sketch.getWindowNanos()),
+                        total,
+                        keys));
+            }
+        }
+        return ResponseEntity.ok(result);
+    }
+}
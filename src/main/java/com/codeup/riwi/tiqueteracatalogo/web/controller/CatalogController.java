@@ -0,0 +1,111 @@
+package com.codeup.riwi.tiqueteracatalogo.web.controller;
+
+import com.codeup.riwi.tiqueteracatalogo.services.ICatalogService;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ResourceNotFoundException;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.CatalogAggregatesResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.CityStatsResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueStatsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/catalog")
+@Tag(name = "Catalog", description = "API de agregados del catálogo")
+public class CatalogController {
+
+    private final ICatalogService catalogService;
+
+    public CatalogController(ICatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @Operation(
+            summary = "Obtener agregados del catálogo",
+            description = "Retorna conteos, capacidad total y precios promedio/mínimo/máximo globales, por venue y por ciudad"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Agregados obtenidos exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CatalogAggregatesResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/aggregates")
+    public ResponseEntity<CatalogAggregatesResponse> getAggregates() {
+        return ResponseEntity.ok(catalogService.getAggregates());
+    }
+
+    @Operation(
+            summary = "Obtener agregados de un venue",
+            description = "Retorna las estadísticas de los eventos de un venue específico"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estadísticas obtenidas exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = VenueStatsResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Venue no encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/aggregates/venues/{venueId}")
+    public ResponseEntity<VenueStatsResponse> getVenueAggregates(
+            @Parameter(description = "ID del venue", required = true, example = "1")
+            @PathVariable Long venueId) {
+        return catalogService.getVenueStats(venueId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("Venue", venueId));
+    }
+
+    @Operation(
+            summary = "Obtener agregados de una ciudad",
+            description = "Retorna las estadísticas de venues y eventos de una ciudad"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estadísticas obtenidas exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CityStatsResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Ciudad sin venues registrados",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/aggregates/cities/{city}")
+    public ResponseEntity<CityStatsResponse> getCityAggregates(
+            @Parameter(description = "Nombre de la ciudad", required = true, example = "Bogotá")
+            @PathVariable String city) {
+        return catalogService.getCityStats(city)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("No hay venues registrados en la ciudad %s", city)));
+    }
+}
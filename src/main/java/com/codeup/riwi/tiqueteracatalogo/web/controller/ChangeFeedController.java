@@ -0,0 +1,53 @@
+package com.codeup.riwi.tiqueteracatalogo.web.controller;
+
+import com.codeup.riwi.tiqueteracatalogo.web.dto.ChangeEventResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.support.ChangeStreamBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Changes", description = "Flujo de cambios del catálogo (Server-Sent Events)")
+public class ChangeFeedController {
+
+    private final ChangeStreamBroadcaster broadcaster;
+
+    public ChangeFeedController(ChangeStreamBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @Operation(
+            summary = "Suscribirse a cambios del catálogo",
+            description = "Envía un evento SSE por cada creación, actualización o eliminación de eventos y venues. " +
+                    "El id de cada evento es su secuencia; al reconectar con Last-Event-ID se reanuda desde ahí. " +
+                    "Si la secuencia ya no está en el buffer, o es posterior a la última (tras un reinicio), " +
+                    "se envía un evento 'reset' y el cliente debe resincronizar."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Flujo de eventos abierto",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = ChangeEventResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "503", description = "Máximo de suscriptores alcanzado")
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @Parameter(description = "Última secuencia recibida, para reanudar", example = "42")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @Parameter(description = "Alternativa a Last-Event-ID como parámetro de consulta", example = "42")
+            @RequestParam(required = false) Long since) {
+        return broadcaster.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
@@ -1,11 +1,31 @@
 package com.codeup.riwi.tiqueteracatalogo.web.controller;
 
 
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventSearchRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventSearchResponse;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoRequest;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.InventoryResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.NearbyEventResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.TicketQuantityRequest;
 import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
-import com.codeup.riwi.tiqueteracatalogo.web.advice.ResourceNotFoundException;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponses;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.BinaryWriter;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.CatalogBinaryCodec;
 import com.codeup.riwi.tiqueteracatalogo.services.IEventoService;
+import com.codeup.riwi.tiqueteracatalogo.services.IInventarioService;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import com.codeup.riwi.tiqueteracatalogo.repository.EventoRepository;
+import com.codeup.riwi.tiqueteracatalogo.repository.SortKey;
+import com.codeup.riwi.tiqueteracatalogo.web.support.CompressedResponseCache;
+import com.codeup.riwi.tiqueteracatalogo.web.support.GeoParams;
+import com.codeup.riwi.tiqueteracatalogo.web.support.HeavyRequestExecutor;
+import com.codeup.riwi.tiqueteracatalogo.web.support.HotKeyTracker;
+import com.codeup.riwi.tiqueteracatalogo.web.support.IdempotencyCache;
+import com.codeup.riwi.tiqueteracatalogo.web.support.LimitParams;
+import com.codeup.riwi.tiqueteracatalogo.web.support.PageCursor;
+import com.codeup.riwi.tiqueteracatalogo.web.support.SortParams;
+import com.codeup.riwi.tiqueteracatalogo.web.support.SparseFieldset;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,26 +35,47 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/events")
 @Tag(name = "Events", description = "API para gestión de eventos")
 public class EventController {
 
+    // Tamaño máximo de una página ordenada
+    private static final int MAX_PAGE = 1000;
+
     private final IEventoService eventoService;
+    private final IInventarioService inventarioService;
+    private final CompressedResponseCache compressedCache;
+    private final HeavyRequestExecutor heavyExecutor;
+    private final HotKeyTracker hotKeys;
+    private final IdempotencyCache idempotency;
 
-    public EventController(IEventoService eventoService) {
+    public EventController(IEventoService eventoService, IInventarioService inventarioService,
+                           CompressedResponseCache compressedCache, HeavyRequestExecutor heavyExecutor,
+                           HotKeyTracker hotKeys, IdempotencyCache idempotency) {
         this.eventoService = eventoService;
+        this.inventarioService = inventarioService;
+        this.compressedCache = compressedCache;
+        this.heavyExecutor = heavyExecutor;
+        this.hotKeys = hotKeys;
+        this.idempotency = idempotency;
     }
 
     @Operation(
             summary = "Obtener todos los eventos",
-            description = "Retorna una lista completa de todos los eventos registrados en el sistema"
+            description = "Retorna una lista completa de todos los eventos registrados en el sistema. "
+                    + "Con sort, limit o cursor devuelve una página ordenada; si hay más filas, "
+                    + "el encabezado X-Next-Cursor trae el cursor de la siguiente"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -50,9 +91,32 @@ public class EventController {
             )
     })
     @GetMapping
-    public ResponseEntity<List<EventoResponse>> getAllEvents() {
-        List<EventoResponse> events = eventoService.getAllEventos();
-        return ResponseEntity.ok(events);
+    public CompletableFuture<ResponseEntity<?>> getAllEvents(
+            @Parameter(description = "Campos a incluir separados por coma (ej. id,name,eventDate,price)", example = "id,name,eventDate,price")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Orden: campos (id, name, eventDate, price, capacity) seguidos opcionalmente de asc o desc", example = "price,desc,name")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Máximo de eventos de la página (1-1000)", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor devuelto en X-Next-Cursor por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (sort != null || limit != null || cursor != null) {
+            return sortedEvents(sort, limit, cursor, fields);
+        }
+        // El listado completo se genera y serializa en el pool de peticiones pesadas
+        return heavyExecutor.submit(() -> {
+            if (compressedCache.accepts(acceptEncoding, accept)) {
+                return compressedCache.respond("events?fields=" + fields, eventoService.getEventosVersion(),
+                        () -> select(eventoService.getAllEventos(), fields));
+            }
+            List<EventoResponse> events = eventoService.getAllEventos();
+            if (CompressedResponseCache.acceptsJson(accept)) {
+                return compressedCache.render(select(events, fields));
+            }
+            return ResponseEntity.ok(select(events, fields));
+        });
     }
 
     @Operation(
@@ -84,12 +148,22 @@ public class EventController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<EventoResponse> getEventById(
+    public ResponseEntity<?> getEventById(
             @Parameter(description = "ID del evento a buscar", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "Campos a incluir separados por coma", example = "id,name,eventDate,price")
+            @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        hotKeys.recordRead(CatalogChange.Resource.EVENTO, id);
+        if (!SparseFieldset.isRequested(fields) && CompressedResponseCache.acceptsJson(accept)) {
+            // Evento completo en JSON: las peticiones simultáneas comparten la serialización
+            return eventoService.getEventoJsonById(id)
+                    .<ResponseEntity<?>>map(EventController::json)
+                    .orElseGet(() -> ErrorResponses.notFound("Evento", id));
+        }
         return eventoService.getEventoById(id)
-                .map(ResponseEntity::ok)
-                .orElseThrow(() -> new ResourceNotFoundException("Evento", id));
+                .<ResponseEntity<?>>map(event -> ResponseEntity.ok(select(event, fields)))
+                .orElseGet(() -> ErrorResponses.notFound("Evento", id));
     }
 
     @Operation(
@@ -118,6 +192,14 @@ public class EventController {
                                     value = "{\"timestamp\":\"2025-10-28T10:30:00\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"Error de validación en los datos enviados\",\"path\":\"/api/events\",\"details\":[\"name: El nombre del evento es obligatorio\"]}"
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Idempotency-Key reutilizada con otros datos o con la petición original aún en curso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             )
     })
     @PostMapping
@@ -132,9 +214,37 @@ public class EventController {
                             )
                     )
             )
-            @Valid @RequestBody EventoRequest request) {
+            @Valid @RequestBody EventoRequest request,
+            @Parameter(description = "Clave única del cliente para reintentar sin crear duplicados", example = "3f2b8c1e-7a4d-4d0e-9c55-1b2f6a9e0d47")
+            @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(create(request));
+        }
+        BinaryWriter body = new BinaryWriter(128);
+        CatalogBinaryCodec.writeEventoRequest(body, request);
+        IdempotencyCache.Outcome<EventoResponse> outcome =
+                idempotency.execute("events", idempotencyKey, body.toByteArray(), () -> {
+                    EventoResponse created = create(request);
+                    // La respuesta se repite durante horas: la descripción se decodifica ya,
+                    // antes de que su hueco fuera del heap pueda reutilizarse
+                    created.getDescription();
+                    return created;
+                });
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IdempotencyCache.REPLAYED_HEADER, String.valueOf(outcome.isReplayed()))
+                .body(outcome.getValue());
+    }
+
+    private EventoResponse create(EventoRequest request) {
         EventoResponse created = eventoService.createEvento(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        hotKeys.recordWrite(CatalogChange.Resource.EVENTO, created.getId());
+        return created;
+    }
+
+    // Solo cuenta para las claves calientes la escritura que se aplicó
+    private <T> T recorded(Long id, T result) {
+        hotKeys.recordWrite(CatalogChange.Resource.EVENTO, id);
+        return result;
     }
 
     @Operation(
@@ -168,7 +278,7 @@ public class EventController {
             )
     })
     @PutMapping("/{id}")
-    public ResponseEntity<EventoResponse> updateEvent(
+    public ResponseEntity<?> updateEvent(
             @Parameter(description = "ID del evento a actualizar", required = true, example = "1")
             @PathVariable Long id,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -183,8 +293,9 @@ public class EventController {
             )
             @Valid @RequestBody EventoRequest request) {
         return eventoService.updateEvento(id, request)
-                .map(ResponseEntity::ok)
-                .orElseThrow(() -> new ResourceNotFoundException("Evento", id));
+                .map(result -> recorded(id, result))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ErrorResponses.notFound("Evento", id));
     }
 
     @Operation(
@@ -206,13 +317,14 @@ public class EventController {
             )
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEvent(
+    public ResponseEntity<?> deleteEvent(
             @Parameter(description = "ID del evento a eliminar", required = true, example = "1")
             @PathVariable Long id) {
         boolean deleted = eventoService.deleteEvento(id);
         if (!deleted) {
-            throw new ResourceNotFoundException("Evento", id);
+            return ErrorResponses.notFound("Evento", id);
         }
+        hotKeys.recordWrite(CatalogChange.Resource.EVENTO, id);
         return ResponseEntity.noContent().build();
     }
 
@@ -231,10 +343,249 @@ public class EventController {
             )
     })
     @GetMapping("/venue/{venueId}")
-    public ResponseEntity<List<EventoResponse>> getEventsByVenueId(
+    public ResponseEntity<?> getEventsByVenueId(
             @Parameter(description = "ID del venue", required = true, example = "1")
-            @PathVariable Long venueId) {
+            @PathVariable Long venueId,
+            @Parameter(description = "Campos a incluir separados por coma", example = "id,name,eventDate,price")
+            @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        hotKeys.recordRead(CatalogChange.Resource.VENUE, venueId);
+        if (compressedCache.accepts(acceptEncoding, accept)) {
+            return compressedCache.respond("events/venue/" + venueId + "?fields=" + fields,
+                    eventoService.getEventosVersionByVenueId(venueId),
+                    () -> select(eventoService.getEventosByVenueId(venueId), fields));
+        }
         List<EventoResponse> events = eventoService.getEventosByVenueId(venueId);
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok(select(events, fields));
+    }
+
+    @Operation(
+            summary = "Buscar eventos",
+            description = "Combina filtros por venue, ciudad, rango de fechas, precio y capacidad con orden y límite. "
+                    + "Con explain=true incluye el plan elegido y las filas examinadas"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Búsqueda realizada exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EventSearchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Filtros inválidos",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<EventSearchResponse>> searchEvents(@Valid @ParameterObject EventSearchRequest request) {
+        return heavyExecutor.submit(() -> {
+            EventSearchResponse response = eventoService.searchEventos(request);
+            if (SparseFieldset.isRequested(request.getFields())) {
+                @SuppressWarnings("unchecked")
+                List<EventoResponse> events = (List<EventoResponse>) response.getResults();
+                response.setResults(SparseFieldset.EVENTOS.plan(request.getFields()).applyAll(events));
+            }
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    @Operation(
+            summary = "Obtener eventos próximos cercanos",
+            description = "Retorna los eventos futuros en venues dentro de un radio alrededor de un punto, ordenados por fecha"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lista de eventos obtenida exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = NearbyEventResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Coordenadas, radio o límite inválidos",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyEventResponse>> getUpcomingEventsNearby(
+            @Parameter(description = "Latitud del punto", required = true, example = "4.6584")
+            @RequestParam double lat,
+            @Parameter(description = "Longitud del punto", required = true, example = "-74.0937")
+            @RequestParam double lon,
+            @Parameter(description = "Radio de búsqueda en kilómetros", example = "10")
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @Parameter(description = "Máximo de eventos a retornar", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        GeoParams.validate(lat, lon, radiusKm);
+        LimitParams.validate("limit", limit, 500);
+        return ResponseEntity.ok(eventoService.getUpcomingEventosNear(lat, lon, radiusKm, limit));
+    }
+
+    @Operation(
+            summary = "Obtener inventario de boletas",
+            description = "Retorna la capacidad, las boletas vendidas y las disponibles de un evento"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Inventario obtenido exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = InventoryResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Evento no encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/{id}/tickets")
+    public ResponseEntity<?> getTickets(
+            @Parameter(description = "ID del evento", required = true, example = "1")
+            @PathVariable Long id) {
+        hotKeys.recordRead(CatalogChange.Resource.EVENTO, id);
+        return inventarioService.getInventory(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ErrorResponses.notFound("Evento", id));
+    }
+
+    @Operation(
+            summary = "Vender boletas",
+            description = "Descuenta boletas del inventario del evento de forma atómica; nunca vende más de la capacidad"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Boletas vendidas exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = InventoryResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Evento no encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "No hay boletas suficientes",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/{id}/tickets/sell")
+    public ResponseEntity<?> sellTickets(
+            @Parameter(description = "ID del evento", required = true, example = "1")
+            @PathVariable Long id,
+            @Valid @RequestBody TicketQuantityRequest request) {
+        return inventarioService.sell(id, request.getQuantity())
+                .map(result -> recorded(id, result))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ErrorResponses.notFound("Evento", id));
+    }
+
+    @Operation(
+            summary = "Liberar boletas",
+            description = "Devuelve boletas vendidas al inventario del evento (devoluciones o cancelaciones)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Boletas liberadas exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = InventoryResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Evento no encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Se intentan liberar más boletas de las vendidas",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/{id}/tickets/release")
+    public ResponseEntity<?> releaseTickets(
+            @Parameter(description = "ID del evento", required = true, example = "1")
+            @PathVariable Long id,
+            @Valid @RequestBody TicketQuantityRequest request) {
+        return inventarioService.release(id, request.getQuantity())
+                .map(result -> recorded(id, result))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ErrorResponses.notFound("Evento", id));
+    }
+
+    private CompletableFuture<ResponseEntity<?>> sortedEvents(String sort, Integer limit, String cursor, String fields) {
+        List<SortKey> keys = SortParams.parse(sort, EventoRepository.sortFields());
+        if (keys.isEmpty()) {
+            keys = List.of(new SortKey("id", false));
+        }
+        if (limit != null) {
+            LimitParams.validate("limit", limit, MAX_PAGE);
+        }
+        List<SortKey> order = keys;
+        String canonical = SortParams.format(order);
+        EventoResponse after = cursor == null ? null : PageCursor.decodeEvento(cursor, canonical);
+        if (limit == null) {
+            // Sin límite es el catálogo completo ordenado: va al pool de peticiones pesadas
+            return heavyExecutor.submit(() -> ResponseEntity.ok(
+                    select(eventoService.getEventosSorted(order, after, Integer.MAX_VALUE), fields)));
+        }
+        List<EventoResponse> page = eventoService.getEventosSorted(order, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == limit) {
+            response.header(PageCursor.NEXT_HEADER, PageCursor.encode(canonical, page.get(page.size() - 1)));
+        }
+        return CompletableFuture.completedFuture(response.body(select(page, fields)));
+    }
+
+    private static ResponseEntity<byte[]> json(byte[] body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static Object select(List<EventoResponse> events, String fields) {
+        if (!SparseFieldset.isRequested(fields)) {
+            return events;
+        }
+        return SparseFieldset.EVENTOS.plan(fields).applyAll(events);
+    }
+
+    private static Object select(EventoResponse event, String fields) {
+        if (!SparseFieldset.isRequested(fields)) {
+            return event;
+        }
+        return SparseFieldset.EVENTOS.plan(fields).apply(event);
     }
 }
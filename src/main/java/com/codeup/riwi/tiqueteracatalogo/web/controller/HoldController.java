@@ -0,0 +1,188 @@
+package com.codeup.riwi.tiqueteracatalogo.web.controller;
+
+import com.codeup.riwi.tiqueteracatalogo.services.IReservaService;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ResourceNotFoundException;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.HoldRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.HoldResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/holds")
+@Tag(name = "Holds", description = "API de reservas temporales de boletas")
+public class HoldController {
+
+    private final IReservaService reservaService;
+
+    public HoldController(IReservaService reservaService) {
+        this.reservaService = reservaService;
+    }
+
+    @Operation(
+            summary = "Crear reserva",
+            description = "Retiene boletas de un evento durante ttlSeconds; si no se confirma a tiempo las boletas vuelven al inventario"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Reserva creada exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = HoldResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Evento no encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "No hay boletas suficientes",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping
+    public ResponseEntity<HoldResponse> createHold(@Valid @RequestBody HoldRequest request) {
+        return reservaService.createHold(request)
+                .map(hold -> ResponseEntity.status(HttpStatus.CREATED).body(hold))
+                .orElseThrow(() -> new ResourceNotFoundException("Evento", request.getEventId()));
+    }
+
+    @Operation(
+            summary = "Obtener reserva",
+            description = "Retorna el estado de una reserva; las reservas terminadas se conservan un tiempo antes de descartarse"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Reserva encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = HoldResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Reserva no encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<HoldResponse> getHold(
+            @Parameter(description = "ID de la reserva", required = true)
+            @PathVariable String id) {
+        return reservaService.getHold(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    @Operation(
+            summary = "Confirmar reserva",
+            description = "Convierte las boletas retenidas en vendidas; repetir la confirmación es idempotente"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Reserva confirmada exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = HoldResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Reserva no encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "La reserva ya venció o fue cancelada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<HoldResponse> confirmHold(
+            @Parameter(description = "ID de la reserva", required = true)
+            @PathVariable String id) {
+        return reservaService.confirmHold(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    @Operation(
+            summary = "Cancelar reserva",
+            description = "Devuelve las boletas retenidas al inventario; cancelar una reserva ya cancelada o vencida no tiene efecto"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Reserva cancelada exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = HoldResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Reserva no encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "La reserva ya fue confirmada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<HoldResponse> cancelHold(
+            @Parameter(description = "ID de la reserva", required = true)
+            @PathVariable String id) {
+        return reservaService.cancelHold(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    private static ResourceNotFoundException notFound(String id) {
+        return new ResourceNotFoundException("Reserva con ID " + id + " no encontrada");
+    }
+}
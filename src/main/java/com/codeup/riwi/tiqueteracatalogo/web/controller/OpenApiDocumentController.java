@@ -0,0 +1,58 @@
+package com.codeup.riwi.tiqueteracatalogo.web.controller;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Sirve el documento OpenAPI generado durante el build cuando springdoc está
+ * desactivado (perfil prod). Es el mismo JSON que produce springdoc en desarrollo,
+ * pero sin escanear los controladores al arrancar ni en la primera petición.
+ * El documento lo escribe {@code OpenApiDocumentGenerator} en la fase prepare-package de Maven.
+ */
+@Hidden
+@RestController
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "false")
+public class OpenApiDocumentController {
+
+    public static final String DOCUMENT = "openapi/openapi.json";
+
+    // null si las clases no se empaquetaron (p. ej. con spring-boot:run)
+    private final byte[] document;
+
+    public OpenApiDocumentController() {
+        ClassPathResource resource = new ClassPathResource(DOCUMENT);
+        if (!resource.exists()) {
+            this.document = null;
+            return;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            this.document = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer " + DOCUMENT, e);
+        }
+    }
+
+    @GetMapping(value = "${springdoc.api-docs.path:/v3/api-docs}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getDocument() {
+        if (document == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    "El documento OpenAPI no se generó en este build",
+                    "/v3/api-docs"
+            ));
+        }
+        return ResponseEntity.ok(document);
+    }
+}
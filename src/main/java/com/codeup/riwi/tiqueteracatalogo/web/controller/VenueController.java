@@ -1,10 +1,25 @@
 package com.codeup.riwi.tiqueteracatalogo.web.controller;
 
+import com.codeup.riwi.tiqueteracatalogo.web.dto.NearbyVenueResponse;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueRequest;
 import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
 import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
-import com.codeup.riwi.tiqueteracatalogo.web.advice.ResourceNotFoundException;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponses;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.BinaryWriter;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.CatalogBinaryCodec;
 import com.codeup.riwi.tiqueteracatalogo.services.IVenueService;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import com.codeup.riwi.tiqueteracatalogo.repository.SortKey;
+import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
+import com.codeup.riwi.tiqueteracatalogo.web.support.CompressedResponseCache;
+import com.codeup.riwi.tiqueteracatalogo.web.support.GeoParams;
+import com.codeup.riwi.tiqueteracatalogo.web.support.HeavyRequestExecutor;
+import com.codeup.riwi.tiqueteracatalogo.web.support.HotKeyTracker;
+import com.codeup.riwi.tiqueteracatalogo.web.support.IdempotencyCache;
+import com.codeup.riwi.tiqueteracatalogo.web.support.LimitParams;
+import com.codeup.riwi.tiqueteracatalogo.web.support.PageCursor;
+import com.codeup.riwi.tiqueteracatalogo.web.support.SortParams;
+import com.codeup.riwi.tiqueteracatalogo.web.support.SparseFieldset;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,30 +29,60 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/venues")
 @Tag(name = "Venues", description = "API para gestión de lugares/venues")
 public class VenueController {
+        // Tamaño máximo de una página ordenada
+        private static final int MAX_PAGE = 1000;
+
         private final IVenueService venueService;
+        private final CompressedResponseCache compressedCache;
+        private final HeavyRequestExecutor heavyExecutor;
+        private final HotKeyTracker hotKeys;
+        private final IdempotencyCache idempotency;
 
-        public VenueController(IVenueService venueService) {
+        public VenueController(IVenueService venueService, CompressedResponseCache compressedCache,
+                        HeavyRequestExecutor heavyExecutor, HotKeyTracker hotKeys, IdempotencyCache idempotency) {
                 this.venueService = venueService;
+                this.compressedCache = compressedCache;
+                this.heavyExecutor = heavyExecutor;
+                this.hotKeys = hotKeys;
+                this.idempotency = idempotency;
         }
 
-        @Operation(summary = "Obtener todos los venues", description = "Retorna una lista completa de todos los venues registrados en el sistema")
+        @Operation(summary = "Obtener todos los venues", description = "Retorna una lista completa de todos los venues registrados en el sistema. Con sort, limit o cursor devuelve una página ordenada; si hay más filas, el encabezado X-Next-Cursor trae el cursor de la siguiente")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = VenueResponse.class), examples = @ExampleObject(value = "[{\"id\":1,\"name\":\"Teatro Nacional\",\"address\":\"Calle 71 #10-25\",\"city\":\"Bogotá\",\"country\":\"Colombia\",\"capacity\":1500}]")))
         })
         @GetMapping
-        public ResponseEntity<List<VenueResponse>> getAllVenues() {
-                List<VenueResponse> venues = venueService.getAllVenues();
-                return ResponseEntity.ok(venues);
+        public CompletableFuture<ResponseEntity<?>> getAllVenues(
+                        @Parameter(description = "Campos a incluir separados por coma (ej. id,name,city)", example = "id,name,city") @RequestParam(required = false) String fields,
+                        @Parameter(description = "Orden: campos (id, name, city, country, capacity) seguidos opcionalmente de asc o desc", example = "city,asc,capacity,desc") @RequestParam(required = false) String sort,
+                        @Parameter(description = "Máximo de venues de la página (1-1000)", example = "50") @RequestParam(required = false) Integer limit,
+                        @Parameter(description = "Cursor devuelto en X-Next-Cursor por la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                if (sort != null || limit != null || cursor != null) {
+                        return sortedVenues(sort, limit, cursor, fields);
+                }
+                return heavyExecutor.submit(() -> {
+                        if (CompressedResponseCache.acceptsJson(accept)) {
+                                if (!SparseFieldset.isRequested(fields)) {
+                                        return json(venueService.getAllVenuesJson());
+                                }
+                                return compressedCache.render(select(venueService.getAllVenues(), fields));
+                        }
+                        return ResponseEntity.ok(select(venueService.getAllVenues(), fields));
+                });
         }
 
         @Operation(summary = "Obtener venue por ID", description = "Retorna un venue específico buscado por su identificador único")
@@ -46,23 +91,54 @@ public class VenueController {
                         @ApiResponse(responseCode = "404", description = "Venue no encontrado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class), examples = @ExampleObject(value = "{\"timestamp\":\"2025-10-28T10:30:00\",\"status\":404,\"error\":\"Not Found\",\"message\":\"Venue con ID 999 no encontrado\",\"path\":\"/api/venues/999\"}")))
         })
         @GetMapping("/{id}")
-        public ResponseEntity<VenueResponse> getVenueById(
-                        @Parameter(description = "ID del venue a buscar", required = true, example = "1") @PathVariable Long id) {
+        public ResponseEntity<?> getVenueById(
+                        @Parameter(description = "ID del venue a buscar", required = true, example = "1") @PathVariable Long id,
+                        @Parameter(description = "Campos a incluir separados por coma", example = "id,name,city") @RequestParam(required = false) String fields,
+                        @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                hotKeys.recordRead(CatalogChange.Resource.VENUE, id);
+                if (!SparseFieldset.isRequested(fields) && CompressedResponseCache.acceptsJson(accept)) {
+                        // Venue completo en JSON: las peticiones simultáneas comparten la serialización
+                        return venueService.getVenueJsonById(id)
+                                        .<ResponseEntity<?>>map(VenueController::json)
+                                        .orElseGet(() -> ErrorResponses.notFound("Venue", id));
+                }
                 return venueService.getVenueById(id)
-                                .map(ResponseEntity::ok)
-                                .orElseThrow(() -> new ResourceNotFoundException("Venue", id));
+                                .<ResponseEntity<?>>map(venue -> ResponseEntity.ok(select(venue, fields)))
+                                .orElseGet(() -> ErrorResponses.notFound("Venue", id));
         }
 
         @Operation(summary = "Crear nuevo venue", description = "Crea un nuevo venue en el sistema con la información proporcionada")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "201", description = "Venue creado exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = VenueResponse.class), examples = @ExampleObject(value = "{\"id\":1,\"name\":\"Teatro Nacional\",\"address\":\"Calle 71 #10-25\",\"city\":\"Bogotá\",\"country\":\"Colombia\",\"capacity\":1500}"))),
-                        @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class), examples = @ExampleObject(value = "{\"timestamp\":\"2025-10-28T10:30:00\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"Error de validación en los datos enviados\",\"path\":\"/api/venues\",\"details\":[\"name: El nombre del venue es obligatorio\"]}")))
+                        @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class), examples = @ExampleObject(value = "{\"timestamp\":\"2025-10-28T10:30:00\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"Error de validación en los datos enviados\",\"path\":\"/api/venues\",\"details\":[\"name: El nombre del venue es obligatorio\"]}"))),
+                        @ApiResponse(responseCode = "409", description = "Idempotency-Key reutilizada con otros datos o con la petición original aún en curso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
         })
         @PostMapping
         public ResponseEntity<VenueResponse> createVenue(
-                        @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Datos del venue a crear", required = true, content = @Content(schema = @Schema(implementation = VenueRequest.class), examples = @ExampleObject(value = "{\"name\":\"Movistar Arena\",\"address\":\"Calle 61 #50-20\",\"city\":\"Bogotá\",\"country\":\"Colombia\",\"capacity\":14000}"))) @Valid @RequestBody VenueRequest request) {
+                        @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Datos del venue a crear", required = true, content = @Content(schema = @Schema(implementation = VenueRequest.class), examples = @ExampleObject(value = "{\"name\":\"Movistar Arena\",\"address\":\"Calle 61 #50-20\",\"city\":\"Bogotá\",\"country\":\"Colombia\",\"capacity\":14000}"))) @Valid @RequestBody VenueRequest request,
+                        @Parameter(description = "Clave única del cliente para reintentar sin crear duplicados", example = "3f2b8c1e-7a4d-4d0e-9c55-1b2f6a9e0d47") @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey) {
+                if (idempotencyKey == null) {
+                        return ResponseEntity.status(HttpStatus.CREATED).body(create(request));
+                }
+                BinaryWriter body = new BinaryWriter(128);
+                CatalogBinaryCodec.writeVenueRequest(body, request);
+                IdempotencyCache.Outcome<VenueResponse> outcome =
+                                idempotency.execute("venues", idempotencyKey, body.toByteArray(), () -> create(request));
+                return ResponseEntity.status(HttpStatus.CREATED)
+                                .header(IdempotencyCache.REPLAYED_HEADER, String.valueOf(outcome.isReplayed()))
+                                .body(outcome.getValue());
+        }
+
+        private VenueResponse create(VenueRequest request) {
                 VenueResponse created = venueService.createVenue(request);
-                return ResponseEntity.status(HttpStatus.CREATED).body(created);
+                hotKeys.recordWrite(CatalogChange.Resource.VENUE, created.getId());
+                return created;
+        }
+
+        // Solo cuenta para las claves calientes la escritura que se aplicó
+        private <T> T recorded(Long id, T result) {
+                hotKeys.recordWrite(CatalogChange.Resource.VENUE, id);
+                return result;
         }
 
         @Operation(summary = "Actualizar venue existente", description = "Actualiza completamente la información de un venue existente")
@@ -72,12 +148,13 @@ public class VenueController {
                         @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
         })
         @PutMapping("/{id}")
-        public ResponseEntity<VenueResponse> updateVenue(
+        public ResponseEntity<?> updateVenue(
                         @Parameter(description = "ID del venue a actualizar", required = true, example = "1") @PathVariable Long id,
                         @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Nuevos datos del venue", required = true, content = @Content(schema = @Schema(implementation = VenueRequest.class), examples = @ExampleObject(value = "{\"name\":\"Movistar Arena Renovado\",\"address\":\"Calle 61 #50-20\",\"city\":\"Bogotá\",\"country\":\"Colombia\",\"capacity\":15000}"))) @Valid @RequestBody VenueRequest request) {
                 return venueService.updateVenue(id, request)
-                                .map(ResponseEntity::ok)
-                                .orElseThrow(() -> new ResourceNotFoundException("Venue", id));
+                                .map(result -> recorded(id, result))
+                                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                                .orElseGet(() -> ErrorResponses.notFound("Venue", id));
         }
 
         @Operation(summary = "Eliminar venue", description = "Elimina permanentemente un venue del sistema")
@@ -86,12 +163,13 @@ public class VenueController {
                         @ApiResponse(responseCode = "404", description = "Venue no encontrado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
         })
         @DeleteMapping("/{id}")
-        public ResponseEntity<Void> deleteVenue(
+        public ResponseEntity<?> deleteVenue(
                         @Parameter(description = "ID del venue a eliminar", required = true, example = "1") @PathVariable Long id) {
                 boolean deleted = venueService.deleteVenue(id);
                 if (!deleted) {
-                        throw new ResourceNotFoundException("Venue", id);
+                        return ErrorResponses.notFound("Venue", id);
                 }
+                hotKeys.recordWrite(CatalogChange.Resource.VENUE, id);
                 return ResponseEntity.noContent().build();
         }
 
@@ -100,9 +178,80 @@ public class VenueController {
                         @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = VenueResponse.class)))
         })
         @GetMapping("/city/{city}")
-        public ResponseEntity<List<VenueResponse>> getVenuesByCity(
-                        @Parameter(description = "Nombre de la ciudad", required = true, example = "Bogotá") @PathVariable String city) {
+        public ResponseEntity<?> getVenuesByCity(
+                        @Parameter(description = "Nombre de la ciudad", required = true, example = "Bogotá") @PathVariable String city,
+                        @Parameter(description = "Campos a incluir separados por coma", example = "id,name,city") @RequestParam(required = false) String fields) {
                 List<VenueResponse> venues = venueService.getVenuesByCity(city);
-                return ResponseEntity.ok(venues);
+                return ResponseEntity.ok(select(venues, fields));
+        }
+
+        @Operation(summary = "Obtener venues cercanos", description = "Retorna los venues dentro de un radio alrededor de un punto, ordenados por distancia")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = NearbyVenueResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Coordenadas o radio inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @GetMapping("/nearby")
+        public ResponseEntity<List<NearbyVenueResponse>> getVenuesNearby(
+                        @Parameter(description = "Latitud del punto", required = true, example = "4.6584") @RequestParam double lat,
+                        @Parameter(description = "Longitud del punto", required = true, example = "-74.0937") @RequestParam double lon,
+                        @Parameter(description = "Radio de búsqueda en kilómetros", example = "5") @RequestParam(defaultValue = "5") double radiusKm) {
+                GeoParams.validate(lat, lon, radiusKm);
+                return ResponseEntity.ok(venueService.getVenuesWithinRadius(lat, lon, radiusKm));
+        }
+
+        @Operation(summary = "Obtener los venues más cercanos", description = "Retorna los k venues más cercanos a un punto, ordenados por distancia")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = NearbyVenueResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Coordenadas o k inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @GetMapping("/nearest")
+        public ResponseEntity<List<NearbyVenueResponse>> getNearestVenues(
+                        @Parameter(description = "Latitud del punto", required = true, example = "4.6584") @RequestParam double lat,
+                        @Parameter(description = "Longitud del punto", required = true, example = "-74.0937") @RequestParam double lon,
+                        @Parameter(description = "Número de venues a retornar", example = "5") @RequestParam(defaultValue = "5") int k) {
+                GeoParams.validate(lat, lon);
+                LimitParams.validate("k", k, 100);
+                return ResponseEntity.ok(venueService.getNearestVenues(lat, lon, k));
+        }
+
+        private CompletableFuture<ResponseEntity<?>> sortedVenues(String sort, Integer limit, String cursor, String fields) {
+                List<SortKey> keys = SortParams.parse(sort, VenueRepository.sortFields());
+                if (keys.isEmpty()) {
+                        keys = List.of(new SortKey("id", false));
+                }
+                if (limit != null) {
+                        LimitParams.validate("limit", limit, MAX_PAGE);
+                }
+                List<SortKey> order = keys;
+                String canonical = SortParams.format(order);
+                VenueResponse after = cursor == null ? null : PageCursor.decodeVenue(cursor, canonical);
+                if (limit == null) {
+                        return heavyExecutor.submit(() -> ResponseEntity.ok(
+                                        select(venueService.getVenuesSorted(order, after, Integer.MAX_VALUE), fields)));
+                }
+                List<VenueResponse> page = venueService.getVenuesSorted(order, after, limit);
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                if (page.size() == limit) {
+                        response.header(PageCursor.NEXT_HEADER, PageCursor.encode(canonical, page.get(page.size() - 1)));
+                }
+                return CompletableFuture.completedFuture(response.body(select(page, fields)));
+        }
+
+        private static ResponseEntity<byte[]> json(byte[] body) {
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
+        private static Object select(List<VenueResponse> venues, String fields) {
+                if (!SparseFieldset.isRequested(fields)) {
+                        return venues;
+                }
+                return SparseFieldset.VENUES.plan(fields).applyAll(venues);
+        }
+
+        private static Object select(VenueResponse venue, String fields) {
+                if (!SparseFieldset.isRequested(fields)) {
+                        return venue;
+                }
+                return SparseFieldset.VENUES.plan(fields).apply(venue);
         }
 }
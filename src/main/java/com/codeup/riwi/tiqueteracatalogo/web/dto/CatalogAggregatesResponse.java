@@ -0,0 +1,69 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO con los agregados de todo el catálogo.
+ */
+@Schema(description = "Agregados del catálogo global, por venue y por ciudad")
+public class CatalogAggregatesResponse {
+
+    @Schema(description = "Número total de venues", example = "5")
+    private long venueCount;
+
+    @Schema(description = "Estadísticas de todos los eventos")
+    private EventStatsResponse events;
+
+    @Schema(description = "Estadísticas por venue")
+    private List<VenueStatsResponse> venues;
+
+    @Schema(description = "Estadísticas por ciudad")
+    private List<CityStatsResponse> cities;
+
+    // Constructores
+    public CatalogAggregatesResponse() {
+    }
+
+    public CatalogAggregatesResponse(long venueCount, EventStatsResponse events,
+                                     List<VenueStatsResponse> venues, List<CityStatsResponse> cities) {
+        this.venueCount = venueCount;
+        this.events = events;
+        this.venues = venues;
+        this.cities = cities;
+    }
+
+    // Getters y Setters
+    public long getVenueCount() {
+        return venueCount;
+    }
+
+    public void setVenueCount(long venueCount) {
+        this.venueCount = venueCount;
+    }
+
+    public EventStatsResponse getEvents() {
+        return events;
+    }
+
+    public void setEvents(EventStatsResponse events) {
+        this.events = events;
+    }
+
+    public List<VenueStatsResponse> getVenues() {
+        return venues;
+    }
+
+    public void setVenues(List<VenueStatsResponse> venues) {
+        this.venues = venues;
+    }
+
+    public List<CityStatsResponse> getCities() {
+        return cities;
+    }
+
+    public void setCities(List<CityStatsResponse> cities) {
+        this.cities = cities;
+    }
+}
@@ -0,0 +1,93 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de un cambio del catálogo enviado por el flujo de eventos.
+ */
+@Schema(description = "Notificación de creación, actualización o eliminación en el catálogo")
+public class ChangeEventResponse {
+
+    @Schema(description = "Secuencia global del cambio, usada como Last-Event-ID", example = "42")
+    private long sequence;
+
+    @Schema(description = "Recurso afectado", example = "EVENTO")
+    private String resource;
+
+    @Schema(description = "Tipo de cambio", example = "UPDATED")
+    private String type;
+
+    @Schema(description = "ID del recurso afectado", example = "1")
+    private Long id;
+
+    @Schema(description = "Momento del cambio", example = "2025-10-28T10:30:00")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "Estado del recurso tras el cambio (null si se eliminó)")
+    private Object data;
+
+    // Constructores
+    public ChangeEventResponse() {
+    }
+
+    public ChangeEventResponse(long sequence, String resource, String type, Long id,
+                               LocalDateTime timestamp, Object data) {
+        this.sequence = sequence;
+        this.resource = resource;
+        this.type = type;
+        this.id = id;
+        this.timestamp = timestamp;
+        this.data = data;
+    }
+
+    // Getters y Setters
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public void setResource(String resource) {
+        this.resource = resource;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    public void setData(Object data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,66 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con las estadísticas de venues y eventos de una ciudad.
+ */
+@Schema(description = "Estadísticas de venues y eventos de una ciudad")
+public class CityStatsResponse {
+
+    @Schema(description = "Nombre de la ciudad", example = "Bogotá")
+    private String city;
+
+    @Schema(description = "Número de venues en la ciudad", example = "3")
+    private long venueCount;
+
+    @Schema(description = "Suma de capacidades de los venues", example = "30000")
+    private long venueCapacity;
+
+    @Schema(description = "Estadísticas de los eventos de la ciudad")
+    private EventStatsResponse events;
+
+    // Constructores
+    public CityStatsResponse() {
+    }
+
+    public CityStatsResponse(String city, long venueCount, long venueCapacity, EventStatsResponse events) {
+        this.city = city;
+        this.venueCount = venueCount;
+        this.venueCapacity = venueCapacity;
+        this.events = events;
+    }
+
+    // Getters y Setters
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public long getVenueCount() {
+        return venueCount;
+    }
+
+    public void setVenueCount(long venueCount) {
+        this.venueCount = venueCount;
+    }
+
+    public long getVenueCapacity() {
+        return venueCapacity;
+    }
+
+    public void setVenueCapacity(long venueCapacity) {
+        this.venueCapacity = venueCapacity;
+    }
+
+    public EventStatsResponse getEvents() {
+        return events;
+    }
+
+    public void setEvents(EventStatsResponse events) {
+        this.events = events;
+    }
+}
@@ -0,0 +1,78 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con las métricas de un grupo de coalescencia de lecturas.
+ */
+@Schema(description = "Métricas de coalescencia de lecturas idénticas simultáneas")
+public class CoalescingMetricsResponse {
+
+    @Schema(description = "Grupo de lecturas", example = "event-by-id")
+    private String name;
+
+    @Schema(description = "Lecturas recibidas desde el arranque", example = "150000")
+    private long calls;
+
+    @Schema(description = "Lecturas que se unieron a un cálculo en curso", example = "90000")
+    private long coalesced;
+
+    @Schema(description = "Fracción de lecturas resueltas por coalescencia", example = "0.6")
+    private double coalescedRatio;
+
+    @Schema(description = "Claves con un cálculo en curso", example = "3")
+    private int inFlight;
+
+    // Constructores
+    public CoalescingMetricsResponse() {
+    }
+
+    public CoalescingMetricsResponse(String name, long calls, long coalesced, int inFlight) {
+        this.name = name;
+        this.calls = calls;
+        this.coalesced = coalesced;
+        this.coalescedRatio = calls == 0 ? 0.0 : (double) coalesced / calls;
+        this.inFlight = inFlight;
+    }
+
+    // Getters y Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public void setCalls(long calls) {
+        this.calls = calls;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public void setCoalesced(long coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    public double getCoalescedRatio() {
+        return coalescedRatio;
+    }
+
+    public void setCoalescedRatio(double coalescedRatio) {
+        this.coalescedRatio = coalescedRatio;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+}
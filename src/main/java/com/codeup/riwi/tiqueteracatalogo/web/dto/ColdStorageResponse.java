@@ -0,0 +1,127 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con el estado del nivel frío de eventos pasados.
+ */
+@Schema(description = "Estado del nivel en disco de eventos pasados")
+public class ColdStorageResponse {
+
+    @Schema(description = "Si los eventos pasados se mueven al disco periódicamente", example = "true")
+    private boolean enabled;
+
+    @Schema(description = "Segmentos inmutables en disco", example = "3")
+    private int segments;
+
+    @Schema(description = "Eventos guardados en los segmentos, incluidas copias ocultas", example = "750000")
+    private long events;
+
+    @Schema(description = "Eventos cuya copia en disco se ocultó por una modificación o eliminación", example = "12")
+    private int shadowed;
+
+    @Schema(description = "Bytes comprimidos en disco", example = "41943040")
+    private long diskBytes;
+
+    @Schema(description = "Bytes en el heap del índice disperso y los filtros de Bloom", example = "2097152")
+    private long indexBytes;
+
+    @Schema(description = "Búsquedas por ID que llegaron al disco", example = "5000")
+    private long lookups;
+
+    @Schema(description = "Segmentos descartados por su filtro de Bloom sin leer", example = "9800")
+    private long bloomSkips;
+
+    @Schema(description = "Bloques leídos y descomprimidos", example = "5200")
+    private long blockReads;
+
+    // Constructores
+    public ColdStorageResponse() {
+    }
+
+    public ColdStorageResponse(boolean enabled, int segments, long events, int shadowed, long diskBytes,
+                               long indexBytes, long lookups, long bloomSkips, long blockReads) {
+        this.enabled = enabled;
+        this.segments = segments;
+        this.events = events;
+        this.shadowed = shadowed;
+        this.diskBytes = diskBytes;
+        this.indexBytes = indexBytes;
+        this.lookups = lookups;
+        this.bloomSkips = bloomSkips;
+        this.blockReads = blockReads;
+    }
+
+    // Getters y Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSegments() {
+        return segments;
+    }
+
+    public void setSegments(int segments) {
+        this.segments = segments;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public void setEvents(long events) {
+        this.events = events;
+    }
+
+    public int getShadowed() {
+        return shadowed;
+    }
+
+    public void setShadowed(int shadowed) {
+        this.shadowed = shadowed;
+    }
+
+    public long getDiskBytes() {
+        return diskBytes;
+    }
+
+    public void setDiskBytes(long diskBytes) {
+        this.diskBytes = diskBytes;
+    }
+
+    public long getIndexBytes() {
+        return indexBytes;
+    }
+
+    public void setIndexBytes(long indexBytes) {
+        this.indexBytes = indexBytes;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    public void setLookups(long lookups) {
+        this.lookups = lookups;
+    }
+
+    public long getBloomSkips() {
+        return bloomSkips;
+    }
+
+    public void setBloomSkips(long bloomSkips) {
+        this.bloomSkips = bloomSkips;
+    }
+
+    public long getBlockReads() {
+        return blockReads;
+    }
+
+    public void setBlockReads(long blockReads) {
+        this.blockReads = blockReads;
+    }
+}
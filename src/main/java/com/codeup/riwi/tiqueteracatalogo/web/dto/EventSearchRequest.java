@@ -0,0 +1,175 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con los filtros de búsqueda de eventos, recibidos como parámetros de consulta.
+ * Todos los filtros son opcionales y se combinan con AND.
+ */
+@Schema(description = "Filtros de búsqueda de eventos")
+public class EventSearchRequest {
+
+    @Schema(description = "ID del venue", example = "1")
+    private Long venueId;
+
+    @Schema(description = "Ciudad del venue (sin distinguir mayúsculas)", example = "Bogotá")
+    private String city;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Fecha mínima del evento (inclusiva)", example = "2025-12-01T00:00:00")
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Fecha máxima del evento (inclusiva)", example = "2025-12-31T23:59:59")
+    private LocalDateTime to;
+
+    @Schema(description = "Precio mínimo (inclusivo)", example = "50000")
+    private Double minPrice;
+
+    @Schema(description = "Precio máximo (inclusivo)", example = "150000")
+    private Double maxPrice;
+
+    @Schema(description = "Capacidad mínima (inclusiva)", example = "500")
+    private Integer minCapacity;
+
+    @Schema(description = "Capacidad máxima (inclusiva)", example = "5000")
+    private Integer maxCapacity;
+
+    @Pattern(regexp = "(id|name|eventDate|price|capacity)(,(asc|desc))?",
+            message = "sort debe ser id, name, eventDate, price o capacity, opcionalmente seguido de ,asc o ,desc")
+    @Schema(description = "Orden: campo y dirección opcional", example = "price,desc")
+    private String sort = "eventDate";
+
+    @Positive(message = "limit debe ser mayor a 0")
+    @Max(value = 1000, message = "limit no puede ser mayor a 1000")
+    @Schema(description = "Máximo de eventos a retornar", example = "50")
+    private Integer limit = 50;
+
+    @Schema(description = "Incluir el plan de ejecución y las filas examinadas", example = "false")
+    private boolean explain;
+
+    @Schema(description = "Campos a incluir separados por coma", example = "id,name,eventDate,price")
+    private String fields;
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "from debe ser anterior o igual a to")
+    public boolean isDateRangeValid() {
+        return from == null || to == null || !from.isAfter(to);
+    }
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "minPrice debe ser menor o igual a maxPrice")
+    public boolean isPriceRangeValid() {
+        return minPrice == null || maxPrice == null || minPrice <= maxPrice;
+    }
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "minCapacity debe ser menor o igual a maxCapacity")
+    public boolean isCapacityRangeValid() {
+        return minCapacity == null || maxCapacity == null || minCapacity <= maxCapacity;
+    }
+
+    // Getters y Setters
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public Double getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(Double minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public Double getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Double maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public Integer getMinCapacity() {
+        return minCapacity;
+    }
+
+    public void setMinCapacity(Integer minCapacity) {
+        this.minCapacity = minCapacity;
+    }
+
+    public Integer getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    public void setMaxCapacity(Integer maxCapacity) {
+        this.maxCapacity = maxCapacity;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public boolean isExplain() {
+        return explain;
+    }
+
+    public void setExplain(boolean explain) {
+        this.explain = explain;
+    }
+
+    public String getFields() {
+        return fields;
+    }
+
+    public void setFields(String fields) {
+        this.fields = fields;
+    }
+}
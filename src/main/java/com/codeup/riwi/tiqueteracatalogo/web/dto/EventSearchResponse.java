@@ -0,0 +1,45 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de la búsqueda de eventos.
+ */
+@Schema(description = "Resultado de una búsqueda de eventos")
+public class EventSearchResponse {
+
+    @ArraySchema(schema = @Schema(implementation = EventoResponse.class))
+    private List<?> results;
+
+    @Schema(description = "Plan de ejecución, solo cuando se pide explain")
+    private SearchPlanResponse plan;
+
+    // Constructores
+    public EventSearchResponse() {
+    }
+
+    public EventSearchResponse(List<?> results, SearchPlanResponse plan) {
+        this.results = results;
+        this.plan = plan;
+    }
+
+    // Getters y Setters
+    public List<?> getResults() {
+        return results;
+    }
+
+    public void setResults(List<?> results) {
+        this.results = results;
+    }
+
+    public SearchPlanResponse getPlan() {
+        return plan;
+    }
+
+    public void setPlan(SearchPlanResponse plan) {
+        this.plan = plan;
+    }
+}
@@ -0,0 +1,91 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con estadísticas agregadas de un conjunto de eventos.
+ */
+@Schema(description = "Estadísticas agregadas de eventos")
+public class EventStatsResponse {
+
+    @Schema(description = "Número de eventos", example = "12")
+    private long eventCount;
+
+    @Schema(description = "Número de eventos con fecha futura", example = "8")
+    private long upcomingEventCount;
+
+    @Schema(description = "Suma de capacidades de los eventos", example = "15000")
+    private long totalCapacity;
+
+    @Schema(description = "Precio promedio de entrada", example = "95000.0")
+    private Double averagePrice;
+
+    @Schema(description = "Precio mínimo de entrada", example = "40000.0")
+    private Double minPrice;
+
+    @Schema(description = "Precio máximo de entrada", example = "250000.0")
+    private Double maxPrice;
+
+    // Constructores
+    public EventStatsResponse() {
+    }
+
+    public EventStatsResponse(long eventCount, long upcomingEventCount, long totalCapacity,
+                              Double averagePrice, Double minPrice, Double maxPrice) {
+        this.eventCount = eventCount;
+        this.upcomingEventCount = upcomingEventCount;
+        this.totalCapacity = totalCapacity;
+        this.averagePrice = averagePrice;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    // Getters y Setters
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(long eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    public long getUpcomingEventCount() {
+        return upcomingEventCount;
+    }
+
+    public void setUpcomingEventCount(long upcomingEventCount) {
+        this.upcomingEventCount = upcomingEventCount;
+    }
+
+    public long getTotalCapacity() {
+        return totalCapacity;
+    }
+
+    public void setTotalCapacity(long totalCapacity) {
+        this.totalCapacity = totalCapacity;
+    }
+
+    public Double getAveragePrice() {
+        return averagePrice;
+    }
+
+    public void setAveragePrice(Double averagePrice) {
+        this.averagePrice = averagePrice;
+    }
+
+    public Double getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(Double minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public Double getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Double maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+}
@@ -1,8 +1,10 @@
 package com.codeup.riwi.tiqueteracatalogo.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 
 /**
  * DTO para enviar datos de Eventos al cliente.
@@ -20,6 +22,11 @@ public class EventoResponse {
     @Schema(description = "Descripción del evento", example = "Gran concierto de rock")
     private String description;
 
+    // Descripción pendiente de decodificar; solo se lee si la respuesta la incluye
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Supplier<String> descriptionSource;
+
     @Schema(description = "Fecha y hora del evento", example = "2025-12-15T20:00:00")
     private LocalDateTime eventDate;
 
@@ -65,11 +72,24 @@ public class EventoResponse {
     }
 
     public String getDescription() {
+        if (description == null && descriptionSource != null) {
+            description = descriptionSource.get();
+            descriptionSource = null;
+        }
         return description;
     }
 
     public void setDescription(String description) {
         this.description = description;
+        this.descriptionSource = null;
+    }
+
+    /**
+     * Asigna la descripción de forma diferida: se decodifica en el primer getDescription()
+     */
+    public void setDescriptionSource(Supplier<String> descriptionSource) {
+        this.description = null;
+        this.descriptionSource = descriptionSource;
     }
 
     public LocalDateTime getEventDate() {
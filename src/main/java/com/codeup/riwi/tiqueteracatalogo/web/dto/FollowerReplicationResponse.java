@@ -0,0 +1,81 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con el estado de un seguidor visto desde el líder.
+ */
+@Schema(description = "Seguidor conectado al líder de replicación")
+public class FollowerReplicationResponse {
+
+    @Schema(description = "Dirección del seguidor", example = "/127.0.0.1:53422")
+    private String address;
+
+    @Schema(description = "Fecha y hora de conexión", example = "2025-12-01T18:00:00")
+    private LocalDateTime connectedAt;
+
+    @Schema(description = "Última secuencia enviada al seguidor", example = "1520")
+    private long sentSequence;
+
+    @Schema(description = "Cambios publicados en el líder que aún no se han enviado", example = "3")
+    private long lag;
+
+    @Schema(description = "Copias completas enviadas en esta conexión", example = "1")
+    private long snapshotsSent;
+
+    // Constructores
+    public FollowerReplicationResponse() {
+    }
+
+    public FollowerReplicationResponse(String address, LocalDateTime connectedAt, long sentSequence, long lag,
+                                       long snapshotsSent) {
+        this.address = address;
+        this.connectedAt = connectedAt;
+        this.sentSequence = sentSequence;
+        this.lag = lag;
+        this.snapshotsSent = snapshotsSent;
+    }
+
+    // Getters y Setters
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public LocalDateTime getConnectedAt() {
+        return connectedAt;
+    }
+
+    public void setConnectedAt(LocalDateTime connectedAt) {
+        this.connectedAt = connectedAt;
+    }
+
+    public long getSentSequence() {
+        return sentSequence;
+    }
+
+    public void setSentSequence(long sentSequence) {
+        this.sentSequence = sentSequence;
+    }
+
+    public long getLag() {
+        return lag;
+    }
+
+    public void setLag(long lag) {
+        this.lag = lag;
+    }
+
+    public long getSnapshotsSent() {
+        return snapshotsSent;
+    }
+
+    public void setSnapshotsSent(long snapshotsSent) {
+        this.snapshotsSent = snapshotsSent;
+    }
+}
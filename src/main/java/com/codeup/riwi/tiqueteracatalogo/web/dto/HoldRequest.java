@@ -0,0 +1,64 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO para crear una reserva temporal de boletas.
+ */
+@Schema(description = "Datos para reservar boletas de un evento")
+public class HoldRequest {
+
+    @NotNull(message = "El ID del evento es obligatorio")
+    @Schema(description = "ID del evento", example = "1", required = true)
+    private Long eventId;
+
+    @NotNull(message = "La cantidad es obligatoria")
+    @Positive(message = "La cantidad debe ser mayor a 0")
+    @Max(value = 100, message = "No se pueden reservar más de 100 boletas por petición")
+    @Schema(description = "Cantidad de boletas", example = "2", required = true)
+    private Integer quantity;
+
+    @Min(value = 10, message = "La reserva debe durar al menos 10 segundos")
+    @Max(value = 3600, message = "La reserva no puede durar más de 1 hora")
+    @Schema(description = "Duración de la reserva en segundos (por defecto 600)", example = "600")
+    private Long ttlSeconds;
+
+    // Constructores
+    public HoldRequest() {
+    }
+
+    public HoldRequest(Long eventId, Integer quantity, Long ttlSeconds) {
+        this.eventId = eventId;
+        this.quantity = quantity;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    // Getters y Setters
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(Long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+}
@@ -0,0 +1,80 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta de una reserva temporal de boletas.
+ */
+@Schema(description = "Reserva temporal de boletas")
+public class HoldResponse {
+
+    @Schema(description = "ID de la reserva", example = "6f1c2a9e-3b7d-4f0a-9c51-2d8e4b7a1f30")
+    private String id;
+
+    @Schema(description = "ID del evento", example = "1")
+    private Long eventId;
+
+    @Schema(description = "Cantidad de boletas", example = "2")
+    private int quantity;
+
+    @Schema(description = "Estado de la reserva", example = "ACTIVE", allowableValues = {"ACTIVE", "CONFIRMED", "CANCELLED", "EXPIRED"})
+    private String status;
+
+    @Schema(description = "Fecha y hora en que vence la reserva", example = "2025-12-01T18:10:00")
+    private LocalDateTime expiresAt;
+
+    // Constructores
+    public HoldResponse() {
+    }
+
+    public HoldResponse(String id, Long eventId, int quantity, String status, LocalDateTime expiresAt) {
+        this.id = id;
+        this.eventId = eventId;
+        this.quantity = quantity;
+        this.status = status;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters y Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
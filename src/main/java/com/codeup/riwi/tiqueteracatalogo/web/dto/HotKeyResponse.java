@@ -0,0 +1,54 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con un ID caliente y su frecuencia estimada.
+ */
+@Schema(description = "ID con más accesos en la ventana")
+public class HotKeyResponse {
+
+    @Schema(description = "ID del evento o venue", example = "42")
+    private long id;
+
+    @Schema(description = "Accesos estimados en la ventana; puede exceder el real por colisiones, nunca quedarse corto", example = "1830")
+    private long count;
+
+    @Schema(description = "Fracción de los accesos de la ventana", example = "0.27")
+    private double share;
+
+    // Constructores
+    public HotKeyResponse() {
+    }
+
+    public HotKeyResponse(long id, long count, double share) {
+        this.id = id;
+        this.count = count;
+        this.share = share;
+    }
+
+    // Getters y Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public double getShare() {
+        return share;
+    }
+
+    public void setShare(double share) {
+        this.share = share;
+    }
+}
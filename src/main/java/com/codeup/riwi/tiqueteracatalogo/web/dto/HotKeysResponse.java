@@ -0,0 +1,80 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO con los IDs más accedidos de un recurso y operación.
+ */
+@Schema(description = "IDs más accedidos de un recurso en la ventana deslizante")
+public class HotKeysResponse {
+
+    @Schema(description = "Recurso (evento o venue)", example = "evento")
+    private String resource;
+
+    @Schema(description = "Operación (read o write)", example = "read")
+    private String operation;
+
+    @Schema(description = "Duración de la ventana en segundos", example = "60")
+    private long windowSeconds;
+
+    @Schema(description = "Accesos totales en la ventana", example = "6800")
+    private long total;
+
+    @Schema(description = "IDs ordenados por accesos estimados")
+    private List<HotKeyResponse> keys;
+
+    // Constructores
+    public HotKeysResponse() {
+    }
+
+    public HotKeysResponse(String resource, String operation, long windowSeconds, long total, List<HotKeyResponse> keys) {
+        this.resource = resource;
+        this.operation = operation;
+        this.windowSeconds = windowSeconds;
+        this.total = total;
+        this.keys = keys;
+    }
+
+    // Getters y Setters
+    public String getResource() {
+        return resource;
+    }
+
+    public void setResource(String resource) {
+        this.resource = resource;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    public void setWindowSeconds(long windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<HotKeyResponse> getKeys() {
+        return keys;
+    }
+
+    public void setKeys(List<HotKeyResponse> keys) {
+        this.keys = keys;
+    }
+}
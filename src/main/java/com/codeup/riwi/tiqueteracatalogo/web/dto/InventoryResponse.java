@@ -0,0 +1,78 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con el estado del inventario de boletas de un evento.
+ */
+@Schema(description = "Inventario de boletas de un evento")
+public class InventoryResponse {
+
+    @Schema(description = "ID del evento", example = "1")
+    private Long eventId;
+
+    @Schema(description = "Capacidad del evento", example = "1000")
+    private int capacity;
+
+    @Schema(description = "Boletas vendidas", example = "250")
+    private long sold;
+
+    @Schema(description = "Boletas retenidas por reservas activas", example = "20")
+    private long held;
+
+    @Schema(description = "Boletas disponibles", example = "730")
+    private long available;
+
+    // Constructores
+    public InventoryResponse() {
+    }
+
+    public InventoryResponse(Long eventId, int capacity, long sold, long held, long available) {
+        this.eventId = eventId;
+        this.capacity = capacity;
+        this.sold = sold;
+        this.held = held;
+        this.available = available;
+    }
+
+    // Getters y Setters
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public long getSold() {
+        return sold;
+    }
+
+    public void setSold(long sold) {
+        this.sold = sold;
+    }
+
+    public long getHeld() {
+        return held;
+    }
+
+    public void setHeld(long held) {
+        this.held = held;
+    }
+
+    public long getAvailable() {
+        return available;
+    }
+
+    public void setAvailable(long available) {
+        this.available = available;
+    }
+}
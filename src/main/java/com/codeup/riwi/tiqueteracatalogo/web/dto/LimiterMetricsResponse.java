@@ -0,0 +1,103 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con el estado de un limitador de concurrencia.
+ */
+@Schema(description = "Métricas de un limitador de concurrencia adaptativo")
+public class LimiterMetricsResponse {
+
+    @Schema(description = "Presupuesto (reads o writes)", example = "reads")
+    private String name;
+
+    @Schema(description = "Límite actual de peticiones concurrentes", example = "120")
+    private int limit;
+
+    @Schema(description = "Peticiones en curso", example = "37")
+    private int inFlight;
+
+    @Schema(description = "Peticiones aceptadas desde el arranque", example = "150000")
+    private long accepted;
+
+    @Schema(description = "Peticiones rechazadas con 503 desde el arranque", example = "230")
+    private long rejected;
+
+    @Schema(description = "Latencia mínima observada en milisegundos", example = "1.2")
+    private double minRttMillis;
+
+    @Schema(description = "Latencia suavizada en milisegundos", example = "3.4")
+    private double smoothedRttMillis;
+
+    // Constructores
+    public LimiterMetricsResponse() {
+    }
+
+    public LimiterMetricsResponse(String name, int limit, int inFlight, long accepted, long rejected,
+                                  double minRttMillis, double smoothedRttMillis) {
+        this.name = name;
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.accepted = accepted;
+        this.rejected = rejected;
+        this.minRttMillis = minRttMillis;
+        this.smoothedRttMillis = smoothedRttMillis;
+    }
+
+    // Getters y Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public double getMinRttMillis() {
+        return minRttMillis;
+    }
+
+    public void setMinRttMillis(double minRttMillis) {
+        this.minRttMillis = minRttMillis;
+    }
+
+    public double getSmoothedRttMillis() {
+        return smoothedRttMillis;
+    }
+
+    public void setSmoothedRttMillis(double smoothedRttMillis) {
+        this.smoothedRttMillis = smoothedRttMillis;
+    }
+}
@@ -0,0 +1,42 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO de un evento resultado de una búsqueda geográfica.
+ */
+@Schema(description = "Evento con la distancia de su venue al punto consultado")
+public class NearbyEventResponse {
+
+    @Schema(description = "Evento encontrado")
+    private EventoResponse event;
+
+    @Schema(description = "Distancia del venue al punto consultado en kilómetros", example = "2.35")
+    private double distanceKm;
+
+    // Constructores
+    public NearbyEventResponse() {
+    }
+
+    public NearbyEventResponse(EventoResponse event, double distanceKm) {
+        this.event = event;
+        this.distanceKm = distanceKm;
+    }
+
+    // Getters y Setters
+    public EventoResponse getEvent() {
+        return event;
+    }
+
+    public void setEvent(EventoResponse event) {
+        this.event = event;
+    }
+
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
@@ -0,0 +1,42 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO de un venue resultado de una búsqueda geográfica.
+ */
+@Schema(description = "Venue con su distancia al punto consultado")
+public class NearbyVenueResponse {
+
+    @Schema(description = "Venue encontrado")
+    private VenueResponse venue;
+
+    @Schema(description = "Distancia al punto consultado en kilómetros", example = "2.35")
+    private double distanceKm;
+
+    // Constructores
+    public NearbyVenueResponse() {
+    }
+
+    public NearbyVenueResponse(VenueResponse venue, double distanceKm) {
+        this.venue = venue;
+        this.distanceKm = distanceKm;
+    }
+
+    // Getters y Setters
+    public VenueResponse getVenue() {
+        return venue;
+    }
+
+    public void setVenue(VenueResponse venue) {
+        this.venue = venue;
+    }
+
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
@@ -0,0 +1,154 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO con el estado de la replicación del nodo.
+ */
+@Schema(description = "Estado de la replicación líder-seguidor")
+public class ReplicationStatusResponse {
+
+    @Schema(description = "Rol del nodo", example = "follower")
+    private String role;
+
+    @Schema(description = "Época del líder cuya copia tiene el seguidor", example = "1733076000000")
+    private Long epoch;
+
+    @Schema(description = "Dirección del líder (solo seguidores)", example = "localhost:9400")
+    private String leader;
+
+    @Schema(description = "Secuencia visible en este nodo: publicada en el líder o aplicada en el seguidor", example = "1523")
+    private long sequence;
+
+    @Schema(description = "Última secuencia conocida del líder", example = "1523")
+    private long leaderSequence;
+
+    @Schema(description = "Cambios del líder pendientes de aplicar", example = "0")
+    private long lag;
+
+    @Schema(description = "Si el seguidor tiene conexión con el líder", example = "true")
+    private boolean connected;
+
+    @Schema(description = "Milisegundos desde la última trama recibida del líder", example = "120")
+    private Long millisSinceLastContact;
+
+    @Schema(description = "Copias completas cargadas por el seguidor", example = "1")
+    private long snapshots;
+
+    @Schema(description = "Cambios aplicados por el seguidor", example = "1522")
+    private long changesApplied;
+
+    @Schema(description = "Seguidores conectados (solo líder)")
+    private List<FollowerReplicationResponse> followers;
+
+    // Constructores
+    public ReplicationStatusResponse() {
+    }
+
+    public ReplicationStatusResponse(String role, Long epoch, String leader, long sequence, long leaderSequence,
+                                     long lag, boolean connected, Long millisSinceLastContact, long snapshots,
+                                     long changesApplied, List<FollowerReplicationResponse> followers) {
+        this.role = role;
+        this.epoch = epoch;
+        this.leader = leader;
+        this.sequence = sequence;
+        this.leaderSequence = leaderSequence;
+        this.lag = lag;
+        this.connected = connected;
+        this.millisSinceLastContact = millisSinceLastContact;
+        this.snapshots = snapshots;
+        this.changesApplied = changesApplied;
+        this.followers = followers;
+    }
+
+    // Getters y Setters
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public Long getEpoch() {
+        return epoch;
+    }
+
+    public void setEpoch(Long epoch) {
+        this.epoch = epoch;
+    }
+
+    public String getLeader() {
+        return leader;
+    }
+
+    public void setLeader(String leader) {
+        this.leader = leader;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public long getLeaderSequence() {
+        return leaderSequence;
+    }
+
+    public void setLeaderSequence(long leaderSequence) {
+        this.leaderSequence = leaderSequence;
+    }
+
+    public long getLag() {
+        return lag;
+    }
+
+    public void setLag(long lag) {
+        this.lag = lag;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public void setConnected(boolean connected) {
+        this.connected = connected;
+    }
+
+    public Long getMillisSinceLastContact() {
+        return millisSinceLastContact;
+    }
+
+    public void setMillisSinceLastContact(Long millisSinceLastContact) {
+        this.millisSinceLastContact = millisSinceLastContact;
+    }
+
+    public long getSnapshots() {
+        return snapshots;
+    }
+
+    public void setSnapshots(long snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    public long getChangesApplied() {
+        return changesApplied;
+    }
+
+    public void setChangesApplied(long changesApplied) {
+        this.changesApplied = changesApplied;
+    }
+
+    public List<FollowerReplicationResponse> getFollowers() {
+        return followers;
+    }
+
+    public void setFollowers(List<FollowerReplicationResponse> followers) {
+        this.followers = followers;
+    }
+}
@@ -0,0 +1,105 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO con el plan elegido para una búsqueda de eventos.
+ */
+@Schema(description = "Plan de ejecución de una búsqueda")
+public class SearchPlanResponse {
+
+    @Schema(description = "Estrategia de acceso", example = "INDEX", allowableValues = {"INDEX", "SCAN", "EMPTY"})
+    private String strategy;
+
+    @Schema(description = "Índices usados, el primero es el que guía la búsqueda", example = "[\"price(estimated=120)\", \"venueId(estimated=300)\"]")
+    private List<String> indexes;
+
+    @Schema(description = "Filtros evaluados sobre cada fila examinada", example = "[\"capacity\"]")
+    private List<String> residualFilters;
+
+    @Schema(description = "Motivo de la elección", example = "índice más selectivo: price")
+    private String reason;
+
+    @Schema(description = "Filas examinadas", example = "120")
+    private long rowsExamined;
+
+    @Schema(description = "Filas que cumplen todos los filtros", example = "37")
+    private long rowsMatched;
+
+    @Schema(description = "Tiempo de ejecución en milisegundos", example = "0.42")
+    private double elapsedMs;
+
+    // Constructores
+    public SearchPlanResponse() {
+    }
+
+    public SearchPlanResponse(String strategy, List<String> indexes, List<String> residualFilters, String reason,
+                              long rowsExamined, long rowsMatched, double elapsedMs) {
+        this.strategy = strategy;
+        this.indexes = indexes;
+        this.residualFilters = residualFilters;
+        this.reason = reason;
+        this.rowsExamined = rowsExamined;
+        this.rowsMatched = rowsMatched;
+        this.elapsedMs = elapsedMs;
+    }
+
+    // Getters y Setters
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+
+    public List<String> getIndexes() {
+        return indexes;
+    }
+
+    public void setIndexes(List<String> indexes) {
+        this.indexes = indexes;
+    }
+
+    public List<String> getResidualFilters() {
+        return residualFilters;
+    }
+
+    public void setResidualFilters(List<String> residualFilters) {
+        this.residualFilters = residualFilters;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public long getRowsExamined() {
+        return rowsExamined;
+    }
+
+    public void setRowsExamined(long rowsExamined) {
+        this.rowsExamined = rowsExamined;
+    }
+
+    public long getRowsMatched() {
+        return rowsMatched;
+    }
+
+    public void setRowsMatched(long rowsMatched) {
+        this.rowsMatched = rowsMatched;
+    }
+
+    public double getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(double elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+}
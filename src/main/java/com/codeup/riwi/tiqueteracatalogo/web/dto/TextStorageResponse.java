@@ -0,0 +1,66 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con el uso del almacén de textos fuera del heap.
+ */
+@Schema(description = "Uso del almacén de descripciones fuera del heap")
+public class TextStorageResponse {
+
+    @Schema(description = "Modo del almacén", example = "offheap")
+    private String mode;
+
+    @Schema(description = "Textos guardados fuera del heap", example = "1000000")
+    private long texts;
+
+    @Schema(description = "Bytes UTF-8 de los textos vivos", example = "1500000000")
+    private long bytes;
+
+    @Schema(description = "Bytes reservados en bloques de memoria directa o archivos mapeados", example = "1543503872")
+    private long reservedBytes;
+
+    // Constructores
+    public TextStorageResponse() {
+    }
+
+    public TextStorageResponse(String mode, long texts, long bytes, long reservedBytes) {
+        this.mode = mode;
+        this.texts = texts;
+        this.bytes = bytes;
+        this.reservedBytes = reservedBytes;
+    }
+
+    // Getters y Setters
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public long getTexts() {
+        return texts;
+    }
+
+    public void setTexts(long texts) {
+        this.texts = texts;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    public void setReservedBytes(long reservedBytes) {
+        this.reservedBytes = reservedBytes;
+    }
+}
@@ -0,0 +1,36 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO para vender o liberar boletas de un evento.
+ */
+@Schema(description = "Cantidad de boletas a vender o liberar")
+public class TicketQuantityRequest {
+
+    @NotNull(message = "La cantidad es obligatoria")
+    @Positive(message = "La cantidad debe ser mayor a 0")
+    @Max(value = 100, message = "No se pueden operar más de 100 boletas por petición")
+    @Schema(description = "Cantidad de boletas", example = "2", required = true)
+    private Integer quantity;
+
+    // Constructores
+    public TicketQuantityRequest() {
+    }
+
+    public TicketQuantityRequest(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    // Getters y Setters
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -1,6 +1,10 @@
 package com.codeup.riwi.tiqueteracatalogo.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 
@@ -31,6 +35,23 @@ public class VenueRequest {
     @Schema(description = "Capacidad máxima del venue", example = "1500", required = true)
     private Integer capacity;
 
+    @DecimalMin(value = "-90.0", message = "La latitud debe estar entre -90 y 90")
+    @DecimalMax(value = "90.0", message = "La latitud debe estar entre -90 y 90")
+    @Schema(description = "Latitud del venue en grados (opcional, junto con longitude)", example = "4.6486")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "La longitud debe estar entre -180 y 180")
+    @DecimalMax(value = "180.0", message = "La longitud debe estar entre -180 y 180")
+    @Schema(description = "Longitud del venue en grados (opcional, junto con latitude)", example = "-74.0776")
+    private Double longitude;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "latitude y longitude deben enviarse juntas")
+    public boolean isCoordinatesComplete() {
+        return (latitude == null) == (longitude == null);
+    }
+
     // Getters y Setters
     public String getName() {
         return name;
@@ -71,4 +92,20 @@ public class VenueRequest {
     public void setCapacity(Integer capacity) {
         this.capacity = capacity;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
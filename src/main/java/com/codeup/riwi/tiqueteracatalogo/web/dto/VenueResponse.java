@@ -27,6 +27,12 @@ public class VenueResponse {
     @Schema(description = "Capacidad del venue", example = "1500")
     private Integer capacity;
 
+    @Schema(description = "Latitud del venue en grados", example = "4.6486")
+    private Double latitude;
+
+    @Schema(description = "Longitud del venue en grados", example = "-74.0776")
+    private Double longitude;
+
     // Constructores
     public VenueResponse() {
     }
@@ -40,6 +46,13 @@ public class VenueResponse {
         this.capacity = capacity;
     }
 
+    public VenueResponse(Long id, String name, String address, String city, String country, Integer capacity,
+                         Double latitude, Double longitude) {
+        this(id, name, address, city, country, capacity);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     // Getters y Setters
     public Long getId() {
         return id;
@@ -88,4 +101,20 @@ public class VenueResponse {
     public void setCapacity(Integer capacity) {
         this.capacity = capacity;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
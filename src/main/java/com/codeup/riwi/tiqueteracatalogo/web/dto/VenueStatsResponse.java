@@ -0,0 +1,42 @@
+package com.codeup.riwi.tiqueteracatalogo.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con las estadísticas de eventos de un venue.
+ */
+@Schema(description = "Estadísticas de eventos de un venue")
+public class VenueStatsResponse {
+
+    @Schema(description = "ID del venue", example = "1")
+    private Long venueId;
+
+    @Schema(description = "Estadísticas de los eventos del venue")
+    private EventStatsResponse events;
+
+    // Constructores
+    public VenueStatsResponse() {
+    }
+
+    public VenueStatsResponse(Long venueId, EventStatsResponse events) {
+        this.venueId = venueId;
+        this.events = events;
+    }
+
+    // Getters y Setters
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+
+    public EventStatsResponse getEvents() {
+        return events;
+    }
+
+    public void setEvents(EventStatsResponse events) {
+        this.events = events;
+    }
+}
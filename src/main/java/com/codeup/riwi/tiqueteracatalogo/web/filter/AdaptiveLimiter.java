@@ -0,0 +1,130 @@
+package com.codeup.riwi.tiqueteracatalogo.web.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limitador de concurrencia adaptativo basado en gradiente de latencia.
+ * Compara la latencia suavizada con la mínima observada: si la latencia sube
+ * (se forman colas) el límite baja, y si se mantiene estable crece poco a poco.
+ */
+public class AdaptiveLimiter {
+
+    // Cada cuántas muestras se vuelve a medir la latencia sin carga
+    private static final int MIN_RTT_RESET_SAMPLES = 1000;
+    private static final double SMOOTHING = 0.2;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // Límite entero publicado para la ruta rápida de tryAcquire
+    private volatile int currentLimit;
+
+    // Estado del algoritmo, protegido por this
+    private double limit;
+    private long minRttNanos = Long.MAX_VALUE;
+    private double smoothedRttNanos;
+    private int samplesSinceReset;
+
+    public AdaptiveLimiter(String name, int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = initialLimit;
+        this.currentLimit = initialLimit;
+    }
+
+    /**
+     * Intenta reservar un cupo sin bloquear
+     * @return true si la petición puede continuar
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= currentLimit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el cupo y registra la latencia medida
+     * @param rttNanos Duración de la petición en nanosegundos
+     */
+    public void release(long rttNanos) {
+        int inFlightAtEnd = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtEnd);
+    }
+
+    /**
+     * Libera el cupo sin registrar latencia. Las peticiones asíncronas sueltan el
+     * hilo de Tomcat en cuanto encolan su trabajo en el pool de peticiones pesadas,
+     * que ya las acota; ese tiempo tan corto no representa la petición y rebajaría la latencia mínima
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtEnd) {
+        if (++samplesSinceReset >= MIN_RTT_RESET_SAMPLES) {
+            samplesSinceReset = 0;
+            minRttNanos = Long.MAX_VALUE;
+        }
+        minRttNanos = Math.min(minRttNanos, rttNanos);
+        smoothedRttNanos = smoothedRttNanos == 0
+                ? rttNanos
+                : smoothedRttNanos * (1 - SMOOTHING) + rttNanos * SMOOTHING;
+
+        // Con poca concurrencia la latencia no dice nada sobre el límite
+        if (inFlightAtEnd < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * minRttNanos / smoothedRttNanos));
+        double queueAllowance = Math.sqrt(limit);
+        double target = limit * gradient + queueAllowance;
+        double next = limit * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+        currentLimit = (int) limit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public synchronized double getMinRttMillis() {
+        return minRttNanos == Long.MAX_VALUE ? 0 : minRttNanos / 1_000_000.0;
+    }
+
+    public synchronized double getSmoothedRttMillis() {
+        return smoothedRttNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.codeup.riwi.tiqueteracatalogo.web.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Presupuestos de concurrencia separados para lecturas y escrituras,
+ * configurables con las propiedades {@code tiquetera.limiter.*}.
+ */
+@Component
+public class ConcurrencyLimits {
+
+    private final boolean enabled;
+    private final int retryAfterSeconds;
+    private final AdaptiveLimiter reads;
+    private final AdaptiveLimiter writes;
+
+    public ConcurrencyLimits(
+            @Value("${tiquetera.limiter.enabled:true}") boolean enabled,
+            @Value("${tiquetera.limiter.retry-after-seconds:1}") int retryAfterSeconds,
+            @Value("${tiquetera.limiter.tolerance:2.0}") double tolerance,
+            @Value("${tiquetera.limiter.read.initial-limit:100}") int readInitial,
+            @Value("${tiquetera.limiter.read.min-limit:10}") int readMin,
+            @Value("${tiquetera.limiter.read.max-limit:1000}") int readMax,
+            @Value("${tiquetera.limiter.write.initial-limit:20}") int writeInitial,
+            @Value("${tiquetera.limiter.write.min-limit:2}") int writeMin,
+            @Value("${tiquetera.limiter.write.max-limit:200}") int writeMax) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.reads = new AdaptiveLimiter("reads", readInitial, readMin, readMax, tolerance);
+        this.writes = new AdaptiveLimiter("writes", writeInitial, writeMin, writeMax, tolerance);
+    }
+
+    /**
+     * Selecciona el presupuesto según el método HTTP
+     * @param method Método HTTP de la petición
+     * @return Limitador de lecturas o de escrituras
+     */
+    public AdaptiveLimiter forMethod(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) ? reads : writes;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public List<AdaptiveLimiter> all() {
+        return List.of(reads, writes);
+    }
+}
@@ -0,0 +1,103 @@
+package com.codeup.riwi.tiqueteracatalogo.web.filter;
+
+import com.codeup.riwi.tiqueteracatalogo.replication.ReadToken;
+import com.codeup.riwi.tiqueteracatalogo.replication.ReplicationManager;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro de la replicación para las APIs del catálogo.
+ * En un seguidor rechaza las escrituras y lo que depende de estado local del
+ * líder (inventario y reservas) con 421, y atiende {@code X-Min-Sequence}
+ * esperando a que la réplica haya aplicado ese token ({@code época:secuencia}) antes
+ * de responder.
+ * El token {@code X-Catalog-Sequence} de cada respuesta lo añade
+ * {@link com.codeup.riwi.tiqueteracatalogo.web.advice.ReplicationSequenceAdvice}.
+ */
+@Component
+public class ReplicationFilter extends OncePerRequestFilter {
+
+    public static final String SEQUENCE_HEADER = "X-Catalog-Sequence";
+    public static final String MIN_SEQUENCE_HEADER = "X-Min-Sequence";
+
+    private static final int MISDIRECTED_REQUEST = 421;
+
+    private final ReplicationManager replication;
+    private final ObjectMapper objectMapper;
+
+    public ReplicationFilter(ReplicationManager replication, ObjectMapper objectMapper) {
+        this.replication = replication;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !replication.isReadOnly() || !uri.startsWith("/api/") || uri.startsWith("/api/admin");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!isReplicatedRead(request)) {
+            writeError(request, response, MISDIRECTED_REQUEST, "Misdirected Request",
+                    "Este nodo es una réplica de solo lectura; envíe la petición al líder");
+            return;
+        }
+        String minSequence = request.getHeader(MIN_SEQUENCE_HEADER);
+        if (minSequence != null) {
+            ReadToken token;
+            try {
+                token = ReadToken.parse(minSequence);
+            } catch (IllegalArgumentException e) {
+                writeError(request, response, HttpStatus.BAD_REQUEST.value(), "Bad Request",
+                        "El encabezado " + MIN_SEQUENCE_HEADER + " debe ser el valor de "
+                                + SEQUENCE_HEADER + " (época:secuencia)");
+                return;
+            }
+            boolean visible;
+            try {
+                visible = replication.awaitToken(token);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                visible = false;
+            }
+            if (!visible) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(request, response, HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable",
+                        "La réplica aún no ha aplicado la secuencia " + token);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static boolean isReplicatedRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return false;
+        }
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/holds") && !uri.endsWith("/tickets");
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, int status,
+                            String error, String message) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(status, error, message, request.getRequestURI());
+        response.setStatus(status);
+        response.setHeader(SEQUENCE_HEADER, replication.currentToken().toString());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,139 @@
+package com.codeup.riwi.tiqueteracatalogo.web.json;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.MappedList;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Conversor JSON directo para eventos, venues y errores.
+ * Se registra antes que Jackson y solo escribe: un evento o venue suelto, las listas
+ * {@link MappedList} de los servicios, que se recorren como entidades sin crear DTOs,
+ * y {@link ErrorResponse}. Cualquier otro cuerpo (búsquedas, campos parciales) sigue en Jackson.
+ */
+public class CatalogJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    // Un escritor que creció por un texto enorme no se conserva en el hilo
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private static final ThreadLocal<CatalogJsonWriter> WRITERS =
+            ThreadLocal.withInitial(() -> new CatalogJsonWriter(INITIAL_CAPACITY));
+
+    public CatalogJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == EventoResponse.class || clazz == VenueResponse.class || clazz == MappedList.class
+                || clazz == ErrorResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return supports(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("El conversor JSON directo no lee cuerpos", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("El conversor JSON directo no lee cuerpos", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        CatalogJsonWriter writer = WRITERS.get();
+        writer.reset(outputMessage.getBody());
+        try {
+            if (!write(writer, body)) {
+                throw new HttpMessageNotWritableException(
+                        "Tipo no soportado por el conversor JSON directo: " + body.getClass().getSimpleName());
+            }
+            writer.flush();
+        } finally {
+            writer.reset(null);
+            if (writer.capacity() > MAX_RETAINED_CAPACITY) {
+                WRITERS.remove();
+            }
+        }
+    }
+
+    /**
+     * Serializa un cuerpo soportado con el escritor del hilo
+     * @param body Evento, venue, error o lista {@link MappedList} de eventos o venues
+     * @return Bytes JSON del cuerpo
+     * @throws IllegalArgumentException si el tipo no está soportado
+     */
+    public static byte[] toJson(Object body) {
+        CatalogJsonWriter writer = WRITERS.get();
+        writer.reset(null);
+        try {
+            if (!write(writer, body)) {
+                throw new IllegalArgumentException(
+                        "Tipo no soportado por el conversor JSON directo: " + body.getClass().getSimpleName());
+            }
+            return writer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (writer.capacity() > MAX_RETAINED_CAPACITY) {
+                WRITERS.remove();
+            }
+        }
+    }
+
+    /**
+     * Escribe un cuerpo soportado en el escritor
+     * @param writer Escritor ya preparado
+     * @param body Evento, venue, error o lista {@link MappedList} de eventos o venues
+     * @return true si el cuerpo era de un tipo soportado
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean write(CatalogJsonWriter writer, Object body) throws IOException {
+        if (body instanceof EventoResponse evento) {
+            writer.writeEvento(evento);
+        } else if (body instanceof VenueResponse venue) {
+            writer.writeVenue(venue);
+        } else if (body instanceof ErrorResponse error) {
+            writer.writeError(error);
+        } else if (body instanceof MappedList<?, ?> list && list.getSourceType() == EventoEntity.class) {
+            writer.writeEventos((List<EventoEntity>) list.getSource());
+        } else if (body instanceof MappedList<?, ?> list && list.getSourceType() == VenueEntity.class) {
+            writer.writeVenues((List<VenueEntity>) list.getSource());
+        } else {
+            return false;
+        }
+        return true;
+    }
+}
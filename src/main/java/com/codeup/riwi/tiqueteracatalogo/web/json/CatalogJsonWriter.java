@@ -0,0 +1,492 @@
+package com.codeup.riwi.tiqueteracatalogo.web.json;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.TextHandle;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Escritor JSON especializado para eventos, venues y errores de la API.
+ * Escribe UTF-8 directamente en un buffer reutilizable, desde las entidades o los
+ * DTOs, sin reflexión ni objetos intermedios: nombres de campo precodificados,
+ * números y fechas dígito a dígito y descripciones fuera del heap copiadas sin
+ * decodificarlas. Produce los mismos bytes que Jackson con la configuración de Spring.
+ * No es thread-safe: cada hilo usa su propia instancia.
+ */
+public final class CatalogJsonWriter {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    // Escape de cada byte ASCII: 0 = sin escape, 'u' = \\u00XX, otro = \\ + ese carácter
+    private static final byte[] ESCAPES = new byte[128];
+    private static final byte[] NULL = ascii("null");
+
+    private static final byte[] OPEN_ID = ascii("{\"id\":");
+    private static final byte[] NAME = ascii(",\"name\":");
+    private static final byte[] DESCRIPTION = ascii(",\"description\":");
+    private static final byte[] EVENT_DATE = ascii(",\"eventDate\":");
+    private static final byte[] VENUE_ID = ascii(",\"venueId\":");
+    private static final byte[] CAPACITY = ascii(",\"capacity\":");
+    private static final byte[] PRICE = ascii(",\"price\":");
+    private static final byte[] ADDRESS = ascii(",\"address\":");
+    private static final byte[] CITY = ascii(",\"city\":");
+    private static final byte[] COUNTRY = ascii(",\"country\":");
+    private static final byte[] LATITUDE = ascii(",\"latitude\":");
+    private static final byte[] LONGITUDE = ascii(",\"longitude\":");
+
+    private static final byte[] TIMESTAMP = ascii("{\"timestamp\":");
+    private static final byte[] STATUS = ascii(",\"status\":");
+    private static final byte[] ERROR = ascii(",\"error\":");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] PATH = ascii(",\"path\":");
+    private static final byte[] DETAILS = ascii(",\"details\":");
+    // Estado y tipo ya codificados para los errores habituales de la API
+    private static final byte[][] COMMON_ERRORS = new byte[600][];
+    private static final String[] COMMON_REASONS = new String[600];
+
+    // Tamaño a partir del cual se vacía el buffer al flujo de salida
+    private static final int FLUSH_THRESHOLD = 16 * 1024;
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = 'u';
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+        commonError(400, "Bad Request");
+        commonError(404, "Not Found");
+        commonError(409, "Conflict");
+        commonError(421, "Misdirected Request");
+        commonError(500, "Internal Server Error");
+        commonError(503, "Service Unavailable");
+    }
+
+    private static void commonError(int status, String reason) {
+        COMMON_REASONS[status] = reason;
+        COMMON_ERRORS[status] = ascii(",\"status\":" + status + ",\"error\":\"" + reason + "\"");
+    }
+
+    private byte[] buffer;
+    private int position;
+    // Bytes crudos de textos fuera del heap antes de escaparlos
+    private byte[] scratch = new byte[0];
+    private OutputStream out;
+
+    public CatalogJsonWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Prepara el escritor para un nuevo documento
+     * @param out Flujo donde se vacía el buffer al crecer, o null para acumular en memoria
+     */
+    public void reset(OutputStream out) {
+        this.out = out;
+        this.position = 0;
+    }
+
+    public void writeEventos(List<EventoEntity> eventos) throws IOException {
+        writeByte('[');
+        for (int i = 0; i < eventos.size(); i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            writeEvento(eventos.get(i));
+            maybeFlush();
+        }
+        writeByte(']');
+    }
+
+    public void writeVenues(List<VenueEntity> venues) throws IOException {
+        writeByte('[');
+        for (int i = 0; i < venues.size(); i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            writeVenue(venues.get(i));
+            maybeFlush();
+        }
+        writeByte(']');
+    }
+
+    public void writeEvento(EventoEntity e) {
+        writeRaw(OPEN_ID);
+        writeNumber(e.getId());
+        writeRaw(NAME);
+        writeString(e.getName());
+        writeRaw(DESCRIPTION);
+        TextHandle text = e.getDescriptionText();
+        if (text != null) {
+            writeText(text);
+        } else {
+            writeString(e.getDescription());
+        }
+        writeRaw(EVENT_DATE);
+        writeDateTime(e.getEventDate());
+        writeRaw(VENUE_ID);
+        writeNumber(e.getVenueId());
+        writeRaw(CAPACITY);
+        writeNumber(e.getCapacity());
+        writeRaw(PRICE);
+        writeNumber(e.getPrice());
+        writeByte('}');
+    }
+
+    public void writeEvento(EventoResponse e) {
+        writeRaw(OPEN_ID);
+        writeNumber(e.getId());
+        writeRaw(NAME);
+        writeString(e.getName());
+        writeRaw(DESCRIPTION);
+        writeString(e.getDescription());
+        writeRaw(EVENT_DATE);
+        writeDateTime(e.getEventDate());
+        writeRaw(VENUE_ID);
+        writeNumber(e.getVenueId());
+        writeRaw(CAPACITY);
+        writeNumber(e.getCapacity());
+        writeRaw(PRICE);
+        writeNumber(e.getPrice());
+        writeByte('}');
+    }
+
+    public void writeVenue(VenueEntity v) {
+        writeRaw(OPEN_ID);
+        writeNumber(v.getId());
+        writeRaw(NAME);
+        writeString(v.getName());
+        writeRaw(ADDRESS);
+        writeString(v.getAddress());
+        writeRaw(CITY);
+        // getCity() devuelve el valor único del diccionario: no crea un String nuevo
+        writeString(v.getCity());
+        writeRaw(COUNTRY);
+        writeString(v.getCountry());
+        writeRaw(CAPACITY);
+        writeNumber(v.getCapacity());
+        writeRaw(LATITUDE);
+        writeNumber(v.getLatitude());
+        writeRaw(LONGITUDE);
+        writeNumber(v.getLongitude());
+        writeByte('}');
+    }
+
+    public void writeVenue(VenueResponse v) {
+        writeRaw(OPEN_ID);
+        writeNumber(v.getId());
+        writeRaw(NAME);
+        writeString(v.getName());
+        writeRaw(ADDRESS);
+        writeString(v.getAddress());
+        writeRaw(CITY);
+        writeString(v.getCity());
+        writeRaw(COUNTRY);
+        writeString(v.getCountry());
+        writeRaw(CAPACITY);
+        writeNumber(v.getCapacity());
+        writeRaw(LATITUDE);
+        writeNumber(v.getLatitude());
+        writeRaw(LONGITUDE);
+        writeNumber(v.getLongitude());
+        writeByte('}');
+    }
+
+    public void writeError(ErrorResponse e) {
+        writeRaw(TIMESTAMP);
+        writeDateTime(e.getTimestamp());
+        int status = e.getStatus();
+        if (status >= 0 && status < COMMON_ERRORS.length && COMMON_ERRORS[status] != null
+                && COMMON_REASONS[status].equals(e.getError())) {
+            writeRaw(COMMON_ERRORS[status]);
+        } else {
+            writeRaw(STATUS);
+            writeLong(status);
+            writeRaw(ERROR);
+            writeString(e.getError());
+        }
+        writeRaw(MESSAGE);
+        writeString(e.getMessage());
+        writeRaw(PATH);
+        writeString(e.getPath());
+        writeRaw(DETAILS);
+        List<String> details = e.getDetails();
+        if (details == null) {
+            writeRaw(NULL);
+        } else {
+            writeByte('[');
+            for (int i = 0; i < details.size(); i++) {
+                if (i > 0) {
+                    writeByte(',');
+                }
+                writeString(details.get(i));
+            }
+            writeByte(']');
+        }
+        writeByte('}');
+    }
+
+    /**
+     * Vacía lo pendiente al flujo de salida
+     */
+    public void flush() throws IOException {
+        if (out != null && position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * @return Copia de lo acumulado cuando no hay flujo de salida
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    private void maybeFlush() throws IOException {
+        if (out != null && position >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    // ---- Valores ----
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeRaw(NULL);
+            return;
+        }
+        int length = value.length();
+        // Peor caso: 6 bytes por carácter (\\u00XX) más las comillas
+        ensure(length * 6 + 2);
+        byte[] buf = buffer;
+        int pos = position;
+        buf[pos++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byte escape = ESCAPES[c];
+                if (escape == 0) {
+                    buf[pos++] = (byte) c;
+                } else {
+                    pos = writeEscape(buf, pos, c, escape);
+                }
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | (cp >> 18));
+                buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Sustituto suelto: no es UTF-8 válido
+                buf[pos++] = '?';
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buf[pos++] = '"';
+        position = pos;
+    }
+
+    // Texto fuera del heap: ya está en UTF-8, solo hay que escapar los bytes ASCII
+    private void writeText(TextHandle text) {
+        int length = text.byteLength();
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        text.copyTo(scratch, 0);
+        ensure(length * 6 + 2);
+        byte[] buf = buffer;
+        int pos = position;
+        buf[pos++] = '"';
+        for (int i = 0; i < length; i++) {
+            byte b = scratch[i];
+            if (b >= 0 && ESCAPES[b] != 0) {
+                pos = writeEscape(buf, pos, (char) b, ESCAPES[b]);
+            } else {
+                buf[pos++] = b;
+            }
+        }
+        buf[pos++] = '"';
+        position = pos;
+    }
+
+    private static int writeEscape(byte[] buf, int pos, char c, byte escape) {
+        buf[pos++] = '\\';
+        if (escape == 'u') {
+            buf[pos++] = 'u';
+            buf[pos++] = '0';
+            buf[pos++] = '0';
+            buf[pos++] = HEX[c >> 4];
+            buf[pos++] = HEX[c & 0xF];
+        } else {
+            buf[pos++] = escape;
+        }
+        return pos;
+    }
+
+    private void writeNumber(Long value) {
+        if (value == null) {
+            writeRaw(NULL);
+        } else {
+            writeLong(value);
+        }
+    }
+
+    private void writeNumber(Integer value) {
+        if (value == null) {
+            writeRaw(NULL);
+        } else {
+            writeLong(value);
+        }
+    }
+
+    private void writeNumber(Double value) {
+        if (value == null) {
+            writeRaw(NULL);
+            return;
+        }
+        double d = value;
+        // Enteros en el rango donde Double.toString usa notación decimal: "80000.0"
+        if (d == Math.rint(d) && Math.abs(d) < 1e7 && (d != 0 || 1 / d > 0)) {
+            writeLong((long) d);
+            ensure(2);
+            buffer[position++] = '.';
+            buffer[position++] = '0';
+        } else {
+            // Decimales y notación científica: mismo texto que Jackson (Double.toString)
+            writeAscii(Double.toString(d));
+        }
+    }
+
+    private void writeLong(long value) {
+        ensure(20);
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                writeAscii(Long.toString(value));
+                return;
+            }
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = digits(value);
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        position = end;
+    }
+
+    /**
+     * Fecha en ISO-8601 local como la escribe Jackson: segundos siempre y fracción
+     * sin ceros finales solo si hay nanosegundos
+     */
+    private void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeRaw(NULL);
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            writeAscii('"' + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) + '"');
+            return;
+        }
+        ensure(31);
+        byte[] buf = buffer;
+        int pos = position;
+        buf[pos++] = '"';
+        pos = twoDigits(buf, pos, year / 100);
+        pos = twoDigits(buf, pos, year % 100);
+        buf[pos++] = '-';
+        pos = twoDigits(buf, pos, value.getMonthValue());
+        buf[pos++] = '-';
+        pos = twoDigits(buf, pos, value.getDayOfMonth());
+        buf[pos++] = 'T';
+        pos = twoDigits(buf, pos, value.getHour());
+        buf[pos++] = ':';
+        pos = twoDigits(buf, pos, value.getMinute());
+        buf[pos++] = ':';
+        pos = twoDigits(buf, pos, value.getSecond());
+        int nano = value.getNano();
+        if (nano != 0) {
+            buf[pos++] = '.';
+            int divisor = 100_000_000;
+            while (nano != 0) {
+                buf[pos++] = (byte) ('0' + nano / divisor);
+                nano %= divisor;
+                divisor /= 10;
+            }
+        }
+        buf[pos++] = '"';
+        position = pos;
+    }
+
+    private static int twoDigits(byte[] buf, int pos, int value) {
+        buf[pos++] = (byte) ('0' + value / 10);
+        buf[pos++] = (byte) ('0' + value % 10);
+        return pos;
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+        long limit = 10;
+        while (digits < 19 && value >= limit) {
+            digits++;
+            limit *= 10;
+        }
+        return digits;
+    }
+
+    // ---- Buffer ----
+
+    private void writeByte(int b) {
+        ensure(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void writeRaw(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeAscii(String value) {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void ensure(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
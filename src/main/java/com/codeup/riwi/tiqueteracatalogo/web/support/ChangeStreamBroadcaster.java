@@ -0,0 +1,161 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.ChangeMapper;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import com.codeup.riwi.tiqueteracatalogo.repository.ChangeFeed;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ServiceUnavailableException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envía los cambios del {@link ChangeFeed} a los suscriptores Server-Sent Events.
+ * Cada suscriptor lee el buffer desde su propio cursor en un pool dedicado, así
+ * un cliente lento no frena a los escritores ni al resto de suscriptores; si se
+ * queda atrás más de lo que guarda el buffer, o pide una secuencia que el registro
+ * actual no alcanzó (tras un reinicio), recibe un evento {@code reset}.
+ */
+@Component
+public class ChangeStreamBroadcaster implements DisposableBean {
+
+    // Cambios enviados por turno antes de ceder el hilo a otro suscriptor
+    private static final int BATCH_SIZE = 256;
+
+    private final ChangeFeed changeFeed;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final ExecutorService executor;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Runnable listener = this::onChange;
+
+    public ChangeStreamBroadcaster(
+            ChangeFeed changeFeed,
+            @Value("${tiquetera.changes.max-subscribers:256}") int maxSubscribers,
+            @Value("${tiquetera.changes.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${tiquetera.changes.sender-threads:4}") int senderThreads) {
+        this.changeFeed = changeFeed;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        changeFeed.addListener(listener);
+    }
+
+    /**
+     * Registra un nuevo suscriptor
+     * @param lastEventId Última secuencia recibida por el cliente, o null para recibir solo cambios nuevos
+     * @return Emisor SSE del suscriptor
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Se alcanzó el máximo de suscriptores al flujo de cambios");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        long start = lastEventId != null ? lastEventId : changeFeed.lastSequence();
+        Subscription subscription = new Subscription(emitter, start);
+        subscriptions.add(subscription);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        subscription.schedule();
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void onChange() {
+        for (Subscription subscription : subscriptions) {
+            subscription.schedule();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        changeFeed.removeListener(listener);
+        executor.shutdownNow();
+        subscriptions.forEach(s -> s.emitter.complete());
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // Solo lo modifica el hilo que tiene el turno (scheduled = true)
+        private long cursor;
+        private volatile boolean closed;
+
+        Subscription(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                ChangeFeed.Batch batch = changeFeed.readAfter(cursor, BATCH_SIZE);
+                if (batch.isTruncated()) {
+                    emitter.send(SseEmitter.event()
+                            .name("reset")
+                            .data(Map.of("lastSequence", changeFeed.lastSequence()), MediaType.APPLICATION_JSON));
+                    emitter.complete();
+                    close();
+                    return;
+                }
+                for (CatalogChange change : batch.getChanges()) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(change.getSequence()))
+                            .name(eventName(change))
+                            .data(ChangeMapper.toResponse(change), MediaType.APPLICATION_JSON));
+                    cursor = change.getSequence();
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // Si llegaron cambios mientras se enviaba, se vuelve a la cola del pool
+            if (cursor < changeFeed.lastSequence()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscriptions.remove(this);
+        }
+    }
+
+    private static String eventName(CatalogChange change) {
+        return change.getResource().name().toLowerCase(Locale.ROOT) + "." + change.getType().name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,171 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.json.CatalogJsonHttpMessageConverter;
+import com.codeup.riwi.tiqueteracatalogo.web.json.CatalogJsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché de cuerpos JSON ya comprimidos con gzip para listados grandes.
+ * Cada entrada guarda la versión de la colección con la que se generó; una
+ * escritura cambia la versión y la siguiente lectura regenera el cuerpo.
+ */
+@Component
+public class CompressedResponseCache {
+
+    // Los hilos que llaman a render son pocos (pool de peticiones pesadas); conservan
+    // su buffer para no regenerarlo en cada listado
+    private static final int MAX_RETAINED_RENDER_CAPACITY = 32 * 1024 * 1024;
+    private static final ThreadLocal<CatalogJsonWriter> RENDER_WRITERS =
+            ThreadLocal.withInitial(() -> new CatalogJsonWriter(64 * 1024));
+
+    private final ObjectMapper objectMapper;
+    private final int minCompressSize;
+    private final Map<String, Entry> entries;
+
+    public CompressedResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${tiquetera.compression.cache-entries:128}") int maxEntries,
+            @Value("${tiquetera.compression.min-size:1024}") int minCompressSize) {
+        this.objectMapper = objectMapper;
+        this.minCompressSize = minCompressSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Indica si la petición puede recibir el cuerpo JSON comprimido de la caché
+     * @param acceptEncoding Cabecera Accept-Encoding
+     * @param accept Cabecera Accept
+     * @return true si acepta gzip y JSON
+     */
+    public boolean accepts(String acceptEncoding, String accept) {
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip")) {
+            return false;
+        }
+        return acceptsJson(accept);
+    }
+
+    /**
+     * Indica si la cabecera Accept admite JSON (o no pide ningún tipo)
+     * @param accept Cabecera Accept
+     * @return true si se puede responder con JSON
+     */
+    public static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        return MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(type -> type.includes(MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Serializa el cuerpo a JSON sin comprimir ni cachear, para que el trabajo
+     * ocurra en el hilo que llama y no al escribir la respuesta
+     * @param body Cuerpo a serializar
+     * @return Respuesta JSON con los bytes ya generados
+     */
+    public ResponseEntity<byte[]> render(Object body) {
+        CatalogJsonWriter writer = RENDER_WRITERS.get();
+        writer.reset(null);
+        try {
+            byte[] json = CatalogJsonHttpMessageConverter.write(writer, body)
+                    ? writer.toByteArray()
+                    : objectMapper.writeValueAsBytes(body);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (writer.capacity() > MAX_RETAINED_RENDER_CAPACITY) {
+                RENDER_WRITERS.remove();
+            }
+        }
+    }
+
+    /**
+     * Devuelve la respuesta cacheada para la clave y versión, o la genera
+     * @param key Clave de la colección (incluye parámetros que cambian el cuerpo)
+     * @param version Versión actual de la colección
+     * @param body Proveedor del cuerpo si hay que regenerarlo
+     * @return Respuesta con los bytes listos para escribir
+     */
+    public ResponseEntity<byte[]> respond(String key, long version, Supplier<Object> body) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || entry.version != version) {
+            entry = encode(version, body.get());
+            synchronized (entries) {
+                Entry current = entries.get(key);
+                if (current == null || current.version < version) {
+                    entries.put(key, entry);
+                }
+            }
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (entry.gzipped) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(entry.bytes);
+    }
+
+    private Entry encode(long version, Object body) {
+        try {
+            byte[] json = toJson(body);
+            if (json.length < minCompressSize) {
+                return new Entry(version, json, false);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(json);
+            }
+            return new Entry(version, out.toByteArray(), true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] toJson(Object body) throws IOException {
+        // Los listados completos se escriben directamente desde las entidades
+        CatalogJsonWriter writer = new CatalogJsonWriter(64 * 1024);
+        writer.reset(null);
+        if (CatalogJsonHttpMessageConverter.write(writer, body)) {
+            return writer.toByteArray();
+        }
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    private static final class Entry {
+
+        private final long version;
+        private final byte[] bytes;
+        private final boolean gzipped;
+
+        Entry(long version, byte[] bytes, boolean gzipped) {
+            this.version = version;
+            this.bytes = bytes;
+            this.gzipped = gzipped;
+        }
+    }
+}
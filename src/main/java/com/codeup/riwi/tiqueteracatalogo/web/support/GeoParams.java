@@ -0,0 +1,32 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+
+/**
+ * Validación de los parámetros de consultas geográficas.
+ */
+public final class GeoParams {
+
+    // Radio máximo aceptado, suficiente para cualquier consulta "cerca de mí"
+    public static final double MAX_RADIUS_KM = 20_000;
+
+    private GeoParams() {
+    }
+
+    // Las comparaciones van negadas para que NaN (lat=NaN llega como double) también se rechace
+    public static void validate(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new BadRequestException("lat debe estar entre -90 y 90");
+        }
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new BadRequestException("lon debe estar entre -180 y 180");
+        }
+    }
+
+    public static void validate(double latitude, double longitude, double radiusKm) {
+        validate(latitude, longitude);
+        if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+            throw new BadRequestException("radiusKm debe ser mayor a 0 y como máximo " + (int) MAX_RADIUS_KM);
+        }
+    }
+}
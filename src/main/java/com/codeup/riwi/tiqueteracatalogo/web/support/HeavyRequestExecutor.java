@@ -0,0 +1,102 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ServiceUnavailableException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Pool acotado para las peticiones pesadas (listados completos, búsquedas).
+ * El controlador devuelve el {@link CompletableFuture} y el hilo de Tomcat queda
+ * libre para las lecturas puntuales mientras el trabajo corre aquí. La cola es
+ * limitada: si está llena la petición se rechaza con 503 en vez de esperar, y una
+ * tarea que supera el tiempo máximo termina con 503 y se interrumpe.
+ */
+@Component
+public class HeavyRequestExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor pool;
+    private final long timeoutMillis;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public HeavyRequestExecutor(
+            @Value("${tiquetera.heavy.threads:2}") int threads,
+            @Value("${tiquetera.heavy.queue-size:32}") int queueSize,
+            @Value("${tiquetera.heavy.timeout-ms:20000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadIds = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "heavy-request-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Ejecuta una tarea en el pool
+     * @param task Trabajo de la petición; corre fuera del hilo de Tomcat
+     * @return Futuro con el resultado, o fallido con {@link ServiceUnavailableException} si vence el tiempo
+     * @throws ServiceUnavailableException si la cola está llena
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running;
+        try {
+            running = pool.submit(() -> {
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Hay demasiadas operaciones pesadas en curso, intente nuevamente más tarde");
+        }
+        // orTimeout cancela su temporizador en cuanto la tarea termina
+        result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        return result.exceptionallyCompose(error -> {
+            if (error instanceof TimeoutException) {
+                timedOut.increment();
+                running.cancel(true);
+                return CompletableFuture.failedFuture(new ServiceUnavailableException(
+                        "La operación superó el tiempo máximo de " + timeoutMillis + " ms"));
+            }
+            return CompletableFuture.failedFuture(error);
+        });
+    }
+
+    public int getActive() {
+        return pool.getActiveCount();
+    }
+
+    public int getQueued() {
+        return pool.getQueue().size();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+}
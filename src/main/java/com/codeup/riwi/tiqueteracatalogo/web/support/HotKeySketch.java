@@ -0,0 +1,261 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Detector de claves calientes sobre una ventana deslizante.
+ * La ventana se divide en sub-ventanas fijas que rotan en anillo; cada una tiene un
+ * Count-Min Sketch (contadores atómicos, sin locks) y una tabla Space-Saving de tamaño
+ * fijo con las claves más frecuentes, cuyo mínimo se reemplaza cuando llega una clave
+ * con una estimación mayor. La tabla solo se toca con tryLock: si otro hilo la está
+ * actualizando, la muestra queda en el sketch y la clave entra en la siguiente.
+ * La memoria es fija: sub-ventanas x profundidad x ancho contadores más k claves por sub-ventana.
+ */
+public final class HotKeySketch {
+
+    private static final long OFFER_MASK = 7;
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    // Cada fila toma su propio tramo de bits del hash, así las filas son independientes
+    private final int bits;
+    private final int capacity;
+    private final long windowNanos;
+    private final Window[] windows;
+
+    /**
+     * @param windows Número de sub-ventanas del anillo
+     * @param windowNanos Duración de cada sub-ventana
+     * @param depth Filas del Count-Min Sketch
+     * @param width Contadores por fila; se redondea a potencia de dos
+     * @param capacity Claves que guarda la tabla Space-Saving de cada sub-ventana
+     */
+    public HotKeySketch(int windows, long windowNanos, int depth, int width, int capacity) {
+        this.depth = depth;
+        this.width = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.mask = this.width - 1;
+        this.bits = Integer.numberOfTrailingZeros(this.width);
+        this.capacity = capacity;
+        this.windowNanos = windowNanos;
+        this.windows = new Window[windows];
+        for (int i = 0; i < windows; i++) {
+            this.windows[i] = new Window(depth * this.width, capacity);
+        }
+    }
+
+    /**
+     * Registra un acceso a la clave
+     * @param key Clave (ID del recurso)
+     * @param nowNanos Instante actual en nanosegundos
+     */
+    public void record(long key, long nowNanos) {
+        Window window = current(nowNanos);
+        long hash = mix(key);
+        int shift = 0;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            if (shift + bits > Long.SIZE) {
+                hash = mix(hash);
+                shift = 0;
+            }
+            int index = row * width + (int) ((hash >>> shift) & mask);
+            shift += bits;
+            estimate = Math.min(estimate, window.counts.incrementAndGet(index));
+        }
+        // Con la tabla llena solo se ofrece una de cada 8 muestras de la clave: top()
+        // vuelve a estimar desde el sketch, así que basta con que la tabla elija bien a quién guardar
+        if (estimate > window.minTop && (window.minTop == 0 || (estimate & OFFER_MASK) == 0)
+                && window.lock.tryLock()) {
+            try {
+                window.offer(key, estimate, capacity);
+            } finally {
+                window.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Claves más frecuentes de la ventana completa
+     * @param limit Máximo de claves a devolver
+     * @param nowNanos Instante actual en nanosegundos
+     * @return Claves ordenadas por frecuencia estimada descendente
+     */
+    public List<HotKey> top(int limit, long nowNanos) {
+        long epoch = nowNanos / windowNanos;
+        List<Window> live = new ArrayList<>(windows.length);
+        for (Window window : windows) {
+            if (window.epoch > epoch - windows.length && window.epoch <= epoch) {
+                live.add(window);
+            }
+        }
+        Set<Long> candidates = new HashSet<>();
+        for (Window window : live) {
+            window.lock.lock();
+            try {
+                candidates.addAll(window.top.keySet());
+            } finally {
+                window.lock.unlock();
+            }
+        }
+        List<HotKey> result = new ArrayList<>(candidates.size());
+        for (Long key : candidates) {
+            long count = 0;
+            for (Window window : live) {
+                count += estimate(window, key);
+            }
+            result.add(new HotKey(key, count));
+        }
+        result.sort((a, b) -> Long.compare(b.count, a.count));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * Total de accesos registrados en la ventana completa
+     * @param nowNanos Instante actual en nanosegundos
+     * @return Accesos de las sub-ventanas vigentes
+     */
+    public long total(long nowNanos) {
+        long epoch = nowNanos / windowNanos;
+        long total = 0;
+        for (Window window : windows) {
+            if (window.epoch > epoch - windows.length && window.epoch <= epoch) {
+                // Cada muestra incrementa exactamente un contador de la primera fila
+                for (int i = 0; i < width; i++) {
+                    total += window.counts.get(i);
+                }
+            }
+        }
+        return total;
+    }
+
+    public long getWindowNanos() {
+        return windowNanos * windows.length;
+    }
+
+    private Window current(long nowNanos) {
+        long epoch = nowNanos / windowNanos;
+        Window window = windows[(int) Math.floorMod(epoch, (long) windows.length)];
+        if (window.epoch != epoch) {
+            window.rotate(epoch);
+        }
+        return window;
+    }
+
+    private long estimate(Window window, long key) {
+        long hash = mix(key);
+        int shift = 0;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            if (shift + bits > Long.SIZE) {
+                hash = mix(hash);
+                shift = 0;
+            }
+            estimate = Math.min(estimate, window.counts.get(row * width + (int) ((hash >>> shift) & mask)));
+            shift += bits;
+        }
+        return estimate;
+    }
+
+    // Finalizador de SplitMix64: reparte bien IDs consecutivos
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+
+    /**
+     * Clave caliente con su frecuencia estimada. Count-Min nunca subestima:
+     * la cifra puede exceder la real por colisiones, no quedarse corta.
+     */
+    public static final class HotKey {
+
+        private final long key;
+        private final long count;
+
+        HotKey(long key, long count) {
+            this.key = key;
+            this.count = count;
+        }
+
+        public long getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+
+    private static final class Window {
+
+        private final AtomicLongArray counts;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, Long> top;
+        private volatile long epoch = Long.MIN_VALUE;
+        // Menor estimación de la tabla llena; por debajo ni se intenta el lock
+        private volatile long minTop;
+
+        Window(int counters, int capacity) {
+            this.counts = new AtomicLongArray(counters);
+            this.top = new HashMap<>(capacity * 2);
+        }
+
+        void rotate(long newEpoch) {
+            lock.lock();
+            try {
+                if (epoch == newEpoch) {
+                    return;
+                }
+                // Los incrementos que coincidan con la limpieza se pierden: el conteo es aproximado
+                for (int i = 0; i < counts.length(); i++) {
+                    counts.set(i, 0);
+                }
+                top.clear();
+                minTop = 0;
+                epoch = newEpoch;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void offer(long key, long estimate, int capacity) {
+            Long boxed = key;
+            if (top.size() < capacity || top.containsKey(boxed)) {
+                top.put(boxed, estimate);
+                if (top.size() == capacity) {
+                    minTop = min();
+                }
+                return;
+            }
+            Long evicted = null;
+            long lowest = Long.MAX_VALUE;
+            for (Map.Entry<Long, Long> entry : top.entrySet()) {
+                if (entry.getValue() < lowest) {
+                    lowest = entry.getValue();
+                    evicted = entry.getKey();
+                }
+            }
+            if (estimate > lowest) {
+                top.remove(evicted);
+                top.put(boxed, estimate);
+            }
+            minTop = min();
+        }
+
+        private long min() {
+            long lowest = Long.MAX_VALUE;
+            for (long value : top.values()) {
+                lowest = Math.min(lowest, value);
+            }
+            return lowest;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seguimiento de los eventos y venues más consultados y modificados.
+ * Los controladores registran cada lectura o escritura por ID; hay un
+ * {@link HotKeySketch} por recurso y operación, configurables con
+ * {@code tiquetera.hotkeys.*}.
+ */
+@Component
+public class HotKeyTracker {
+
+    public enum Operation { READ, WRITE }
+
+    private final boolean enabled;
+    private final Map<CatalogChange.Resource, Map<Operation, HotKeySketch>> sketches =
+            new EnumMap<>(CatalogChange.Resource.class);
+
+    public HotKeyTracker(
+            @Value("${tiquetera.hotkeys.enabled:true}") boolean enabled,
+            @Value("${tiquetera.hotkeys.windows:6}") int windows,
+            @Value("${tiquetera.hotkeys.window-seconds:10}") long windowSeconds,
+            @Value("${tiquetera.hotkeys.depth:4}") int depth,
+            @Value("${tiquetera.hotkeys.width:1024}") int width,
+            @Value("${tiquetera.hotkeys.capacity:32}") int capacity) {
+        this.enabled = enabled;
+        for (CatalogChange.Resource resource : CatalogChange.Resource.values()) {
+            Map<Operation, HotKeySketch> byOperation = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                byOperation.put(operation, new HotKeySketch(windows, TimeUnit.SECONDS.toNanos(windowSeconds),
+                        depth, width, capacity));
+            }
+            sketches.put(resource, byOperation);
+        }
+    }
+
+    public void recordRead(CatalogChange.Resource resource, Long id) {
+        record(resource, Operation.READ, id);
+    }
+
+    public void recordWrite(CatalogChange.Resource resource, Long id) {
+        record(resource, Operation.WRITE, id);
+    }
+
+    private void record(CatalogChange.Resource resource, Operation operation, Long id) {
+        if (enabled && id != null) {
+            sketches.get(resource).get(operation).record(id, System.nanoTime());
+        }
+    }
+
+    public HotKeySketch sketch(CatalogChange.Resource resource, Operation operation) {
+        return sketches.get(resource).get(operation);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,245 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ConflictException;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Respuestas de creaciones guardadas por {@code Idempotency-Key}, para que un cliente
+ * pueda reintentar un POST sin crear duplicados. El primer POST con una clave crea el
+ * recurso; los reintentos con la misma clave y el mismo cuerpo reciben la misma
+ * respuesta, y los que llegan mientras el primero sigue en curso lo esperan.
+ * <p>
+ * La caché está acotada en entradas y en tiempo. Se reparte en stripes con su propio
+ * lock; cada stripe guarda sus entradas en orden de creación, que con un TTL único es
+ * también el orden de vencimiento, así cada inserción retira por la cabeza las
+ * vencidas y, si el stripe está lleno, la más vieja ya terminada. Una creación en
+ * curso nunca se descarta: si todo el stripe está en curso la clave nueva se rechaza
+ * con 503. Si la creación falla la clave se libera y el reintento vuelve a ejecutarla.
+ * <p>
+ * Las respuestas se guardan tal cual durante todo el TTL: no deben depender de
+ * recursos que caduquen antes (ej. descripciones fuera del heap sin decodificar).
+ */
+@Component
+public class IdempotencyCache {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int MAX_STRIPES = 256;
+
+    private final long ttlNanos;
+    private final long waitMillis;
+    private final int stripeCapacity;
+    private final Stripe[] stripes;
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public IdempotencyCache(
+            @Value("${tiquetera.idempotency.max-entries:100000}") int maxEntries,
+            @Value("${tiquetera.idempotency.ttl-ms:86400000}") long ttlMillis,
+            @Value("${tiquetera.idempotency.wait-ms:10000}") long waitMillis,
+            @Value("${tiquetera.idempotency.stripes:0}") int configuredStripes) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.waitMillis = waitMillis;
+        int wanted = configuredStripes > 0 ? configuredStripes : 4 * Runtime.getRuntime().availableProcessors();
+        int size = 1;
+        while (size < Math.min(wanted, MAX_STRIPES)) {
+            size <<= 1;
+        }
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeCapacity = Math.max(1, maxEntries / size);
+    }
+
+    /**
+     * Ejecuta una creación una sola vez por clave
+     * @param scope Recurso de la operación (ej. "events"); la misma clave en otro recurso es otra operación
+     * @param key Valor de la cabecera Idempotency-Key
+     * @param request Cuerpo de la petición codificado, para rechazar la clave reutilizada con otros datos
+     * @param create Creación a ejecutar si la clave es nueva
+     * @param <T> Tipo de la respuesta
+     * @return Respuesta creada ahora o guardada de la primera petición
+     */
+    public <T> Outcome<T> execute(String scope, String key, byte[] request, Supplier<T> create) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(HEADER + " debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+        }
+        String id = scope + ':' + key;
+        long fingerprint = fingerprint(request);
+        Stripe stripe = stripes[spread(id.hashCode()) & (stripes.length - 1)];
+        Entry entry;
+        boolean owner = false;
+        long now = System.nanoTime();
+        synchronized (stripe) {
+            stripe.expire(now);
+            entry = stripe.entries.get(id);
+            if (entry == null) {
+                if (stripe.entries.size() >= stripeCapacity && !stripe.evictCompleted()) {
+                    throw new ServiceUnavailableException("Hay demasiadas creaciones con " + HEADER
+                            + " en curso, intente nuevamente más tarde");
+                }
+                entry = new Entry(fingerprint, now + ttlNanos);
+                stripe.entries.put(id, entry);
+                owner = true;
+            }
+        }
+        if (!owner) {
+            if (entry.fingerprint != fingerprint) {
+                throw new ConflictException(HEADER + " ya se usó con otros datos");
+            }
+            replayed.increment();
+            return new Outcome<>(entry.await(waitMillis), true);
+        }
+        T value;
+        try {
+            value = create.get();
+        } catch (RuntimeException | Error e) {
+            synchronized (stripe) {
+                stripe.entries.remove(id, entry);
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+        executed.increment();
+        entry.result.complete(value);
+        return new Outcome<>(value, false);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public long getExecuted() {
+        return executed.sum();
+    }
+
+    public long getReplayed() {
+        return replayed.sum();
+    }
+
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    // FNV-1a de 64 bits: guardar el hash en vez del cuerpo mantiene pequeña cada entrada
+    private static long fingerprint(byte[] request) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : request) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Resultado de una creación con clave de idempotencia.
+     * @param <T> Tipo de la respuesta
+     */
+    public static final class Outcome<T> {
+
+        private final T value;
+        private final boolean replayed;
+
+        Outcome(T value, boolean replayed) {
+            this.value = value;
+            this.replayed = replayed;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * @return true si la respuesta es la guardada de una petición anterior
+         */
+        public boolean isReplayed() {
+            return replayed;
+        }
+    }
+
+    private final class Stripe {
+
+        // Orden de creación = orden de vencimiento
+        private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+        // Retira la entrada terminada más vieja; false si todas siguen en curso
+        boolean evictCompleted() {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().result.isDone()) {
+                    iterator.remove();
+                    evicted.increment();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void expire(long now) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext() && iterator.next().expiresAt - now <= 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final long fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        Entry(long fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T await(long waitMillis) {
+            try {
+                return (T) result.get(waitMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new ConflictException("Una petición con la misma " + HEADER + " sigue en curso");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConflictException("Una petición con la misma " + HEADER + " sigue en curso");
+            } catch (ExecutionException e) {
+                // Quien espera recibe el mismo error que la petición original
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
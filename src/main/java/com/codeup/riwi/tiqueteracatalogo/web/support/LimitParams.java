@@ -0,0 +1,25 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+
+/**
+ * Validación de los parámetros que fijan cuántos resultados devolver
+ * ({@code limit} de los listados y búsquedas, {@code k} de los vecinos más cercanos).
+ */
+public final class LimitParams {
+
+    private LimitParams() {
+    }
+
+    /**
+     * @param name Nombre del parámetro para el mensaje de error
+     * @param value Valor recibido
+     * @param max Máximo admitido
+     * @throws BadRequestException si el valor no está entre 1 y max
+     */
+    public static void validate(String name, int value, int max) {
+        if (value <= 0 || value > max) {
+            throw new BadRequestException(String.format("%s debe estar entre 1 y %d", name, max));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.BinaryReader;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.BinaryWriter;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.CatalogBinaryCodec;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+
+import java.util.Base64;
+
+/**
+ * Cursores de paginación por clave para los listados ordenados.
+ * El cursor lleva el orden pedido y la última fila de la página (sin textos largos)
+ * en el formato binario del catálogo, en Base64 URL. La página siguiente empieza
+ * justo después de esa fila aunque se hayan creado o borrado otras entre medias,
+ * y solo vale con el mismo {@code sort} con el que se generó.
+ * <p>
+ * El cursor viene del cliente: uno alterado que no se pueda leer, o al que le falte
+ * el ID o el campo principal del orden, se rechaza con 400 en vez de llegar al
+ * comparador del repositorio.
+ */
+public final class PageCursor {
+
+    public static final String NEXT_HEADER = "X-Next-Cursor";
+
+    private static final int VERSION = 1;
+    private static final int EVENTO = 1;
+    private static final int VENUE = 2;
+
+    private PageCursor() {
+    }
+
+    public static String encode(String sort, EventoResponse last) {
+        EventoResponse row = new EventoResponse(last.getId(), last.getName(), null, last.getEventDate(),
+                last.getVenueId(), last.getCapacity(), last.getPrice());
+        BinaryWriter out = header(EVENTO, sort);
+        CatalogBinaryCodec.writeEvento(out, row);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    public static String encode(String sort, VenueResponse last) {
+        BinaryWriter out = header(VENUE, sort);
+        CatalogBinaryCodec.writeVenue(out, last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    public static EventoResponse decodeEvento(String cursor, String sort) {
+        BinaryReader in = open(cursor, EVENTO, sort);
+        EventoResponse row;
+        try {
+            row = CatalogBinaryCodec.readEvento(in);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        // price y capacity pueden faltar en un evento: se ordenan al final
+        boolean missing = switch (primaryField(sort)) {
+            case "name" -> row.getName() == null;
+            case "eventDate" -> row.getEventDate() == null;
+            default -> false;
+        };
+        if (row.getId() == null || missing) {
+            throw invalid();
+        }
+        return row;
+    }
+
+    public static VenueResponse decodeVenue(String cursor, String sort) {
+        BinaryReader in = open(cursor, VENUE, sort);
+        VenueResponse row;
+        try {
+            row = CatalogBinaryCodec.readVenue(in);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        boolean missing = switch (primaryField(sort)) {
+            case "name" -> row.getName() == null;
+            case "city" -> row.getCity() == null;
+            case "country" -> row.getCountry() == null;
+            default -> false;
+        };
+        if (row.getId() == null || missing) {
+            throw invalid();
+        }
+        return row;
+    }
+
+    // El orden canónico es "campo,asc|desc,..."
+    private static String primaryField(String sort) {
+        int comma = sort.indexOf(',');
+        return comma < 0 ? sort : sort.substring(0, comma);
+    }
+
+    private static BinaryWriter header(int resource, String sort) {
+        BinaryWriter out = new BinaryWriter(64);
+        out.writeByte(VERSION);
+        out.writeByte(resource);
+        out.writeString(sort);
+        return out;
+    }
+
+    private static BinaryReader open(String cursor, int resource, String sort) {
+        BinaryReader in;
+        String encodedSort;
+        try {
+            in = new BinaryReader(Base64.getUrlDecoder().decode(cursor));
+            if (in.readByte() != VERSION || in.readByte() != resource) {
+                throw invalid();
+            }
+            encodedSort = in.readString();
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (!sort.equals(encodedSort)) {
+            throw new BadRequestException("cursor se generó con sort=" + encodedSort + "; repita ese orden o empiece sin cursor");
+        }
+        return in;
+    }
+
+    private static BadRequestException invalid() {
+        return new BadRequestException("cursor inválido");
+    }
+}
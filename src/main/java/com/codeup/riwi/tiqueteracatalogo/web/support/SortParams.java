@@ -0,0 +1,71 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.repository.SortKey;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lectura del parámetro {@code sort} de los listados.
+ * Formato: campos separados por coma, cada uno seguido opcionalmente de {@code asc}
+ * o {@code desc}, como en la búsqueda ({@code sort=price,desc,name}). El parámetro
+ * repetido ({@code sort=price,desc&sort=name}) llega unido por comas y vale igual.
+ */
+public final class SortParams {
+
+    // Criterios máximos por petición
+    private static final int MAX_KEYS = 4;
+
+    private SortParams() {
+    }
+
+    /**
+     * @param sort Valor del parámetro o null
+     * @param allowed Campos admitidos
+     * @return Criterios en orden de prioridad; vacío si no se pidió orden
+     */
+    public static List<SortKey> parse(String sort, Set<String> allowed) {
+        List<SortKey> keys = new ArrayList<>();
+        if (sort == null || sort.isBlank()) {
+            return keys;
+        }
+        Set<String> seen = new HashSet<>();
+        String[] tokens = sort.split(",");
+        for (int i = 0; i < tokens.length; i++) {
+            String field = tokens[i].trim();
+            if (!allowed.contains(field)) {
+                throw new BadRequestException("sort admite " + String.join(", ", allowed)
+                        + ", cada uno seguido opcionalmente de asc o desc");
+            }
+            if (!seen.add(field)) {
+                throw new BadRequestException("sort repite el campo " + field);
+            }
+            boolean descending = false;
+            if (i + 1 < tokens.length) {
+                String direction = tokens[i + 1].trim();
+                if (direction.equals("asc") || direction.equals("desc")) {
+                    descending = direction.equals("desc");
+                    i++;
+                }
+            }
+            keys.add(new SortKey(field, descending));
+        }
+        if (keys.size() > MAX_KEYS) {
+            throw new BadRequestException("sort admite como máximo " + MAX_KEYS + " campos");
+        }
+        return keys;
+    }
+
+    /**
+     * Forma canónica de los criterios, la que guarda el cursor
+     * @param keys Criterios
+     * @return Campos con dirección explícita separados por coma
+     */
+    public static String format(List<SortKey> keys) {
+        return keys.stream().map(SortKey::toString).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,154 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Selección de campos (parámetro {@code fields=}) para respuestas de lectura.
+ * El plan de cada valor distinto de {@code fields} se calcula una sola vez y se
+ * reutiliza, de modo que por petición solo se copian los campos pedidos.
+ */
+public final class SparseFieldset<T> {
+
+    // Límite de planes cacheados para que valores arbitrarios no hagan crecer el mapa
+    private static final int MAX_CACHED_PLANS = 256;
+
+    public static final SparseFieldset<EventoResponse> EVENTOS = new SparseFieldset<>("Evento", eventoAccessors());
+    public static final SparseFieldset<VenueResponse> VENUES = new SparseFieldset<>("Venue", venueAccessors());
+
+    private final String resourceName;
+    private final Map<String, Function<T, Object>> accessors;
+    private final Map<String, Plan<T>> plans = new ConcurrentHashMap<>();
+
+    private SparseFieldset(String resourceName, Map<String, Function<T, Object>> accessors) {
+        this.resourceName = resourceName;
+        this.accessors = accessors;
+    }
+
+    /**
+     * Obtiene el plan precalculado para un valor de {@code fields}
+     * @param fields Lista de campos separados por coma
+     * @return Plan de selección
+     * @throws BadRequestException si algún campo no existe o no se nombra ninguno
+     */
+    public Plan<T> plan(String fields) {
+        Plan<T> plan = plans.get(fields);
+        if (plan == null) {
+            plan = compile(fields);
+            if (plans.size() < MAX_CACHED_PLANS) {
+                plans.putIfAbsent(fields, plan);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Indica si el parámetro {@code fields} pide una selección
+     * @param fields Valor recibido
+     * @return true si hay que aplicar un plan
+     */
+    public static boolean isRequested(String fields) {
+        return fields != null && !fields.isBlank();
+    }
+
+    private Plan<T> compile(String fields) {
+        List<String> names = new ArrayList<>();
+        List<Function<T, Object>> getters = new ArrayList<>();
+        for (String raw : fields.split(",")) {
+            String name = raw.trim();
+            if (name.isEmpty() || names.contains(name)) {
+                continue;
+            }
+            Function<T, Object> getter = accessors.get(name);
+            if (getter == null) {
+                throw new BadRequestException(String.format(
+                        "Campo '%s' no válido para %s. Campos disponibles: %s",
+                        name, resourceName, String.join(",", accessors.keySet())));
+            }
+            names.add(name);
+            getters.add(getter);
+        }
+        // "fields=," o "fields= , " no piden nada: sin esto la respuesta serían objetos vacíos
+        if (names.isEmpty()) {
+            throw new BadRequestException(String.format(
+                    "El parámetro fields no nombra ningún campo de %s. Campos disponibles: %s",
+                    resourceName, String.join(",", accessors.keySet())));
+        }
+        return new Plan<>(names.toArray(new String[0]), getters);
+    }
+
+    /**
+     * Plan inmutable con los nombres y accesores de los campos seleccionados.
+     */
+    public static final class Plan<T> {
+
+        private final String[] names;
+        private final List<Function<T, Object>> getters;
+
+        private Plan(String[] names, List<Function<T, Object>> getters) {
+            this.names = names;
+            this.getters = List.copyOf(getters);
+        }
+
+        public Map<String, Object> apply(T source) {
+            Map<String, Object> result = new LinkedHashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                result.put(names[i], getters.get(i).apply(source));
+            }
+            return result;
+        }
+
+        public List<Map<String, Object>> applyAll(List<T> sources) {
+            List<Map<String, Object>> result = new Rows(sources.size());
+            for (T source : sources) {
+                result.add(apply(source));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Lista de filas proyectadas. Conserva el tipo de elemento en tiempo de ejecución:
+     * los controladores la devuelven como {@code ResponseEntity<?>}, y así la negociación
+     * de contenido puede descartar los formatos que solo escriben DTOs completos.
+     */
+    public static final class Rows extends ArrayList<Map<String, Object>> {
+
+        private Rows(int capacity) {
+            super(capacity);
+        }
+    }
+
+    private static Map<String, Function<EventoResponse, Object>> eventoAccessors() {
+        Map<String, Function<EventoResponse, Object>> map = new LinkedHashMap<>();
+        map.put("id", EventoResponse::getId);
+        map.put("name", EventoResponse::getName);
+        map.put("description", EventoResponse::getDescription);
+        map.put("eventDate", EventoResponse::getEventDate);
+        map.put("venueId", EventoResponse::getVenueId);
+        map.put("capacity", EventoResponse::getCapacity);
+        map.put("price", EventoResponse::getPrice);
+        return map;
+    }
+
+    private static Map<String, Function<VenueResponse, Object>> venueAccessors() {
+        Map<String, Function<VenueResponse, Object>> map = new LinkedHashMap<>();
+        map.put("id", VenueResponse::getId);
+        map.put("name", VenueResponse::getName);
+        map.put("address", VenueResponse::getAddress);
+        map.put("city", VenueResponse::getCity);
+        map.put("country", VenueResponse::getCountry);
+        map.put("capacity", VenueResponse::getCapacity);
+        map.put("latitude", VenueResponse::getLatitude);
+        map.put("longitude", VenueResponse::getLongitude);
+        return map;
+    }
+}
@@ -0,0 +1,42 @@
+package com.codeup.riwi.tiqueteracatalogo.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Comprueba que el documento que empaqueta el build, escrito por
+ * {@link OpenApiDocumentGenerator} en process-classes, es el mismo que sirve springdoc en vivo.
+ */
+@SpringBootTest
+class OpenApiDocumentTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Test
+	void theGeneratedDocumentMatchesTheLiveOne(@TempDir Path directory) throws Exception {
+		MockMvc mvc = MockMvcBuilders.webAppContextSetup(context).build();
+		String live = mvc.perform(get("/v3/api-docs"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		assertTrue(live.contains("\"/api/events/{id}\""));
+		assertTrue(live.contains("\"/api/venues/{id}\""));
+
+		Path output = directory.resolve("openapi/openapi.json");
+		OpenApiDocumentGenerator.main(new String[]{output.toString()});
+		assertEquals(live, Files.readString(output, StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,150 @@
+package com.codeup.riwi.tiqueteracatalogo.replication;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogAggregates;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogDictionaries;
+import com.codeup.riwi.tiqueteracatalogo.repository.ChangeFeed;
+import com.codeup.riwi.tiqueteracatalogo.repository.ColdEventStore;
+import com.codeup.riwi.tiqueteracatalogo.repository.EventoRepository;
+import com.codeup.riwi.tiqueteracatalogo.repository.ParallelQueryExecutor;
+import com.codeup.riwi.tiqueteracatalogo.repository.TextStore;
+import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationLoopbackTests {
+
+	private static final LocalDateTime DATE = LocalDateTime.of(2027, 3, 1, 20, 0);
+	private static final long WAIT_MS = 10_000;
+
+	@Test
+	void followerCopiesTheCatalogThenFollowsChangesAndResumes() throws Exception {
+		ChangeFeed feed = new ChangeFeed(1024);
+		EventoRepository leaderEventos = eventos(feed);
+		VenueRepository leaderVenues = venues(feed);
+		leaderVenues.save(new VenueEntity(null, "Movistar Arena", "Calle 61", "Bogotá", "Colombia", 14_000));
+		for (int i = 0; i < 3; i++) {
+			leaderEventos.save(new EventoEntity(null, "Concierto " + i, "Gira ñ " + i, DATE.plusDays(i), 1L, 100, 50.0 * i));
+		}
+		EventoRepository followerEventos = eventos(new ChangeFeed(64));
+		VenueRepository followerVenues = venues(new ChangeFeed(64));
+		// Fila que el líder no tiene: la copia completa debe borrarla
+		followerEventos.save(new EventoEntity(99L, "Viejo", null, DATE, 1L, 10, null));
+
+		ReplicationLeader leader = new ReplicationLeader(1, 0, feed, leaderEventos, leaderVenues, 100, 4);
+		ReplicationFollower follower = new ReplicationFollower("127.0.0.1", leader.getPort(),
+				followerEventos, followerVenues, 100);
+		try {
+			assertTrue(follower.awaitToken(new ReadToken(1, feed.lastSequence()), WAIT_MS));
+			assertEquals(names(leaderEventos), names(followerEventos));
+			assertFalse(followerEventos.existsById(99L));
+			assertEquals("Gira ñ 2", followerEventos.findById(3L).orElseThrow().getDescription());
+			assertEquals("Movistar Arena", followerVenues.findById(1L).orElseThrow().getName());
+			assertEquals(1, follower.getSnapshotsLoaded());
+
+			// Cambios incrementales: actualización, borrado y alta
+			leaderEventos.save(new EventoEntity(1L, "Concierto reprogramado", null, DATE.plusDays(7), 1L, 100, 80.0));
+			leaderEventos.deleteById(2L);
+			leaderEventos.save(new EventoEntity(null, "Concierto 3", null, DATE.plusDays(3), 1L, 100, 10.0));
+			assertTrue(follower.awaitToken(new ReadToken(1, feed.lastSequence()), WAIT_MS));
+			assertEquals(names(leaderEventos), names(followerEventos));
+			assertEquals(DATE.plusDays(7), followerEventos.findById(1L).orElseThrow().getEventDate());
+			assertFalse(followerEventos.existsById(2L));
+			assertEquals(1, follower.getSnapshotsLoaded());
+			assertEquals(3, follower.getChangesApplied());
+
+			// Reconexión: se retoma desde la secuencia aplicada, sin otra copia completa
+			leader.sessions().forEach(ReplicationLeader.Session::close);
+			leaderEventos.save(new EventoEntity(null, "Concierto 4", null, DATE.plusDays(4), 1L, 100, 10.0));
+			assertTrue(follower.awaitToken(new ReadToken(1, feed.lastSequence()), WAIT_MS));
+			assertEquals(names(leaderEventos), names(followerEventos));
+			assertEquals(1, follower.getSnapshotsLoaded());
+			assertEquals(4, follower.getChangesApplied());
+		} finally {
+			follower.close();
+			leader.close();
+		}
+	}
+
+	@Test
+	void tokensFromANewLeaderWaitForItsSnapshot() throws Exception {
+		ChangeFeed feed = new ChangeFeed(1024);
+		EventoRepository leaderEventos = eventos(feed);
+		for (int i = 0; i < 5; i++) {
+			leaderEventos.save(new EventoEntity(null, "Feria " + i, null, DATE.plusDays(i), 1L, 100, 10.0));
+		}
+		EventoRepository followerEventos = eventos(new ChangeFeed(64));
+		ReplicationLeader leader = new ReplicationLeader(1, 0, feed, leaderEventos, venues(feed), 100, 4);
+		int port = leader.getPort();
+		ReplicationFollower follower = new ReplicationFollower("127.0.0.1", port,
+				followerEventos, venues(new ChangeFeed(64)), 100);
+		ReplicationLeader restarted = null;
+		try {
+			ReadToken before = new ReadToken(1, feed.lastSequence());
+			assertTrue(follower.awaitToken(before, WAIT_MS));
+			leader.close();
+
+			// El líder vuelve con otra época y su registro empieza de cero
+			ChangeFeed newFeed = new ChangeFeed(1024);
+			EventoRepository newEventos = eventos(newFeed);
+			newEventos.save(new EventoEntity(null, "Única", null, DATE, 1L, 100, 10.0));
+			ReadToken after = new ReadToken(2, newFeed.lastSequence());
+			// Su secuencia es menor que la aplicada, pero es de una época posterior
+			assertTrue(after.getSequence() < follower.token().getSequence());
+			assertFalse(follower.awaitToken(after, 50));
+
+			restarted = new ReplicationLeader(2, port, newFeed, newEventos, venues(newFeed), 100, 4);
+			assertTrue(follower.awaitToken(after, WAIT_MS));
+			assertEquals(List.of("Única"), names(followerEventos));
+			assertEquals(2, follower.getEpoch());
+			assertEquals(2, follower.getSnapshotsLoaded());
+			// Un token de la época anterior ya está cubierto
+			assertTrue(follower.awaitToken(before, 0));
+		} finally {
+			follower.close();
+			leader.close();
+			if (restarted != null) {
+				restarted.close();
+			}
+		}
+	}
+
+	@Test
+	void tokensCompareEpochsBeforeSequences() {
+		ReadToken token = ReadToken.parse("1700000000000:42");
+		assertEquals(1_700_000_000_000L, token.getEpoch());
+		assertEquals(42, token.getSequence());
+		assertEquals("1700000000000:42", token.toString());
+
+		assertTrue(token.isCoveredBy(1_700_000_000_000L, 42));
+		assertFalse(token.isCoveredBy(1_700_000_000_000L, 41));
+		assertTrue(token.isCoveredBy(1_700_000_000_001L, 0));
+		assertFalse(token.isCoveredBy(1_699_999_999_999L, 1_000));
+
+		assertThrows(IllegalArgumentException.class, () -> ReadToken.parse("42"));
+		assertThrows(IllegalArgumentException.class, () -> ReadToken.parse(":42"));
+		assertThrows(IllegalArgumentException.class, () -> ReadToken.parse("1:x"));
+		assertThrows(IllegalArgumentException.class, () -> ReadToken.parse("1:-3"));
+	}
+
+	private static List<String> names(EventoRepository repository) {
+		return repository.findAll().stream().map(EventoEntity::getName).sorted().collect(Collectors.toList());
+	}
+
+	private static EventoRepository eventos(ChangeFeed feed) {
+		return new EventoRepository(new CatalogAggregates(new CatalogDictionaries()), feed, new ParallelQueryExecutor(1, 50_000),
+				new TextStore("heap", 256, 1, 0, ""),
+				new ColdEventStore(false, 24, 60_000, 16, 262_144, 10, ""), 2);
+	}
+
+	private static VenueRepository venues(ChangeFeed feed) {
+		CatalogDictionaries dictionaries = new CatalogDictionaries();
+		return new VenueRepository(new CatalogAggregates(dictionaries), feed, dictionaries, 1.0);
+	}
+}
@@ -0,0 +1,123 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogAggregatesTests {
+
+	// Lejos de ahora para que ninguna fecha cambie de futura a pasada durante la prueba
+	private static final LocalDateTime PAST = LocalDateTime.now().minusYears(5);
+	private static final LocalDateTime FUTURE = LocalDateTime.now().plusYears(5);
+	private static final String[] CITIES = {"Bogotá", "BOGOTÁ", "Medellín", "Lima", "Quito"};
+
+	@Test
+	void randomWritesMatchARecomputationFromScratch() {
+		Random random = new Random(27);
+		CatalogDictionaries dictionaries = new CatalogDictionaries();
+		CatalogAggregates aggregates = new CatalogAggregates(dictionaries);
+		VenueRepository venues = new VenueRepository(aggregates, new ChangeFeed(64), dictionaries, 1.0);
+		Map<Long, EventoEntity> eventos = new HashMap<>();
+		long nextId = 1;
+
+		for (int step = 0; step < 5_000; step++) {
+			int action = random.nextInt(10);
+			if (action < 4 || eventos.isEmpty()) {
+				EventoEntity evento = randomEvento(random, nextId++);
+				eventos.put(evento.getId(), evento);
+				aggregates.eventoAdded(evento);
+			} else if (action < 7) {
+				Long id = pick(random, eventos);
+				EventoEntity current = randomEvento(random, id);
+				aggregates.eventoUpdated(eventos.put(id, current), current);
+			} else if (action < 9) {
+				aggregates.eventoRemoved(eventos.remove(pick(random, eventos)));
+			} else {
+				long venueId = 1 + random.nextInt(8);
+				if (random.nextBoolean() || !venues.existsById(venueId)) {
+					venues.save(new VenueEntity(venueId, "Venue " + venueId, "Calle",
+							CITIES[random.nextInt(CITIES.length)], "País", random.nextInt(1_000)));
+				} else {
+					venues.deleteById(venueId);
+				}
+			}
+			if (step % 250 == 0 || step == 4_999) {
+				assertMatches(aggregates, venues, eventos.values());
+			}
+		}
+
+		// Al vaciarse no queda ningún grupo
+		new ArrayList<>(eventos.values()).forEach(aggregates::eventoRemoved);
+		assertEquals(Set.of(), aggregates.venueIdsWithEvents());
+		assertEquals(0, aggregates.eventCount());
+	}
+
+	private static void assertMatches(CatalogAggregates aggregates, VenueRepository venues,
+									  Collection<EventoEntity> eventos) {
+		assertEquals(eventos.size(), aggregates.eventCount());
+		assertStats(eventos, aggregates.totalStats());
+
+		Map<Long, List<EventoEntity>> byVenue = eventos.stream().collect(Collectors.groupingBy(EventoEntity::getVenueId));
+		assertEquals(byVenue.keySet(), aggregates.venueIdsWithEvents());
+		for (Map.Entry<Long, List<EventoEntity>> entry : byVenue.entrySet()) {
+			assertStats(entry.getValue(), aggregates.venueStats(entry.getKey()));
+		}
+
+		Map<String, List<VenueEntity>> byCity = venues.findAll().stream()
+				.collect(Collectors.groupingBy(v -> v.getCity().toLowerCase(Locale.ROOT)));
+		List<CatalogAggregates.CityStats> cities = aggregates.allCityStats();
+		assertEquals(byCity.size(), cities.size());
+		for (CatalogAggregates.CityStats city : cities) {
+			List<VenueEntity> expected = byCity.get(city.getCity().toLowerCase(Locale.ROOT));
+			assertNotNull(expected, city.getCity());
+			assertEquals(expected.size(), city.getVenueCount());
+			assertEquals(expected.stream().mapToLong(VenueEntity::getCapacity).sum(), city.getVenueCapacity());
+			Set<Long> ids = expected.stream().map(VenueEntity::getId).collect(Collectors.toSet());
+			assertStats(eventos.stream().filter(e -> ids.contains(e.getVenueId())).collect(Collectors.toList()),
+					city.getEvents());
+		}
+	}
+
+	private static void assertStats(Collection<EventoEntity> expected, CatalogAggregates.Stats actual) {
+		assertEquals(expected.size(), actual.getEventCount());
+		assertEquals(expected.stream().filter(e -> e.getEventDate().isAfter(LocalDateTime.now())).count(),
+				actual.getUpcomingEventCount());
+		assertEquals(expected.stream().mapToLong(EventoEntity::getCapacity).sum(), actual.getTotalCapacity());
+		List<Double> prices = expected.stream().map(EventoEntity::getPrice).filter(p -> p != null)
+				.collect(Collectors.toList());
+		if (prices.isEmpty()) {
+			assertNull(actual.getAveragePrice());
+			assertNull(actual.getMinPrice());
+			assertNull(actual.getMaxPrice());
+		} else {
+			double average = prices.stream().mapToDouble(Double::doubleValue).average().orElseThrow();
+			assertEquals(average, actual.getAveragePrice(), 1e-6);
+			assertEquals(prices.stream().min(Double::compare).orElseThrow(), actual.getMinPrice());
+			assertEquals(prices.stream().max(Double::compare).orElseThrow(), actual.getMaxPrice());
+		}
+	}
+
+	private static EventoEntity randomEvento(Random random, long id) {
+		Double price = random.nextInt(5) == 0 ? null : (double) (1 + random.nextInt(200)) * 500;
+		LocalDateTime date = (random.nextBoolean() ? PAST : FUTURE).plusDays(random.nextInt(30));
+		return new EventoEntity(id, "Evento " + id, null, date, 1L + random.nextInt(8), 1 + random.nextInt(500), price);
+	}
+
+	private static Long pick(Random random, Map<Long, EventoEntity> eventos) {
+		List<Long> ids = new ArrayList<>(eventos.keySet());
+		return ids.get(random.nextInt(ids.size()));
+	}
+}
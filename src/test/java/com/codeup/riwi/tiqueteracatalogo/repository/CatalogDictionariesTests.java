@@ -0,0 +1,65 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.FieldDictionary;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogDictionariesTests {
+
+	@Test
+	void valuesLeaveTheDictionaryWithTheirLastVenue() {
+		CatalogDictionaries dictionaries = new CatalogDictionaries();
+		CatalogAggregates aggregates = new CatalogAggregates(dictionaries);
+		VenueRepository repository = new VenueRepository(aggregates, new ChangeFeed(64), dictionaries, 1.0);
+		FieldDictionary cities = dictionaries.getCities();
+
+		VenueEntity first = repository.save(new VenueEntity(null, "Arena", "Calle 1", "Bogotá", "Colombia", 100));
+		repository.save(new VenueEntity(null, "Teatro", "Calle 2", "BOGOTÁ", "Colombia", 50));
+		repository.save(new VenueEntity(null, "Estadio", "Calle 3", "Lima", "Perú", 900));
+		assertEquals(3, cities.size());
+		assertEquals(2, dictionaries.getCountries().size());
+		assertEquals(2, repository.findIdsByCity("bogotá").size());
+
+		// Volver a guardar la misma instancia no cambia las referencias
+		repository.save(first);
+		repository.update(new VenueEntity(3L, "Estadio", "Calle 3", "Cusco", "Perú", 900));
+		assertEquals(3, cities.size());
+		assertEquals(List.of(), repository.findIdsByCity("lima"));
+		assertNull(aggregates.cityStats("Lima"));
+
+		repository.deleteById(1L);
+		repository.deleteById(2L);
+		assertEquals(1, cities.size());
+		assertEquals(FieldDictionary.NONE, cities.lookupFolded("bogotá"));
+		assertNull(aggregates.cityStats("Bogotá"));
+		assertEquals(1, aggregates.allCityStats().size());
+		// Quien conserve la entidad vieja sigue leyendo su valor
+		assertEquals("Bogotá", first.getCity());
+
+		// La ciudad vuelve con un código nuevo y los índices la encuentran
+		repository.save(new VenueEntity(null, "Nuevo", "Calle 4", "bogotá", "Colombia", 10));
+		assertEquals(1, repository.findByCity("Bogotá").size());
+		assertEquals(1, aggregates.cityStats("BOGOTÁ").getVenueCount());
+		assertEquals("bogotá", aggregates.cityStats("Bogotá").getCity());
+	}
+
+	@Test
+	void contextsDoNotShareDictionaries() {
+		CatalogDictionaries one = new CatalogDictionaries();
+		CatalogDictionaries other = new CatalogDictionaries();
+		VenueRepository repository = new VenueRepository(new CatalogAggregates(one), new ChangeFeed(64), one, 1.0);
+		VenueRepository copy = new VenueRepository(new CatalogAggregates(other), new ChangeFeed(64), other, 1.0);
+
+		repository.save(new VenueEntity(null, "Arena", "Calle 1", "Medellín", "Colombia", 100));
+		copy.save(new VenueEntity(null, "Arena", "Calle 1", "Medellín", "Colombia", 100));
+		copy.deleteById(1L);
+
+		assertEquals(0, other.getCities().size());
+		assertEquals(1, one.getCities().size());
+		assertEquals(List.of(1L), repository.findIdsByCity("medellín"));
+	}
+}
@@ -0,0 +1,147 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedTests {
+
+	@Test
+	void readsResumeAfterTheGivenSequence() {
+		ChangeFeed feed = new ChangeFeed(8);
+		assertEquals(List.of(), sequences(feed.readAfter(0, 10)));
+		for (long id = 1; id <= 5; id++) {
+			assertEquals(id, feed.append(CatalogChange.Resource.EVENTO, CatalogChange.Type.CREATED, id, null));
+		}
+
+		assertEquals(List.of(1L, 2L, 3L), sequences(feed.readAfter(0, 3)));
+		assertEquals(List.of(4L, 5L), sequences(feed.readAfter(3, 10)));
+		ChangeFeed.Batch upToDate = feed.readAfter(5, 10);
+		assertEquals(List.of(), upToDate.getChanges());
+		assertFalse(upToDate.isTruncated());
+		// Un consumidor adelantado viene de un registro anterior al reinicio: debe volver a empezar
+		ChangeFeed.Batch ahead = feed.readAfter(6, 10);
+		assertEquals(List.of(), ahead.getChanges());
+		assertTrue(ahead.isTruncated());
+		assertTrue(feed.readAfter(100, 10).isTruncated());
+
+		CatalogChange change = feed.readAfter(3, 1).getChanges().get(0);
+		assertEquals(4L, change.getId());
+		assertEquals(CatalogChange.Type.CREATED, change.getType());
+	}
+
+	@Test
+	void truncationStartsJustBeforeTheOldestRetainedChange() {
+		ChangeFeed feed = new ChangeFeed(8);
+		for (long id = 1; id <= 8; id++) {
+			feed.append(CatalogChange.Resource.VENUE, CatalogChange.Type.UPDATED, id, null);
+		}
+		// Con el buffer justo lleno todavía se lee desde el principio
+		ChangeFeed.Batch full = feed.readAfter(0, 100);
+		assertFalse(full.isTruncated());
+		assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L), sequences(full));
+
+		for (long id = 9; id <= 20; id++) {
+			feed.append(CatalogChange.Resource.VENUE, CatalogChange.Type.UPDATED, id, null);
+		}
+		// Se conservan las secuencias 13 a 20
+		ChangeFeed.Batch oldest = feed.readAfter(12, 100);
+		assertFalse(oldest.isTruncated());
+		assertEquals(List.of(13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L), sequences(oldest));
+		assertEquals(List.of(13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L),
+				oldest.getChanges().stream().map(CatalogChange::getId).collect(Collectors.toList()));
+
+		ChangeFeed.Batch missing = feed.readAfter(11, 100);
+		assertTrue(missing.isTruncated());
+		assertEquals(List.of(), missing.getChanges());
+		assertTrue(feed.readAfter(0, 1).isTruncated());
+	}
+
+	@Test
+	void randomReadsMatchAnUnboundedLog() {
+		Random random = new Random(31);
+		int capacity = 16;
+		ChangeFeed feed = new ChangeFeed(capacity);
+		List<Long> log = new ArrayList<>();
+		for (int step = 0; step < 5_000; step++) {
+			if (random.nextInt(3) > 0) {
+				long id = random.nextInt(1_000);
+				log.add(id);
+				assertEquals(log.size(), feed.append(CatalogChange.Resource.EVENTO, CatalogChange.Type.UPDATED, id, null));
+			} else {
+				long last = log.size();
+				long after = Math.max(0, last - 2 * capacity + random.nextInt(2 * capacity + 3));
+				int max = 1 + random.nextInt(2 * capacity);
+				ChangeFeed.Batch batch = feed.readAfter(after, max);
+				boolean lost = after < last - capacity || after > last;
+				assertEquals(lost, batch.isTruncated(), "after=" + after + " last=" + last);
+				if (!lost) {
+					int from = (int) after;
+					int to = (int) Math.min(last, after + max);
+					assertEquals(log.subList(from, to),
+							batch.getChanges().stream().map(CatalogChange::getId).collect(Collectors.toList()));
+					assertEquals(LongStream.rangeClosed(from + 1, to).boxed().collect(Collectors.toList()), sequences(batch));
+				}
+			}
+		}
+		assertEquals(log.size(), feed.lastSequence());
+	}
+
+	@Test
+	void aReaderFollowingConcurrentWritersSeesContiguousBatches() throws Exception {
+		ChangeFeed feed = new ChangeFeed(64);
+		AtomicInteger notified = new AtomicInteger();
+		feed.addListener(notified::incrementAndGet);
+		int writers = 4;
+		int perWriter = 5_000;
+		List<Thread> threads = new ArrayList<>();
+		for (int w = 0; w < writers; w++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < perWriter; i++) {
+					feed.append(CatalogChange.Resource.EVENTO, CatalogChange.Type.CREATED, (long) i, null);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+
+		long total = (long) writers * perWriter;
+		long after = 0;
+		long seen = 0;
+		int truncations = 0;
+		while (after < total) {
+			ChangeFeed.Batch batch = feed.readAfter(after, 32);
+			if (batch.isTruncated()) {
+				// Se reanuda desde el presente, como un cliente que vuelve a pedir el estado completo
+				truncations++;
+				after = feed.lastSequence();
+				continue;
+			}
+			long expected = after + 1;
+			for (CatalogChange change : batch.getChanges()) {
+				assertNotNull(change);
+				assertEquals(expected++, change.getSequence());
+			}
+			seen += batch.getChanges().size();
+			after = expected - 1;
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(total, feed.lastSequence());
+		assertEquals(total, notified.get());
+		assertTrue(truncations > 0 || seen == total);
+	}
+
+	private static List<Long> sequences(ChangeFeed.Batch batch) {
+		return batch.getChanges().stream().map(CatalogChange::getSequence).collect(Collectors.toList());
+	}
+}
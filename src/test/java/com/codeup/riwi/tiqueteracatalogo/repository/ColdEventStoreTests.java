@@ -0,0 +1,95 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColdEventStoreTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void pastEventsMoveToDiskAndStayReachableByIdAndVenue() {
+		ColdEventStore cold = coldStore();
+		EventoRepository repository = repository(cold);
+		for (int i = 0; i < 50; i++) {
+			repository.save(new EventoEntity(null, "Pasado " + i, "Descripción ñandú " + i,
+					NOW.minusDays(1 + i).withNano(123_000_000), 1L + i % 3, 100 + i, i % 2 == 0 ? 10.5 * i : null));
+		}
+		for (int i = 0; i < 5; i++) {
+			repository.save(new EventoEntity(null, "Futuro " + i, null, NOW.plusDays(1 + i), 1L, 100, 20.0));
+		}
+
+		assertEquals(50, repository.tierPastEvents(NOW));
+
+		assertEquals(5, repository.findAll().size());
+		assertEquals(55, repository.count());
+		EventoEntity past = repository.findById(8L).orElseThrow();
+		assertEquals("Pasado 7", past.getName());
+		assertEquals("Descripción ñandú 7", past.getDescription());
+		assertEquals(NOW.minusDays(8).withNano(123_000_000), past.getEventDate());
+		assertEquals(2L, past.getVenueId());
+		assertEquals(107, past.getCapacity());
+		assertNull(past.getPrice());
+		assertFalse(repository.existsById(999L));
+
+		List<Long> venueOne = repository.findByVenueId(1L).stream().map(EventoEntity::getId).collect(Collectors.toList());
+		// 17 eventos pasados del venue 1 desde el disco más los 5 futuros en memoria, en orden de ID
+		assertEquals(22, venueOne.size());
+		assertEquals(venueOne.stream().sorted().collect(Collectors.toList()), venueOne);
+
+		ColdEventStore.Stats stats = cold.stats();
+		assertEquals(1, stats.getSegments());
+		assertEquals(50, stats.getEvents());
+		assertTrue(stats.getBloomSkips() > 0 || stats.getBlockReads() > 0);
+	}
+
+	@Test
+	void writesToColdEventsHideTheirDiskCopy() {
+		ColdEventStore cold = coldStore();
+		EventoRepository repository = repository(cold);
+		for (int i = 0; i < 10; i++) {
+			repository.save(new EventoEntity(null, "Pasado " + i, null, NOW.minusDays(1 + i), 1L, 100, 10.0));
+		}
+		repository.tierPastEvents(NOW);
+
+		EventoEntity moved = new EventoEntity(3L, "Reprogramado", null, NOW.minusDays(3), 2L, 100, 10.0);
+		assertNotNull(repository.update(moved));
+		assertEquals("Reprogramado", repository.findById(3L).orElseThrow().getName());
+		assertTrue(repository.findByVenueId(1L).stream().noneMatch(e -> e.getId() == 3L));
+		assertEquals(1, repository.findByVenueId(2L).size());
+
+		assertTrue(repository.deleteById(5L));
+		assertFalse(repository.deleteById(5L));
+		assertTrue(repository.findById(5L).isEmpty());
+		assertEquals(9, repository.count());
+		assertEquals(8, repository.findByVenueId(1L).size());
+
+		// El evento modificado vuelve a enfriarse y se lee desde el segmento nuevo
+		assertEquals(1, repository.tierPastEvents(NOW));
+		assertEquals("Reprogramado", repository.findById(3L).orElseThrow().getName());
+		assertEquals(2, cold.stats().getSegments());
+		assertEquals(1, cold.stats().getShadowed());
+		assertTrue(repository.findAll().isEmpty());
+	}
+
+	private ColdEventStore coldStore() {
+		// Bloques de 4 registros para que una búsqueda tenga que elegir bloque
+		return new ColdEventStore(false, 24, 60_000, 4, 262_144, 10, directory.toString());
+	}
+
+	private static EventoRepository repository(ColdEventStore cold) {
+		return new EventoRepository(new CatalogAggregates(new CatalogDictionaries()), new ChangeFeed(64),
+				new ParallelQueryExecutor(1, 50_000), new TextStore("heap", 256, 1, 0, ""), cold, 2);
+	}
+}
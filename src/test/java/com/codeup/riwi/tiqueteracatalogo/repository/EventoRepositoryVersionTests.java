@@ -0,0 +1,46 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventoRepositoryVersionTests {
+
+	private static final LocalDateTime DATE = LocalDateTime.of(2027, 5, 1, 20, 0);
+
+	@Test
+	void venueVersionsOnlyMoveWithTheirOwnEvents() {
+		EventoRepository repository = new EventoRepository(new CatalogAggregates(new CatalogDictionaries()),
+				new ChangeFeed(64), new ParallelQueryExecutor(1, 50_000), new TextStore("heap", 256, 1, 0, ""),
+				new ColdEventStore(false, 24, 60_000, 16, 262_144, 10, ""), 2);
+		assertEquals(0, repository.venueVersion(1L));
+
+		repository.save(new EventoEntity(null, "Concierto", null, DATE, 1L, 100, 10.0));
+		long venueOne = repository.venueVersion(1L);
+		assertTrue(venueOne > 0);
+		assertEquals(repository.version(), venueOne);
+
+		// Escrituras en otro venue no invalidan el listado del venue 1
+		repository.save(new EventoEntity(null, "Feria", null, DATE, 2L, 100, 10.0));
+		repository.update(new EventoEntity(2L, "Feria grande", null, DATE, 2L, 500, 10.0));
+		assertEquals(venueOne, repository.venueVersion(1L));
+		assertTrue(repository.venueVersion(2L) > venueOne);
+
+		// Mover un evento de venue cambia los dos listados
+		long venueTwo = repository.venueVersion(2L);
+		repository.update(new EventoEntity(2L, "Feria grande", null, DATE, 1L, 500, 10.0));
+		assertTrue(repository.venueVersion(1L) > venueOne);
+		assertTrue(repository.venueVersion(2L) > venueTwo);
+
+		// Al borrar el último evento la versión sigue creciendo, nunca vuelve a 0
+		venueOne = repository.venueVersion(1L);
+		repository.deleteById(1L);
+		repository.deleteById(2L);
+		assertTrue(repository.venueVersion(1L) > venueOne);
+		assertFalse(repository.deleteById(2L));
+		assertEquals(repository.version(), repository.venueVersion(1L));
+	}
+}
@@ -0,0 +1,115 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoGridIndexTests {
+
+	@Test
+	void radiusAndNearestMatchBruteForce() {
+		Random random = new Random(1);
+		for (double cellDegrees : new double[]{0.1, 1.0, 7.5}) {
+			GeoGridIndex index = new GeoGridIndex(cellDegrees);
+			Map<Long, double[]> points = new HashMap<>();
+			for (long id = 1; id <= 1_500; id++) {
+				double[] point = randomPoint(random);
+				points.put(id, point);
+				index.put(id, point[0], point[1]);
+			}
+			// Movimientos, bajas y coordenadas que desaparecen
+			for (int i = 0; i < 300; i++) {
+				long id = 1 + random.nextInt(1_500);
+				switch (random.nextInt(3)) {
+					case 0 -> {
+						double[] point = randomPoint(random);
+						points.put(id, point);
+						index.put(id, point[0], point[1]);
+					}
+					case 1 -> {
+						points.remove(id);
+						index.remove(id);
+					}
+					default -> {
+						points.remove(id);
+						index.put(id, null, 12.0);
+					}
+				}
+			}
+			assertEquals(points.size(), index.size());
+
+			for (int q = 0; q < 200; q++) {
+				double[] center = randomPoint(random);
+				double radiusKm = random.nextInt(4) == 0 ? random.nextDouble() * 5_000 : random.nextDouble() * 300;
+				List<Long> expected = points.entrySet().stream()
+						.filter(e -> distance(center, e.getValue()) <= radiusKm)
+						.sorted(Comparator.comparingDouble(e -> distance(center, e.getValue())))
+						.map(Map.Entry::getKey)
+						.collect(Collectors.toList());
+				List<Long> radius = index.withinRadius(center[0], center[1], radiusKm);
+				assertEquals(expected.size(), radius.size(), "radio " + radiusKm + " desde " + center[0] + "," + center[1]);
+				assertEquals(distances(center, expected, points), distances(center, radius, points));
+
+				int k = 1 + random.nextInt(20);
+				List<Long> all = new ArrayList<>(points.keySet());
+				all.sort(Comparator.comparingDouble(id -> distance(center, points.get(id))));
+				List<Long> nearest = index.nearest(center[0], center[1], k);
+				assertEquals(Math.min(k, all.size()), nearest.size());
+				// Se comparan distancias: con empates el orden de los IDs puede variar
+				assertEquals(distances(center, all.subList(0, nearest.size()), points), distances(center, nearest, points),
+						"k=" + k + " desde " + center[0] + "," + center[1] + " con celdas de " + cellDegrees);
+			}
+		}
+	}
+
+	@Test
+	void searchesWrapAroundTheAntimeridian() {
+		GeoGridIndex index = new GeoGridIndex(0.5);
+		index.put(1L, -17.0, 179.9);
+		index.put(2L, -17.0, -179.9);
+		index.put(3L, -17.0, 170.0);
+
+		assertEquals(List.of(1L, 2L), index.withinRadius(-17.0, 179.95, 30));
+		assertEquals(List.of(2L, 1L), index.nearest(-17.0, -179.95, 2));
+	}
+
+	@Test
+	void nearestSeesPointsAcrossThePole() {
+		GeoGridIndex index = new GeoGridIndex(1.0);
+		// Al otro lado del polo: 180 grados de longitud, pero a unos 2 km
+		index.put(1L, 89.99, 115.0);
+		index.put(2L, 89.5, -65.0);
+
+		assertEquals(List.of(1L), index.nearest(89.99, -65.0, 1));
+		assertEquals(List.of(1L, 2L), index.withinRadius(89.99, -65.0, 100));
+	}
+
+	private static double[] randomPoint(Random random) {
+		// Un tercio en un cúmulo urbano, el resto repartido con algunos cerca de los polos y del antimeridiano
+		return switch (random.nextInt(6)) {
+			case 0, 1 -> new double[]{4.6 + random.nextGaussian() * 0.2, -74.1 + random.nextGaussian() * 0.2};
+			case 2 -> new double[]{85 + random.nextDouble() * 5, random.nextDouble() * 360 - 180};
+			case 3 -> {
+				double longitude = 179 + random.nextDouble() * 2;
+				yield new double[]{random.nextDouble() * 40 - 20, longitude > 180 ? longitude - 360 : longitude};
+			}
+			default -> new double[]{random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180};
+		};
+	}
+
+	private static List<Double> distances(double[] center, List<Long> ids, Map<Long, double[]> points) {
+		return ids.stream().map(id -> Math.round(distance(center, points.get(id)) * 1e6) / 1e6).collect(Collectors.toList());
+	}
+
+	private static double distance(double[] a, double[] b) {
+		return GeoGridIndex.distanceKm(a[0], a[1], b[0], b[1]);
+	}
+}
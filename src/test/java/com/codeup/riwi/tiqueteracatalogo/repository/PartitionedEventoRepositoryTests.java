@@ -0,0 +1,124 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedEventoRepositoryTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+	private static final String[] FIELDS = {"id", "name", "eventDate", "price", "capacity"};
+
+	@Test
+	void fanOutMatchesASinglePartition() {
+		Random random = new Random(35);
+		EventoRepository single = repository(1, new ParallelQueryExecutor(1, 50_000));
+		// Umbral 1: cada lectura combina particiones recorridas en paralelo
+		EventoRepository partitioned = repository(5, new ParallelQueryExecutor(4, 1));
+		for (int step = 0; step < 2_000; step++) {
+			int action = random.nextInt(10);
+			if (action < 6 || single.count() == 0) {
+				EventoEntity evento = randomEvento(random, null);
+				single.save(evento);
+				partitioned.save(copy(evento));
+			} else if (action < 8) {
+				Long id = 1 + (long) random.nextInt((int) single.count() + 10);
+				if (single.existsById(id)) {
+					EventoEntity evento = randomEvento(random, id);
+					single.update(evento);
+					partitioned.update(copy(evento));
+				}
+			} else {
+				Long id = 1 + (long) random.nextInt((int) single.count() + 10);
+				assertEquals(single.deleteById(id), partitioned.deleteById(id));
+			}
+		}
+		assertEquals(single.count(), partitioned.count());
+
+		assertSameIds(single, partitioned, EventoRepository::findAll);
+		Set<Long> venues = Set.of(1L, 3L, 5L);
+		for (long venueId = 1; venueId <= 6; venueId++) {
+			long id = venueId;
+			assertSameIds(single, partitioned, repository -> repository.findByVenueId(id));
+		}
+		assertSameIds(single, partitioned, repository -> repository.findUpcomingByVenueIds(venues, START.plusDays(20)));
+		assertSameIds(single, partitioned, repository -> repository.findMatching(e -> e.getCapacity() % 7 == 0));
+		assertSameIds(single, partitioned, repository -> repository.findAllById(List.of(40L, 3L, 999L, 17L, 1L)));
+		assertEquals(single.countByVenueIds(venues), partitioned.countByVenueIds(venues));
+		assertEquals(single.findIdsByVenueIds(venues), partitioned.findIdsByVenueIds(venues));
+		assertEquals(single.countByDateRange(START.plusDays(5), START.plusDays(30)),
+				partitioned.countByDateRange(START.plusDays(5), START.plusDays(30)));
+		assertEquals(single.findIdsByDateRange(START.plusDays(5), null), partitioned.findIdsByDateRange(START.plusDays(5), null));
+		assertEquals(single.countByPriceRange(100.0, 500.0), partitioned.countByPriceRange(100.0, 500.0));
+		assertEquals(single.findIdsByPriceRange(null, 300.0), partitioned.findIdsByPriceRange(null, 300.0));
+
+		for (int q = 0; q < 40; q++) {
+			List<SortKey> keys = randomKeys(random);
+			int pageSize = 1 + random.nextInt(60);
+			List<Long> expected = ids(single.findSorted(keys, null, Integer.MAX_VALUE));
+			assertEquals(expected, pageThrough(single, keys, pageSize), keys.toString());
+			assertEquals(expected, pageThrough(partitioned, keys, pageSize), keys.toString());
+		}
+	}
+
+	private static void assertSameIds(EventoRepository single, EventoRepository partitioned,
+								   Function<EventoRepository, List<EventoEntity>> query) {
+		assertEquals(ids(query.apply(single)), ids(query.apply(partitioned)));
+	}
+
+	private static List<Long> pageThrough(EventoRepository repository, List<SortKey> keys, int pageSize) {
+		List<Long> paged = new ArrayList<>();
+		EventoEntity after = null;
+		List<EventoEntity> page;
+		do {
+			page = repository.findSorted(keys, after, pageSize);
+			paged.addAll(ids(page));
+			after = page.isEmpty() ? null : page.get(page.size() - 1);
+		} while (page.size() == pageSize);
+		return paged;
+	}
+
+	private static List<SortKey> randomKeys(Random random) {
+		List<String> fields = new ArrayList<>(List.of(FIELDS));
+		Collections.shuffle(fields, random);
+		List<SortKey> keys = new ArrayList<>();
+		int count = random.nextInt(3);
+		for (int i = 0; i < count; i++) {
+			keys.add(new SortKey(fields.get(i), random.nextBoolean()));
+		}
+		return keys;
+	}
+
+	private static EventoEntity randomEvento(Random random, Long id) {
+		// Valores repetidos y precios nulos para que los desempates importen
+		Double price = random.nextInt(8) == 0 ? null : 50.0 * random.nextInt(12);
+		return new EventoEntity(id, (random.nextBoolean() ? "feria " : "Feria ") + random.nextInt(30), null,
+				START.plusDays(random.nextInt(60)), 1L + random.nextInt(6), 10 * random.nextInt(40), price);
+	}
+
+	// Copia independiente para el otro repositorio: cada uno guarda sus propias instancias
+	private static EventoEntity copy(EventoEntity source) {
+		return new EventoEntity(source.getId(), source.getName(), null, source.getEventDate(), source.getVenueId(),
+				source.getCapacity(), source.getPrice());
+	}
+
+	private static List<Long> ids(List<EventoEntity> eventos) {
+		return eventos.stream().map(EventoEntity::getId).collect(Collectors.toList());
+	}
+
+	private static EventoRepository repository(int partitions, ParallelQueryExecutor executor) {
+		return new EventoRepository(new CatalogAggregates(new CatalogDictionaries()), new ChangeFeed(64), executor,
+				new TextStore("heap", 256, 1, 0, ""), new ColdEventStore(false, 24, 60_000, 16, 262_144, 10, ""),
+				partitions);
+	}
+}
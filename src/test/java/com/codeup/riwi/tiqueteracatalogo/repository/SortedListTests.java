@@ -0,0 +1,80 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedListTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	@Test
+	void pagesFollowTheFullSortAcrossPartitions() {
+		EventoRepository repository = new EventoRepository(new CatalogAggregates(new CatalogDictionaries()), new ChangeFeed(64),
+				new ParallelQueryExecutor(1, 50_000), new TextStore("heap", 256, 1, 0, ""),
+				new ColdEventStore(false, 24, 60_000, 16, 262_144, 10, ""), 3);
+		Random random = new Random(7);
+		for (int i = 0; i < 500; i++) {
+			// Precios repetidos y algunos nulos para que desempaten el nombre y el ID
+			Double price = random.nextInt(10) == 0 ? null : 10.0 * random.nextInt(20);
+			repository.save(new EventoEntity(null, (random.nextBoolean() ? "evento " : "Evento ") + random.nextInt(50),
+					null, START.plusHours(random.nextInt(1000)), 1L, 100, price));
+		}
+		List<SortKey> keys = List.of(new SortKey("price", true), new SortKey("name", false));
+		Comparator<EventoEntity> expectedOrder = Comparator
+				.comparing(EventoEntity::getPrice, Comparator.nullsLast(Comparator.<Double>reverseOrder()))
+				.thenComparing(EventoEntity::getName, String.CASE_INSENSITIVE_ORDER)
+				.thenComparing(EventoEntity::getId);
+		List<Long> expected = repository.findAll().stream().sorted(expectedOrder)
+				.map(EventoEntity::getId).collect(Collectors.toList());
+
+		List<Long> paged = new ArrayList<>();
+		EventoEntity after = null;
+		List<EventoEntity> page;
+		do {
+			page = repository.findSorted(keys, after, 7);
+			page.forEach(evento -> paged.add(evento.getId()));
+			after = page.isEmpty() ? null : page.get(page.size() - 1);
+		} while (page.size() == 7);
+
+		assertEquals(expected, paged);
+		assertEquals(expected.subList(0, 10), repository.findSorted(keys, null, 10).stream()
+				.map(EventoEntity::getId).collect(Collectors.toList()));
+	}
+
+	@Test
+	void cursorSurvivesWritesBetweenPages() {
+		CatalogDictionaries dictionaries = new CatalogDictionaries();
+		VenueRepository repository = new VenueRepository(new CatalogAggregates(dictionaries), new ChangeFeed(64),
+				dictionaries, 1.0);
+		for (int i = 0; i < 10; i++) {
+			repository.save(new VenueEntity(
+					null, "Venue " + i, "Calle " + i, i % 2 == 0 ? "Bogotá" : "Medellín", "Colombia", 100 * (10 - i)));
+		}
+		List<SortKey> keys = List.of(new SortKey("city", false), new SortKey("capacity", true));
+		List<Long> first = ids(repository.findSorted(keys, null, 3));
+		assertEquals(List.of(1L, 3L, 5L), first);
+
+		// La fila del cursor se elimina y aparece otra antes de él: la página siguiente no cambia
+		VenueEntity last = repository.findById(5L).orElseThrow();
+		repository.deleteById(5L);
+		repository.save(new VenueEntity(
+				null, "Nuevo", "Calle", "Bogotá", "Colombia", 5000));
+		assertEquals(List.of(7L, 9L, 2L), ids(repository.findSorted(keys, last, 3)));
+		assertThrows(IllegalArgumentException.class,
+				() -> repository.findSorted(List.of(new SortKey("address", false)), null, 3));
+	}
+
+	private static List<Long> ids(List<VenueEntity> venues) {
+		return venues.stream().map(VenueEntity::getId).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,93 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.TextHandle;
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.EventoMapper;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextStoreTests {
+
+	private static final String LONG_TEXT = "Concierto acústico en la montaña — ñandú ☕ ".repeat(20);
+
+	@Test
+	void largeTextsRoundTripOffHeapAndSmallOnesStayOnHeap() {
+		TextStore store = new TextStore("offheap", 256, 1, 0, "");
+
+		TextHandle handle = store.store(LONG_TEXT);
+		assertNotNull(handle);
+		assertEquals(LONG_TEXT, handle.decode());
+		assertNull(store.store("corta"));
+		assertNull(new TextStore("heap", 256, 1, 0, "").store(LONG_TEXT));
+		assertEquals(1, store.stats().getTexts());
+	}
+
+	@Test
+	void releasedSpaceIsReusedAfterTheDelay() {
+		TextStore store = new TextStore("offheap", 16, 1, 0, "");
+		TextHandle first = store.store(LONG_TEXT);
+		long reserved = store.stats().getReservedBytes();
+
+		store.release(first);
+		store.release(first);
+		assertEquals(0, store.stats().getTexts());
+		for (int i = 0; i < 2_000; i++) {
+			// Sin reutilizar huecos, dos mil copias necesitarían más de un bloque de 1 MB
+			store.release(store.store(LONG_TEXT));
+		}
+		assertEquals(reserved, store.stats().getReservedBytes());
+	}
+
+	@Test
+	void repositoryStoresDescriptionsOffHeapAndDecodesThemLazily() {
+		TextStore store = new TextStore("offheap", 256, 1, 60_000, "");
+		EventoRepository repository = new EventoRepository(new CatalogAggregates(new CatalogDictionaries()), new ChangeFeed(16),
+				new ParallelQueryExecutor(1, 50_000), store,
+				new ColdEventStore(false, 24, 60_000, 16, 262_144, 10, ""), 1);
+
+		EventoEntity saved = repository.save(new EventoEntity(null, "Acústico", LONG_TEXT,
+				LocalDateTime.of(2030, 1, 1, 20, 0), 1L, 100, 50_000.0));
+		assertNotNull(saved.getDescriptionText());
+		EventoResponse response = EventoMapper.toResponse(saved);
+		assertEquals(LONG_TEXT, response.getDescription());
+
+		repository.deleteById(saved.getId());
+		assertEquals(0, store.stats().getTexts());
+	}
+
+	@Test
+	void reclaimedHandlesFailInsteadOfReadingAnotherText() {
+		TextStore store = new TextStore("offheap", 16, 1, 0, "");
+		TextHandle old = store.store(LONG_TEXT);
+		store.release(old);
+		String other = LONG_TEXT.replace('a', 'o');
+		TextHandle reused = store.store(other);
+
+		assertEquals(other, reused.decode());
+		assertThrows(IllegalStateException.class, old::decode);
+		assertThrows(IllegalStateException.class, () -> old.copyTo(new byte[old.byteLength()], 0));
+	}
+
+	@Test
+	void changeFeedKeepsDescriptionsAfterTheirSpaceIsReused() {
+		TextStore store = new TextStore("offheap", 256, 1, 0, "");
+		ChangeFeed changeFeed = new ChangeFeed(16);
+		EventoRepository repository = new EventoRepository(new CatalogAggregates(new CatalogDictionaries()), changeFeed,
+				new ParallelQueryExecutor(1, 50_000), store,
+				new ColdEventStore(false, 24, 60_000, 16, 262_144, 10, ""), 1);
+		LocalDateTime date = LocalDateTime.of(2030, 1, 1, 20, 0);
+
+		EventoEntity saved = repository.save(new EventoEntity(null, "Acústico", LONG_TEXT, date, 1L, 100, 50_000.0));
+		repository.deleteById(saved.getId());
+		// El hueco liberado pasa a otra descripción del mismo tamaño
+		repository.save(new EventoEntity(null, "Otro", LONG_TEXT.replace('a', 'o'), date, 1L, 100, 50_000.0));
+
+		EventoEntity created = (EventoEntity) changeFeed.readAfter(0, 10).getChanges().get(0).getPayload();
+		assertNull(created.getDescriptionText());
+		assertEquals(LONG_TEXT, created.getDescription());
+	}
+}
@@ -0,0 +1,154 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketInventoryTests {
+
+	@Test
+	void concurrentSalesNeverOversell() throws Exception {
+		TicketInventory.EventInventory inventory = new TicketInventory.EventInventory(10_000, 8);
+		AtomicInteger sold = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			int quantity = 1 + t % 3;
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i < 5_000; i++) {
+					if (inventory.tryAcquire(quantity)) {
+						sold.addAndGet(quantity);
+					}
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(10_000, sold.get() + inventory.available());
+		assertTrue(inventory.available() < 3);
+	}
+
+	@Test
+	void acquireGathersTicketsFromSeveralStripes() {
+		TicketInventory.EventInventory inventory = new TicketInventory.EventInventory(10, 8);
+
+		assertTrue(inventory.tryAcquire(7));
+		assertFalse(inventory.tryAcquire(4));
+		assertEquals(3, inventory.available());
+		assertTrue(inventory.tryAcquire(3));
+		assertEquals(0, inventory.available());
+	}
+
+	@Test
+	void releaseCannotExceedSoldTickets() {
+		TicketInventory.EventInventory inventory = new TicketInventory.EventInventory(10, 4);
+
+		assertTrue(inventory.tryAcquire(4));
+		assertFalse(inventory.release(5));
+		assertTrue(inventory.release(4));
+		assertEquals(10, inventory.available());
+	}
+
+	@Test
+	void resizeKeepsSoldTickets() {
+		TicketInventory.EventInventory inventory = new TicketInventory.EventInventory(10, 4);
+		assertTrue(inventory.tryAcquire(6));
+
+		inventory.resize(20);
+		assertEquals(14, inventory.available());
+
+		inventory.resize(5);
+		assertEquals(0, inventory.available());
+	}
+
+	@Test
+	void holdsCancelsAndReleasesNeverInventTickets() throws Exception {
+		TicketInventory.EventInventory inventory = new TicketInventory.EventInventory(1_000, 8);
+		AtomicLong sold = new AtomicLong();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			int role = t % 4;
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i < 20_000; i++) {
+					switch (role) {
+						case 0 -> {
+							// Reserva que se cancela o vence
+							if (inventory.tryHold(2)) {
+								inventory.releaseHold(2);
+							}
+						}
+						case 1 -> {
+							// Reserva que se confirma
+							if (inventory.tryHold(1)) {
+								inventory.confirmHold(1);
+								sold.incrementAndGet();
+							}
+						}
+						case 2 -> {
+							if (inventory.tryAcquire(1)) {
+								sold.incrementAndGet();
+							}
+						}
+						default -> {
+							// Devoluciones sin venta propia: solo deben pasar si hay vendidas
+							if (inventory.release(1)) {
+								sold.decrementAndGet();
+							}
+						}
+					}
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(0, inventory.held());
+		assertTrue(sold.get() >= 0);
+		assertEquals(1_000, inventory.available() + inventory.held() + sold.get());
+	}
+
+	@Test
+	void shrinkBelowHeldTicketsDiscardsThemWhenTheHoldEnds() {
+		TicketInventory.EventInventory inventory = new TicketInventory.EventInventory(10, 4);
+		assertTrue(inventory.tryHold(8));
+		assertTrue(inventory.tryAcquire(1));
+
+		inventory.resize(5);
+		assertEquals(0, inventory.available());
+		assertEquals(4, inventory.excess());
+
+		inventory.releaseHold(8);
+		// Retenidas 0 + vendidas 1: caben 4 de la nueva capacidad
+		assertEquals(4, inventory.available());
+		assertEquals(0, inventory.excess());
+		assertFalse(inventory.release(2));
+		assertTrue(inventory.release(1));
+		assertEquals(5, inventory.available());
+	}
+}
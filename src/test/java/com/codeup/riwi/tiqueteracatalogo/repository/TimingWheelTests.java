@@ -0,0 +1,60 @@
+package com.codeup.riwi.tiqueteracatalogo.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTests {
+
+	private static final long TICK = 1_000_000L;
+
+	@Test
+	void timersExpireOnTheirTickAcrossAllLevels() {
+		TimingWheel<Long> wheel = new TimingWheel<>(TICK, 0);
+		Random random = new Random(42);
+		List<Long> delays = new ArrayList<>();
+		for (int i = 0; i < 20_000; i++) {
+			// Retardos de 1 tick hasta más allá del nivel 2 para forzar cascadas
+			long delay = 1 + random.nextInt(i % 2 == 0 ? 100 : 300_000);
+			delays.add(delay);
+			wheel.schedule(delay, delay * TICK);
+		}
+
+		int expired = 0;
+		for (long tick = 1; tick <= 300_000; tick++) {
+			for (Long deadline : wheel.advance(tick * TICK)) {
+				assertEquals(tick, deadline.longValue());
+				expired++;
+			}
+		}
+		assertEquals(delays.size(), expired);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void cancelledTimersNeverFire() {
+		TimingWheel<String> wheel = new TimingWheel<>(TICK, 0);
+		TimingWheel.Timer<String> kept = wheel.schedule("kept", 5_000 * TICK);
+		TimingWheel.Timer<String> cancelled = wheel.schedule("cancelled", 5_000 * TICK);
+
+		assertTrue(wheel.cancel(cancelled));
+		assertFalse(wheel.cancel(cancelled));
+		assertEquals(List.of("kept"), wheel.advance(5_000 * TICK));
+		assertFalse(wheel.cancel(kept));
+	}
+
+	@Test
+	void lateAdvanceFiresEverythingDue() {
+		TimingWheel<Integer> wheel = new TimingWheel<>(TICK, 0);
+		wheel.schedule(1, 10 * TICK);
+		wheel.schedule(2, 70 * TICK);
+		wheel.schedule(3, 10_000 * TICK);
+
+		assertEquals(List.of(1, 2), wheel.advance(9_000 * TICK));
+		assertEquals(List.of(3), wheel.advance(20_000 * TICK));
+	}
+}
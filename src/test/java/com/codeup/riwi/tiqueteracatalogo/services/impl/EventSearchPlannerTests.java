@@ -0,0 +1,212 @@
+package com.codeup.riwi.tiqueteracatalogo.services.impl;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogAggregates;
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogDictionaries;
+import com.codeup.riwi.tiqueteracatalogo.repository.ChangeFeed;
+import com.codeup.riwi.tiqueteracatalogo.repository.ColdEventStore;
+import com.codeup.riwi.tiqueteracatalogo.repository.EventoRepository;
+import com.codeup.riwi.tiqueteracatalogo.repository.ParallelQueryExecutor;
+import com.codeup.riwi.tiqueteracatalogo.repository.TextStore;
+import com.codeup.riwi.tiqueteracatalogo.repository.VenueRepository;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventSearchRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.SearchPlanResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSearchPlannerTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2027, 1, 1, 0, 0);
+	private static final int EVENTS = 1_000;
+
+	private EventoRepository eventos;
+	private VenueRepository venues;
+	private EventSearchPlanner planner;
+
+	@BeforeEach
+	void setUp() {
+		eventos = new EventoRepository(new CatalogAggregates(new CatalogDictionaries()), new ChangeFeed(64),
+				new ParallelQueryExecutor(1, 50_000), new TextStore("heap", 256, 1, 0, ""),
+				new ColdEventStore(false, 24, 60_000, 16, 262_144, 10, ""), 2);
+		CatalogDictionaries dictionaries = new CatalogDictionaries();
+		venues = new VenueRepository(new CatalogAggregates(dictionaries), new ChangeFeed(64), dictionaries, 1.0);
+		// Venues 1-5 en Bogotá y 6-10 en Lima
+		for (int i = 1; i <= 10; i++) {
+			venues.save(new VenueEntity(null, "Venue " + i, "Calle " + i, i <= 5 ? "Bogotá" : "Lima", "País", 1_000));
+		}
+		// 100 eventos por venue y por cada tramo de 10 días; uno de cada 13 sin precio
+		for (int i = 1; i <= EVENTS; i++) {
+			Double price = i % 13 == 0 ? null : (i % 20) * 10.0;
+			eventos.save(new EventoEntity(null, "Evento " + i, null, START.plusDays(i % 100),
+					1L + i % 10, (i % 50) * 10, price));
+		}
+		planner = new EventSearchPlanner(eventos, venues, 0.3);
+	}
+
+	@Test
+	void theMostSelectiveIndexLeadsAndCheapOnesAreIntersected() {
+		EventSearchRequest request = new EventSearchRequest();
+		request.setMinPrice(0.0);
+		request.setVenueId(3L);
+		request.setFrom(START);
+		request.setTo(START.plusDays(9).plusHours(23));
+		request.setMinCapacity(100);
+
+		SearchPlanResponse plan = planner.search(request).getPlan();
+
+		assertEquals("INDEX", plan.getStrategy());
+		assertEquals("índice más selectivo: venueId", plan.getReason());
+		// Empate en la estimación: se conserva el orden de los filtros
+		assertEquals(List.of("venueId(estimated=100)", "eventDate(estimated=100)"), plan.getIndexes());
+		// El precio devuelve casi todo el catálogo: más barato evaluarlo sobre los 10 candidatos
+		assertEquals(List.of("capacity", "price"), plan.getResidualFilters());
+		assertEquals(10, plan.getRowsExamined());
+		assertEquals(matching(request).size(), plan.getRowsMatched());
+	}
+
+	@Test
+	void anIndexMuchLargerThanTheCandidatesStaysResidual() {
+		EventSearchRequest request = new EventSearchRequest();
+		request.setCity("LIMA");
+		request.setVenueId(7L);
+
+		SearchPlanResponse plan = planner.search(request).getPlan();
+
+		assertEquals("INDEX", plan.getStrategy());
+		assertEquals(List.of("venueId(estimated=100)"), plan.getIndexes());
+		assertEquals(List.of("city"), plan.getResidualFilters());
+		assertEquals(100, plan.getRowsExamined());
+		assertEquals(100, plan.getRowsMatched());
+	}
+
+	@Test
+	void broadFiltersScanTheCatalog() {
+		EventSearchRequest request = new EventSearchRequest();
+		request.setCity("bogotá");
+		request.setMaxPrice(1_000.0);
+
+		SearchPlanResponse plan = planner.search(request).getPlan();
+
+		assertEquals("SCAN", plan.getStrategy());
+		assertEquals("el índice más selectivo (city) cubre más del 30% del catálogo", plan.getReason());
+		assertEquals(List.of(), plan.getIndexes());
+		assertEquals(List.of("city", "price"), plan.getResidualFilters());
+		assertEquals(EVENTS, plan.getRowsExamined());
+		assertEquals(matching(request).size(), plan.getRowsMatched());
+
+		EventSearchRequest unindexed = new EventSearchRequest();
+		unindexed.setMaxCapacity(50);
+		plan = planner.search(unindexed).getPlan();
+		assertEquals("SCAN", plan.getStrategy());
+		assertEquals("no hay filtros con índice", plan.getReason());
+		assertEquals(List.of("capacity"), plan.getResidualFilters());
+		assertEquals(EVENTS, plan.getRowsExamined());
+	}
+
+	@Test
+	void anEmptyIndexAnswersWithoutReadingEvents() {
+		EventSearchRequest request = new EventSearchRequest();
+		request.setVenueId(42L);
+		request.setMinPrice(10.0);
+
+		EventSearchPlanner.Result result = planner.search(request);
+
+		assertEquals("EMPTY", result.getPlan().getStrategy());
+		assertEquals("el índice venueId no tiene eventos para el filtro", result.getPlan().getReason());
+		assertEquals(List.of("venueId(estimated=0)"), result.getPlan().getIndexes());
+		assertEquals(0, result.getPlan().getRowsExamined());
+		assertEquals(List.of(), result.getEventos());
+
+		// Una ciudad sin venues también se resuelve con el índice vacío
+		request = new EventSearchRequest();
+		request.setCity("Quito");
+		assertEquals("EMPTY", planner.search(request).getPlan().getStrategy());
+	}
+
+	@Test
+	void everyPlanReturnsWhatAFullScanWould() {
+		Random random = new Random(37);
+		for (int q = 0; q < 300; q++) {
+			EventSearchRequest request = randomRequest(random);
+			EventSearchPlanner.Result result = planner.search(request);
+
+			List<EventoEntity> expected = matching(request);
+			expected.sort(comparator(request.getSort()));
+			List<Long> expectedIds = ids(expected.subList(0, Math.min(request.getLimit(), expected.size())));
+			String plan = result.getPlan().getStrategy() + " " + result.getPlan().getIndexes();
+			assertEquals(expectedIds, ids(result.getEventos()), plan);
+			assertEquals(expected.size(), result.getPlan().getRowsMatched(), plan);
+			assertTrue(result.getPlan().getRowsExamined() >= expected.size(), plan);
+		}
+	}
+
+	private static EventSearchRequest randomRequest(Random random) {
+		EventSearchRequest request = new EventSearchRequest();
+		if (random.nextInt(3) == 0) {
+			request.setVenueId(1L + random.nextInt(12));
+		}
+		if (random.nextInt(4) == 0) {
+			request.setCity(new String[]{"Bogotá", "LIMA", "Quito"}[random.nextInt(3)]);
+		}
+		if (random.nextBoolean()) {
+			int from = random.nextInt(100);
+			request.setFrom(START.plusDays(from));
+			if (random.nextBoolean()) {
+				request.setTo(START.plusDays(from + random.nextInt(40)));
+			}
+		}
+		if (random.nextBoolean()) {
+			double min = 10.0 * random.nextInt(20);
+			request.setMinPrice(min);
+			request.setMaxPrice(min + 10.0 * random.nextInt(20));
+		}
+		if (random.nextInt(3) == 0) {
+			request.setMinCapacity(10 * random.nextInt(50));
+		}
+		request.setSort(new String[]{"id", "id,desc", "price", "price,desc"}[random.nextInt(4)]);
+		request.setLimit(1 + random.nextInt(200));
+		return request;
+	}
+
+	// Filtro evaluado evento por evento, sin índices
+	private List<EventoEntity> matching(EventSearchRequest request) {
+		Predicate<EventoEntity> filter = evento -> {
+			VenueEntity venue = venues.findById(evento.getVenueId()).orElseThrow();
+			return (request.getVenueId() == null || request.getVenueId().equals(evento.getVenueId()))
+					&& (request.getCity() == null || venue.getCity().equalsIgnoreCase(request.getCity()))
+					&& (request.getFrom() == null || !evento.getEventDate().isBefore(request.getFrom()))
+					&& (request.getTo() == null || !evento.getEventDate().isAfter(request.getTo()))
+					&& (request.getMinPrice() == null || evento.getPrice() != null && evento.getPrice() >= request.getMinPrice())
+					&& (request.getMaxPrice() == null || evento.getPrice() != null && evento.getPrice() <= request.getMaxPrice())
+					&& (request.getMinCapacity() == null || evento.getCapacity() >= request.getMinCapacity())
+					&& (request.getMaxCapacity() == null || evento.getCapacity() <= request.getMaxCapacity());
+		};
+		return eventos.findAll().stream().filter(filter).collect(Collectors.toList());
+	}
+
+	private static Comparator<EventoEntity> comparator(String sort) {
+		Comparator<EventoEntity> byId = Comparator.comparing(EventoEntity::getId);
+		return switch (sort) {
+			case "id" -> byId;
+			case "id,desc" -> byId.reversed();
+			case "price" -> Comparator.comparing(EventoEntity::getPrice, Comparator.nullsLast(Comparator.<Double>naturalOrder()))
+					.thenComparing(byId);
+			default -> Comparator.comparing(EventoEntity::getPrice, Comparator.nullsLast(Comparator.<Double>reverseOrder()))
+					.thenComparing(byId);
+		};
+	}
+
+	private static List<Long> ids(List<EventoEntity> eventos) {
+		return eventos.stream().map(EventoEntity::getId).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,105 @@
+package com.codeup.riwi.tiqueteracatalogo.services.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTests {
+
+	@Test
+	void concurrentCallsWithTheSameVersionShareOneComputation() throws Exception {
+		SingleFlight<Long, String> flight = new SingleFlight<>("test");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger computations = new AtomicInteger();
+
+		CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.execute(1L, 5, () -> {
+			computations.incrementAndGet();
+			started.countDown();
+			await(release);
+			return "evento-1";
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> flight.execute(1L, 5, () -> {
+			computations.incrementAndGet();
+			return "otro";
+		}));
+		waitForCoalesced(flight, 1);
+		release.countDown();
+
+		assertEquals("evento-1", leader.get(5, TimeUnit.SECONDS));
+		assertEquals("evento-1", follower.get(5, TimeUnit.SECONDS));
+		assertEquals(1, computations.get());
+		assertEquals(2, flight.getCalls());
+		assertEquals(0, flight.getInFlight());
+	}
+
+	@Test
+	void callsAfterAWriteDoNotJoinAnOlderComputation() throws Exception {
+		SingleFlight<Long, String> flight = new SingleFlight<>("test");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<String> stale = CompletableFuture.supplyAsync(() -> flight.execute(1L, 5, () -> {
+			started.countDown();
+			await(release);
+			return "antes";
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		// Versión 6: hubo una escritura después de que empezó el cálculo en curso
+		assertEquals("después", flight.execute(1L, 6, () -> "después"));
+		assertEquals(0, flight.getCoalesced());
+
+		release.countDown();
+		assertEquals("antes", stale.get(5, TimeUnit.SECONDS));
+		assertEquals(0, flight.getInFlight());
+	}
+
+	@Test
+	void waitersReceiveTheSameFailure() throws Exception {
+		SingleFlight<Long, String> flight = new SingleFlight<>("test");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.execute(1L, 0, () -> {
+			started.countDown();
+			await(release);
+			throw new IllegalStateException("falló");
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> flight.execute(1L, 0, () -> "otro"));
+		waitForCoalesced(flight, 1);
+		release.countDown();
+
+		ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+		ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+		assertSame(leaderError.getCause(), followerError.getCause());
+		// La clave se libera y la siguiente llamada vuelve a calcular
+		assertEquals("nuevo", flight.execute(1L, 0, () -> "nuevo"));
+	}
+
+	private static void waitForCoalesced(SingleFlight<?, ?> flight, long expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (flight.getCoalesced() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(expected, flight.getCoalesced());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package com.codeup.riwi.tiqueteracatalogo.web.binary;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.GlobalExceptionHandler;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoRequest;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.NearbyEventResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.support.SparseFieldset;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CatalogBinaryCodecTests {
+
+	@Test
+	void eventoRoundTripIsSmallerThanJson() throws Exception {
+		EventoResponse evento = new EventoResponse(1234L, "Concierto Rock", "Gran concierto de rock",
+				LocalDateTime.of(2025, 12, 15, 20, 0), 7L, 1000, 80000.0);
+
+		BinaryWriter out = new BinaryWriter(64);
+		CatalogBinaryCodec.writeEvento(out, evento);
+		EventoResponse decoded = CatalogBinaryCodec.readEvento(new BinaryReader(out.toByteArray()));
+
+		assertEquals(evento.getId(), decoded.getId());
+		assertEquals(evento.getName(), decoded.getName());
+		assertEquals(evento.getDescription(), decoded.getDescription());
+		assertEquals(evento.getEventDate(), decoded.getEventDate());
+		assertEquals(evento.getVenueId(), decoded.getVenueId());
+		assertEquals(evento.getCapacity(), decoded.getCapacity());
+		assertEquals(evento.getPrice(), decoded.getPrice());
+
+		ObjectMapper json = new ObjectMapper().registerModule(new JavaTimeModule())
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		assertTrue(out.size() < json.writeValueAsBytes(evento).length);
+	}
+
+	@Test
+	void nullFieldsAreOmitted() {
+		EventoRequest request = new EventoRequest();
+		request.setName("Solo nombre");
+
+		BinaryWriter out = new BinaryWriter(16);
+		CatalogBinaryCodec.writeEventoRequest(out, request);
+		EventoRequest decoded = CatalogBinaryCodec.readEventoRequest(new BinaryReader(out.toByteArray()));
+
+		assertEquals("Solo nombre", decoded.getName());
+		assertNull(decoded.getEventDate());
+		assertNull(decoded.getPrice());
+		assertEquals(1 + 1 + "Solo nombre".length(), out.size());
+	}
+
+	@Test
+	void venueRoundTrip() {
+		VenueResponse venue = new VenueResponse(1L, "Teatro Nacional", "Calle 71 #10-25", "Bogotá", "Colombia", 1500);
+
+		BinaryWriter out = new BinaryWriter(16);
+		CatalogBinaryCodec.writeVenue(out, venue);
+		VenueResponse decoded = CatalogBinaryCodec.readVenue(new BinaryReader(out.toByteArray()));
+
+		assertEquals(venue.getCity(), decoded.getCity());
+		assertEquals(venue.getCapacity(), decoded.getCapacity());
+	}
+
+	@Test
+	void truncatedInputIsRejected() {
+		BinaryWriter out = new BinaryWriter(16);
+		CatalogBinaryCodec.writeVenue(out, new VenueResponse(1L, "Teatro", "Calle", "Bogotá", "Colombia", 10));
+		byte[] truncated = java.util.Arrays.copyOf(out.toByteArray(), 5);
+
+		assertThrows(IllegalArgumentException.class, () -> CatalogBinaryCodec.readVenue(new BinaryReader(truncated)));
+	}
+
+	@Test
+	void outOfRangeDatesAreMalformedInput() {
+		BinaryWriter out = new BinaryWriter(32);
+		out.writeByte(CatalogBinaryCodec.FORMAT_VERSION);
+		// Solo la fecha, con segundos fuera del rango de LocalDateTime
+		out.writeByte(0b100);
+		out.writeVarLong(Long.MAX_VALUE);
+		out.writeUnsignedVarLong(0);
+		byte[] body = out.toByteArray();
+
+		assertThrows(IllegalArgumentException.class,
+				() -> CatalogBinaryCodec.readEventoRequest(new BinaryReader(java.util.Arrays.copyOfRange(body, 1, body.length))));
+		// El convertidor lo informa como cuerpo ilegible (400), no como error interno
+		assertThrows(HttpMessageNotReadableException.class, () -> new CatalogBinaryHttpMessageConverter()
+				.read(EventoRequest.class, null, new MockHttpInputMessage(body)));
+
+		BinaryWriter nanos = new BinaryWriter(16);
+		nanos.writeVarLong(0);
+		nanos.writeUnsignedVarLong(1L << 32);
+		assertThrows(IllegalArgumentException.class, () -> new BinaryReader(nanos.toByteArray()).readDateTime());
+	}
+
+	@Test
+	void outOfRangeCapacitiesAreMalformedInput() {
+		BinaryWriter out = new BinaryWriter(16);
+		out.writeByte(CatalogBinaryCodec.FORMAT_VERSION);
+		// Solo la capacidad, que no cabe en un int
+		out.writeByte(0b10000);
+		out.writeVarLong(Integer.MAX_VALUE + 1L);
+		byte[] body = out.toByteArray();
+
+		assertThrows(IllegalArgumentException.class,
+				() -> CatalogBinaryCodec.readEventoRequest(new BinaryReader(java.util.Arrays.copyOfRange(body, 1, body.length))));
+		assertThrows(HttpMessageNotReadableException.class, () -> new CatalogBinaryHttpMessageConverter()
+				.read(EventoRequest.class, null, new MockHttpInputMessage(body)));
+
+		BinaryWriter min = new BinaryWriter(16);
+		min.writeVarLong(Integer.MIN_VALUE);
+		assertEquals(Integer.MIN_VALUE, new BinaryReader(min.toByteArray()).readVarInt());
+	}
+
+	@Test
+	void listsOfOtherTypesAreNotAcceptable() throws Exception {
+		MockMvc mvc = MockMvcBuilders.standaloneSetup(new ListController())
+				.setControllerAdvice(new GlobalExceptionHandler())
+				.setMessageConverters(new CatalogBinaryHttpMessageConverter(), new MappingJackson2HttpMessageConverter())
+				.build();
+
+		mvc.perform(get("/eventos").accept(CatalogBinaryHttpMessageConverter.MEDIA_TYPE))
+				.andExpect(status().isOk());
+		// Proyección de fields= detrás de ResponseEntity<?> y lista tipada de resultados geográficos
+		mvc.perform(get("/proyectados").accept(CatalogBinaryHttpMessageConverter.MEDIA_TYPE))
+				.andExpect(status().isNotAcceptable());
+		mvc.perform(get("/cercanos").accept(CatalogBinaryHttpMessageConverter.MEDIA_TYPE))
+				.andExpect(status().isNotAcceptable());
+		mvc.perform(get("/proyectados")).andExpect(status().isOk());
+	}
+
+	@RestController
+	static class ListController {
+
+		private static final EventoResponse EVENTO = new EventoResponse(1L, "Concierto", null,
+				LocalDateTime.of(2026, 5, 1, 20, 0), 1L, 100, 10.0);
+
+		@GetMapping("/eventos")
+		ResponseEntity<?> eventos() {
+			return ResponseEntity.ok(List.of(EVENTO));
+		}
+
+		@GetMapping("/proyectados")
+		ResponseEntity<?> proyectados() {
+			return ResponseEntity.ok(SparseFieldset.EVENTOS.plan("id,name").applyAll(List.of(EVENTO)));
+		}
+
+		@GetMapping("/cercanos")
+		ResponseEntity<List<NearbyEventResponse>> cercanos() {
+			return ResponseEntity.ok(List.of(new NearbyEventResponse(EVENTO, 1.5)));
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package com.codeup.riwi.tiqueteracatalogo.web.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveLimiterTests {
+
+	private static final long MS = 1_000_000;
+
+	@Test
+	void rejectsOverTheLimitAndCountsBoth() {
+		AdaptiveLimiter limiter = new AdaptiveLimiter("reads", 3, 1, 10, 2.0);
+		assertTrue(limiter.tryAcquire());
+		assertTrue(limiter.tryAcquire());
+		assertTrue(limiter.tryAcquire());
+		assertFalse(limiter.tryAcquire());
+		assertEquals(3, limiter.getInFlight());
+
+		limiter.releaseWithoutSample();
+		assertTrue(limiter.tryAcquire());
+		assertEquals(4, limiter.getAccepted());
+		assertEquals(1, limiter.getRejected());
+		// Soltar sin muestra no registra latencia
+		assertEquals(0.0, limiter.getMinRttMillis());
+	}
+
+	@Test
+	void stableLatencyUnderLoadGrowsTheLimitUpToTheMaximum() {
+		AdaptiveLimiter limiter = new AdaptiveLimiter("writes", 20, 2, 200, 2.0);
+		int previous = limiter.getLimit();
+		for (int i = 0; i < 200; i++) {
+			saturatedSample(limiter, 5 * MS);
+			assertTrue(limiter.getLimit() >= previous, "el límite no baja con latencia estable");
+			previous = limiter.getLimit();
+		}
+		assertEquals(200, limiter.getLimit());
+		assertEquals(5.0, limiter.getMinRttMillis());
+		assertEquals(5.0, limiter.getSmoothedRttMillis(), 1e-9);
+	}
+
+	@Test
+	void queueingLatencyShrinksTheLimitDownToTheMinimum() {
+		AdaptiveLimiter limiter = new AdaptiveLimiter("reads", 100, 10, 1_000, 2.0);
+		for (int i = 0; i < 20; i++) {
+			saturatedSample(limiter, 5 * MS);
+		}
+		int grown = limiter.getLimit();
+		assertTrue(grown > 100);
+
+		// La latencia sube por encima de la tolerancia (2x la mínima): el límite cae
+		saturatedSample(limiter, 50 * MS);
+		saturatedSample(limiter, 50 * MS);
+		assertTrue(limiter.getLimit() < grown);
+		for (int i = 0; i < 200; i++) {
+			int before = limiter.getLimit();
+			saturatedSample(limiter, 50 * MS);
+			assertTrue(limiter.getLimit() <= before);
+		}
+		// Sin mínimo el límite tendería a 4 (L = L/2 + raíz de L)
+		assertEquals(10, limiter.getLimit());
+	}
+
+	@Test
+	void latencyWithinTheToleranceDoesNotShrinkTheLimit() {
+		AdaptiveLimiter limiter = new AdaptiveLimiter("reads", 50, 10, 1_000, 2.0);
+		saturatedSample(limiter, 5 * MS);
+		for (int i = 0; i < 30; i++) {
+			int before = limiter.getLimit();
+			saturatedSample(limiter, 9 * MS);
+			assertTrue(limiter.getLimit() >= before);
+		}
+	}
+
+	@Test
+	void lowConcurrencySamplesDoNotMoveTheLimit() {
+		AdaptiveLimiter limiter = new AdaptiveLimiter("reads", 40, 10, 1_000, 2.0);
+		saturatedSample(limiter, MS);
+		int limit = limiter.getLimit();
+		for (int i = 0; i < 100; i++) {
+			assertTrue(limiter.tryAcquire());
+			limiter.release(500 * MS);
+		}
+		assertEquals(limit, limiter.getLimit());
+		assertEquals(1.0, limiter.getMinRttMillis());
+	}
+
+	@Test
+	void theMinimumLatencyIsMeasuredAgainPeriodically() {
+		AdaptiveLimiter limiter = new AdaptiveLimiter("reads", 10, 1, 100, 2.0);
+		limiter.tryAcquire();
+		limiter.release(MS);
+		for (int i = 0; i < 998; i++) {
+			limiter.tryAcquire();
+			limiter.release(5 * MS);
+		}
+		assertEquals(1.0, limiter.getMinRttMillis());
+		// La muestra 1000 descarta el mínimo viejo
+		limiter.tryAcquire();
+		limiter.release(5 * MS);
+		assertEquals(5.0, limiter.getMinRttMillis());
+	}
+
+	@Test
+	void readsAndWritesHaveSeparateBudgets() throws Exception {
+		ConcurrencyLimits limits = new ConcurrencyLimits(true, 3, 2.0, 4, 1, 100, 2, 1, 100);
+		assertSame(limits.forMethod("GET"), limits.forMethod("HEAD"));
+		AdaptiveLimiter writes = limits.forMethod("POST");
+		for (String method : new String[]{"PUT", "PATCH", "DELETE"}) {
+			assertSame(writes, limits.forMethod(method));
+		}
+		assertNotSame(writes, limits.forMethod("GET"));
+
+		// Escrituras saturadas: se rechazan, las lecturas siguen pasando
+		assertTrue(writes.tryAcquire());
+		assertTrue(writes.tryAcquire());
+		ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limits, new ObjectMapper().findAndRegisterModules());
+		MockHttpServletResponse rejected = perform(filter, "POST", "/api/events");
+		assertEquals(503, rejected.getStatus());
+		assertEquals("3", rejected.getHeader("Retry-After"));
+		assertTrue(rejected.getContentAsString().contains("saturado"));
+
+		MockHttpServletResponse read = perform(filter, "GET", "/api/events");
+		assertEquals(200, read.getStatus());
+		assertEquals(0, limits.forMethod("GET").getInFlight());
+		assertEquals(1, limits.forMethod("GET").getAccepted());
+		// Fuera de las APIs protegidas no se aplica el límite
+		assertEquals(200, perform(filter, "POST", "/api/admin/limiter").getStatus());
+		assertEquals(1, writes.getRejected());
+	}
+
+	// Llena el límite, suelta una petición con la latencia dada y el resto sin muestra
+	private static void saturatedSample(AdaptiveLimiter limiter, long rttNanos) {
+		int acquired = 0;
+		while (limiter.tryAcquire()) {
+			acquired++;
+		}
+		limiter.release(rttNanos);
+		for (int i = 1; i < acquired; i++) {
+			limiter.releaseWithoutSample();
+		}
+	}
+
+	private static MockHttpServletResponse perform(ConcurrencyLimitFilter filter, String method, String uri) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
@@ -0,0 +1,129 @@
+package com.codeup.riwi.tiqueteracatalogo.web.json;
+
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.EventoEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.entity.VenueEntity;
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.EventoMapper;
+import com.codeup.riwi.tiqueteracatalogo.domain.mapper.VenueMapper;
+import com.codeup.riwi.tiqueteracatalogo.repository.TextStore;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogJsonWriterTests {
+
+	// Misma configuración de fechas que el ObjectMapper de Spring Boot
+	private final ObjectMapper jackson = JsonMapper.builder()
+			.findAndAddModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+	@Test
+	void eventsMatchJacksonByteForByte() throws Exception {
+		List<EventoEntity> eventos = new ArrayList<>();
+		eventos.add(new EventoEntity(1L, "Concierto Rock", "Gran concierto",
+				LocalDateTime.of(2025, 12, 15, 20, 0), 1L, 1000, 80000.0));
+		eventos.add(new EventoEntity(2L, "Comillas \" y \\ barra", "Línea\nTab\t\u0001 ñandú ☕ 😀",
+				LocalDateTime.of(2026, 1, 2, 3, 4, 5, 120_000_000), 7L, 10, 12.5));
+		eventos.add(new EventoEntity(3L, null, null, null, null, null, null));
+		eventos.add(new EventoEntity(-4L, "Precios", "", LocalDateTime.of(999, 1, 1, 0, 0, 0, 1),
+				Long.MAX_VALUE, Integer.MIN_VALUE, 1.0e7));
+		eventos.add(new EventoEntity(5L, "Negativo", "x", LocalDateTime.of(2030, 6, 30, 23, 59, 59), 2L, 0, -0.0));
+		eventos.add(new EventoEntity(6L, "Pequeño", "x", LocalDateTime.of(2030, 6, 30, 23, 59), 2L, 0, 1.0e-4));
+
+		assertEquals(jackson.writeValueAsString(EventoMapper.toResponseList(eventos)), writeEventos(eventos));
+		for (EventoEntity evento : eventos) {
+			assertEquals(jackson.writeValueAsString(EventoMapper.toResponse(evento)), write(w -> w.writeEvento(evento)));
+			assertEquals(jackson.writeValueAsString(EventoMapper.toResponse(evento)),
+					write(w -> w.writeEvento(EventoMapper.toResponse(evento))));
+		}
+	}
+
+	@Test
+	void offHeapDescriptionsAreCopiedWithoutDecoding() throws Exception {
+		TextStore store = new TextStore("offheap", 16, 1, 0, "");
+		String description = "Descripción \"larga\" con\ttabulador y acentos — ".repeat(10);
+		EventoEntity evento = new EventoEntity(9L, "Festival", null, LocalDateTime.of(2025, 3, 1, 18, 30), 1L, 50, 99.9);
+		evento.setDescriptionText(store.store(description));
+		assertNotNull(evento.getDescriptionText());
+
+		assertEquals(jackson.writeValueAsString(EventoMapper.toResponse(evento)), write(w -> w.writeEvento(evento)));
+	}
+
+	@Test
+	void venuesMatchJacksonByteForByte() throws Exception {
+		List<VenueEntity> venues = List.of(
+				new VenueEntity(1L, "Teatro Nacional", "Calle 71 #10-25", "Bogotá", "Colombia", 1500, 4.6486, -74.0776),
+				new VenueEntity(2L, "Sin coordenadas", null, null, null, null),
+				new VenueEntity(3L, "Estadio", "Av. 1", "Medellín", "Colombia", 40000, 6.0, -75.0));
+
+		assertEquals(jackson.writeValueAsString(VenueMapper.toResponseList(venues)), writeVenues(venues));
+		for (VenueEntity venue : venues) {
+			assertEquals(jackson.writeValueAsString(VenueMapper.toResponse(venue)),
+					write(w -> w.writeVenue(VenueMapper.toResponse(venue))));
+		}
+	}
+
+	@Test
+	void errorsMatchJacksonByteForByte() throws Exception {
+		List<ErrorResponse> errors = List.of(
+				new ErrorResponse(404, "Not Found", "Evento con ID 999 no encontrado", "/api/events/999"),
+				new ErrorResponse(400, "Bad Request", "Error de validación en los datos enviados", "/api/venues",
+						List.of("name: El nombre es obligatorio", "capacity: debe ser \"positivo\"")),
+				new ErrorResponse(418, "I'm a teapot", null, null),
+				new ErrorResponse(404, "Otro", "Mensaje", "/x"));
+
+		for (ErrorResponse error : errors) {
+			assertEquals(jackson.writeValueAsString(error), write(w -> w.writeError(error)));
+		}
+	}
+
+	@Test
+	void streamsLargeListsThroughTheOutput() throws Exception {
+		List<EventoEntity> eventos = new ArrayList<>();
+		for (long i = 0; i < 2_000; i++) {
+			eventos.add(new EventoEntity(i, "Evento " + i, "Descripción " + i,
+					LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i), i % 10, 100, 10.0 + i));
+		}
+		CatalogJsonWriter writer = new CatalogJsonWriter(64);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writer.reset(out);
+		writer.writeEventos(eventos);
+		writer.flush();
+
+		assertEquals(jackson.writeValueAsString(EventoMapper.toResponseList(eventos)), out.toString(StandardCharsets.UTF_8));
+		// El buffer se vacía por el camino: no crece hasta el tamaño del documento
+		assertTrue(writer.capacity() < out.size());
+	}
+
+	private static String writeEventos(List<EventoEntity> eventos) throws Exception {
+		CatalogJsonWriter writer = new CatalogJsonWriter(16);
+		writer.reset(null);
+		writer.writeEventos(eventos);
+		return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static String writeVenues(List<VenueEntity> venues) throws Exception {
+		CatalogJsonWriter writer = new CatalogJsonWriter(16);
+		writer.reset(null);
+		writer.writeVenues(venues);
+		return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static String write(Consumer<CatalogJsonWriter> action) {
+		CatalogJsonWriter writer = new CatalogJsonWriter(16);
+		writer.reset(null);
+		action.accept(writer);
+		return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
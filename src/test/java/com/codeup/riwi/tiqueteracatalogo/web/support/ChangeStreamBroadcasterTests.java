@@ -0,0 +1,52 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.repository.CatalogChange;
+import com.codeup.riwi.tiqueteracatalogo.repository.ChangeFeed;
+import com.codeup.riwi.tiqueteracatalogo.web.controller.ChangeFeedController;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class ChangeStreamBroadcasterTests {
+
+	@Test
+	void aSequenceAheadOfTheFeedGetsAReset() throws Exception {
+		ChangeFeed feed = new ChangeFeed(64);
+		ChangeStreamBroadcaster broadcaster = new ChangeStreamBroadcaster(feed, 8, 10_000, 1);
+		MockMvc mvc = MockMvcBuilders.standaloneSetup(new ChangeFeedController(broadcaster)).build();
+		try {
+			for (long id = 1; id <= 5; id++) {
+				feed.append(CatalogChange.Resource.EVENTO, CatalogChange.Type.CREATED, id, null);
+			}
+
+			// Cliente que venía de antes de un reinicio: su secuencia no existe en el registro nuevo
+			MvcResult ahead = mvc.perform(get("/api/changes").header("Last-Event-ID", "100"))
+					.andExpect(request().asyncStarted())
+					.andReturn();
+			ahead.getAsyncResult(5_000);
+			String body = ahead.getResponse().getContentAsString();
+			assertTrue(body.contains("event:reset"), body);
+			assertTrue(body.contains("\"lastSequence\":5"), body);
+
+			// Un cliente al día retoma desde su secuencia
+			MvcResult resumed = mvc.perform(get("/api/changes?since=3"))
+					.andExpect(request().asyncStarted())
+					.andReturn();
+			long deadline = System.currentTimeMillis() + 5_000;
+			while (!resumed.getResponse().getContentAsString().contains("id:5") && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			String changes = resumed.getResponse().getContentAsString();
+			assertTrue(changes.contains("id:4") && changes.contains("id:5"), changes);
+			assertFalse(changes.contains("id:3"), changes);
+			assertFalse(changes.contains("reset"), changes);
+		} finally {
+			broadcaster.destroy();
+		}
+	}
+}
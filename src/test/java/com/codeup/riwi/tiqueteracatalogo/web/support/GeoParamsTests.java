@@ -0,0 +1,36 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoParamsTests {
+
+	@Test
+	void coordinatesAndRadiusWithinRangeAreAccepted() {
+		assertDoesNotThrow(() -> GeoParams.validate(4.65, -74.05, 10));
+		assertDoesNotThrow(() -> GeoParams.validate(-90, 180, GeoParams.MAX_RADIUS_KM));
+		assertDoesNotThrow(() -> GeoParams.validate(90, -180));
+	}
+
+	@Test
+	void outOfRangeValuesAreRejected() {
+		assertThrows(BadRequestException.class, () -> GeoParams.validate(90.5, 0));
+		assertThrows(BadRequestException.class, () -> GeoParams.validate(0, -180.1));
+		assertThrows(BadRequestException.class, () -> GeoParams.validate(0, 0, 0));
+		assertThrows(BadRequestException.class, () -> GeoParams.validate(0, 0, GeoParams.MAX_RADIUS_KM + 1));
+		assertThrows(BadRequestException.class, () -> GeoParams.validate(Double.NEGATIVE_INFINITY, 0));
+		assertThrows(BadRequestException.class, () -> GeoParams.validate(0, 0, Double.POSITIVE_INFINITY));
+	}
+
+	@Test
+	void notANumberIsRejected() {
+		BadRequestException lat = assertThrows(BadRequestException.class, () -> GeoParams.validate(Double.NaN, 0, 5));
+		assertTrue(lat.getMessage().startsWith("lat"));
+		BadRequestException lon = assertThrows(BadRequestException.class, () -> GeoParams.validate(0, Double.NaN));
+		assertTrue(lon.getMessage().startsWith("lon"));
+		BadRequestException radius = assertThrows(BadRequestException.class, () -> GeoParams.validate(0, 0, Double.NaN));
+		assertTrue(radius.getMessage().startsWith("radiusKm"));
+	}
+}
@@ -0,0 +1,67 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyRequestExecutorTests {
+
+	@Test
+	void rejectsWhenThePoolAndQueueAreFull() throws Exception {
+		HeavyRequestExecutor executor = new HeavyRequestExecutor(1, 1, 10_000);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			CompletableFuture<String> running = executor.submit(() -> await(release));
+			CompletableFuture<String> queued = executor.submit(() -> await(release));
+
+			assertThrows(ServiceUnavailableException.class, () -> executor.submit(() -> "tercera"));
+			assertEquals(1, executor.getRejected());
+
+			release.countDown();
+			assertEquals("ok", running.get(5, TimeUnit.SECONDS));
+			assertEquals("ok", queued.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.destroy();
+		}
+	}
+
+	@Test
+	void timesOutAndInterruptsTheTask() throws Exception {
+		HeavyRequestExecutor executor = new HeavyRequestExecutor(1, 1, 50);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		try {
+			CompletableFuture<String> slow = executor.submit(() -> {
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+				return "tarde";
+			});
+
+			ExecutionException error = assertThrows(ExecutionException.class, () -> slow.get(5, TimeUnit.SECONDS));
+			assertInstanceOf(ServiceUnavailableException.class, error.getCause());
+			assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+			assertEquals(1, executor.getTimedOut());
+			// El hilo queda libre para la siguiente tarea
+			assertEquals("ok", executor.submit(() -> "ok").get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.destroy();
+		}
+	}
+
+	private static String await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "ok";
+	}
+}
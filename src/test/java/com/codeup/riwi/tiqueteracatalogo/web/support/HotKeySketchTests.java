@@ -0,0 +1,65 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotKeySketchTests {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	@Test
+	void findsTheHotKeysAmongManyColdOnes() {
+		HotKeySketch sketch = new HotKeySketch(6, 10 * SECOND, 4, 1024, 32);
+		Random random = new Random(7);
+		long now = 100 * SECOND;
+		for (int i = 0; i < 200_000; i++) {
+			// La mitad de los accesos va a 5 IDs calientes, el resto a 100.000 IDs fríos
+			long key = random.nextBoolean() ? random.nextInt(5) : 1_000 + random.nextInt(100_000);
+			sketch.record(key, now);
+		}
+
+		List<HotKeySketch.HotKey> top = sketch.top(5, now);
+		assertEquals(Set.of(0L, 1L, 2L, 3L, 4L), top.stream().map(HotKeySketch.HotKey::getKey).collect(Collectors.toSet()));
+		for (HotKeySketch.HotKey hot : top) {
+			// ~20.000 accesos reales cada uno; Count-Min solo puede sobrestimar
+			assertTrue(hot.getCount() >= 19_000 && hot.getCount() < 22_000, "count " + hot.getCount());
+		}
+		assertEquals(200_000, sketch.total(now));
+	}
+
+	@Test
+	void oldSubWindowsLeaveTheSlidingWindow() {
+		HotKeySketch sketch = new HotKeySketch(3, SECOND, 4, 256, 8);
+		for (int i = 0; i < 100; i++) {
+			sketch.record(1L, 0);
+		}
+		for (int i = 0; i < 10; i++) {
+			sketch.record(2L, 2 * SECOND);
+		}
+
+		assertEquals(1L, sketch.top(1, 2 * SECOND).get(0).getKey());
+		assertEquals(110, sketch.total(2 * SECOND));
+
+		// En t=3s la sub-ventana de t=0 ya no forma parte de la ventana de 3 segundos
+		List<HotKeySketch.HotKey> later = sketch.top(10, 3 * SECOND);
+		assertEquals(1, later.size());
+		assertEquals(2L, later.get(0).getKey());
+		assertEquals(10, later.get(0).getCount());
+		assertEquals(10, sketch.total(3 * SECOND));
+	}
+
+	@Test
+	void tableStaysBoundedByItsCapacity() {
+		HotKeySketch sketch = new HotKeySketch(1, 10 * SECOND, 4, 64, 4);
+		for (long key = 0; key < 10_000; key++) {
+			sketch.record(key, 0);
+		}
+		assertTrue(sketch.top(100, 0).size() <= 4);
+	}
+}
@@ -0,0 +1,140 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ConflictException;
+import com.codeup.riwi.tiqueteracatalogo.web.advice.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTests {
+
+	private static final byte[] BODY = "concierto".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	void retriesReplayTheFirstResponse() {
+		IdempotencyCache cache = new IdempotencyCache(100, 60_000, 1_000, 1);
+		AtomicInteger created = new AtomicInteger();
+
+		IdempotencyCache.Outcome<Integer> first = cache.execute("events", "k1", BODY, created::incrementAndGet);
+		IdempotencyCache.Outcome<Integer> retry = cache.execute("events", "k1", BODY, created::incrementAndGet);
+
+		assertFalse(first.isReplayed());
+		assertTrue(retry.isReplayed());
+		assertEquals(1, retry.getValue());
+		assertEquals(1, created.get());
+		// La misma clave en otro recurso es otra operación
+		assertEquals(2, cache.execute("venues", "k1", BODY, created::incrementAndGet).getValue());
+		assertThrows(ConflictException.class, () -> cache.execute("events", "k1",
+				"otro".getBytes(StandardCharsets.UTF_8), created::incrementAndGet));
+		assertThrows(BadRequestException.class, () -> cache.execute("events", " ", BODY, created::incrementAndGet));
+	}
+
+	@Test
+	void concurrentRetryWaitsForTheFirstRequest() throws Exception {
+		IdempotencyCache cache = new IdempotencyCache(100, 60_000, 5_000, 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger created = new AtomicInteger();
+		CompletableFuture<IdempotencyCache.Outcome<Integer>> first = CompletableFuture.supplyAsync(() ->
+				cache.execute("events", "k1", BODY, () -> {
+					started.countDown();
+					await(release);
+					return created.incrementAndGet();
+				}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<IdempotencyCache.Outcome<Integer>> retry = CompletableFuture.supplyAsync(() ->
+				cache.execute("events", "k1", BODY, created::incrementAndGet));
+
+		Thread.sleep(50);
+		assertFalse(retry.isDone());
+		release.countDown();
+
+		assertEquals(1, first.get(5, TimeUnit.SECONDS).getValue());
+		assertEquals(1, retry.get(5, TimeUnit.SECONDS).getValue());
+		assertTrue(retry.get().isReplayed());
+		assertEquals(1, created.get());
+	}
+
+	@Test
+	void failedCreationReleasesTheKey() {
+		IdempotencyCache cache = new IdempotencyCache(100, 60_000, 1_000, 1);
+		assertThrows(IllegalStateException.class, () -> cache.execute("events", "k1", BODY, () -> {
+			throw new IllegalStateException("venue inexistente");
+		}));
+		assertEquals(0, cache.size());
+		assertFalse(cache.execute("events", "k1", BODY, () -> 7).isReplayed());
+	}
+
+	@Test
+	void staysBoundedInEntriesAndTime() throws Exception {
+		IdempotencyCache cache = new IdempotencyCache(8, 60_000, 1_000, 1);
+		for (int i = 0; i < 20; i++) {
+			cache.execute("events", "k" + i, BODY, () -> 1);
+		}
+		assertEquals(8, cache.size());
+		assertEquals(12, cache.getEvicted());
+		assertTrue(cache.execute("events", "k19", BODY, () -> 2).isReplayed());
+
+		IdempotencyCache shortLived = new IdempotencyCache(100, 1, 1_000, 1);
+		shortLived.execute("events", "k1", BODY, () -> 1);
+		Thread.sleep(5);
+		IdempotencyCache.Outcome<Integer> again = shortLived.execute("events", "k1", BODY, () -> 2);
+		assertFalse(again.isReplayed());
+		assertEquals(2, again.getValue());
+		assertEquals(1, shortLived.size());
+	}
+
+	@Test
+	void evictionNeverDropsACreationInProgress() throws Exception {
+		IdempotencyCache cache = new IdempotencyCache(2, 60_000, 5_000, 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger created = new AtomicInteger();
+		CompletableFuture<IdempotencyCache.Outcome<Integer>> slow = CompletableFuture.supplyAsync(() ->
+				cache.execute("events", "lenta", BODY, () -> {
+					started.countDown();
+					await(release);
+					return created.incrementAndGet();
+				}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		// La entrada en curso es la más vieja, pero se descartan las terminadas
+		cache.execute("events", "k1", BODY, () -> 10);
+		cache.execute("events", "k2", BODY, () -> 20);
+		assertEquals(1, cache.getEvicted());
+		assertEquals(2, cache.size());
+
+		IdempotencyCache full = new IdempotencyCache(1, 60_000, 5_000, 1);
+		CompletableFuture<IdempotencyCache.Outcome<Integer>> blocking = CompletableFuture.supplyAsync(() ->
+				full.execute("events", "lenta", BODY, () -> {
+					await(release);
+					return 1;
+				}));
+		while (full.size() == 0) {
+			Thread.sleep(1);
+		}
+		assertThrows(ServiceUnavailableException.class, () -> full.execute("events", "k1", BODY, () -> 2));
+
+		release.countDown();
+		assertEquals(1, slow.get(5, TimeUnit.SECONDS).getValue());
+		assertEquals(1, blocking.get(5, TimeUnit.SECONDS).getValue());
+		// El reintento de la creación lenta se repite en vez de crear otra
+		assertTrue(cache.execute("events", "lenta", BODY, created::incrementAndGet).isReplayed());
+		assertEquals(1, created.get());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+import com.codeup.riwi.tiqueteracatalogo.web.binary.BinaryWriter;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTests {
+
+	private static final LocalDateTime DATE = LocalDateTime.of(2027, 3, 1, 20, 0);
+
+	@Test
+	void cursorsRoundTripWithTheirSort() {
+		String sort = "eventDate,desc,id,asc";
+		String cursor = PageCursor.encode(sort, new EventoResponse(7L, "Concierto", "Larga descripción",
+				DATE, 2L, 100, null));
+
+		EventoResponse row = PageCursor.decodeEvento(cursor, sort);
+		assertEquals(7L, row.getId());
+		assertEquals(DATE, row.getEventDate());
+		assertNull(row.getDescription());
+		assertNull(row.getPrice());
+		assertThrows(BadRequestException.class, () -> PageCursor.decodeEvento(cursor, "name,asc"));
+		assertThrows(BadRequestException.class, () -> PageCursor.decodeVenue(cursor, sort));
+
+		// Un precio ausente es un valor válido del orden por precio
+		String byPrice = PageCursor.encode("price,asc", new EventoResponse(8L, "Gratis", null, DATE, 2L, 100, null));
+		assertEquals(8L, PageCursor.decodeEvento(byPrice, "price,asc").getId());
+	}
+
+	@Test
+	void rejectsCursorsWithoutIdOrPrimaryField() {
+		String noId = PageCursor.encode("name,asc", new EventoResponse(null, "Concierto", null, DATE, 2L, 100, 10.0));
+		assertThrows(BadRequestException.class, () -> PageCursor.decodeEvento(noId, "name,asc"));
+
+		String noDate = PageCursor.encode("eventDate,asc", new EventoResponse(3L, "Concierto", null, null, 2L, 100, 10.0));
+		assertThrows(BadRequestException.class, () -> PageCursor.decodeEvento(noDate, "eventDate,asc"));
+
+		String noCity = PageCursor.encode("city,desc", new VenueResponse(4L, "Arena", "Calle 1", null, "Colombia", 100));
+		assertThrows(BadRequestException.class, () -> PageCursor.decodeVenue(noCity, "city,desc"));
+		String venue = PageCursor.encode("city,desc", new VenueResponse(4L, "Arena", "Calle 1", "Bogotá", "Colombia", 100));
+		assertEquals("Bogotá", PageCursor.decodeVenue(venue, "city,desc").getCity());
+	}
+
+	@Test
+	void rejectsDatesOutOfRange() {
+		BinaryWriter out = new BinaryWriter(32);
+		out.writeByte(1);
+		out.writeByte(1);
+		out.writeString("eventDate,asc");
+		// ID y fecha, con segundos fuera del rango de LocalDateTime
+		out.writeByte(0b1001);
+		out.writeUnsignedVarLong(5);
+		out.writeVarLong(Long.MAX_VALUE);
+		out.writeUnsignedVarLong(0);
+		String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+
+		assertThrows(BadRequestException.class, () -> PageCursor.decodeEvento(cursor, "eventDate,asc"));
+		assertThrows(BadRequestException.class, () -> PageCursor.decodeEvento("%%%", "eventDate,asc"));
+	}
+}
@@ -0,0 +1,82 @@
+package com.codeup.riwi.tiqueteracatalogo.web.support;
+
+import com.codeup.riwi.tiqueteracatalogo.web.advice.BadRequestException;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.EventoResponse;
+import com.codeup.riwi.tiqueteracatalogo.web.dto.VenueResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseFieldsetTests {
+
+	private static final LocalDateTime DATE = LocalDateTime.of(2027, 3, 1, 20, 0);
+
+	private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+	@Test
+	void plansAreCompiledOnceAndReused() {
+		SparseFieldset.Plan<EventoResponse> plan = SparseFieldset.EVENTOS.plan("id,name");
+		assertSame(plan, SparseFieldset.EVENTOS.plan("id,name"));
+		// Los campos repetidos o con espacios se ignoran, en el orden pedido
+		Map<String, Object> row = SparseFieldset.EVENTOS.plan(" name , id,name ").apply(evento(1L));
+		assertEquals(List.of("name", "id"), List.copyOf(row.keySet()));
+	}
+
+	@Test
+	void unknownFieldsAreRejected() {
+		BadRequestException error = assertThrows(BadRequestException.class,
+				() -> SparseFieldset.EVENTOS.plan("id,nombre"));
+		assertTrue(error.getMessage().contains("'nombre'"));
+		assertThrows(BadRequestException.class, () -> SparseFieldset.VENUES.plan("eventDate"));
+	}
+
+	@Test
+	void selectionsWithoutFieldNamesAreRejected() {
+		assertFalse(SparseFieldset.isRequested(null));
+		assertFalse(SparseFieldset.isRequested(" "));
+		for (String fields : new String[]{",", " , ", ",,"}) {
+			assertTrue(SparseFieldset.isRequested(fields));
+			assertThrows(BadRequestException.class, () -> SparseFieldset.EVENTOS.plan(fields), fields);
+			assertThrows(BadRequestException.class, () -> SparseFieldset.VENUES.plan(fields), fields);
+		}
+	}
+
+	@Test
+	void omittedFieldsAreAbsentFromTheEventListJson() throws Exception {
+		AtomicInteger decoded = new AtomicInteger();
+		EventoResponse lazy = evento(2L);
+		lazy.setDescriptionSource(() -> {
+			decoded.incrementAndGet();
+			return "Descripción larga";
+		});
+		List<Map<String, Object>> rows = SparseFieldset.EVENTOS.plan("id,name,price").applyAll(List.of(evento(1L), lazy));
+
+		String json = mapper.writeValueAsString(rows);
+		assertEquals("[{\"id\":1,\"name\":\"Evento 1\",\"price\":50.0},{\"id\":2,\"name\":\"Evento 2\",\"price\":50.0}]", json);
+		// La descripción diferida no se decodifica si no se pidió
+		assertEquals(0, decoded.get());
+		assertTrue(mapper.writeValueAsString(List.of(evento(1L))).contains("\"description\""));
+	}
+
+	@Test
+	void omittedFieldsAreAbsentFromTheVenueListJson() throws Exception {
+		List<VenueResponse> venues = List.of(
+				new VenueResponse(1L, "Movistar Arena", "Calle 1", "Bogotá", "Colombia", 14_000),
+				new VenueResponse(2L, "Estadio", "Calle 2", "Lima", "Perú", 40_000));
+
+		String json = mapper.writeValueAsString(SparseFieldset.VENUES.plan("city,id").applyAll(venues));
+
+		assertEquals("[{\"city\":\"Bogotá\",\"id\":1},{\"city\":\"Lima\",\"id\":2}]", json);
+		assertFalse(json.contains("address"));
+	}
+
+	private static EventoResponse evento(Long id) {
+		return new EventoResponse(id, "Evento " + id, "Descripción", DATE, 3L, 100, 50.0);
+	}
+}